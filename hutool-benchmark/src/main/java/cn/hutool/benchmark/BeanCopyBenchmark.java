@@ -0,0 +1,83 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanUtil#copyProperties(Object, Object, String...)}等Bean拷贝的基准测试，size为每次操作拷贝的Bean数量
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCopyBenchmark {
+
+	@Param({"1", "100"})
+	public int size;
+
+	private List<User> users;
+	private List<Map<String, Object>> maps;
+
+	@Setup
+	public void setup() {
+		this.users = User.list(size);
+		this.maps = new ArrayList<>(size);
+		for (User user : this.users) {
+			this.maps.add(BeanUtil.beanToMap(user));
+		}
+	}
+
+	@Benchmark
+	public void beanToBean(Blackhole bh) {
+		for (User user : this.users) {
+			final User target = new User();
+			BeanUtil.copyProperties(user, target);
+			bh.consume(target);
+		}
+	}
+
+	@Benchmark
+	public void beanToNewBean(Blackhole bh) {
+		for (User user : this.users) {
+			bh.consume(BeanUtil.copyProperties(user, User.class));
+		}
+	}
+
+	@Benchmark
+	public void beanToMap(Blackhole bh) {
+		for (User user : this.users) {
+			final Map<String, Object> target = new HashMap<>();
+			BeanUtil.copyProperties(user, target);
+			bh.consume(target);
+		}
+	}
+
+	@Benchmark
+	public void mapToBean(Blackhole bh) {
+		for (Map<String, Object> map : this.maps) {
+			bh.consume(BeanUtil.toBean(map, User.class));
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * 基准测试入口，按照指定的线程数依次运行所有（或匹配的）基准测试，每个线程数的结果以JSON格式写出到单独的文件，便于不同版本之间比较<br>
+ * 打包和运行：
+ * <pre>
+ * mvn -P benchmark -pl hutool-benchmark -am package
+ * java -Dhutool.benchmark.threads=1,4 -jar hutool-benchmark/target/benchmarks.jar JSON
+ * </pre>
+ * <ul>
+ *     <li>命令行参数与JMH一致，如指定测试的正则、{@code -f}、{@code -wi}、{@code -i}、{@code -p size=100}等</li>
+ *     <li>{@code hutool.benchmark.threads}：逗号分隔的线程数，默认{@code 1,4}</li>
+ *     <li>{@code hutool.benchmark.resultDir}：结果目录，默认{@code jmh-result}，
+ *     文件名为{@code hutool-<版本>-threads-<线程数>.json}，格式为JMH的JSON格式</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * 线程数列表的系统属性名
+	 */
+	public static final String THREADS_PROPERTY = "hutool.benchmark.threads";
+	/**
+	 * 结果目录的系统属性名
+	 */
+	public static final String RESULT_DIR_PROPERTY = "hutool.benchmark.resultDir";
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		final Options cmdOptions = new CommandLineOptions(args);
+		final File resultDir = FileUtil.mkdir(System.getProperty(RESULT_DIR_PROPERTY, "jmh-result"));
+		final String version = StrUtil.blankToDefault(BenchmarkRunner.class.getPackage().getImplementationVersion(), "dev");
+
+		final List<String> threadsList = StrUtil.splitTrim(System.getProperty(THREADS_PROPERTY, "1,4"), ',');
+		for (String threads : threadsList) {
+			final File result = FileUtil.file(resultDir, StrUtil.format("hutool-{}-threads-{}.json", version, threads));
+			final Options options = new OptionsBuilder()
+					.parent(cmdOptions)
+					.threads(Integer.parseInt(threads))
+					.resultFormat(ResultFormatType.JSON)
+					.result(result.getAbsolutePath())
+					.build();
+			new Runner(options).run();
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.text.csv.CsvData;
+import cn.hutool.core.text.csv.CsvReadConfig;
+import cn.hutool.core.text.csv.CsvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CsvReader读取的基准测试，size为行数
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvReaderBenchmark {
+
+	@Param({"100", "10000"})
+	public int size;
+
+	private String csv;
+
+	@Setup
+	public void setup() {
+		final StringBuilder sb = new StringBuilder("id,name,email,remark\n");
+		for (int i = 0; i < size; i++) {
+			sb.append(i).append(",用户").append(i).append(",user").append(i).append("@hutool.cn,")
+					.append(i % 5 == 0 ? "\"含,逗号和\"\"引号\"\"的备注\"" : "普通备注").append('\n');
+		}
+		this.csv = sb.toString();
+	}
+
+	@Benchmark
+	public CsvData read() {
+		return CsvUtil.getReader().read(new StringReader(this.csv));
+	}
+
+	@Benchmark
+	public CsvData readWithHeader() {
+		return CsvUtil.getReader(new StringReader(this.csv), CsvReadConfig.defaultConfig().setContainsHeader(true)).read();
+	}
+}
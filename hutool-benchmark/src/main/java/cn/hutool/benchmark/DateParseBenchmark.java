@@ -0,0 +1,44 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.date.DateTime;
+import cn.hutool.core.date.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateUtil#parse(CharSequence)}自动识别格式解析的基准测试，date为不同格式的日期字符串
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParseBenchmark {
+
+	@Param({"2024-06-01", "2024-06-01 12:30:45", "2024-06-01T12:30:45.123+08:00", "20240601123045", "2024年6月1日 12时30分45秒"})
+	public String date;
+
+	@Benchmark
+	public DateTime parse() {
+		return DateUtil.parse(this.date);
+	}
+
+	@Benchmark
+	public DateTime parseWithFormat() {
+		return DateUtil.parse("2024-06-01 12:30:45", "yyyy-MM-dd HH:mm:ss");
+	}
+}
@@ -0,0 +1,67 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.crypto.SecureUtil;
+import cn.hutool.crypto.digest.Digester;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SecureUtil}中摘要算法的基准测试，size为数据的字节数，{@link Digester}非线程安全，每个线程使用独立的实例
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+	@Param({"MD5", "SHA-1", "SHA-256"})
+	public String algorithm;
+
+	@Param({"64", "1024", "1048576"})
+	public int size;
+
+	private Digester digester;
+	private byte[] data;
+
+	@Setup
+	public void setup() {
+		switch (algorithm) {
+			case "MD5":
+				this.digester = SecureUtil.md5();
+				break;
+			case "SHA-1":
+				this.digester = SecureUtil.sha1();
+				break;
+			default:
+				this.digester = SecureUtil.sha256();
+		}
+		this.data = RandomUtil.randomBytes(size);
+	}
+
+	@Benchmark
+	public byte[] digest() {
+		return this.digester.digest(this.data);
+	}
+
+	@Benchmark
+	public String digestHex() {
+		return this.digester.digestHex(this.data);
+	}
+}
@@ -0,0 +1,68 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JSONUtil}解析、序列化和转Bean的基准测试，size为数组中的对象数量
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONBenchmark {
+
+	@Param({"1", "100", "10000"})
+	public int size;
+
+	private List<User> users;
+	private String json;
+	private byte[] jsonBytes;
+
+	@Setup
+	public void setup() {
+		this.users = User.list(size);
+		this.json = JSONUtil.toJsonStr(this.users);
+		this.jsonBytes = this.json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public JSONArray parseArray() {
+		return JSONUtil.parseArray(this.json);
+	}
+
+	@Benchmark
+	public JSONArray parseArrayFromBytes() {
+		return JSONUtil.parseArray(this.jsonBytes);
+	}
+
+	@Benchmark
+	public String toJsonStr() {
+		return JSONUtil.toJsonStr(this.users);
+	}
+
+	@Benchmark
+	public List<User> toList() {
+		return JSONUtil.toList(this.json, User.class);
+	}
+}
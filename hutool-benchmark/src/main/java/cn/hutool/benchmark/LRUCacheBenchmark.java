@@ -0,0 +1,73 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LRUCache}读写的基准测试，所有线程共享同一个缓存，size为缓存容量，键的范围为容量的2倍，命中率约50%
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LRUCacheBenchmark {
+
+	@Param({"64", "4096"})
+	public int size;
+
+	private LRUCache<Integer, String> cache;
+	private String[] values;
+
+	@Setup
+	public void setup() {
+		this.cache = CacheUtil.newLRUCache(size);
+		this.values = new String[size * 2];
+		for (int i = 0; i < this.values.length; i++) {
+			this.values[i] = "value" + i;
+			if (i < size) {
+				this.cache.put(i, this.values[i]);
+			}
+		}
+	}
+
+	@Benchmark
+	public String get() {
+		return this.cache.get(ThreadLocalRandom.current().nextInt(this.values.length));
+	}
+
+	@Benchmark
+	public String getOrPut() {
+		final int key = ThreadLocalRandom.current().nextInt(this.values.length);
+		String value = this.cache.get(key);
+		if (null == value) {
+			value = this.values[key];
+			this.cache.put(key, value);
+		}
+		return value;
+	}
+
+	@Benchmark
+	public String getWithSupplier() {
+		final int key = ThreadLocalRandom.current().nextInt(this.values.length);
+		return this.cache.get(key, () -> this.values[key]);
+	}
+}
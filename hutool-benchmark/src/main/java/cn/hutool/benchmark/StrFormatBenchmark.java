@@ -0,0 +1,53 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StrUtil#format(CharSequence, Object...)}的基准测试，size为模板中占位符的数量
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrFormatBenchmark {
+
+	@Param({"1", "4", "16"})
+	public int size;
+
+	private String template;
+	private Object[] params;
+
+	@Setup
+	public void setup() {
+		final StringBuilder sb = new StringBuilder("prefix");
+		this.params = new Object[size];
+		for (int i = 0; i < size; i++) {
+			sb.append(" key").append(i).append("={}");
+			this.params[i] = i % 2 == 0 ? "value" + i : i;
+		}
+		this.template = sb.toString();
+	}
+
+	@Benchmark
+	public String format() {
+		return StrUtil.format(this.template, this.params);
+	}
+}
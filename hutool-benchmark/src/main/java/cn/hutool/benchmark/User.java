@@ -0,0 +1,126 @@
+package cn.hutool.benchmark;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 基准测试使用的Bean
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class User implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+	private String name;
+	private String email;
+	private int age;
+	private boolean enabled;
+	private BigDecimal balance;
+	private Date createTime;
+	private List<String> tags;
+
+	/**
+	 * 创建测试数据
+	 *
+	 * @param i 序号
+	 * @return User
+	 */
+	public static User of(int i) {
+		final User user = new User();
+		user.setId((long) i);
+		user.setName("用户" + i);
+		user.setEmail("user" + i + "@hutool.cn");
+		user.setAge(20 + i % 50);
+		user.setEnabled(i % 2 == 0);
+		user.setBalance(BigDecimal.valueOf(i * 100L + 55, 2));
+		user.setCreateTime(new Date(1700000000000L + i * 1000L));
+		final List<String> tags = new ArrayList<>(2);
+		tags.add("tag" + i % 10);
+		tags.add("group" + i % 3);
+		user.setTags(tags);
+		return user;
+	}
+
+	/**
+	 * 创建指定数量的测试数据
+	 *
+	 * @param size 数量
+	 * @return User列表
+	 */
+	public static List<User> list(int size) {
+		final List<User> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(of(i));
+		}
+		return list;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public void setBalance(BigDecimal balance) {
+		this.balance = balance;
+	}
+
+	public Date getCreateTime() {
+		return createTime;
+	}
+
+	public void setCreateTime(Date createTime) {
+		this.createTime = createTime;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+}
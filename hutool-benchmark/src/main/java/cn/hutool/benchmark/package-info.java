@@ -0,0 +1,8 @@
+/**
+ * Hutool性能基准测试，基于JMH，覆盖JSON、Bean拷贝、字符串格式化、日期解析、CSV读取、LRU缓存和摘要等常用路径<br>
+ * 运行方式见{@link cn.hutool.benchmark.BenchmarkRunner}。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+package cn.hutool.benchmark;
@@ -1,12 +1,18 @@
 package cn.hutool.bloomfilter;
 
 import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.HashUtil;
 
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.BitSet;
 
@@ -19,6 +25,12 @@ import java.util.BitSet;
 public class BitSetBloomFilter implements BloomFilter {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 二进制格式魔数："HBSF"
+	 */
+	private static final int MAGIC = 0x48425346;
+	private static final int VERSION = 1;
+
 	private final BitSet bitSet;
 	private final int bitSetSize;
 	private final int addedElements;
@@ -38,6 +50,132 @@ public class BitSetBloomFilter implements BloomFilter {
 		this.bitSet = new BitSet(this.bitSetSize);
 	}
 
+	/**
+	 * 构造，使用已有的BitSet
+	 *
+	 * @param bitSet             BitSet
+	 * @param bitSetSize         bit位总数
+	 * @param addedElements      预计所要包含的记录
+	 * @param hashFunctionNumber 哈希函数的个数
+	 */
+	private BitSetBloomFilter(BitSet bitSet, int bitSetSize, int addedElements, int hashFunctionNumber) {
+		this.bitSet = bitSet;
+		this.bitSetSize = bitSetSize;
+		this.addedElements = addedElements;
+		this.hashFunctionNumber = hashFunctionNumber;
+	}
+
+	/**
+	 * 从{@link #save(OutputStream)}保存的二进制格式中读取过滤器，比通过{@link #init(String, Charset)}重新加入所有记录快得多
+	 *
+	 * @param file 文件
+	 * @return BitSetBloomFilter
+	 * @throws IORuntimeException IO异常或格式错误
+	 * @since 5.8.29
+	 */
+	public static BitSetBloomFilter load(File file) throws IORuntimeException {
+		InputStream in = null;
+		try {
+			in = FileUtil.getInputStream(file);
+			return load(in);
+		} finally {
+			IoUtil.close(in);
+		}
+	}
+
+	/**
+	 * 从{@link #save(OutputStream)}保存的二进制格式中读取过滤器，流不关闭
+	 *
+	 * @param in 输入流
+	 * @return BitSetBloomFilter
+	 * @throws IORuntimeException IO异常或格式错误
+	 * @since 5.8.29
+	 */
+	public static BitSetBloomFilter load(InputStream in) throws IORuntimeException {
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			final int magic = dataIn.readInt();
+			if (MAGIC != magic) {
+				throw new IORuntimeException("Invalid bloom filter magic: {}", Integer.toHexString(magic));
+			}
+			final int version = dataIn.readInt();
+			if (VERSION != version) {
+				throw new IORuntimeException("Unsupported bloom filter version: {}", version);
+			}
+			final int bitSetSize = dataIn.readInt();
+			final int addedElements = dataIn.readInt();
+			final int hashFunctionNumber = dataIn.readInt();
+			final int wordCount = dataIn.readInt();
+			checkCounts(bitSetSize, hashFunctionNumber, wordCount);
+			final long[] words = new long[wordCount];
+			for (int i = 0; i < words.length; i++) {
+				words[i] = dataIn.readLong();
+			}
+			return new BitSetBloomFilter(BitSet.valueOf(words), bitSetSize, addedElements, hashFunctionNumber);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 检查格式头中的bit位总数、哈希个数和long个数，long个数不能超过bit位总数所需的个数，避免损坏的文件导致分配错误大小的数组
+	 *
+	 * @param bitSetSize         bit位总数
+	 * @param hashFunctionNumber 哈希个数
+	 * @param wordCount          long个数
+	 * @throws IORuntimeException 格式错误
+	 */
+	private static void checkCounts(int bitSetSize, int hashFunctionNumber, int wordCount) throws IORuntimeException {
+		if (bitSetSize <= 0 || hashFunctionNumber <= 0 || wordCount < 0 || wordCount > (bitSetSize + 63L) / 64) {
+			throw new IORuntimeException("Header [bitSetSize={}, hashFunctionNumber={}, wordCount={}] is not a valid bloom filter file!",
+					bitSetSize, hashFunctionNumber, wordCount);
+		}
+	}
+
+	/**
+	 * 以二进制格式保存过滤器到文件
+	 *
+	 * @param file 文件
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.29
+	 */
+	public void save(File file) throws IORuntimeException {
+		OutputStream out = null;
+		try {
+			out = FileUtil.getOutputStream(file);
+			save(out);
+		} finally {
+			IoUtil.close(out);
+		}
+	}
+
+	/**
+	 * 以二进制格式保存过滤器到流，流不关闭<br>
+	 * 格式为：魔数、版本、bit位总数、预计记录数、哈希个数、long个数（均为4字节），之后为BitSet的long值，均为大端序。
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.29
+	 */
+	public void save(OutputStream out) throws IORuntimeException {
+		final long[] words = bitSet.toLongArray();
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		try {
+			dataOut.writeInt(MAGIC);
+			dataOut.writeInt(VERSION);
+			dataOut.writeInt(bitSetSize);
+			dataOut.writeInt(addedElements);
+			dataOut.writeInt(hashFunctionNumber);
+			dataOut.writeInt(words.length);
+			for (long word : words) {
+				dataOut.writeLong(word);
+			}
+			dataOut.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
 	/**
 	 * 通过文件初始化过滤器.
 	 *
@@ -0,0 +1,486 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 分块布隆过滤器（Blocked Bloom Filter），线程安全<br>
+ * 所有bit位存储在一个long数组中，数组按照CPU缓存行（64字节，即8个long，512 bit）划分为块，
+ * 一个元素的k个bit位全部落在同一个块中，因此每次查询或加入最多只有一次缓存未命中。<br>
+ * Hash使用Murmur3 128-bit，前64位选择块，再通过双重哈希（g<sub>i</sub> = h<sub>2</sub> + i * h<sub>1</sub>）生成块内的k个位置。<br>
+ * 加入元素时使用CAS设置bit位，多线程并发加入无需加锁。
+ *
+ * <p>
+ * bit位总数m和哈希个数k根据预计元素个数n和期望误判率p计算：
+ * <pre>
+ *     m = -n * ln(p) / (ln2)^2
+ *     k = m / n * ln2
+ * </pre>
+ * 由于元素的bit位集中在一个块中，实际误判率略高于期望误判率。
+ *
+ * <p>
+ * 过滤器可以通过{@link #save(OutputStream)}保存为二进制格式，通过{@link #load(InputStream)}读取到内存，
+ * 或通过{@link #map(File)}以只读内存映射的方式打开，映射方式无需读取整个文件，打开耗时与过滤器大小无关，且可在多个进程间共享。<br>
+ * 二进制格式为：魔数（4字节）、版本（4字节）、哈希个数（4字节）、块个数（4字节），之后为所有bit位的long值，均为大端序。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class BlockedBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个块的long个数，即一个缓存行
+	 */
+	private static final int BLOCK_LONGS = 8;
+	/**
+	 * 每个块的bit数
+	 */
+	private static final int BLOCK_BITS = BLOCK_LONGS * Long.SIZE;
+	/**
+	 * 二进制格式魔数："HBBF"
+	 */
+	private static final int MAGIC = 0x48424246;
+	private static final int VERSION = 1;
+	/**
+	 * 二进制格式头长度，保证bit位数据按照8字节对齐
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * bit位，只读映射时为{@code null}
+	 */
+	private final AtomicLongArray bits;
+	/**
+	 * 只读映射的bit位，非映射时为{@code null}
+	 */
+	private final transient LongBuffer mappedBits;
+	private final int blockCount;
+	private final int hashCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值(0, 1)
+	 */
+	public BlockedBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalBitCount(expectedInsertions, fpp), optimalHashCount(expectedInsertions, optimalBitCount(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitCount  bit位总数，会向上取整为512的倍数
+	 * @param hashCount 哈希个数，即每个元素占用的bit位数
+	 */
+	public BlockedBloomFilter(long bitCount, int hashCount) {
+		Assert.isTrue(bitCount > 0, "Bit count must be greater than 0!");
+		Assert.isTrue(hashCount > 0, "Hash count must be greater than 0!");
+		final long blockCount = (bitCount + BLOCK_BITS - 1) / BLOCK_BITS;
+		Assert.isTrue(blockCount * BLOCK_LONGS <= Integer.MAX_VALUE - BLOCK_LONGS,
+				"Bit count {} is too large!", bitCount);
+		this.blockCount = (int) blockCount;
+		this.hashCount = hashCount;
+		this.bits = new AtomicLongArray(this.blockCount * BLOCK_LONGS);
+		this.mappedBits = null;
+	}
+
+	/**
+	 * 构造，使用已有的bit位
+	 *
+	 * @param blockCount 块个数
+	 * @param hashCount  哈希个数
+	 * @param bits       bit位，与mappedBits二选一
+	 * @param mappedBits 只读映射的bit位
+	 */
+	private BlockedBloomFilter(int blockCount, int hashCount, AtomicLongArray bits, LongBuffer mappedBits) {
+		this.blockCount = blockCount;
+		this.hashCount = hashCount;
+		this.bits = bits;
+		this.mappedBits = mappedBits;
+	}
+
+	// ---------------------------------------------------------------- save and load
+
+	/**
+	 * 从二进制格式的文件读取过滤器，读取后可继续加入元素
+	 *
+	 * @param file 文件
+	 * @return BlockedBloomFilter
+	 * @throws IORuntimeException IO异常或格式错误
+	 */
+	public static BlockedBloomFilter load(File file) throws IORuntimeException {
+		InputStream in = null;
+		try {
+			in = FileUtil.getInputStream(file);
+			return load(in);
+		} finally {
+			IoUtil.close(in);
+		}
+	}
+
+	/**
+	 * 从二进制格式的流中读取过滤器，读取后可继续加入元素，流不关闭
+	 *
+	 * @param in 输入流
+	 * @return BlockedBloomFilter
+	 * @throws IORuntimeException IO异常或格式错误
+	 */
+	public static BlockedBloomFilter load(InputStream in) throws IORuntimeException {
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			checkHeader(dataIn.readInt(), dataIn.readInt());
+			final int hashCount = dataIn.readInt();
+			final int blockCount = dataIn.readInt();
+			checkCounts(hashCount, blockCount);
+			final AtomicLongArray bits = new AtomicLongArray(blockCount * BLOCK_LONGS);
+			for (int i = 0; i < bits.length(); i++) {
+				bits.set(i, dataIn.readLong());
+			}
+			return new BlockedBloomFilter(blockCount, hashCount, bits, null);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 以只读内存映射方式打开二进制格式的过滤器文件，bit位不读入堆内存，只能查询，不能加入元素<br>
+	 * 映射在过滤器被回收时释放，映射的过滤器不支持Java序列化
+	 *
+	 * @param file 文件
+	 * @return BlockedBloomFilter
+	 * @throws IORuntimeException IO异常或格式错误
+	 */
+	public static BlockedBloomFilter map(File file) throws IORuntimeException {
+		final MappedByteBuffer buffer;
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		if (buffer.remaining() < HEADER_SIZE) {
+			throw new IORuntimeException("File [{}] is not a valid bloom filter file!", file);
+		}
+		checkHeader(buffer.getInt(), buffer.getInt());
+		final int hashCount = buffer.getInt();
+		final int blockCount = buffer.getInt();
+		checkCounts(hashCount, blockCount);
+		final LongBuffer mappedBits = buffer.slice().asLongBuffer();
+		if (mappedBits.remaining() < (long) blockCount * BLOCK_LONGS) {
+			throw new IORuntimeException("File [{}] is truncated!", file);
+		}
+		return new BlockedBloomFilter(blockCount, hashCount, null, mappedBits);
+	}
+
+	/**
+	 * 以二进制格式保存过滤器到文件
+	 *
+	 * @param file 文件
+	 * @throws IORuntimeException IO异常
+	 */
+	public void save(File file) throws IORuntimeException {
+		OutputStream out = null;
+		try {
+			out = FileUtil.getOutputStream(file);
+			save(out);
+		} finally {
+			IoUtil.close(out);
+		}
+	}
+
+	/**
+	 * 以二进制格式保存过滤器到流，流不关闭<br>
+	 * 保存期间并发加入的元素可能部分保存
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void save(OutputStream out) throws IORuntimeException {
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		try {
+			dataOut.writeInt(MAGIC);
+			dataOut.writeInt(VERSION);
+			dataOut.writeInt(hashCount);
+			dataOut.writeInt(blockCount);
+			final int length = blockCount * BLOCK_LONGS;
+			for (int i = 0; i < length; i++) {
+				dataOut.writeLong(word(i));
+			}
+			dataOut.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * @return 是否为只读映射的过滤器
+	 */
+	public boolean isMapped() {
+		return null != mappedBits;
+	}
+
+	/**
+	 * 根据预计元素个数和期望误判率计算bit位总数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值(0, 1)
+	 * @return bit位总数
+	 */
+	public static long optimalBitCount(long expectedInsertions, double fpp) {
+		Assert.isTrue(expectedInsertions > 0, "Expected insertions must be greater than 0!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		return (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+	}
+
+	/**
+	 * 根据预计元素个数和bit位总数计算最佳哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param bitCount           bit位总数
+	 * @return 哈希个数
+	 */
+	public static int optimalHashCount(long expectedInsertions, long bitCount) {
+		return Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	// ---------------------------------------------------------------- add
+
+	@Override
+	public boolean add(String str) {
+		return add(StrUtil.bytes(str, CharsetUtil.CHARSET_UTF_8));
+	}
+
+	/**
+	 * 加入bytes
+	 *
+	 * @param bytes bytes
+	 * @return 是否加入成功，如果可能已存在返回{@code false}
+	 */
+	public boolean add(byte[] bytes) {
+		final long[] hash = MurmurHash.hash128(bytes);
+		return add(hash[0], hash[1]);
+	}
+
+	/**
+	 * 加入long值，直接对long值混淆生成哈希，无需转换为bytes
+	 *
+	 * @param value long值
+	 * @return 是否加入成功，如果可能已存在返回{@code false}
+	 */
+	public boolean add(long value) {
+		return add(mix(value), mix(value + 0x9E3779B97F4A7C15L));
+	}
+
+	// ---------------------------------------------------------------- contains
+
+	@Override
+	public boolean contains(String str) {
+		return contains(StrUtil.bytes(str, CharsetUtil.CHARSET_UTF_8));
+	}
+
+	/**
+	 * 是否可能包含bytes，存在误判
+	 *
+	 * @param bytes bytes
+	 * @return 是否可能包含
+	 */
+	public boolean contains(byte[] bytes) {
+		final long[] hash = MurmurHash.hash128(bytes);
+		return contains(hash[0], hash[1]);
+	}
+
+	/**
+	 * 是否可能包含long值，存在误判
+	 *
+	 * @param value long值
+	 * @return 是否可能包含
+	 */
+	public boolean contains(long value) {
+		return contains(mix(value), mix(value + 0x9E3779B97F4A7C15L));
+	}
+
+	// ---------------------------------------------------------------- info
+
+	/**
+	 * @return bit位总数
+	 */
+	public long getBitSize() {
+		return (long) blockCount * BLOCK_BITS;
+	}
+
+	/**
+	 * @return 哈希个数
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * @return 已设置的bit位个数
+	 */
+	public long getSetBitCount() {
+		long count = 0;
+		final int length = blockCount * BLOCK_LONGS;
+		for (int i = 0; i < length; i++) {
+			count += Long.bitCount(word(i));
+		}
+		return count;
+	}
+
+	/**
+	 * 根据已设置的bit位比例估算当前误判率
+	 *
+	 * @return 当前误判率
+	 */
+	public double getFalsePositiveProbability() {
+		return Math.pow((double) getSetBitCount() / getBitSize(), hashCount);
+	}
+
+	// ---------------------------------------------------------------- private method
+
+	/**
+	 * 根据128位哈希设置块中的k个bit位
+	 *
+	 * @param h1 前64位，用于选择块和生成步长
+	 * @param h2 后64位，用于生成块内起始位置
+	 * @return 是否有bit位被新设置
+	 */
+	private boolean add(long h1, long h2) {
+		if (null != mappedBits) {
+			throw new UnsupportedOperationException("Mapped bloom filter is read-only!");
+		}
+		final int blockStart = blockStart(h1);
+		final long delta = delta(h1);
+		long combined = h2;
+		boolean changed = false;
+		for (int i = 0; i < hashCount; i++) {
+			// 取高9位作为块内位置
+			final int bitIndex = (int) (combined >>> 55);
+			final int wordIndex = blockStart + (bitIndex >>> 6);
+			final long mask = 1L << bitIndex;
+			long word;
+			while (0 == ((word = bits.get(wordIndex)) & mask)) {
+				if (bits.compareAndSet(wordIndex, word, word | mask)) {
+					changed = true;
+					break;
+				}
+			}
+			combined += delta;
+		}
+		return changed;
+	}
+
+	/**
+	 * 检查块中的k个bit位是否都已设置
+	 *
+	 * @param h1 前64位
+	 * @param h2 后64位
+	 * @return 是否都已设置
+	 */
+	private boolean contains(long h1, long h2) {
+		final int blockStart = blockStart(h1);
+		final long delta = delta(h1);
+		long combined = h2;
+		for (int i = 0; i < hashCount; i++) {
+			final int bitIndex = (int) (combined >>> 55);
+			if (0 == (word(blockStart + (bitIndex >>> 6)) & (1L << bitIndex))) {
+				return false;
+			}
+			combined += delta;
+		}
+		return true;
+	}
+
+	/**
+	 * 读取指定下标的long值
+	 *
+	 * @param index 下标
+	 * @return long值
+	 */
+	private long word(int index) {
+		return null == mappedBits ? bits.get(index) : mappedBits.get(index);
+	}
+
+	/**
+	 * 检查二进制格式头
+	 *
+	 * @param magic   魔数
+	 * @param version 版本
+	 * @throws IORuntimeException 格式错误
+	 */
+	private static void checkHeader(int magic, int version) throws IORuntimeException {
+		if (MAGIC != magic) {
+			throw new IORuntimeException("Invalid bloom filter magic: {}", Integer.toHexString(magic));
+		}
+		if (VERSION != version) {
+			throw new IORuntimeException("Unsupported bloom filter version: {}", version);
+		}
+	}
+
+	/**
+	 * 检查格式头中的哈希个数和块个数，范围与构造方法一致，避免损坏的文件导致分配错误大小的数组
+	 *
+	 * @param hashCount  哈希个数
+	 * @param blockCount 块个数
+	 * @throws IORuntimeException 格式错误
+	 */
+	private static void checkCounts(int hashCount, int blockCount) throws IORuntimeException {
+		if (hashCount <= 0 || blockCount <= 0 || blockCount > (Integer.MAX_VALUE - BLOCK_LONGS) / BLOCK_LONGS) {
+			throw new IORuntimeException("Header [hashCount={}, blockCount={}] is not a valid bloom filter file!", hashCount, blockCount);
+		}
+	}
+
+	/**
+	 * 计算哈希对应块的起始下标，使用乘法代替取模
+	 *
+	 * @param h1 前64位哈希
+	 * @return 块在数组中的起始下标
+	 */
+	private int blockStart(long h1) {
+		return (int) (((h1 >>> 32) * blockCount) >>> 32) * BLOCK_LONGS;
+	}
+
+	/**
+	 * 计算双重哈希的步长，使用未参与选择块的低32位作为步长的高位，避免同一块中的元素步长相近
+	 *
+	 * @param h1 前64位哈希
+	 * @return 步长，始终为奇数
+	 */
+	private static long delta(long h1) {
+		return Long.rotateLeft(h1, 32) | 1;
+	}
+
+	/**
+	 * Murmur3的64位混淆函数
+	 *
+	 * @param h 值
+	 * @return 混淆后的值
+	 */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
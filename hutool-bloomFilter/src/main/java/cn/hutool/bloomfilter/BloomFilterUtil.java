@@ -29,4 +29,40 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建线程安全的分块布隆过滤器，根据预计元素个数和期望误判率计算大小
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值(0, 1)，如0.01
+	 * @return BlockedBloomFilter
+	 * @since 5.8.29
+	 */
+	public static BlockedBloomFilter createBlocked(long expectedInsertions, double fpp) {
+		return new BlockedBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建可扩展布隆过滤器，元素个数超出初始容量时自动扩展，并保持总误判率不变
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             总误判率，取值(0, 1)，如0.01
+	 * @return ScalableBloomFilter
+	 * @since 5.8.29
+	 */
+	public static ScalableBloomFilter createScalable(long initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
+
+	/**
+	 * 创建支持移除元素的计数布隆过滤器
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值(0, 1)，如0.01
+	 * @return CountingBloomFilter
+	 * @since 5.8.29
+	 */
+	public static CountingBloomFilter createCounting(long expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
 }
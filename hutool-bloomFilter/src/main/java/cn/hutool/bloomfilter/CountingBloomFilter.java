@@ -0,0 +1,215 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 计数布隆过滤器（Counting Bloom Filter），支持移除元素，线程安全<br>
+ * 每个位置使用4 bit计数器代替1 bit，16个计数器存储在一个long中，加入元素时k个计数器加1，移除时减1，计数器通过CAS更新。<br>
+ * 计数器达到最大值15后不再增减，避免溢出导致误删，因此极端情况下被移除的元素仍可能被判定为存在。<br>
+ * 只能移除确实加入过的元素，移除未加入的元素会导致其它元素被误判为不存在。<br>
+ * 相同误判率下，占用空间为普通布隆过滤器的4倍。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class CountingBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个计数器的bit数
+	 */
+	private static final int COUNTER_BITS = 4;
+	/**
+	 * 每个long中计数器的个数
+	 */
+	private static final int COUNTERS_PER_LONG = Long.SIZE / COUNTER_BITS;
+	/**
+	 * 计数器最大值
+	 */
+	private static final long MAX_COUNT = (1 << COUNTER_BITS) - 1;
+
+	private final AtomicLongArray counters;
+	private final long counterCount;
+	private final int hashCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值(0, 1)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double fpp) {
+		this(BlockedBloomFilter.optimalBitCount(expectedInsertions, fpp),
+				BlockedBloomFilter.optimalHashCount(expectedInsertions, BlockedBloomFilter.optimalBitCount(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param counterCount 计数器个数
+	 * @param hashCount    哈希个数
+	 */
+	public CountingBloomFilter(long counterCount, int hashCount) {
+		Assert.isTrue(counterCount > 0, "Counter count must be greater than 0!");
+		Assert.isTrue(hashCount > 0, "Hash count must be greater than 0!");
+		final long length = (counterCount + COUNTERS_PER_LONG - 1) / COUNTERS_PER_LONG;
+		Assert.isTrue(length <= Integer.MAX_VALUE - 8, "Counter count {} is too large!", counterCount);
+		this.counterCount = counterCount;
+		this.hashCount = hashCount;
+		this.counters = new AtomicLongArray((int) length);
+	}
+
+	// ---------------------------------------------------------------- add
+
+	@Override
+	public boolean add(String str) {
+		return add(StrUtil.bytes(str, CharsetUtil.CHARSET_UTF_8));
+	}
+
+	/**
+	 * 加入bytes
+	 *
+	 * @param bytes bytes
+	 * @return 是否加入成功，如果可能已存在返回{@code false}，此时计数器依然增加，以便移除时成对减少
+	 */
+	public boolean add(byte[] bytes) {
+		final long[] hash = MurmurHash.hash128(bytes);
+		final boolean exists = contains(hash[0], hash[1]);
+		final long h1 = hash[0];
+		final long h2 = hash[1];
+		for (int i = 0; i < hashCount; i++) {
+			increment(index(h1, h2, i));
+		}
+		return false == exists;
+	}
+
+	// ---------------------------------------------------------------- contains
+
+	@Override
+	public boolean contains(String str) {
+		return contains(StrUtil.bytes(str, CharsetUtil.CHARSET_UTF_8));
+	}
+
+	/**
+	 * 是否可能包含bytes，存在误判
+	 *
+	 * @param bytes bytes
+	 * @return 是否可能包含
+	 */
+	public boolean contains(byte[] bytes) {
+		final long[] hash = MurmurHash.hash128(bytes);
+		return contains(hash[0], hash[1]);
+	}
+
+	// ---------------------------------------------------------------- remove
+
+	/**
+	 * 移除字符串，字符串必须已经加入过
+	 *
+	 * @param str 字符串
+	 * @return 是否移除成功，如果不存在返回{@code false}
+	 */
+	public boolean remove(String str) {
+		return remove(StrUtil.bytes(str, CharsetUtil.CHARSET_UTF_8));
+	}
+
+	/**
+	 * 移除bytes，bytes必须已经加入过
+	 *
+	 * @param bytes bytes
+	 * @return 是否移除成功，如果不存在返回{@code false}
+	 */
+	public boolean remove(byte[] bytes) {
+		final long[] hash = MurmurHash.hash128(bytes);
+		final long h1 = hash[0];
+		final long h2 = hash[1];
+		if (false == contains(h1, h2)) {
+			return false;
+		}
+		for (int i = 0; i < hashCount; i++) {
+			decrement(index(h1, h2, i));
+		}
+		return true;
+	}
+
+	// ---------------------------------------------------------------- info
+
+	/**
+	 * @return 计数器个数
+	 */
+	public long getCounterCount() {
+		return counterCount;
+	}
+
+	/**
+	 * @return 哈希个数
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	// ---------------------------------------------------------------- private method
+
+	private boolean contains(long h1, long h2) {
+		for (int i = 0; i < hashCount; i++) {
+			if (0 == count(index(h1, h2, i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 双重哈希计算第i个计数器的位置
+	 *
+	 * @param h1 前64位哈希
+	 * @param h2 后64位哈希
+	 * @param i  序号
+	 * @return 计数器位置
+	 */
+	private long index(long h1, long h2, int i) {
+		return Long.remainderUnsigned(h1 + i * h2, counterCount);
+	}
+
+	private long count(long index) {
+		final long word = counters.get((int) (index / COUNTERS_PER_LONG));
+		return (word >>> shift(index)) & MAX_COUNT;
+	}
+
+	private void increment(long index) {
+		final int wordIndex = (int) (index / COUNTERS_PER_LONG);
+		final int shift = shift(index);
+		long word;
+		do {
+			word = counters.get(wordIndex);
+			if (MAX_COUNT == ((word >>> shift) & MAX_COUNT)) {
+				// 计数器已满，不再增加
+				return;
+			}
+		} while (false == counters.compareAndSet(wordIndex, word, word + (1L << shift)));
+	}
+
+	private void decrement(long index) {
+		final int wordIndex = (int) (index / COUNTERS_PER_LONG);
+		final int shift = shift(index);
+		long word;
+		long count;
+		do {
+			word = counters.get(wordIndex);
+			count = (word >>> shift) & MAX_COUNT;
+			if (0 == count || MAX_COUNT == count) {
+				// 计数器为0或已满（真实计数未知），不再减少
+				return;
+			}
+		} while (false == counters.compareAndSet(wordIndex, word, word - (1L << shift)));
+	}
+
+	private static int shift(long index) {
+		return (int) (index % COUNTERS_PER_LONG) * COUNTER_BITS;
+	}
+}
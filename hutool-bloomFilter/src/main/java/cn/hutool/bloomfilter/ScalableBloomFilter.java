@@ -0,0 +1,227 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 可扩展布隆过滤器（Scalable Bloom Filter），线程安全<br>
+ * 由多个{@link BlockedBloomFilter}组成，当前过滤器加入的元素达到其容量后，创建一个容量按倍数增长、误判率按比例收紧的新过滤器，
+ * 新元素只加入最新的过滤器，查询时检查所有过滤器。<br>
+ * 第i个过滤器的误判率为 p * (1 - r) * r<sup>i</sup>，所有过滤器误判率之和不超过总误判率p，
+ * 因此预计元素个数估计不足时，误判率不会随着元素增加而失控。
+ *
+ * <p>
+ * 参考：Almeida P S, Baquero C, Preguiça N, et al. Scalable Bloom Filters
+ * </p>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class ScalableBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认容量增长倍数
+	 */
+	public static final int DEFAULT_GROWTH_FACTOR = 2;
+	/**
+	 * 默认误判率收紧比例
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final double fpp;
+	private final int growthFactor;
+	private final double tighteningRatio;
+
+	private final List<Stage> stages = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 构造，容量按2倍增长，误判率按0.5收紧
+	 *
+	 * @param initialCapacity 第一个过滤器的容量
+	 * @param fpp             总误判率，取值(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH_FACTOR, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 第一个过滤器的容量
+	 * @param fpp             总误判率，取值(0, 1)
+	 * @param growthFactor    容量增长倍数，不小于1
+	 * @param tighteningRatio 误判率收紧比例，取值(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp, int growthFactor, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be greater than 0!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		Assert.isTrue(growthFactor >= 1, "Growth factor must be greater than or equal to 1!");
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1)!");
+		this.fpp = fpp;
+		this.growthFactor = growthFactor;
+		this.tighteningRatio = tighteningRatio;
+		this.stages.add(new Stage(initialCapacity, fpp * (1 - tighteningRatio)));
+	}
+
+	@Override
+	public boolean add(String str) {
+		if (contains(str)) {
+			return false;
+		}
+		final Stage stage = currentStage();
+		stage.filter.add(str);
+		stage.count.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * 加入bytes
+	 *
+	 * @param bytes bytes
+	 * @return 是否加入成功，如果可能已存在返回{@code false}
+	 */
+	public boolean add(byte[] bytes) {
+		if (contains(bytes)) {
+			return false;
+		}
+		final Stage stage = currentStage();
+		stage.filter.add(bytes);
+		stage.count.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * 加入long值
+	 *
+	 * @param value long值
+	 * @return 是否加入成功，如果可能已存在返回{@code false}
+	 */
+	public boolean add(long value) {
+		if (contains(value)) {
+			return false;
+		}
+		final Stage stage = currentStage();
+		stage.filter.add(value);
+		stage.count.incrementAndGet();
+		return true;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		for (Stage stage : stages) {
+			if (stage.filter.contains(str)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 是否可能包含bytes，存在误判
+	 *
+	 * @param bytes bytes
+	 * @return 是否可能包含
+	 */
+	public boolean contains(byte[] bytes) {
+		for (Stage stage : stages) {
+			if (stage.filter.contains(bytes)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 是否可能包含long值，存在误判
+	 *
+	 * @param value long值
+	 * @return 是否可能包含
+	 */
+	public boolean contains(long value) {
+		for (Stage stage : stages) {
+			if (stage.filter.contains(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return 总误判率
+	 */
+	public double getFpp() {
+		return fpp;
+	}
+
+	/**
+	 * @return 过滤器个数
+	 */
+	public int getStageCount() {
+		return stages.size();
+	}
+
+	/**
+	 * @return 已加入的元素个数，可能已存在而未加入的元素不计入
+	 */
+	public long getCount() {
+		long count = 0;
+		for (Stage stage : stages) {
+			count += stage.count.get();
+		}
+		return count;
+	}
+
+	/**
+	 * @return 所有过滤器的bit位总数
+	 */
+	public long getBitSize() {
+		long size = 0;
+		for (Stage stage : stages) {
+			size += stage.filter.getBitSize();
+		}
+		return size;
+	}
+
+	/**
+	 * 获取当前用于加入元素的过滤器，已满时创建新的过滤器
+	 *
+	 * @return 当前过滤器
+	 */
+	private Stage currentStage() {
+		Stage stage = stages.get(stages.size() - 1);
+		if (stage.count.get() < stage.capacity) {
+			return stage;
+		}
+		synchronized (this) {
+			stage = stages.get(stages.size() - 1);
+			if (stage.count.get() >= stage.capacity) {
+				stage = new Stage(stage.capacity * growthFactor, stage.fpp * tighteningRatio);
+				stages.add(stage);
+			}
+		}
+		return stage;
+	}
+
+	/**
+	 * 单个过滤器及其容量
+	 */
+	private static class Stage implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final BlockedBloomFilter filter;
+		private final long capacity;
+		private final double fpp;
+		private final AtomicLong count = new AtomicLong();
+
+		Stage(long capacity, double fpp) {
+			this.filter = new BlockedBloomFilter(capacity, fpp);
+			this.capacity = capacity;
+			this.fpp = fpp;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.IORuntimeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class BitSetBloomFilterTest {
+
+	@Test
+	public void saveAndLoadTest() {
+		final BitSetBloomFilter filter = BloomFilterUtil.createBitSet(2000, 1000, 8);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("key" + i);
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.save(out);
+		final BitSetBloomFilter loaded = BitSetBloomFilter.load(new ByteArrayInputStream(out.toByteArray()));
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertTrue(loaded.contains("key" + i));
+		}
+		Assert.assertEquals(filter.getFalsePositiveProbability(), loaded.getFalsePositiveProbability(), 0);
+	}
+
+	@Test
+	public void loadCorruptedHeaderTest() {
+		final BitSetBloomFilter filter = BloomFilterUtil.createBitSet(200, 100, 8);
+		filter.add("abc");
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.save(out);
+		final byte[] valid = out.toByteArray();
+
+		// bit位总数、哈希个数和long个数依次损坏
+		for (int[] counts : new int[][]{{0, 8, 1}, {-1, 8, 1}, {1600, 0, 1}, {1600, 8, -1}, {1600, 8, 26}, {64, 8, Integer.MAX_VALUE}}) {
+			final byte[] bytes = valid.clone();
+			final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			buffer.putInt(8, counts[0]).putInt(16, counts[1]).putInt(20, counts[2]);
+			final IORuntimeException e = Assert.assertThrows(IORuntimeException.class,
+					() -> BitSetBloomFilter.load(new ByteArrayInputStream(bytes)));
+			Assert.assertTrue(e.getMessage().contains("is not a valid bloom filter file"));
+		}
+
+		// 数据被截断
+		Assert.assertThrows(IORuntimeException.class,
+				() -> BitSetBloomFilter.load(new ByteArrayInputStream(Arrays.copyOf(valid, valid.length - 4))));
+	}
+}
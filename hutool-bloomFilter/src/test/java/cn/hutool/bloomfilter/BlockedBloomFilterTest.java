@@ -0,0 +1,143 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BlockedBloomFilterTest {
+
+	@Test
+	public void filterTest() {
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(1000, 0.01);
+		Assert.assertTrue(filter.add("123"));
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertTrue(filter.add(new byte[]{1, 2, 3}));
+		Assert.assertTrue(filter.add(123L));
+		Assert.assertFalse(filter.add("abc"));
+
+		Assert.assertTrue(filter.contains("123"));
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertTrue(filter.contains(new byte[]{1, 2, 3}));
+		Assert.assertTrue(filter.contains(123L));
+		Assert.assertFalse(filter.contains("ddd"));
+		Assert.assertEquals(7, filter.getHashCount());
+	}
+
+	@Test
+	public void falsePositiveTest() {
+		final int n = 100000;
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(n, 0.01);
+		for (int i = 0; i < n; i++) {
+			filter.add(StrUtil.format("key-{}", i));
+		}
+		for (int i = 0; i < n; i++) {
+			Assert.assertTrue(filter.contains(StrUtil.format("key-{}", i)));
+		}
+
+		int falsePositive = 0;
+		for (int i = n; i < 2 * n; i++) {
+			if (filter.contains(StrUtil.format("key-{}", i))) {
+				falsePositive++;
+			}
+		}
+		// 分块布隆过滤器的实际误判率略高于期望值
+		Assert.assertTrue("False positive: " + falsePositive, falsePositive < n * 0.02);
+	}
+
+	@Test
+	public void concurrentAddTest() {
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(160000, 0.01);
+		final AtomicInteger threadIndex = new AtomicInteger();
+		ThreadUtil.concurrencyTest(16, () -> {
+			final long start = threadIndex.getAndIncrement() * 10000L;
+			for (long i = start; i < start + 10000; i++) {
+				filter.add(i);
+			}
+		});
+		for (long i = 0; i < 160000; i++) {
+			Assert.assertTrue(filter.contains(i));
+		}
+	}
+
+	@Test
+	public void saveAndLoadTest() {
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.save(out);
+		final BlockedBloomFilter loaded = BlockedBloomFilter.load(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(filter.getBitSize(), loaded.getBitSize());
+		Assert.assertEquals(filter.getHashCount(), loaded.getHashCount());
+		Assert.assertEquals(filter.getSetBitCount(), loaded.getSetBitCount());
+		for (int i = 0; i < 10000; i++) {
+			Assert.assertTrue(loaded.contains(i));
+		}
+		// 读取后可继续加入
+		Assert.assertTrue(loaded.add("abc"));
+	}
+
+	@Test
+	public void mapTest() {
+		final BlockedBloomFilter filter = BloomFilterUtil.createBlocked(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("key" + i);
+		}
+
+		final File file = FileUtil.createTempFile("hutool-bloom", ".bin", true);
+		try {
+			filter.save(file);
+			final BlockedBloomFilter mapped = BlockedBloomFilter.map(file);
+			Assert.assertTrue(mapped.isMapped());
+			Assert.assertEquals(filter.getSetBitCount(), mapped.getSetBitCount());
+			for (int i = 0; i < 10000; i++) {
+				Assert.assertTrue(mapped.contains("key" + i));
+			}
+			Assert.assertFalse(mapped.contains("abc"));
+			Assert.assertThrows(UnsupportedOperationException.class, () -> mapped.add("abc"));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test(expected = IORuntimeException.class)
+	public void loadInvalidTest() {
+		BlockedBloomFilter.load(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+	}
+
+	@Test
+	public void loadCorruptedHeaderTest() {
+		final BlockedBloomFilter filter = new BlockedBloomFilter(1024, 3);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter.save(out);
+		final byte[] valid = out.toByteArray();
+
+		final File file = FileUtil.createTempFile("hutool-bloom", ".bin", true);
+		try {
+			// hashCount为0，blockCount为负数、0和超出上限
+			for (int[] counts : new int[][]{{0, 2}, {3, -1}, {3, 0}, {3, Integer.MAX_VALUE / 8}}) {
+				final byte[] bytes = valid.clone();
+				ByteBuffer.wrap(bytes, 8, 8).putInt(counts[0]).putInt(counts[1]);
+				final IORuntimeException e = Assert.assertThrows(IORuntimeException.class,
+						() -> BlockedBloomFilter.load(new ByteArrayInputStream(bytes)));
+				Assert.assertTrue(e.getMessage().contains("is not a valid bloom filter file"));
+
+				FileUtil.writeBytes(bytes, file);
+				Assert.assertThrows(IORuntimeException.class, () -> BlockedBloomFilter.map(file));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * 各布隆过滤器实现的加入和查询吞吐量对比
+ */
+public class BloomFilterBenchmarkTest {
+
+	@Test
+	@Ignore
+	public void benchmarkTest() {
+		final int n = 1000000;
+		final String[] keys = new String[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = "key" + i;
+		}
+
+		final StopWatch stopWatch = new StopWatch("BloomFilter benchmark, " + n + " keys");
+		benchmark(stopWatch, "BitMapBloomFilter", BloomFilterUtil.createBitMap(10), keys);
+		benchmark(stopWatch, "BitSetBloomFilter", BloomFilterUtil.createBitSet(2 * n, n, 8), keys);
+		benchmark(stopWatch, "BlockedBloomFilter", BloomFilterUtil.createBlocked(n, 0.01), keys);
+		benchmark(stopWatch, "ScalableBloomFilter", BloomFilterUtil.createScalable(n / 16, 0.01), keys);
+		benchmark(stopWatch, "CountingBloomFilter", BloomFilterUtil.createCounting(n, 0.01), keys);
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static void benchmark(final StopWatch stopWatch, final String name, final BloomFilter filter, final String[] keys) {
+		stopWatch.start(name + " add");
+		for (String key : keys) {
+			filter.add(key);
+		}
+		stopWatch.stop();
+
+		stopWatch.start(name + " contains");
+		int count = 0;
+		for (String key : keys) {
+			if (filter.contains(key)) {
+				count++;
+			}
+		}
+		stopWatch.stop();
+		Console.log("{}: {} / {} contained", name, count, keys.length);
+	}
+}
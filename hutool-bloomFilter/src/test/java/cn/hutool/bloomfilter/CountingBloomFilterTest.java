@@ -0,0 +1,60 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingBloomFilterTest {
+
+	@Test
+	public void addAndRemoveTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertTrue(filter.add("123"));
+		Assert.assertTrue(filter.contains("abc"));
+
+		Assert.assertTrue(filter.remove("abc"));
+		Assert.assertFalse(filter.contains("abc"));
+		Assert.assertTrue(filter.contains("123"));
+		Assert.assertFalse(filter.remove("abc"));
+	}
+
+	@Test
+	public void removeHalfTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < 10000; i += 2) {
+			filter.remove("key" + i);
+		}
+		// 保留的元素不会被误删
+		for (int i = 1; i < 10000; i += 2) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+		int remained = 0;
+		for (int i = 0; i < 10000; i += 2) {
+			if (filter.contains("key" + i)) {
+				remained++;
+			}
+		}
+		Assert.assertTrue("Remained: " + remained, remained < 200);
+	}
+
+	@Test
+	public void concurrentTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(16000, 0.01);
+		final AtomicInteger threadIndex = new AtomicInteger();
+		ThreadUtil.concurrencyTest(16, () -> {
+			final int start = threadIndex.getAndIncrement() * 1000;
+			for (int i = start; i < start + 1000; i++) {
+				filter.add("key" + i);
+			}
+		});
+		for (int i = 0; i < 16000; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+	}
+}
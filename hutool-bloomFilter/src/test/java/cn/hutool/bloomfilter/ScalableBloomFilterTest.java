@@ -0,0 +1,42 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScalableBloomFilterTest {
+
+	@Test
+	public void scaleTest() {
+		// 初始容量远小于实际元素个数
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(1000, 0.01);
+		final int n = 100000;
+		for (int i = 0; i < n; i++) {
+			Assert.assertTrue(filter.add("key" + i) || filter.contains("key" + i));
+		}
+		Assert.assertTrue(filter.getStageCount() > 1);
+		for (int i = 0; i < n; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = n; i < 2 * n; i++) {
+			if (filter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		Assert.assertTrue("False positive: " + falsePositive, falsePositive < n * 0.02);
+	}
+
+	@Test
+	public void longAndBytesTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(10, 0.01);
+		for (long i = 0; i < 100; i++) {
+			filter.add(i);
+		}
+		Assert.assertTrue(filter.add(new byte[]{1, 2, 3}));
+		Assert.assertFalse(filter.add(new byte[]{1, 2, 3}));
+		for (long i = 0; i < 100; i++) {
+			Assert.assertTrue(filter.contains(i));
+		}
+	}
+}
@@ -4,7 +4,13 @@ import cn.hutool.cache.impl.CacheObj;
 import cn.hutool.core.lang.func.Func0;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * 缓存接口
@@ -48,6 +54,22 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	void put(K key, V object, long timeout);
 
+	/**
+	 * 批量将对象加入到缓存，使用默认失效时长<br>
+	 * 默认逐个调用{@link #put(Object, Object)}，实现类可以重写此方法，在一次加锁中完成全部加入
+	 *
+	 * @param map 键值对
+	 * @since 5.8.29
+	 */
+	default void putAll(Map<? extends K, ? extends V> map) {
+		if (null == map) {
+			return;
+		}
+		for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
 	/**
 	 * 从缓存中获得对象，当对象不在缓存中或已经过期返回{@code null}
 	 * <p>
@@ -120,6 +142,56 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	V get(K key, boolean isUpdateLastAccess);
 
+	/**
+	 * 批量从缓存中获得对象，不在缓存中或已经过期的键，通过batchLoader一次性加载后批量加入缓存
+	 * <p>
+	 * 返回的Map按照给定键的顺序排列，只包含缓存中存在或加载到的键。
+	 *
+	 * @param keys        键列表
+	 * @param batchLoader 批量加载函数，参数为所有缺失的键，返回加载到的键值对，{@code null}表示不加载
+	 * @return 键值对
+	 * @since 5.8.29
+	 */
+	default Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> batchLoader) {
+		final Map<K, V> result = new LinkedHashMap<>();
+		if (null == keys || keys.isEmpty()) {
+			return result;
+		}
+
+		final Set<K> missingKeys = new LinkedHashSet<>();
+		V value;
+		for (K key : keys) {
+			value = get(key);
+			if (null == value) {
+				missingKeys.add(key);
+			} else {
+				result.put(key, value);
+			}
+		}
+		if (missingKeys.isEmpty() || null == batchLoader) {
+			return result;
+		}
+
+		final Map<K, V> loaded = batchLoader.apply(missingKeys);
+		if (null == loaded || loaded.isEmpty()) {
+			return result;
+		}
+		putAll(loaded);
+
+		// 保持给定键的顺序
+		final Map<K, V> ordered = new LinkedHashMap<>(keys.size(), 1);
+		for (K key : keys) {
+			value = result.get(key);
+			if (null == value) {
+				value = loaded.get(key);
+			}
+			if (null != value) {
+				ordered.put(key, value);
+			}
+		}
+		return ordered;
+	}
+
 	/**
 	 * 返回包含键和值得迭代器
 	 *
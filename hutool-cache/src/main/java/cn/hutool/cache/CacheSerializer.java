@@ -0,0 +1,27 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存值序列化器，用于将缓存值存储在堆外内存或文件中
+ *
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public interface CacheSerializer<V> {
+
+	/**
+	 * 序列化
+	 *
+	 * @param value 值，非{@code null}
+	 * @return 序列化后的bytes
+	 */
+	byte[] serialize(V value);
+
+	/**
+	 * 反序列化
+	 *
+	 * @param bytes 序列化后的bytes
+	 * @return 值
+	 */
+	V deserialize(byte[] bytes);
+}
@@ -0,0 +1,238 @@
+package cn.hutool.cache;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 缓存统计快照，不可变<br>
+ * 包括命中、未命中、加载成功和失败次数、加载总耗时、加载耗时分布以及按原因区分的淘汰次数。<br>
+ * 加载耗时分布按2的幂划分桶：第0个桶为小于1微秒，第i个桶为[2<sup>i-1</sup>, 2<sup>i</sup>)微秒，最后一个桶包含所有更大的耗时。
+ *
+ * @author looly
+ * @see CacheStatsCounter
+ * @since 5.8.29
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 加载耗时分布的桶个数，最后一个桶的下限约为18分钟
+	 */
+	public static final int LATENCY_BUCKET_COUNT = 32;
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long sizeEvictionCount;
+	private final long expiredEvictionCount;
+	private final long collectedEvictionCount;
+	private final long[] loadLatencyHistogram;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount               命中数
+	 * @param missCount              未命中数
+	 * @param loadSuccessCount       加载成功数
+	 * @param loadFailureCount       加载失败数
+	 * @param totalLoadTime          加载总耗时，单位纳秒
+	 * @param sizeEvictionCount      因容量或权重超限淘汰的对象数
+	 * @param expiredEvictionCount   因过期移除的对象数
+	 * @param collectedEvictionCount 因弱引用被回收移除的对象数
+	 * @param loadLatencyHistogram   加载耗时分布，长度为{@link #LATENCY_BUCKET_COUNT}
+	 */
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+					  long sizeEvictionCount, long expiredEvictionCount, long collectedEvictionCount, long[] loadLatencyHistogram) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.sizeEvictionCount = sizeEvictionCount;
+		this.expiredEvictionCount = expiredEvictionCount;
+		this.collectedEvictionCount = collectedEvictionCount;
+		this.loadLatencyHistogram = null == loadLatencyHistogram ? new long[LATENCY_BUCKET_COUNT]
+				: Arrays.copyOf(loadLatencyHistogram, LATENCY_BUCKET_COUNT);
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 未命中数
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 请求数，即命中数与未命中数之和
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为1
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 加载数，即加载成功数与失败数之和
+	 */
+	public long getLoadCount() {
+		return loadSuccessCount + loadFailureCount;
+	}
+
+	/**
+	 * @return 加载总耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒，无加载时为0
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = getLoadCount();
+		return 0 == loadCount ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 因容量或权重超限淘汰的对象数
+	 */
+	public long getSizeEvictionCount() {
+		return sizeEvictionCount;
+	}
+
+	/**
+	 * @return 因过期移除的对象数
+	 */
+	public long getExpiredEvictionCount() {
+		return expiredEvictionCount;
+	}
+
+	/**
+	 * @return 因弱引用被回收移除的对象数
+	 */
+	public long getCollectedEvictionCount() {
+		return collectedEvictionCount;
+	}
+
+	/**
+	 * @return 淘汰总数，不包括主动调用remove移除的对象
+	 */
+	public long getEvictionCount() {
+		return sizeEvictionCount + expiredEvictionCount + collectedEvictionCount;
+	}
+
+	/**
+	 * @return 加载耗时分布的拷贝
+	 */
+	public long[] getLoadLatencyHistogram() {
+		return loadLatencyHistogram.clone();
+	}
+
+	/**
+	 * 估算加载耗时的百分位数，返回所在桶的上限
+	 *
+	 * @param percentile 百分位，取值(0, 1]，如0.99表示p99
+	 * @return 耗时上限，单位纳秒，无加载时为0
+	 */
+	public long getLoadLatencyPercentile(double percentile) {
+		final long loadCount = getLoadCount();
+		if (0 == loadCount) {
+			return 0;
+		}
+		final long threshold = (long) Math.ceil(loadCount * Math.min(1.0, Math.max(0, percentile)));
+		long count = 0;
+		for (int i = 0; i < loadLatencyHistogram.length; i++) {
+			count += loadLatencyHistogram[i];
+			if (count >= threshold) {
+				return bucketUpperBound(i);
+			}
+		}
+		return bucketUpperBound(loadLatencyHistogram.length - 1);
+	}
+
+	/**
+	 * 计算与之前快照的差值，用于周期性导出时获取每个周期内的统计
+	 *
+	 * @param other 之前的快照
+	 * @return 差值快照，小于0的值取0
+	 */
+	public CacheStats minus(CacheStats other) {
+		final long[] histogram = new long[LATENCY_BUCKET_COUNT];
+		for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+			histogram[i] = Math.max(0, loadLatencyHistogram[i] - other.loadLatencyHistogram[i]);
+		}
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				Math.max(0, sizeEvictionCount - other.sizeEvictionCount),
+				Math.max(0, expiredEvictionCount - other.expiredEvictionCount),
+				Math.max(0, collectedEvictionCount - other.collectedEvictionCount),
+				histogram);
+	}
+
+	/**
+	 * 耗时所在的桶
+	 *
+	 * @param nanos 耗时，单位纳秒
+	 * @return 桶下标
+	 */
+	static int bucketIndex(long nanos) {
+		final long micros = nanos / 1000;
+		return Math.min(LATENCY_BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	/**
+	 * 桶的上限
+	 *
+	 * @param index 桶下标
+	 * @return 上限，单位纳秒，最后一个桶为{@link Long#MAX_VALUE}
+	 */
+	private static long bucketUpperBound(int index) {
+		if (index >= LATENCY_BUCKET_COUNT - 1) {
+			return Long.MAX_VALUE;
+		}
+		return (1L << index) * 1000;
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("CacheStats{hitCount={}, missCount={}, loadSuccessCount={}, loadFailureCount={}, " +
+						"totalLoadTime={}, sizeEvictionCount={}, expiredEvictionCount={}, collectedEvictionCount={}}",
+				hitCount, missCount, loadSuccessCount, loadFailureCount,
+				totalLoadTime, sizeEvictionCount, expiredEvictionCount, collectedEvictionCount);
+	}
+}
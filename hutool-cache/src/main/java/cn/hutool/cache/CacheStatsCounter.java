@@ -0,0 +1,97 @@
+package cn.hutool.cache;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存统计计数器<br>
+ * 所有计数使用{@link LongAdder}记录，无锁，可在缓存锁外调用，通过{@link #snapshot(long, long)}获取{@link CacheStats}快照。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class CacheStatsCounter implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder sizeEvictionCount = new LongAdder();
+	private final LongAdder expiredEvictionCount = new LongAdder();
+	private final LongAdder collectedEvictionCount = new LongAdder();
+	private final LongAdder[] loadLatencyHistogram;
+
+	/**
+	 * 构造
+	 */
+	public CacheStatsCounter() {
+		this.loadLatencyHistogram = new LongAdder[CacheStats.LATENCY_BUCKET_COUNT];
+		for (int i = 0; i < loadLatencyHistogram.length; i++) {
+			loadLatencyHistogram[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 记录加载成功
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		recordLoadTime(loadTime);
+	}
+
+	/**
+	 * 记录加载失败
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		recordLoadTime(loadTime);
+	}
+
+	/**
+	 * 记录因容量或权重超限的淘汰
+	 */
+	public void recordSizeEviction() {
+		sizeEvictionCount.increment();
+	}
+
+	/**
+	 * 记录因过期的移除
+	 */
+	public void recordExpiredEviction() {
+		expiredEvictionCount.increment();
+	}
+
+	/**
+	 * 记录因弱引用被回收的移除
+	 */
+	public void recordCollectedEviction() {
+		collectedEvictionCount.increment();
+	}
+
+	/**
+	 * 获取统计快照，快照期间的并发更新可能部分可见
+	 *
+	 * @param hitCount  命中数
+	 * @param missCount 未命中数
+	 * @return {@link CacheStats}
+	 */
+	public CacheStats snapshot(long hitCount, long missCount) {
+		final long[] histogram = new long[loadLatencyHistogram.length];
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = loadLatencyHistogram[i].sum();
+		}
+		return new CacheStats(hitCount, missCount,
+				loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(),
+				sizeEvictionCount.sum(), expiredEvictionCount.sum(), collectedEvictionCount.sum(),
+				histogram);
+	}
+
+	private void recordLoadTime(long loadTime) {
+		totalLoadTime.add(loadTime);
+		loadLatencyHistogram[CacheStats.bucketIndex(loadTime)].increment();
+	}
+}
@@ -1,10 +1,13 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.NoCache;
+import cn.hutool.cache.impl.OffHeapCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TwoLevelCache;
 import cn.hutool.cache.impl.WeakCache;
 
 /**
@@ -40,6 +43,23 @@ public class CacheUtil {
 		return new FIFOCache<>(capacity);
 	}
 
+	/**
+	 * 创建按权重限制大小的FIFO(first in first out) 先进先出缓存.<br>
+	 * 总权重超出限制时，按照加入顺序移除对象
+	 *
+	 * @param <K>       Key类型
+	 * @param <V>       Value类型
+	 * @param maxWeight 最大总权重
+	 * @param weigher   权重计算器
+	 * @return {@link FIFOCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> FIFOCache<K, V> newFIFOCache(long maxWeight, Weigher<K, V> weigher) {
+		final FIFOCache<K, V> cache = new FIFOCache<>(0);
+		cache.setWeigher(weigher, maxWeight);
+		return cache;
+	}
+
 	/**
 	 * 创建LFU(least frequently used) 最少使用率缓存.
 	 *
@@ -65,6 +85,23 @@ public class CacheUtil {
 		return new LFUCache<>(capacity);
 	}
 
+	/**
+	 * 创建按权重限制大小的LFU(least frequently used) 最少使用率缓存.<br>
+	 * 总权重超出限制时，移除访问最少的对象
+	 *
+	 * @param <K>       Key类型
+	 * @param <V>       Value类型
+	 * @param maxWeight 最大总权重
+	 * @param weigher   权重计算器
+	 * @return {@link LFUCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> LFUCache<K, V> newLFUCache(long maxWeight, Weigher<K, V> weigher) {
+		final LFUCache<K, V> cache = new LFUCache<>(0);
+		cache.setWeigher(weigher, maxWeight);
+		return cache;
+	}
+
 
 	/**
 	 * 创建LRU (least recently used)最近最久未使用缓存.
@@ -91,6 +128,52 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建按权重限制大小的LRU (least recently used)最近最久未使用缓存.<br>
+	 * 总权重超出限制时，移除最久未使用的对象
+	 *
+	 * @param <K>       Key类型
+	 * @param <V>       Value类型
+	 * @param maxWeight 最大总权重
+	 * @param weigher   权重计算器
+	 * @return {@link LRUCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> LRUCache<K, V> newLRUCache(long maxWeight, Weigher<K, V> weigher) {
+		final LRUCache<K, V> cache = new LRUCache<>(0);
+		cache.setWeigher(weigher, maxWeight);
+		return cache;
+	}
+
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，访问顺序通过缓冲区批量更新，适用于高并发读的场景
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout) {
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，访问顺序通过缓冲区批量更新，适用于高并发读的场景
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity) {
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存，通过定时任务自动清除过期缓存对象
 	 *
@@ -107,6 +190,27 @@ public class CacheUtil {
 		return cache;
 	}
 
+	/**
+	 * 创建定时缓存，通过定时任务自动清除过期缓存对象<br>
+	 * 启用时间轮时，以定时任务的间隔为刻度索引过期时间，每次清理只处理到期的对象，适用于对象数量很多的场景
+	 *
+	 * @param <K>                Key类型
+	 * @param <V>                Value类型
+	 * @param timeout            过期时长，单位：毫秒
+	 * @param schedulePruneDelay 间隔时长，单位毫秒
+	 * @param isUseTimingWheel   是否使用时间轮索引过期时间
+	 * @return {@link TimedCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> TimedCache<K, V> newTimedCache(long timeout, long schedulePruneDelay, boolean isUseTimingWheel) {
+		final TimedCache<K, V> cache = newTimedCache(timeout);
+		if (isUseTimingWheel) {
+			cache.enableTimingWheel(schedulePruneDelay);
+		}
+		cache.schedulePrune(schedulePruneDelay);
+		return cache;
+	}
+
 	/**
 	 * 创建定时缓存.
 	 *
@@ -132,6 +236,47 @@ public class CacheUtil {
 		return new WeakCache<>(timeout);
 	}
 
+	/**
+	 * 创建堆外缓存，值使用JDK序列化后存储在直接内存中
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param maxBytes 最大占用字节数
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> OffHeapCache<K, V> newOffHeapCache(long maxBytes, long timeout) {
+		return new OffHeapCache<>(maxBytes, timeout);
+	}
+
+	/**
+	 * 创建堆外缓存，值使用JDK序列化后存储在直接内存中，默认无超时
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param maxBytes 最大占用字节数
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> OffHeapCache<K, V> newOffHeapCache(long maxBytes) {
+		return new OffHeapCache<>(maxBytes);
+	}
+
+	/**
+	 * 创建二级缓存
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param l1  一级缓存，如{@link LRUCache}
+	 * @param l2  二级缓存，如{@link OffHeapCache}
+	 * @return {@link TwoLevelCache}
+	 * @since 5.8.29
+	 */
+	public static <K, V> TwoLevelCache<K, V> newTwoLevelCache(Cache<K, V> l1, Cache<K, V> l2) {
+		return new TwoLevelCache<>(l1, l2);
+	}
+
 	/**
 	 * 创建无缓存实现.
 	 *
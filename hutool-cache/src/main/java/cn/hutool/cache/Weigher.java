@@ -0,0 +1,23 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象权重计算器，用于按照对象占用的内存等权重限制缓存大小<br>
+ * 权重在对象加入缓存时计算一次，之后不再变化
+ *
+ * @param <K> 缓存键
+ * @param <V> 缓存值
+ * @author looly
+ * @since 5.8.29
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+	/**
+	 * 计算缓存对象的权重
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 权重，必须为非负数
+	 */
+	long weigh(K key, V value);
+}
@@ -2,18 +2,29 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.CacheStatsCounter;
+import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.Weigher;
 import cn.hutool.core.exceptions.ExceptionUtil;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
 import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.thread.GlobalThreadPool;
 
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +48,10 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * 写的时候每个key一把锁，降低锁的粒度
 	 */
 	protected final SafeConcurrentHashMap<K, Lock> keyLockMap = new SafeConcurrentHashMap<>();
+	/**
+	 * 正在异步加载的key，用于保证同一个key同时只有一个异步加载
+	 */
+	protected final SafeConcurrentHashMap<K, CompletableFuture<V>> loadingMap = new SafeConcurrentHashMap<>();
 
 	/**
 	 * 返回缓存容量，{@code 0}表示无大小限制
@@ -60,12 +75,38 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * 丢失数，即未命中缓存计数
 	 */
 	protected LongAdder missCount = new LongAdder();
+	/**
+	 * 加载和淘汰统计
+	 */
+	protected final CacheStatsCounter statsCounter = new CacheStatsCounter();
 
 	/**
 	 * 缓存监听
 	 */
 	protected CacheListener<K, V> listener;
 
+	/**
+	 * 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 */
+	protected long refreshAfterWrite;
+	/**
+	 * 异步加载和刷新使用的线程池，{@code null}表示使用全局线程池
+	 */
+	protected Executor loadExecutor;
+
+	/**
+	 * 权重计算器，{@code null}表示不计算权重
+	 */
+	protected Weigher<K, V> weigher;
+	/**
+	 * 最大总权重，{@code 0}表示无限制
+	 */
+	protected long maxWeight;
+	/**
+	 * 当前总权重
+	 */
+	protected final AtomicLong totalWeight = new AtomicLong();
+
 	// ---------------------------------------------------------------- put start
 	@Override
 	public void put(K key, V object) {
@@ -82,13 +123,19 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected void putWithoutLock(K key, V object, long timeout) {
 		CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		co.weight = weigh(key, object);
 		if (timeout != 0) {
 			existCustomTimeout = true;
 		}
 		if (isFull()) {
 			pruneCache();
 		}
-		cacheMap.put(MutableObj.of(key), co);
+		addWeight(co);
+		subtractWeight(cacheMap.put(MutableObj.of(key), co));
+		if (isOverWeight()) {
+			// 加入后超出最大权重，由清理策略继续淘汰
+			pruneCache();
+		}
 	}
 	// ---------------------------------------------------------------- put end
 
@@ -107,6 +154,45 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return missCount.sum();
 	}
 
+	/**
+	 * 获取缓存统计快照，包括命中、加载和按原因区分的淘汰统计
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.29
+	 */
+	public CacheStats getStats() {
+		return statsCounter.snapshot(hitCount.sum(), missCount.sum());
+	}
+
+	/**
+	 * 定时导出缓存统计快照，如输出到日志或监控系统<br>
+	 * 快照为累计值，需要每个周期的统计时可使用{@link CacheStats#minus(CacheStats)}计算差值
+	 *
+	 * @param period   导出周期，单位毫秒
+	 * @param exporter 快照导出器
+	 * @return {@link ScheduledFuture}，用于取消导出
+	 * @since 5.8.29
+	 */
+	public ScheduledFuture<?> scheduleStatsExport(long period, Consumer<CacheStats> exporter) {
+		return GlobalPruneTimer.INSTANCE.schedule(() -> exporter.accept(getStats()), period);
+	}
+
+	/**
+	 * @return 当前总权重，未设置权重计算器时为0
+	 * @since 5.8.29
+	 */
+	public long getTotalWeight() {
+		return totalWeight.get();
+	}
+
+	/**
+	 * @return 最大总权重，{@code 0}表示无限制
+	 * @since 5.8.29
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+
 	@Override
 	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
 		return get(key, isUpdateLastAccess, this.timeout, supplier);
@@ -115,21 +201,26 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	@Override
 	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
 		V v = get(key, isUpdateLastAccess);
-		if (null == v && null != supplier) {
+		if (null != v) {
+			refreshIfRequired(key, timeout, supplier);
+		} else if (null != supplier) {
 			//每个key单独获取一把锁，降低锁的粒度提高并发能力，see pr#1385@Github
 			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
 			keyLock.lock();
 			try {
 				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
-				final CacheObj<K, V> co = getWithoutLock(key);
+				final CacheObj<K, V> co = getCacheObj(key);
 				if (null == co || co.isExpired()) {
+					final long start = System.nanoTime();
 					try {
 						v = supplier.call();
 					} catch (Exception e) {
+						statsCounter.recordLoadFailure(System.nanoTime() - start);
 						// issue#I7RJZT 运行时异常不做包装
 						throw ExceptionUtil.wrapRuntime(e);
 						//throw new RuntimeException(e);
 					}
+					statsCounter.recordLoadSuccess(System.nanoTime() - start);
 					put(key, v, timeout);
 				} else {
 					v = co.get(isUpdateLastAccess);
@@ -142,6 +233,132 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return v;
 	}
 
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，在线程池中调用supplier加载并加入缓存，使用默认失效时长<br>
+	 * 同一个key同时只有一个加载任务，并发调用返回同一个{@link CompletableFuture}
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.29
+	 */
+	public CompletableFuture<V> getAsync(K key, Func0<V> supplier) {
+		return getAsync(key, this.timeout, supplier);
+	}
+
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时，在线程池中调用supplier加载并加入缓存<br>
+	 * 同一个key同时只有一个加载任务，并发调用返回同一个{@link CompletableFuture}<br>
+	 * 如果设置了{@link #setRefreshAfterWrite(long)}，对象写入后超过刷新时长时返回旧值，同时在后台刷新
+	 *
+	 * @param key      键
+	 * @param timeout  自定义超时时间
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.29
+	 */
+	public CompletableFuture<V> getAsync(K key, long timeout, Func0<V> supplier) {
+		final V v = get(key, true);
+		if (null != v) {
+			refreshIfRequired(key, timeout, supplier);
+			return CompletableFuture.completedFuture(v);
+		}
+		return loadAsync(key, timeout, supplier);
+	}
+
+	/**
+	 * 设置写入后刷新时长，对象写入后超过此时长，通过带supplier的get方法获取时返回旧值，同时在后台使用supplier刷新<br>
+	 * 刷新时长应小于失效时长，这样热点对象在失效前即被刷新，调用者不会因为加载而阻塞
+	 *
+	 * @param refreshAfterWrite 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public AbstractCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置异步加载和刷新使用的线程池
+	 *
+	 * @param loadExecutor 线程池，{@code null}表示使用全局线程池
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public AbstractCache<K, V> setLoadExecutor(Executor loadExecutor) {
+		this.loadExecutor = loadExecutor;
+		return this;
+	}
+
+	/**
+	 * 在线程池中加载对象并加入缓存，如果此key已经在加载中，返回已有的加载任务
+	 *
+	 * @param key      键
+	 * @param timeout  超时时长
+	 * @param supplier 用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.29
+	 */
+	protected CompletableFuture<V> loadAsync(K key, long timeout, Func0<V> supplier) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return loading;
+		}
+
+		final Executor executor = null == this.loadExecutor ? GlobalThreadPool.getExecutor() : this.loadExecutor;
+		try {
+			executor.execute(() -> {
+				final long start = System.nanoTime();
+				try {
+					final V value = supplier.call();
+					statsCounter.recordLoadSuccess(System.nanoTime() - start);
+					put(key, value, timeout);
+					future.complete(value);
+				} catch (Throwable e) {
+					statsCounter.recordLoadFailure(System.nanoTime() - start);
+					future.completeExceptionally(e);
+				} finally {
+					loadingMap.remove(key, future);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 如果对象写入后超过刷新时长，则在后台刷新，刷新失败时保留旧值
+	 *
+	 * @param key      键
+	 * @param timeout  超时时长
+	 * @param supplier 用于生产值对象，{@code null}表示无法刷新
+	 */
+	private void refreshIfRequired(K key, long timeout, Func0<V> supplier) {
+		if (this.refreshAfterWrite <= 0 || null == supplier || loadingMap.containsKey(key)) {
+			return;
+		}
+		final CacheObj<K, V> co = getCacheObj(key);
+		if (null != co && co.isRefreshRequired(this.refreshAfterWrite)) {
+			loadAsync(key, timeout, supplier);
+		}
+	}
+
+	/**
+	 * 获取键对应的{@link CacheObj}，不更新访问时间和命中数<br>
+	 * 默认直接读取，对于非线程安全的Map，子类需加锁
+	 *
+	 * @param key 键
+	 * @return {@link CacheObj}，不存在返回{@code null}
+	 * @since 5.8.29
+	 */
+	protected CacheObj<K, V> getCacheObj(K key) {
+		return getWithoutLock(key);
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -194,7 +411,17 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public boolean isFull() {
-		return (capacity > 0) && (cacheMap.size() >= capacity);
+		return ((capacity > 0) && (cacheMap.size() >= capacity)) || isOverWeight();
+	}
+
+	/**
+	 * 当前总权重是否超出最大权重，未设置最大权重时始终为{@code false}
+	 *
+	 * @return 是否超出最大权重
+	 * @since 5.8.29
+	 */
+	protected boolean isOverWeight() {
+		return (maxWeight > 0) && (totalWeight.get() > maxWeight);
 	}
 
 	@Override
@@ -226,6 +453,21 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * 设置权重计算器和最大总权重，超出最大总权重时按照缓存的淘汰策略移除对象<br>
+	 * 权重在对象加入时计算，因此需在加入对象前设置
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重，{@code 0}表示无限制
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public AbstractCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		this.weigher = weigher;
+		this.maxWeight = maxWeight;
+		return this;
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -257,7 +499,46 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * @return 移除的对象，无返回null
 	 */
 	protected CacheObj<K, V> removeWithoutLock(K key) {
-		return cacheMap.remove(MutableObj.of(key));
+		final CacheObj<K, V> co = cacheMap.remove(MutableObj.of(key));
+		subtractWeight(co);
+		return co;
+	}
+
+	/**
+	 * 计算对象权重，未设置权重计算器时为0
+	 *
+	 * @param key    键
+	 * @param object 值
+	 * @return 权重
+	 * @since 5.8.29
+	 */
+	protected long weigh(K key, V object) {
+		final Weigher<K, V> weigher = this.weigher;
+		return null == weigher ? 0 : weigher.weigh(key, object);
+	}
+
+	/**
+	 * 对象加入后增加总权重
+	 *
+	 * @param co 加入的对象
+	 * @since 5.8.29
+	 */
+	protected void addWeight(CacheObj<K, V> co) {
+		if (null != co && 0 != co.weight) {
+			totalWeight.addAndGet(co.weight);
+		}
+	}
+
+	/**
+	 * 对象移除后减少总权重
+	 *
+	 * @param co 移除的对象，{@code null}表示无对象被移除
+	 * @since 5.8.29
+	 */
+	protected void subtractWeight(CacheObj<K, V> co) {
+		if (null != co && 0 != co.weight) {
+			totalWeight.addAndGet(-co.weight);
+		}
 	}
 
 	/**
@@ -19,6 +19,10 @@ public class CacheObj<K, V> implements Serializable {
 	protected final K key;
 	protected final V obj;
 
+	/**
+	 * 写入时间
+	 */
+	protected final long writeTime;
 	/**
 	 * 上次访问时间
 	 */
@@ -31,6 +35,10 @@ public class CacheObj<K, V> implements Serializable {
 	 * 对象存活时长，0表示永久存活
 	 */
 	protected final long ttl;
+	/**
+	 * 对象权重，未设置权重计算器时为0
+	 */
+	protected long weight;
 
 	/**
 	 * 构造
@@ -43,7 +51,8 @@ public class CacheObj<K, V> implements Serializable {
 		this.key = key;
 		this.obj = obj;
 		this.ttl = ttl;
-		this.lastAccess = System.currentTimeMillis();
+		this.writeTime = System.currentTimeMillis();
+		this.lastAccess = this.writeTime;
 	}
 
 	/**
@@ -76,6 +85,16 @@ public class CacheObj<K, V> implements Serializable {
 		return this.ttl;
 	}
 
+	/**
+	 * 获取对象权重，未设置权重计算器时为0
+	 *
+	 * @return 对象权重
+	 * @since 5.8.29
+	 */
+	public long getWeight() {
+		return this.weight;
+	}
+
 	/**
 	 * 获取过期时间，返回{@code null}表示永不过期
 	 *
@@ -89,6 +108,16 @@ public class CacheObj<K, V> implements Serializable {
 		return null;
 	}
 
+	/**
+	 * 获取写入时间，即对象加入缓存的时间
+	 *
+	 * @return 写入时间
+	 * @since 5.8.29
+	 */
+	public long getWriteTime() {
+		return this.writeTime;
+	}
+
 	/**
 	 * 获取上次访问时间
 	 *
@@ -117,6 +146,17 @@ public class CacheObj<K, V> implements Serializable {
 		return false;
 	}
 
+	/**
+	 * 判断是否需要刷新，即写入后是否已超过指定时长
+	 *
+	 * @param refreshAfterWrite 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 * @return 是否需要刷新
+	 * @since 5.8.29
+	 */
+	protected boolean isRefreshRequired(long refreshAfterWrite) {
+		return refreshAfterWrite > 0 && (System.currentTimeMillis() - this.writeTime) > refreshAfterWrite;
+	}
+
 	/**
 	 * 获取值
 	 *
@@ -0,0 +1,520 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 并发LRU (least recently used)最近最久未使用缓存<br>
+ * 与{@link LRUCache}不同，读操作不加锁：
+ * <ul>
+ *     <li>数据存储于{@link ConcurrentHashMap}中，读取直接从Map中获取</li>
+ *     <li>访问顺序的调整记录在按线程分条的环形缓冲区中，缓冲区满或写入时，由获得淘汰锁的线程批量回放</li>
+ *     <li>写入、移除和淘汰在淘汰锁中完成，保证访问链表的一致性</li>
+ * </ul>
+ * 访问记录缓冲区是有损的，高并发下部分访问记录可能被丢弃，因此淘汰顺序是近似的LRU，适用于读多写少且对锁竞争敏感的场景。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 读缓冲区条带数上限
+	 */
+	private static final int MAX_STRIPES = 64;
+
+	/**
+	 * 淘汰锁，保护访问链表，所有链表操作必须持有此锁
+	 */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	/**
+	 * 按线程分条的访问记录缓冲区
+	 */
+	private final ReadBuffer<K, V>[] readBuffers;
+	/**
+	 * 链表头部，即最久未使用的节点
+	 */
+	private Node<K, V> head;
+	/**
+	 * 链表尾部，即最近使用的节点
+	 */
+	private Node<K, V> tail;
+	/**
+	 * 链表中的节点数
+	 */
+	private int linkedSize;
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cacheMap = new ConcurrentHashMap<>(Math.max(16, capacity + 1));
+
+		// 条带数为不小于CPU核数的2的幂，便于使用掩码计算下标
+		final int processors = Runtime.getRuntime().availableProcessors();
+		int stripes = 1;
+		while (stripes < processors && stripes < MAX_STRIPES) {
+			stripes <<= 1;
+		}
+		this.readBuffers = new ReadBuffer[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	// ---------------------------------------------------------------- put and get
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final Node<K, V> node = new Node<>(key, object, timeout);
+		node.weight = weigh(key, object);
+		addWeight(node);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), node);
+		subtractWeight(old);
+
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			if (null != old) {
+				retire((Node<K, V>) old);
+			}
+			// 在获得锁之前，节点可能已经被并发的put或remove替换
+			if (false == node.retired) {
+				linkLast(node);
+			}
+			evict();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 批量加入，所有对象加入Map后只获取一次淘汰锁
+	 *
+	 * @param map 键值对
+	 */
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		if (null == map || map.isEmpty()) {
+			return;
+		}
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final List<Node<K, V>> nodes = new ArrayList<>(map.size());
+		final List<CacheObj<K, V>> olds = new ArrayList<>(map.size());
+		Node<K, V> node;
+		CacheObj<K, V> old;
+		for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+			node = new Node<>(entry.getKey(), entry.getValue(), timeout);
+			node.weight = weigh(node.key, node.obj);
+			addWeight(node);
+			old = cacheMap.put(MutableObj.of(node.key), node);
+			subtractWeight(old);
+			nodes.add(node);
+			olds.add(old);
+		}
+
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			for (int i = 0; i < nodes.size(); i++) {
+				old = olds.get(i);
+				if (null != old) {
+					retire((Node<K, V>) old);
+				}
+				node = nodes.get(i);
+				if (false == node.retired) {
+					linkLast(node);
+				}
+			}
+			evict();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return get(key, isUpdateLastAccess, true);
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return null != get(key, false, false);
+	}
+
+	@Override
+	protected CacheObj<K, V> getWithoutLock(K key) {
+		return this.cacheMap.get(MutableObj.of(key));
+	}
+
+	// ---------------------------------------------------------------- remove and clear
+
+	@Override
+	public void remove(K key) {
+		final CacheObj<K, V> co = removeWithoutLock(key);
+		if (null != co) {
+			evictionLock.lock();
+			try {
+				retire((Node<K, V>) co);
+			} finally {
+				evictionLock.unlock();
+			}
+			onRemove(co.key, co.obj);
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			cacheMap.clear();
+			totalWeight.set(0);
+			Node<K, V> node = head;
+			while (null != node) {
+				final Node<K, V> next = node.next;
+				node.prev = null;
+				node.next = null;
+				node.linked = false;
+				node.retired = true;
+				node = next;
+			}
+			head = null;
+			tail = null;
+			linkedSize = 0;
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	@Override
+	public int prune() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			return pruneCache();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * 只清理超时对象，容量的淘汰在写入时完成<br>
+	 * 调用此方法时需持有淘汰锁
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		Node<K, V> node = head;
+		while (null != node) {
+			final Node<K, V> next = node.next;
+			if (node.isExpired()) {
+				retire(node);
+				if (cacheMap.remove(MutableObj.of(node.key), node)) {
+					subtractWeight(node);
+					statsCounter.recordExpiredEviction();
+					onRemove(node.key, node.obj);
+					count++;
+				}
+			}
+			node = next;
+		}
+		return count;
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		// ConcurrentHashMap的迭代器是弱一致的，无需加锁
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	// ---------------------------------------------------------------- private method
+
+	/**
+	 * 获取值
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @param isRead             是否为读取操作，读取时更新命中数并记录访问顺序，contains时不更新
+	 * @return 值或null
+	 */
+	private V get(K key, boolean isUpdateLastAccess, boolean isRead) {
+		final Mutable<K> mKey = MutableObj.of(key);
+		final CacheObj<K, V> co = cacheMap.get(mKey);
+		if (null == co) {
+			if (isRead) {
+				missCount.increment();
+			}
+			return null;
+		}
+
+		if (co.isExpired()) {
+			// 过期移除，只有成功从Map中移除的线程负责回调
+			if (cacheMap.remove(mKey, co)) {
+				subtractWeight(co);
+				evictionLock.lock();
+				try {
+					retire((Node<K, V>) co);
+				} finally {
+					evictionLock.unlock();
+				}
+				statsCounter.recordExpiredEviction();
+				onRemove(co.key, co.obj);
+			}
+			if (isRead) {
+				missCount.increment();
+			}
+			return null;
+		}
+
+		if (isRead) {
+			hitCount.increment();
+			afterRead((Node<K, V>) co);
+		}
+		return co.get(isUpdateLastAccess);
+	}
+
+	/**
+	 * 记录访问，缓冲区满时尝试回放
+	 *
+	 * @param node 被访问的节点
+	 */
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> buffer = readBuffers[stripeIndex()];
+		if (buffer.offer(node)) {
+			if (buffer.isFull()) {
+				tryDrain();
+			}
+		} else if (buffer.isFull() && tryDrain()) {
+			// 缓冲区已满，回放后重新记录一次，仍失败则丢弃此次访问记录
+			buffer.offer(node);
+		}
+	}
+
+	/**
+	 * 尝试获取淘汰锁并回放访问记录，锁被其它线程持有时直接返回
+	 *
+	 * @return 是否回放成功
+	 */
+	private boolean tryDrain() {
+		if (evictionLock.tryLock()) {
+			try {
+				drainReadBuffers();
+			} finally {
+				evictionLock.unlock();
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 回放所有缓冲区中的访问记录，将被访问的节点移至链表尾部<br>
+	 * 调用此方法时需持有淘汰锁
+	 */
+	private void drainReadBuffers() {
+		for (ReadBuffer<K, V> buffer : readBuffers) {
+			long head = buffer.readCounter;
+			final long tail = buffer.writeCounter.get();
+			for (; head < tail; head++) {
+				final int index = (int) (head & ReadBuffer.MASK);
+				final Node<K, V> node = buffer.buffer.get(index);
+				if (null == node) {
+					// 生产者已占位但尚未写入，下次回放时再处理
+					break;
+				}
+				buffer.buffer.lazySet(index, null);
+				if (node.linked) {
+					moveToLast(node);
+				}
+			}
+			buffer.readCounter = head;
+		}
+	}
+
+	/**
+	 * 淘汰最久未使用的节点直到满足容量和权重限制<br>
+	 * 调用此方法时需持有淘汰锁
+	 */
+	private void evict() {
+		Node<K, V> node;
+		while (((capacity > 0 && linkedSize > capacity) || isOverWeight()) && null != (node = head)) {
+			retire(node);
+			// 键可能已被新节点替换，此时只移除链表中的旧节点，权重由替换者扣除
+			if (cacheMap.remove(MutableObj.of(node.key), node)) {
+				subtractWeight(node);
+				statsCounter.recordSizeEviction();
+				onRemove(node.key, node.obj);
+			}
+		}
+	}
+
+	/**
+	 * 标记节点失效并从链表中移除<br>
+	 * 调用此方法时需持有淘汰锁
+	 *
+	 * @param node 节点
+	 */
+	private void retire(Node<K, V> node) {
+		node.retired = true;
+		if (node.linked) {
+			unlink(node);
+		}
+	}
+
+	private void linkLast(Node<K, V> node) {
+		node.prev = tail;
+		node.next = null;
+		if (null == tail) {
+			head = node;
+		} else {
+			tail.next = node;
+		}
+		tail = node;
+		node.linked = true;
+		linkedSize++;
+	}
+
+	private void unlink(Node<K, V> node) {
+		final Node<K, V> prev = node.prev;
+		final Node<K, V> next = node.next;
+		if (null == prev) {
+			head = next;
+		} else {
+			prev.next = next;
+		}
+		if (null == next) {
+			tail = prev;
+		} else {
+			next.prev = prev;
+		}
+		node.prev = null;
+		node.next = null;
+		node.linked = false;
+		linkedSize--;
+	}
+
+	private void moveToLast(Node<K, V> node) {
+		if (node != tail) {
+			unlink(node);
+			linkLast(node);
+		}
+	}
+
+	/**
+	 * 根据当前线程计算缓冲区下标
+	 *
+	 * @return 缓冲区下标
+	 */
+	private int stripeIndex() {
+		// 线程ID使用黄金分割散列，使相邻ID的线程分布到不同的缓冲区
+		final int h = (int) Thread.currentThread().getId() * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (readBuffers.length - 1);
+	}
+
+	/**
+	 * 带访问链表指针的缓存对象，链表相关字段只在持有淘汰锁时读写
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private transient Node<K, V> prev;
+		private transient Node<K, V> next;
+		/**
+		 * 是否在访问链表中
+		 */
+		private transient boolean linked;
+		/**
+		 * 是否已被移除或替换，失效的节点不再加入链表
+		 */
+		private transient boolean retired;
+
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 有损的多生产者单消费者环形缓冲区，用于记录读访问<br>
+	 * 生产者通过CAS占位写入，竞争失败或缓冲区满时丢弃记录；消费者在持有淘汰锁时回放
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> {
+		private static final int SIZE = 16;
+		private static final int MASK = SIZE - 1;
+
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(SIZE);
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * 记录访问
+		 *
+		 * @param node 节点
+		 * @return 是否记录成功，缓冲区满或竞争失败返回{@code false}
+		 */
+		boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			if (tail - head >= SIZE) {
+				return false;
+			}
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet((int) (tail & MASK), node);
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * @return 缓冲区是否已满
+		 */
+		boolean isFull() {
+			return writeCounter.get() - readCounter >= SIZE;
+		}
+	}
+}
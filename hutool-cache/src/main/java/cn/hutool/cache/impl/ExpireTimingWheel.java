@@ -0,0 +1,215 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 过期时间轮，用于索引缓存对象的过期时间<br>
+ * 多层时间轮，每层64个槽，第一层每个槽的跨度为刻度（向上取2的幂），上层每个槽的跨度为下层整个轮的跨度。<br>
+ * 推进时间时只处理到期的槽，槽中未过期的对象（例如被访问后刷新了最后访问时间）重新放入对应的槽，
+ * 因此清理的耗时与到期对象的个数成正比，而非缓存中对象的总数。<br>
+ * 此类非线程安全，调用者需保证在锁中操作。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+class ExpireTimingWheel<K, V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每层时间轮槽个数的位数，即每层64个槽
+	 */
+	private static final int SLOT_BITS = 6;
+	private static final int SLOT_COUNT = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOT_COUNT - 1;
+	/**
+	 * 时间轮层数
+	 */
+	private static final int LEVELS = 4;
+
+	/**
+	 * 每层时间轮单个槽跨度的位移数
+	 */
+	private final int[] shifts = new int[LEVELS];
+	/**
+	 * 时间槽
+	 */
+	private final List<CacheObj<K, V>>[][] slots;
+	/**
+	 * 时间轮当前时间
+	 */
+	private long currentTime;
+	/**
+	 * 时间轮中对象的个数，包括已被移除或替换但尚未到期的对象
+	 */
+	private int size;
+
+	/**
+	 * 构造
+	 *
+	 * @param tick        刻度，即第一层时间轮单个槽的跨度，单位毫秒
+	 * @param currentTime 当前时间
+	 */
+	@SuppressWarnings("unchecked")
+	ExpireTimingWheel(long tick, long currentTime) {
+		final int shift = 64 - Long.numberOfLeadingZeros(Math.max(1, tick) - 1);
+		for (int i = 0; i < LEVELS; i++) {
+			shifts[i] = shift + SLOT_BITS * i;
+		}
+		this.slots = new List[LEVELS][SLOT_COUNT];
+		this.currentTime = currentTime;
+	}
+
+	/**
+	 * 将缓存对象按照过期时间加入时间轮，永不过期的对象忽略
+	 *
+	 * @param co 缓存对象
+	 */
+	void schedule(CacheObj<K, V> co) {
+		if (null == co || co.ttl <= 0) {
+			return;
+		}
+		long expireTime = co.lastAccess + co.ttl;
+		if (expireTime < co.lastAccess) {
+			// 超时时长过大导致溢出
+			expireTime = Long.MAX_VALUE;
+		}
+		if (expireTime < currentTime) {
+			// 已过期的对象放入当前槽，下次推进时处理，否则位于已走过的槽中，需等时间轮转一圈才能清理
+			expireTime = currentTime;
+		}
+		final long duration = expireTime - currentTime;
+		int level = 0;
+		// 跨度超出当前层整个轮的对象放入上层，超出最上层的放入最上层，到期时重新调度
+		while (level < LEVELS - 1 && duration >= (1L << (shifts[level] + SLOT_BITS))) {
+			level++;
+		}
+		final int index = (int) ((expireTime >>> shifts[level]) & SLOT_MASK);
+		List<CacheObj<K, V>> slot = slots[level][index];
+		if (null == slot) {
+			slot = new ArrayList<>();
+			slots[level][index] = slot;
+		}
+		slot.add(co);
+		size++;
+	}
+
+	/**
+	 * 推进时间轮到指定时间，处理到期的槽
+	 *
+	 * @param now           当前时间
+	 * @param isLive        判断对象是否仍在缓存中，已被移除或替换的对象直接丢弃
+	 * @param expireHandler 过期对象处理器
+	 * @return 过期对象个数
+	 */
+	int advance(long now, Predicate<CacheObj<K, V>> isLive, Consumer<CacheObj<K, V>> expireHandler) {
+		final long previousTime = this.currentTime;
+		if (now < previousTime) {
+			// 时间回拨时不处理
+			return 0;
+		}
+		this.currentTime = now;
+
+		int count = 0;
+		for (int level = 0; level < LEVELS; level++) {
+			final long previousTicks = previousTime >>> shifts[level];
+			final long delta = (now >>> shifts[level]) - previousTicks;
+			if (delta <= 0) {
+				// 本层未跨槽，上层更不会跨槽
+				break;
+			}
+			// 包含上次所在的槽，其中可能存在加入时已临近过期的对象
+			final int steps = (int) Math.min(delta + 1, SLOT_COUNT);
+			final int start = (int) (previousTicks & SLOT_MASK);
+			for (int i = start; i < start + steps; i++) {
+				count += expireSlot(level, i & SLOT_MASK, now, isLive, expireHandler);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 清空时间轮
+	 */
+	void clear() {
+		for (List<CacheObj<K, V>>[] level : slots) {
+			for (int i = 0; i < level.length; i++) {
+				level[i] = null;
+			}
+		}
+		size = 0;
+	}
+
+	/**
+	 * 获取时间轮中对象的个数，包括已被移除或替换但尚未到期的对象
+	 *
+	 * @return 对象个数
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * 压缩时间轮，移除所有已被移除或替换的对象，对象在槽中的位置不变
+	 *
+	 * @param isLive 判断对象是否仍在缓存中
+	 */
+	void compact(Predicate<CacheObj<K, V>> isLive) {
+		int size = 0;
+		List<CacheObj<K, V>> slot;
+		for (List<CacheObj<K, V>>[] level : slots) {
+			for (int i = 0; i < level.length; i++) {
+				slot = level[i];
+				if (null == slot) {
+					continue;
+				}
+				slot.removeIf(isLive.negate());
+				if (slot.isEmpty()) {
+					level[i] = null;
+				} else {
+					size += slot.size();
+				}
+			}
+		}
+		this.size = size;
+	}
+
+	/**
+	 * 处理单个槽，过期对象交给处理器，未过期的重新调度
+	 *
+	 * @param level         层
+	 * @param index         槽下标
+	 * @param now           当前时间
+	 * @param isLive        判断对象是否仍在缓存中
+	 * @param expireHandler 过期对象处理器
+	 * @return 过期对象个数
+	 */
+	private int expireSlot(int level, int index, long now, Predicate<CacheObj<K, V>> isLive, Consumer<CacheObj<K, V>> expireHandler) {
+		final List<CacheObj<K, V>> slot = slots[level][index];
+		if (null == slot) {
+			return 0;
+		}
+		// 先摘下整个槽，重新调度的对象进入新的槽
+		slots[level][index] = null;
+		size -= slot.size();
+
+		int count = 0;
+		for (CacheObj<K, V> co : slot) {
+			if (false == isLive.test(co)) {
+				continue;
+			}
+			if (now - co.lastAccess > co.ttl) {
+				expireHandler.accept(co);
+				count++;
+			} else {
+				schedule(co);
+			}
+		}
+		return count;
+	}
+}
@@ -42,37 +42,37 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 
 	/**
 	 * 先进先出的清理策略<br>
-	 * 先遍历缓存清理过期的缓存对象，如果清理后还是满的，则删除第一个缓存对象
+	 * 先遍历缓存清理过期的缓存对象，如果清理后还是满的（数量或权重超出限制），则按照加入顺序删除最先加入的缓存对象
 	 */
 	@Override
 	protected int pruneCache() {
 		int count = 0;
-		CacheObj<K, V> first = null;
+		Iterator<CacheObj<K, V>> values;
+		CacheObj<K, V> co;
 
-		// 清理过期对象并找出链表头部元素（先入元素）
-		final Iterator<CacheObj<K, V>> values = cacheObjIter();
 		if (isPruneExpiredActive()) {
-			// 清理过期对象并找出链表头部元素（先入元素）
+			// 清理过期对象
+			values = cacheObjIter();
 			while (values.hasNext()) {
-				CacheObj<K, V> co = values.next();
+				co = values.next();
 				if (co.isExpired()) {
 					values.remove();
+					subtractWeight(co);
+					statsCounter.recordExpiredEviction();
 					onRemove(co.key, co.obj);
 					count++;
-					continue;
-				}
-				if (first == null) {
-					first = co;
 				}
 			}
-		} else {
-			first = values.hasNext() ? values.next() : null;
 		}
 
-		// 清理结束后依旧是满的，则删除第一个被缓存的对象
-		if (isFull() && null != first) {
-			removeWithoutLock(first.key);
-			onRemove(first.key, first.obj);
+		// 清理结束后依旧是满的，则从链表头部（先入元素）开始删除
+		values = cacheObjIter();
+		while (isFull() && values.hasNext()) {
+			co = values.next();
+			values.remove();
+			subtractWeight(co);
+			statsCounter.recordSizeEviction();
+			onRemove(co.key, co.obj);
 			count++;
 		}
 		return count;
@@ -0,0 +1,29 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.CacheSerializer;
+import cn.hutool.core.util.SerializeUtil;
+
+/**
+ * 基于JDK序列化的缓存值序列化器，值必须实现{@link java.io.Serializable}
+ *
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public class JdkCacheSerializer<V> implements CacheSerializer<V> {
+
+	@Override
+	public byte[] serialize(V value) {
+		final byte[] bytes = SerializeUtil.serialize(value);
+		if (null == bytes) {
+			throw new IllegalArgumentException("Value of type [" + value.getClass().getName() + "] is not Serializable!");
+		}
+		return bytes;
+	}
+
+	@Override
+	public V deserialize(byte[] bytes) {
+		// 数据由本缓存序列化写入，无需白名单校验
+		return SerializeUtil.deserialize(bytes);
+	}
+}
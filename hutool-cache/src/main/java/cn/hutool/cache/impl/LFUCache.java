@@ -1,5 +1,8 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -7,8 +10,7 @@ import java.util.Iterator;
  * LFU(least frequently used) 最少使用率缓存<br>
  * 根据使用次数来判定对象是否被持续缓存<br>
  * 使用率是通过访问次数计算的。<br>
- * 当缓存满时清理过期对象。<br>
- * 清理后依旧满的情况下清除最少访问（访问计数最小）的对象并将其他对象的访问数减去这个最小访问数，以便新对象进入后可以公平计数。
+ * 对象按照访问频率放入频率桶中，淘汰时只处理频率最低的桶，写入和读取均为均摊O(1)；过期对象在读取、淘汰或调用{@link #prune()}时清除。
  *
  * @author Looly,jodd
  *
@@ -18,6 +20,15 @@ import java.util.Iterator;
 public class LFUCache<K, V> extends StampedCache<K, V> {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 访问频率最低的桶
+	 */
+	private FreqBucket<K, V> headBucket;
+	/**
+	 * 新加入对象的基础频率，每次淘汰后提升为被淘汰桶的频率
+	 */
+	private long baseFreq;
+
 	/**
 	 * 构造
 	 *
@@ -43,6 +54,60 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 		cacheMap = new HashMap<>(capacity + 1, 1.0f);
 	}
 
+	// ---------------------------------------------------------------- put and remove
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final long weight = weigh(key, object);
+		// 在加入前淘汰，避免新对象因处于最低频率的桶中被立即移除
+		while (isFull() || (maxWeight > 0 && totalWeight.get() + weight > maxWeight)) {
+			if (0 == evictLeastFrequent()) {
+				break;
+			}
+		}
+		// 淘汰后基础频率可能提升，因此在淘汰后创建对象
+		final FreqCacheObj<K, V> co = new FreqCacheObj<>(key, object, timeout, baseFreq);
+		co.weight = weight;
+		addWeight(co);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), co);
+		if (null != old) {
+			subtractWeight(old);
+			unlinkFromBucket((FreqCacheObj<K, V>) old);
+		}
+		linkToHeadBucket(co);
+		if (maxWeight > 0 && weight > maxWeight) {
+			// 单个对象超出最大权重，移除所有其它对象后仍超出，与其它缓存一致也被移除
+			removeWithoutLock(key);
+			statsCounter.recordSizeEviction();
+			onRemove(key, object);
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key);
+		if (null != co) {
+			unlinkFromBucket((FreqCacheObj<K, V>) co);
+		}
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			cacheMap.clear();
+			totalWeight.set(0);
+			headBucket = null;
+			baseFreq = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	// ---------------------------------------------------------------- prune
 
 	/**
@@ -54,42 +119,211 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 	@Override
 	protected int pruneCache() {
 		int count = 0;
-		CacheObj<K, V> comin = null;
-
-		// 清理过期对象并找出访问最少的对象
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
-		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired() == true) {
-				values.remove();
-				onRemove(co.key, co.obj);
-				count++;
-				continue;
-			}
 
-			//找出访问最少的对象
-			if (comin == null || co.accessCount.get() < comin.accessCount.get()) {
-				comin = co;
+		// 清理过期对象
+		if (isPruneExpiredActive()) {
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			CacheObj<K, V> co;
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					subtractWeight(co);
+					statsCounter.recordExpiredEviction();
+					unlinkFromBucket((FreqCacheObj<K, V>) co);
+					onRemove(co.key, co.obj);
+					count++;
+				}
 			}
 		}
 
-		// 减少所有对象访问量，并清除减少后为0的访问对象
-		if (isFull() && comin != null) {
-			long minAccessCount = comin.accessCount.get();
+		int evicted;
+		while (isFull()) {
+			evicted = evictLeastFrequent();
+			if (0 == evicted) {
+				break;
+			}
+			count += evicted;
+		}
+		return count;
+	}
 
-			values = cacheObjIter();
-			CacheObj<K, V> co1;
-			while (values.hasNext()) {
-				co1 = values.next();
-				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
-					values.remove();
-					onRemove(co1.key, co1.obj);
+	/**
+	 * 清除访问频率最低的桶中所有对象，均摊时间复杂度O(1)<br>
+	 * 读取时只增加对象的访问计数，不移动对象所在的桶，在此处才将计数已增加的对象晋升到对应的桶中（延迟晋升），
+	 * 因此读操作无需写锁。清除后将基础频率提升为被清除桶的频率，等同于将其它对象的访问数减去最小访问数。
+	 *
+	 * @return 清理个数
+	 */
+	private int evictLeastFrequent() {
+		int count = 0;
+		FreqBucket<K, V> bucket;
+		while (0 == count && null != (bucket = headBucket)) {
+			FreqCacheObj<K, V> co = bucket.head;
+			while (null != co) {
+				final FreqCacheObj<K, V> next = co.next;
+				final long freq = co.freq();
+				if (freq > bucket.freq && false == co.isExpired()) {
+					moveToBucket(co, freq);
+				} else {
+					removeWithoutLock(co.key);
+					if (co.isExpired()) {
+						statsCounter.recordExpiredEviction();
+					} else {
+						statsCounter.recordSizeEviction();
+					}
+					onRemove(co.key, co.obj);
 					count++;
 				}
+				co = next;
+			}
+			if (count > 0) {
+				baseFreq = bucket.freq;
 			}
 		}
-
 		return count;
 	}
+
+	// ---------------------------------------------------------------- frequency bucket
+
+	/**
+	 * 将新对象加入头部的桶，新对象的频率为基础频率，不大于任何已有桶的频率
+	 *
+	 * @param co 缓存对象
+	 */
+	private void linkToHeadBucket(FreqCacheObj<K, V> co) {
+		FreqBucket<K, V> bucket = headBucket;
+		if (null == bucket || bucket.freq != co.baseFreq) {
+			bucket = new FreqBucket<>(co.baseFreq);
+			bucket.next = headBucket;
+			if (null != headBucket) {
+				headBucket.prev = bucket;
+			}
+			headBucket = bucket;
+		}
+		bucket.add(co);
+	}
+
+	/**
+	 * 将对象移动到指定频率的桶，从当前桶向后查找，不存在则创建
+	 *
+	 * @param co   缓存对象
+	 * @param freq 目标频率，必须大于当前桶的频率
+	 */
+	private void moveToBucket(FreqCacheObj<K, V> co, long freq) {
+		FreqBucket<K, V> prev = co.bucket;
+		while (null != prev.next && prev.next.freq <= freq) {
+			prev = prev.next;
+		}
+		FreqBucket<K, V> target = prev;
+		if (prev.freq != freq) {
+			target = new FreqBucket<>(freq);
+			target.prev = prev;
+			target.next = prev.next;
+			if (null != prev.next) {
+				prev.next.prev = target;
+			}
+			prev.next = target;
+		}
+		unlinkFromBucket(co);
+		target.add(co);
+	}
+
+	/**
+	 * 将对象从所在的桶中移除，桶为空时一并移除桶
+	 *
+	 * @param co 缓存对象
+	 */
+	private void unlinkFromBucket(FreqCacheObj<K, V> co) {
+		final FreqBucket<K, V> bucket = co.bucket;
+		if (null == bucket) {
+			return;
+		}
+		bucket.remove(co);
+		if (null == bucket.head) {
+			if (null == bucket.prev) {
+				headBucket = bucket.next;
+			} else {
+				bucket.prev.next = bucket.next;
+			}
+			if (null != bucket.next) {
+				bucket.next.prev = bucket.prev;
+			}
+		}
+	}
+
+	/**
+	 * 带访问频率的缓存对象，频率为加入时的基础频率加上访问次数
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FreqCacheObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		private final long baseFreq;
+		private FreqBucket<K, V> bucket;
+		private FreqCacheObj<K, V> prev;
+		private FreqCacheObj<K, V> next;
+
+		FreqCacheObj(K key, V obj, long ttl, long baseFreq) {
+			super(key, obj, ttl);
+			this.baseFreq = baseFreq;
+		}
+
+		/**
+		 * @return 当前访问频率
+		 */
+		long freq() {
+			return baseFreq + accessCount.get();
+		}
+	}
+
+	/**
+	 * 相同访问频率的缓存对象组成的桶，桶之间按照频率从小到大链接
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FreqBucket<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long freq;
+		private FreqBucket<K, V> prev;
+		private FreqBucket<K, V> next;
+		private FreqCacheObj<K, V> head;
+		private FreqCacheObj<K, V> tail;
+
+		FreqBucket(long freq) {
+			this.freq = freq;
+		}
+
+		void add(FreqCacheObj<K, V> co) {
+			co.bucket = this;
+			co.prev = tail;
+			co.next = null;
+			if (null == tail) {
+				head = co;
+			} else {
+				tail.next = co;
+			}
+			tail = co;
+		}
+
+		void remove(FreqCacheObj<K, V> co) {
+			if (null == co.prev) {
+				head = co.next;
+			} else {
+				co.prev.next = co.next;
+			}
+			if (null == co.next) {
+				tail = co.prev;
+			} else {
+				co.next.prev = co.prev;
+			}
+			co.bucket = null;
+			co.prev = null;
+			co.next = null;
+		}
+	}
 }
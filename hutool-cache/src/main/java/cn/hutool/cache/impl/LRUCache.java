@@ -44,7 +44,13 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
+		if(capacity <= 0){
+			// 0表示无数量限制，例如只按照权重限制大小
+			fixedLinkedHashMap.setCapacity(Integer.MAX_VALUE);
+		}
 		fixedLinkedHashMap.setRemoveListener(entry -> {
+			subtractWeight(entry.getValue());
+			statsCounter.recordSizeEviction();
 			if(null != listener){
 				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
 			}
@@ -55,24 +61,37 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 	// ---------------------------------------------------------------- prune
 
 	/**
-	 * 只清理超时对象，LRU的实现会交给{@code LinkedHashMap}
+	 * 清理超时对象，超出最大权重时从最久未使用的对象开始移除，按数量的LRU实现会交给{@code LinkedHashMap}
 	 */
 	@Override
 	protected int pruneCache() {
-		if (isPruneExpiredActive() == false) {
-			return 0;
-		}
 		int count = 0;
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
+		Iterator<CacheObj<K, V>> values;
 		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
-				values.remove();
-				onRemove(co.key, co.obj);
-				count++;
+		if (isPruneExpiredActive()) {
+			values = cacheObjIter();
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					subtractWeight(co);
+					statsCounter.recordExpiredEviction();
+					onRemove(co.key, co.obj);
+					count++;
+				}
 			}
 		}
+
+		// 链表头部为最久未使用的对象
+		values = cacheObjIter();
+		while (isOverWeight() && values.hasNext()) {
+			co = values.next();
+			values.remove();
+			subtractWeight(co);
+			statsCounter.recordSizeEviction();
+			onRemove(co.key, co.obj);
+			count++;
+		}
 		return count;
 	}
 }
@@ -0,0 +1,612 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheSerializer;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 堆外缓存<br>
+ * 值序列化后存储在堆外的直接内存（{@link ByteBuffer#allocateDirect(int)}）或内存映射文件中，堆内只保留键和位置索引，
+ * 适合缓存大量数据而不增加GC停顿，一般作为二级缓存配合{@link TwoLevelCache}使用。
+ *
+ * <p>
+ * 存储空间被划分为多个固定大小的分段，对象按顺序追加写入当前分段，当前分段写满后写入下一个分段。
+ * 所有分段写满后，复用最早写入的分段，该分段中的所有对象被移除（按分段先进先出）。
+ * 覆盖或移除对象时旧数据占用的空间在分段复用时回收。
+ * </p>
+ *
+ * <p>
+ * 使用内存映射文件时，文件仅作为存储介质，索引在内存中，重启后不会恢复缓存内容。
+ * 堆外缓存不支持Java序列化，序列化时抛出{@link NotSerializableException}。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public class OffHeapCache<K, V> implements Cache<K, V>, Closeable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认分段大小：64MB
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * 缓存失效时长， {@code 0} 表示无限制，单位毫秒
+	 */
+	private final long timeout;
+	/**
+	 * 分段大小
+	 */
+	private final int segmentSize;
+	/**
+	 * 值序列化器
+	 */
+	private final transient CacheSerializer<V> serializer;
+	/**
+	 * 分段，首次写入时创建
+	 */
+	private final transient ByteBuffer[] segments;
+	/**
+	 * 每个分段中写入的键，用于分段复用时移除对象
+	 */
+	private final transient List<K>[] segmentKeys;
+	/**
+	 * 内存映射文件通道，{@code null}表示使用直接内存
+	 */
+	private final transient FileChannel channel;
+	/**
+	 * 键到存储位置的索引
+	 */
+	private final transient Map<K, Slot> index = new HashMap<>();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 当前写入的分段
+	 */
+	private int writeSegment;
+	/**
+	 * 当前分段中的写入位置
+	 */
+	private int writePosition;
+	/**
+	 * 是否已经开始复用分段
+	 */
+	private boolean isFull;
+	/**
+	 * 每个对象是否有单独的失效时长，用于决定清理过期对象是否有必要。
+	 */
+	private volatile boolean existCustomTimeout;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private CacheListener<K, V> listener;
+
+	/**
+	 * 构造，使用直接内存和JDK序列化，默认无超时
+	 *
+	 * @param maxBytes 最大占用字节数
+	 */
+	public OffHeapCache(long maxBytes) {
+		this(maxBytes, 0);
+	}
+
+	/**
+	 * 构造，使用直接内存和JDK序列化
+	 *
+	 * @param maxBytes 最大占用字节数
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public OffHeapCache(long maxBytes, long timeout) {
+		this(maxBytes, timeout, DEFAULT_SEGMENT_SIZE, new JdkCacheSerializer<>());
+	}
+
+	/**
+	 * 构造，使用直接内存
+	 *
+	 * @param maxBytes    最大占用字节数
+	 * @param timeout     默认超时时间，单位：毫秒
+	 * @param segmentSize 分段大小，单个对象序列化后不能超过此大小
+	 * @param serializer  值序列化器
+	 */
+	public OffHeapCache(long maxBytes, long timeout, int segmentSize, CacheSerializer<V> serializer) {
+		this(null, maxBytes, timeout, segmentSize, serializer);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param file        内存映射文件，{@code null}表示使用直接内存
+	 * @param maxBytes    最大占用字节数
+	 * @param timeout     默认超时时间，单位：毫秒
+	 * @param segmentSize 分段大小，单个对象序列化后不能超过此大小
+	 * @param serializer  值序列化器
+	 */
+	@SuppressWarnings("unchecked")
+	public OffHeapCache(File file, long maxBytes, long timeout, int segmentSize, CacheSerializer<V> serializer) {
+		Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0!");
+		Assert.isTrue(segmentSize > 0, "segmentSize must be greater than 0!");
+		this.serializer = Assert.notNull(serializer, "serializer must not be null!");
+		this.timeout = timeout;
+		this.segmentSize = (int) Math.min(segmentSize, maxBytes);
+
+		final int segmentCount = (int) Math.min(Integer.MAX_VALUE, maxBytes / this.segmentSize);
+		this.segments = new ByteBuffer[segmentCount];
+		this.segmentKeys = new List[segmentCount];
+		this.segmentKeys[0] = new ArrayList<>();
+
+		if (null != file) {
+			try {
+				this.channel = FileChannel.open(file.toPath(),
+						StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		} else {
+			this.channel = null;
+		}
+	}
+
+	@Override
+	public int capacity() {
+		// 按字节数限制，无数量限制
+		return 0;
+	}
+
+	@Override
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * @return 最大占用字节数
+	 */
+	public long getMaxBytes() {
+		return (long) this.segments.length * this.segmentSize;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	// ---------------------------------------------------------------- put and get
+
+	@Override
+	public void put(K key, V object) {
+		put(key, object, this.timeout);
+	}
+
+	/**
+	 * 将对象加入到缓存，{@code null}值不缓存，并移除已有的对象
+	 *
+	 * @param key     键
+	 * @param object  缓存的对象
+	 * @param timeout 失效时长，单位毫秒
+	 */
+	@Override
+	public void put(K key, V object, long timeout) {
+		if (null == object) {
+			remove(key);
+			return;
+		}
+		final byte[] bytes = serializer.serialize(object);
+		Assert.isTrue(bytes.length <= this.segmentSize,
+				"Serialized value size {} is larger than segment size {}", bytes.length, this.segmentSize);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+
+		final Map<K, byte[]> removed = new HashMap<>();
+		lock.writeLock().lock();
+		try {
+			if (writePosition + bytes.length > segmentSize) {
+				nextSegment(removed);
+			}
+			final ByteBuffer buffer = segment(writeSegment).duplicate();
+			buffer.position(writePosition);
+			buffer.put(bytes);
+			index.put(key, new Slot(writeSegment, writePosition, bytes.length, timeout));
+			segmentKeys[writeSegment].add(key);
+			writePosition += bytes.length;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		// 与remove一致，回调和反序列化在锁外完成
+		removed.forEach(this::onRemove);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		Slot slot;
+		byte[] bytes = null;
+		lock.readLock().lock();
+		try {
+			slot = index.get(key);
+			if (null != slot && false == slot.isExpired()) {
+				bytes = read(slot);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (null == slot) {
+			missCount.increment();
+			return null;
+		}
+		if (null == bytes) {
+			// 过期移除
+			removeIfSame(key, slot);
+			missCount.increment();
+			return null;
+		}
+
+		hitCount.increment();
+		if (isUpdateLastAccess) {
+			slot.lastAccess = System.currentTimeMillis();
+		}
+		// 反序列化在锁外完成
+		return serializer.deserialize(bytes);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return get(key, isUpdateLastAccess, this.timeout, supplier);
+	}
+
+	/**
+	 * 从缓存中获得对象，不存在时调用supplier生成并加入缓存<br>
+	 * 此方法不对同一个键的加载加锁，并发时可能重复加载，作为二级缓存使用时，由一级缓存保证加载的唯一性
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间，即重新计算超时时间。
+	 * @param timeout            自定义超时时间
+	 * @param supplier           如果不存在回调方法，用于生产值对象
+	 * @return 值对象
+	 */
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		V v = get(key, isUpdateLastAccess);
+		if (null == v && null != supplier) {
+			try {
+				v = supplier.call();
+			} catch (Exception e) {
+				throw ExceptionUtil.wrapRuntime(e);
+			}
+			put(key, v, timeout);
+		}
+		return v;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final Slot slot;
+		lock.readLock().lock();
+		try {
+			slot = index.get(key);
+		} finally {
+			lock.readLock().unlock();
+		}
+		if (null == slot) {
+			return false;
+		}
+		if (slot.isExpired()) {
+			removeIfSame(key, slot);
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return new CacheValuesIterator<>((CacheObjIterator<K, V>) cacheObjIterator());
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		final List<K> keys = new ArrayList<>();
+		final List<Slot> slots = new ArrayList<>();
+		final List<byte[]> values = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (Map.Entry<K, Slot> entry : index.entrySet()) {
+				keys.add(entry.getKey());
+				slots.add(entry.getValue());
+				values.add(read(entry.getValue()));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		final List<CacheObj<K, V>> cacheObjs = new ArrayList<>(keys.size());
+		CacheObj<K, V> co;
+		for (int i = 0; i < keys.size(); i++) {
+			co = new CacheObj<>(keys.get(i), serializer.deserialize(values.get(i)), slots.get(i).ttl);
+			co.lastAccess = slots.get(i).lastAccess;
+			cacheObjs.add(co);
+		}
+		return new CacheObjIterator<>(cacheObjs.iterator());
+	}
+
+	// ---------------------------------------------------------------- remove and prune
+
+	@Override
+	public int prune() {
+		if (0 == timeout && false == existCustomTimeout) {
+			return 0;
+		}
+		final Map<K, byte[]> removed = new HashMap<>();
+		lock.writeLock().lock();
+		try {
+			final Iterator<Map.Entry<K, Slot>> iterator = index.entrySet().iterator();
+			Map.Entry<K, Slot> entry;
+			while (iterator.hasNext()) {
+				entry = iterator.next();
+				if (entry.getValue().isExpired()) {
+					iterator.remove();
+					removed.put(entry.getKey(), null == listener ? null : read(entry.getValue()));
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+		removed.forEach(this::onRemove);
+		return removed.size();
+	}
+
+	@Override
+	public boolean isFull() {
+		lock.readLock().lock();
+		try {
+			return this.isFull;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		final byte[] bytes;
+		lock.writeLock().lock();
+		try {
+			final Slot slot = index.remove(key);
+			if (null == slot) {
+				return;
+			}
+			bytes = null == listener ? null : read(slot);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		onRemove(key, bytes);
+	}
+
+	@Override
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			index.clear();
+			// 恢复为未写入状态，否则再次切换分段时会被当作已经复用
+			Arrays.fill(segmentKeys, null);
+			segmentKeys[0] = new ArrayList<>();
+			writeSegment = 0;
+			writePosition = 0;
+			isFull = false;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return index.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public OffHeapCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * 清空缓存并关闭内存映射文件，直接内存和映射内存在{@link ByteBuffer}被回收时释放
+	 */
+	@Override
+	public void close() {
+		clear();
+		IoUtil.close(this.channel);
+	}
+
+	// ---------------------------------------------------------------- private method
+
+	/**
+	 * 切换到下一个分段，分段中已有的对象全部移除<br>
+	 * 调用此方法时需持有写锁
+	 *
+	 * @param removed 被移除的对象，有监听时值为序列化数据，用于在锁外回调
+	 */
+	private void nextSegment(Map<K, byte[]> removed) {
+		writeSegment = (writeSegment + 1) % segments.length;
+		writePosition = 0;
+
+		List<K> keys = segmentKeys[writeSegment];
+		if (null == keys) {
+			segmentKeys[writeSegment] = new ArrayList<>();
+			return;
+		}
+
+		isFull = true;
+		Slot slot;
+		for (K key : keys) {
+			slot = index.get(key);
+			// 被覆盖到其它分段的对象保留
+			if (null != slot && slot.segment == writeSegment) {
+				index.remove(key);
+				removed.put(key, null == listener ? null : read(slot));
+			}
+		}
+		keys.clear();
+	}
+
+	/**
+	 * 堆外存储和索引无法序列化，禁止序列化
+	 *
+	 * @return 不返回
+	 * @throws NotSerializableException 总是抛出
+	 */
+	private Object writeReplace() throws NotSerializableException {
+		throw new NotSerializableException(getClass().getName());
+	}
+
+	/**
+	 * 禁止反序列化
+	 *
+	 * @param in 输入流
+	 * @throws InvalidObjectException 总是抛出
+	 */
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("OffHeapCache is not serializable!");
+	}
+
+	/**
+	 * 获取分段，不存在则创建<br>
+	 * 调用此方法时需持有写锁
+	 *
+	 * @param i 分段下标
+	 * @return 分段
+	 */
+	private ByteBuffer segment(int i) {
+		ByteBuffer segment = segments[i];
+		if (null == segment) {
+			if (null == channel) {
+				segment = ByteBuffer.allocateDirect(segmentSize);
+			} else {
+				try {
+					segment = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * segmentSize, segmentSize);
+				} catch (IOException e) {
+					throw new IORuntimeException(e);
+				}
+			}
+			segments[i] = segment;
+		}
+		return segment;
+	}
+
+	/**
+	 * 读取对象的序列化数据<br>
+	 * 调用此方法时需持有读锁或写锁
+	 *
+	 * @param slot 存储位置
+	 * @return 序列化数据
+	 */
+	private byte[] read(Slot slot) {
+		final byte[] bytes = new byte[slot.length];
+		final ByteBuffer buffer = segments[slot.segment].duplicate();
+		buffer.position(slot.offset);
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 如果键对应的存储位置未被替换，则移除之
+	 *
+	 * @param key  键
+	 * @param slot 存储位置
+	 */
+	private void removeIfSame(K key, Slot slot) {
+		final byte[] bytes;
+		lock.writeLock().lock();
+		try {
+			if (slot != index.get(key)) {
+				return;
+			}
+			index.remove(key);
+			bytes = null == listener ? null : read(slot);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		onRemove(key, bytes);
+	}
+
+	/**
+	 * 对象移除回调
+	 *
+	 * @param key   键
+	 * @param bytes 被移除对象的序列化数据，无监听时为{@code null}
+	 */
+	private void onRemove(K key, byte[] bytes) {
+		final CacheListener<K, V> listener = this.listener;
+		if (null != listener && null != bytes) {
+			listener.onRemove(key, serializer.deserialize(bytes));
+		}
+	}
+
+	/**
+	 * 对象的存储位置
+	 */
+	private static class Slot {
+		private final int segment;
+		private final int offset;
+		private final int length;
+		/**
+		 * 对象存活时长，0表示永久存活
+		 */
+		private final long ttl;
+		private volatile long lastAccess;
+
+		Slot(int segment, int offset, int length, long ttl) {
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+			this.ttl = ttl;
+			this.lastAccess = System.currentTimeMillis();
+		}
+
+		boolean isExpired() {
+			return this.ttl > 0 && (System.currentTimeMillis() - this.lastAccess) > this.ttl;
+		}
+	}
+}
@@ -3,6 +3,7 @@ package cn.hutool.cache.impl;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -31,6 +32,21 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		}
 	}
 
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		if (null == map || map.isEmpty()) {
+			return;
+		}
+		lock.lock();
+		try {
+			for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+				putWithoutLock(entry.getKey(), entry.getValue(), timeout);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		return null != getOrRemoveExpired(key, false, false);
@@ -41,6 +57,16 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		return getOrRemoveExpired(key, isUpdateLastAccess, true);
 	}
 
+	@Override
+	protected CacheObj<K, V> getCacheObj(K key) {
+		lock.lock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -82,6 +108,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		lock.lock();
 		try {
 			cacheMap.clear();
+			totalWeight.set(0);
 		} finally {
 			lock.unlock();
 		}
@@ -112,6 +139,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			if(null != co && co.isExpired()){
 				//过期移除
 				removeWithoutLock(key);
+				statsCounter.recordExpiredEviction();
 				co = null;
 			}
 		} finally {
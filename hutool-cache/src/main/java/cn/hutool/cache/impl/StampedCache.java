@@ -4,6 +4,7 @@ import cn.hutool.core.collection.CopiedIter;
 import cn.hutool.core.thread.ThreadUtil;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.locks.StampedLock;
 
 /**
@@ -32,6 +33,21 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		}
 	}
 
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		if (null == map || map.isEmpty()) {
+			return;
+		}
+		final long stamp = lock.writeLock();
+		try {
+			for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+				putWithoutLock(entry.getKey(), entry.getValue(), timeout);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		return null != get(key, false, false);
@@ -42,6 +58,16 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		return get(key, isUpdateLastAccess, true);
 	}
 
+	@Override
+	protected CacheObj<K, V> getCacheObj(K key) {
+		final long stamp = lock.readLock();
+		try {
+			return getWithoutLock(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -83,6 +109,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 		final long stamp = lock.writeLock();
 		try {
 			cacheMap.clear();
+			totalWeight.set(0);
 		} finally {
 			lock.unlockWrite(stamp);
 		}
@@ -156,6 +183,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
+			statsCounter.recordExpiredEviction();
 			onRemove(co.key, co.obj);
 		}
 		return null;
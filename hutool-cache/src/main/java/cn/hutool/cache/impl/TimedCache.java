@@ -10,7 +10,8 @@ import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 默认情况下每次清理遍历所有对象，对象很多时可以调用{@link #enableTimingWheel(long)}启用过期时间轮，清理时只处理到期的对象
  *
  * @author Looly
  *
@@ -19,9 +20,13 @@ import java.util.concurrent.ScheduledFuture;
  */
 public class TimedCache<K, V> extends StampedCache<K, V> {
 	private static final long serialVersionUID = 1L;
+	/** 时间轮中对象个数少于此值时不压缩，避免缓存很小时频繁压缩 */
+	private static final int MIN_COMPACT_SIZE = 64;
 
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
+	/** 过期时间轮，{@code null}表示清理时遍历所有对象 */
+	private ExpireTimingWheel<K, V> timingWheel;
 
 	/**
 	 * 构造
@@ -44,6 +49,61 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		this.cacheMap = map;
 	}
 
+	/**
+	 * 启用过期时间轮，启用后清理时只处理到期的对象，耗时与过期对象个数成正比<br>
+	 * 已有对象会被加入时间轮，刻度越小过期对象被清理得越及时，一般与定时清理的间隔一致
+	 *
+	 * @param tick 时间轮刻度，单位毫秒
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public TimedCache<K, V> enableTimingWheel(long tick) {
+		final long stamp = lock.writeLock();
+		try {
+			final ExpireTimingWheel<K, V> timingWheel = new ExpireTimingWheel<>(tick, System.currentTimeMillis());
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			while (values.hasNext()) {
+				timingWheel.schedule(values.next());
+			}
+			this.timingWheel = timingWheel;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		return this;
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		super.putWithoutLock(key, object, timeout);
+		if (null != timingWheel) {
+			timingWheel.schedule(getWithoutLock(key));
+			compactTimingWheel();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key);
+		if (null != timingWheel) {
+			compactTimingWheel();
+		}
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			cacheMap.clear();
+			totalWeight.set(0);
+			if (null != timingWheel) {
+				timingWheel.clear();
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	// ---------------------------------------------------------------- prune
 	/**
 	 * 清理过期对象
@@ -52,6 +112,15 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 	 */
 	@Override
 	protected int pruneCache() {
+		if (null != timingWheel) {
+			return timingWheel.advance(System.currentTimeMillis(), this::isLive,
+					co -> {
+						removeWithoutLock(co.key);
+						statsCounter.recordExpiredEviction();
+						onRemove(co.key, co.obj);
+					});
+		}
+
 		int count = 0;
 		final Iterator<CacheObj<K, V>> values = cacheObjIter();
 		CacheObj<K, V> co;
@@ -59,6 +128,8 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
+				subtractWeight(co);
+				statsCounter.recordExpiredEviction();
 				onRemove(co.key, co.obj);
 				count++;
 			}
@@ -66,6 +137,26 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		return count;
 	}
 
+	/**
+	 * 被替换或移除的对象不会立即从时间轮中摘除，当这些对象的个数超过缓存中对象的个数时压缩时间轮，
+	 * 使时间轮的大小不超过缓存大小的两倍（另有少量余量），压缩的耗时分摊到每次替换或移除上
+	 */
+	private void compactTimingWheel() {
+		if (timingWheel.size() > (cacheMap.size() << 1) + MIN_COMPACT_SIZE) {
+			timingWheel.compact(this::isLive);
+		}
+	}
+
+	/**
+	 * 判断时间轮中的对象是否仍在缓存中，已被移除或替换的对象返回{@code false}
+	 *
+	 * @param co 缓存对象
+	 * @return 是否仍在缓存中
+	 */
+	private boolean isLive(CacheObj<K, V> co) {
+		return co == getWithoutLock(co.key);
+	}
+
 	// ---------------------------------------------------------------- auto prune
 	/**
 	 * 定时清理
@@ -0,0 +1,176 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 二级缓存<br>
+ * 一级缓存一般为容量较小的堆内缓存（如{@link LRUCache}），二级缓存一般为容量较大的堆外缓存（如{@link OffHeapCache}）。
+ *
+ * <ul>
+ *     <li>写入和移除同时作用于两级缓存（写穿透）</li>
+ *     <li>读取时先查一级缓存，未命中则查二级缓存，命中后将对象提升到一级缓存</li>
+ *     <li>一级缓存淘汰的对象仍保留在二级缓存中，因此大小、遍历和监听均以二级缓存为准</li>
+ * </ul>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public class TwoLevelCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private final Cache<K, V> l1;
+	private final Cache<K, V> l2;
+
+	/**
+	 * 构造
+	 *
+	 * @param l1 一级缓存
+	 * @param l2 二级缓存
+	 */
+	public TwoLevelCache(Cache<K, V> l1, Cache<K, V> l2) {
+		this.l1 = Assert.notNull(l1, "L1 cache must not be null!");
+		this.l2 = Assert.notNull(l2, "L2 cache must not be null!");
+	}
+
+	/**
+	 * @return 一级缓存
+	 */
+	public Cache<K, V> getL1() {
+		return this.l1;
+	}
+
+	/**
+	 * @return 二级缓存
+	 */
+	public Cache<K, V> getL2() {
+		return this.l2;
+	}
+
+	@Override
+	public int capacity() {
+		return l2.capacity();
+	}
+
+	@Override
+	public long timeout() {
+		return l2.timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		l2.put(key, object);
+		l1.put(key, object);
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		l2.put(key, object, timeout);
+		l1.put(key, object, timeout);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		l2.putAll(map);
+		l1.putAll(map);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		V v = l1.get(key, isUpdateLastAccess);
+		if (null == v) {
+			v = l2.get(key, isUpdateLastAccess);
+			if (null != v) {
+				l1.put(key, v);
+			}
+		}
+		return v;
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return get(key, isUpdateLastAccess, l2.timeout(), supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		// 由一级缓存保证同一个键只加载一次，加载时先查二级缓存，均未命中再调用supplier并写入二级缓存
+		return l1.get(key, isUpdateLastAccess, timeout, () -> {
+			V v = l2.get(key, isUpdateLastAccess);
+			if (null == v && null != supplier) {
+				v = supplier.call();
+				if (null != v) {
+					l2.put(key, v, timeout);
+				}
+			}
+			return v;
+		});
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return l2.iterator();
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return l2.cacheObjIterator();
+	}
+
+	@Override
+	public int prune() {
+		l1.prune();
+		return l2.prune();
+	}
+
+	@Override
+	public boolean isFull() {
+		return l2.isFull();
+	}
+
+	@Override
+	public void remove(K key) {
+		l1.remove(key);
+		l2.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		l1.clear();
+		l2.clear();
+	}
+
+	@Override
+	public int size() {
+		return l2.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return l2.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return l1.containsKey(key) || l2.containsKey(key);
+	}
+
+	/**
+	 * 设置监听，监听设置在二级缓存上，仅在对象从二级缓存移除时回调
+	 *
+	 * @param listener 监听
+	 * @return this
+	 */
+	@Override
+	public TwoLevelCache<K, V> setListener(CacheListener<K, V> listener) {
+		l2.setListener(listener);
+		return this;
+	}
+}
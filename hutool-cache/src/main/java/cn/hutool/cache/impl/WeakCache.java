@@ -1,6 +1,7 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.Weigher;
 import cn.hutool.core.lang.Opt;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.WeakConcurrentMap;
@@ -28,16 +29,50 @@ public class WeakCache<K, V> extends TimedCache<K, V>{
 	 */
 	public WeakCache(long timeout) {
 		super(timeout, new WeakConcurrentMap<>());
+
+		final WeakConcurrentMap<Mutable<K>, CacheObj<K, V>> map = (WeakConcurrentMap<Mutable<K>, CacheObj<K, V>>) this.cacheMap;
+		// WeakKey回收之后，key对应的值已经是null了，因此此处的key也为null
+		map.setPurgeListener((key, value) -> {
+			if (null == value) {
+				// 已被主动移除
+				return;
+			}
+			statsCounter.recordCollectedEviction();
+			final CacheListener<K, V> listener = this.listener;
+			if (null != listener) {
+				listener.onRemove(Opt.ofNullable(key).map(Reference::get).map(Mutable::get).get(), value.getValue());
+			}
+		});
 	}
 
+	/**
+	 * 弱引用缓存不支持时间轮，时间轮会持有缓存对象的强引用，导致键无法被回收
+	 *
+	 * @param tick 时间轮刻度，单位毫秒
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
 	@Override
-	public WeakCache<K, V> setListener(CacheListener<K, V> listener) {
-		super.setListener(listener);
+	public WeakCache<K, V> enableTimingWheel(long tick) {
+		throw new UnsupportedOperationException("WeakCache not support timing wheel!");
+	}
 
-		final WeakConcurrentMap<Mutable<K>, CacheObj<K, V>> map = (WeakConcurrentMap<Mutable<K>, CacheObj<K, V>>) this.cacheMap;
-		// WeakKey回收之后，key对应的值已经是null了，因此此处的key也为null
-		map.setPurgeListener((key, value)-> listener.onRemove(Opt.ofNullable(key).map(Reference::get).map(Mutable::get).get(), value.getValue()));
+	/**
+	 * 弱引用缓存不支持权重，对象被回收时无法扣除其权重
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	public WeakCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		throw new UnsupportedOperationException("WeakCache not support weigher!");
+	}
 
+	@Override
+	public WeakCache<K, V> setListener(CacheListener<K, V> listener) {
+		super.setListener(listener);
 		return this;
 	}
 }
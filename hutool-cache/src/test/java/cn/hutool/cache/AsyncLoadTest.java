@@ -0,0 +1,81 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步加载和写入后刷新测试
+ */
+public class AsyncLoadTest {
+
+	@Test
+	public void getAsyncTest() throws ExecutionException, InterruptedException {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+
+		final CompletableFuture<String> future1 = cache.getAsync("key1", () -> {
+			ThreadUtil.sleep(100);
+			loadCount.incrementAndGet();
+			return "value1";
+		});
+		// 加载中的key返回同一个加载任务
+		final CompletableFuture<String> future2 = cache.getAsync("key1", () -> {
+			loadCount.incrementAndGet();
+			return "value2";
+		});
+		Assert.assertSame(future1, future2);
+		Assert.assertEquals("value1", future1.get());
+		Assert.assertEquals(1, loadCount.get());
+		Assert.assertEquals("value1", cache.get("key1"));
+
+		// 已缓存的对象直接返回
+		final CompletableFuture<String> future3 = cache.getAsync("key1", () -> "value3");
+		Assert.assertTrue(future3.isDone());
+		Assert.assertEquals("value1", future3.get());
+	}
+
+	@Test
+	public void getAsyncExceptionTest() throws InterruptedException {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		final CompletableFuture<String> future = cache.getAsync("key1", () -> {
+			throw new IllegalStateException("load error");
+		});
+		try {
+			future.get();
+			Assert.fail();
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		Assert.assertFalse(cache.containsKey("key1"));
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final AtomicInteger version = new AtomicInteger();
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(10000);
+		cache.setRefreshAfterWrite(50).setLoadExecutor(executor);
+
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", version::getAndIncrement));
+		ThreadUtil.sleep(100);
+		// 超过刷新时长，返回旧值并在后台刷新
+		Assert.assertEquals(Integer.valueOf(0), cache.get("key", version::getAndIncrement));
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(Integer.valueOf(1), cache.get("key"));
+		// 未设置supplier时不刷新
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(Integer.valueOf(1), cache.get("key"));
+		ThreadUtil.sleep(50);
+		Assert.assertEquals(Integer.valueOf(1), cache.get("key"));
+		executor.shutdown();
+	}
+}
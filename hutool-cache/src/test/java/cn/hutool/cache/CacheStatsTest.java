@@ -0,0 +1,115 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link CacheStats} 单元测试
+ */
+public class CacheStatsTest {
+
+	@Test
+	public void hitAndLoadTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key2");
+		cache.get("key3", () -> {
+			ThreadUtil.sleep(2);
+			return "value3";
+		});
+		try {
+			cache.get("key4", () -> {
+				throw new IllegalStateException("load error");
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// ignore
+		}
+
+		final CacheStats stats = cache.getStats();
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(3, stats.getMissCount());
+		Assert.assertEquals(1, stats.getLoadSuccessCount());
+		Assert.assertEquals(1, stats.getLoadFailureCount());
+		Assert.assertTrue(stats.getTotalLoadTime() >= TimeUnit.MILLISECONDS.toNanos(2));
+		// p100落在2ms以上的桶中
+		Assert.assertTrue(stats.getLoadLatencyPercentile(1) >= TimeUnit.MILLISECONDS.toNanos(2));
+		long total = 0;
+		for (long count : stats.getLoadLatencyHistogram()) {
+			total += count;
+		}
+		Assert.assertEquals(2, total);
+	}
+
+	@Test
+	public void evictionTest() {
+		final LFUCache<Integer, Integer> lfuCache = CacheUtil.newLFUCache(3);
+		for (int i = 0; i < 5; i++) {
+			lfuCache.put(i, i);
+		}
+		Assert.assertTrue(lfuCache.getStats().getSizeEvictionCount() > 0);
+		Assert.assertEquals(0, lfuCache.getStats().getExpiredEvictionCount());
+
+		final LRUCache<Integer, Integer> lruCache = CacheUtil.newLRUCache(3);
+		for (int i = 0; i < 5; i++) {
+			lruCache.put(i, i);
+		}
+		Assert.assertEquals(2, lruCache.getStats().getSizeEvictionCount());
+
+		final ConcurrentLRUCache<Integer, Integer> concurrentCache = CacheUtil.newConcurrentLRUCache(3);
+		for (int i = 0; i < 5; i++) {
+			concurrentCache.put(i, i);
+		}
+		Assert.assertEquals(2, concurrentCache.getStats().getSizeEvictionCount());
+
+		final TimedCache<Integer, Integer> timedCache = CacheUtil.newTimedCache(1);
+		timedCache.put(1, 1);
+		timedCache.put(2, 2);
+		ThreadUtil.sleep(10);
+		timedCache.prune();
+		Assert.assertEquals(2, timedCache.getStats().getExpiredEvictionCount());
+		Assert.assertEquals(2, timedCache.getStats().getEvictionCount());
+	}
+
+	@Test
+	public void minusTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.get("key1");
+		final CacheStats before = cache.getStats();
+		cache.get("key1", () -> "value1");
+		cache.get("key1");
+
+		final CacheStats delta = cache.getStats().minus(before);
+		Assert.assertEquals(1, delta.getHitCount());
+		Assert.assertEquals(1, delta.getMissCount());
+		Assert.assertEquals(1, delta.getLoadCount());
+		Assert.assertEquals(0.5, delta.getHitRate(), 0);
+	}
+
+	@Test
+	public void exportTest() throws InterruptedException {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.get("key1");
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<CacheStats> exported = new AtomicReference<>();
+		final ScheduledFuture<?> future = cache.scheduleStatsExport(10, stats -> {
+			exported.set(stats);
+			latch.countDown();
+		});
+		Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+		future.cancel(false);
+		Assert.assertEquals(1, exported.get().getMissCount());
+	}
+}
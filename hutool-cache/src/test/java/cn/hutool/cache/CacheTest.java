@@ -1,12 +1,25 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -68,6 +81,53 @@ public class CacheTest {
 		Assert.assertNull(s);
 	}
 
+	@Test
+	public void lfuCacheFreqTest(){
+		final List<String> removed = new ArrayList<>();
+		Cache<String, String> lfuCache = CacheUtil.newLFUCache(3);
+		lfuCache.setListener((key, value)-> removed.add(key));
+		lfuCache.put("key1", "value1");
+		lfuCache.put("key2", "value2");
+		lfuCache.put("key3", "value3");
+		lfuCache.get("key1");
+		lfuCache.get("key1");
+		lfuCache.get("key2");
+
+		// key3访问最少，被移除
+		lfuCache.put("key4", "value4");
+		Assert.assertEquals(ListUtil.of("key3"), removed);
+
+		// 减去最小访问数后key4与key2访问数相同，一并被移除
+		lfuCache.get("key4");
+		lfuCache.put("key5", "value5");
+		Assert.assertEquals(ListUtil.of("key3", "key2", "key4"), removed);
+
+		// 重复put同一个键会替换原有的频率记录
+		lfuCache.put("key5", "value5");
+		lfuCache.put("key6", "value6");
+		Assert.assertEquals(3, lfuCache.size());
+		lfuCache.put("key7", "value7");
+		Assert.assertEquals(ListUtil.of("key3", "key2", "key4", "key5", "key6"), removed);
+		Assert.assertEquals(2, lfuCache.size());
+		Assert.assertEquals("value1", lfuCache.get("key1"));
+		Assert.assertEquals("value7", lfuCache.get("key7"));
+	}
+
+	@Test
+	public void lfuCacheLargeTest(){
+		final int capacity = 10000;
+		Cache<Integer, Integer> lfuCache = CacheUtil.newLFUCache(capacity);
+		for (int i = 0; i < capacity * 10; i++) {
+			lfuCache.put(i, i);
+			lfuCache.get(RandomUtil.randomInt(i + 1));
+		}
+		Assert.assertTrue(lfuCache.size() <= capacity);
+		lfuCache.clear();
+		Assert.assertTrue(lfuCache.isEmpty());
+		lfuCache.put(1, 1);
+		Assert.assertEquals(Integer.valueOf(1), lfuCache.get(1));
+	}
+
 	@Test
 	public void lruCacheTest(){
 		Cache<String, String> lruCache = CacheUtil.newLRUCache(3);
@@ -121,4 +181,152 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCacheTimingWheelTest(){
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(4);
+		timedCache.put("key0", "value0", 2);
+		timedCache.enableTimingWheel(1);
+		timedCache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 1; i <= 1000; i++) {
+			timedCache.put("key" + i, "value" + i, 2);
+		}
+		timedCache.put("key2", "value2", DateUnit.SECOND.getMillis() * 5);//5秒过期
+		timedCache.put("key3", "value3", Long.MAX_VALUE);//永不过期
+
+		ThreadUtil.sleep(10);
+		Assert.assertEquals(999, timedCache.prune());
+		Assert.assertEquals(999, removeCount.get());
+		Assert.assertEquals(2, timedCache.size());
+		Assert.assertEquals("value2", timedCache.get("key2"));
+		Assert.assertEquals("value3", timedCache.get("key3"));
+		Assert.assertEquals(0, timedCache.prune());
+	}
+
+	@Test
+	public void timedCacheTimingWheelExpiredTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(2);
+		for (int i = 0; i < 10; i++) {
+			timedCache.put("key" + i, "value" + i);
+		}
+		ThreadUtil.sleep(20);
+		// 启用时已过期的对象在下次推进时即被清理
+		timedCache.enableTimingWheel(1);
+		ThreadUtil.sleep(5);
+		Assert.assertEquals(10, timedCache.prune());
+		Assert.assertEquals(0, timedCache.size());
+	}
+
+	@Test
+	public void timedCacheTimingWheelCompactTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(DateUnit.HOUR.getMillis());
+		timedCache.enableTimingWheel(1000);
+		final Object timingWheel = ReflectUtil.getFieldValue(timedCache, "timingWheel");
+		// 反复替换同一个键，被替换的对象不在时间轮中堆积
+		for (int i = 0; i < 100000; i++) {
+			timedCache.put("key", "value" + i);
+			Assert.assertTrue((int) ReflectUtil.invoke(timingWheel, "size") <= 66);
+		}
+		for (int i = 0; i < 1000; i++) {
+			timedCache.put("key" + i, "value" + i);
+		}
+		for (int i = 0; i < 1000; i++) {
+			timedCache.remove("key" + i);
+		}
+		Assert.assertEquals(1, timedCache.size());
+		Assert.assertTrue((int) ReflectUtil.invoke(timingWheel, "size") <= 66);
+		Assert.assertEquals("value99999", timedCache.get("key"));
+	}
+
+	@Test
+	public void timedCacheTimingWheelScheduleTest(){
+		final TimedCache<String, String> timedCache = CacheUtil.newTimedCache(10, 5, true);
+		timedCache.put("key1", "value1");
+		timedCache.put("key2", "value2", DateUnit.SECOND.getMillis() * 5);
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1, timedCache.size());
+		Assert.assertEquals("value2", timedCache.get("key2"));
+		timedCache.cancelPruneSchedule();
+	}
+
+	@Test
+	public void weightedCacheTest(){
+		final Weigher<String, String> weigher = (key, value) -> value.length();
+
+		final LRUCache<String, String> lruCache = CacheUtil.newLRUCache(10, weigher);
+		lruCache.put("key1", "aaaa");
+		lruCache.put("key2", "bbbb");
+		lruCache.get("key1");
+		// 超出权重，最久未使用的key2被移除
+		lruCache.put("key3", "cccc");
+		Assert.assertNull(lruCache.get("key2"));
+		Assert.assertEquals("aaaa", lruCache.get("key1"));
+		Assert.assertEquals(8, lruCache.getTotalWeight());
+		// 单个对象超出最大权重时，移除所有其它对象后仍超出，也被移除
+		lruCache.put("key4", "ddddddddddd");
+		Assert.assertTrue(lruCache.isEmpty());
+		Assert.assertEquals(0, lruCache.getTotalWeight());
+
+		final FIFOCache<String, String> fifoCache = CacheUtil.newFIFOCache(10, weigher);
+		fifoCache.put("key1", "aaaa");
+		fifoCache.put("key2", "bbbb");
+		fifoCache.get("key1");
+		fifoCache.put("key3", "cc");
+		Assert.assertEquals(10, fifoCache.getTotalWeight());
+		fifoCache.put("key4", "d");
+		Assert.assertNull(fifoCache.get("key1"));
+		Assert.assertEquals(7, fifoCache.getTotalWeight());
+		// 替换对象时权重同时替换
+		fifoCache.put("key2", "b");
+		Assert.assertEquals(4, fifoCache.getTotalWeight());
+		fifoCache.remove("key2");
+		Assert.assertEquals(3, fifoCache.getTotalWeight());
+
+		final LFUCache<String, String> lfuCache = CacheUtil.newLFUCache(10, weigher);
+		lfuCache.put("key1", "aaaa");
+		lfuCache.put("key2", "bbbb");
+		lfuCache.get("key1");
+		lfuCache.put("key3", "cccc");
+		Assert.assertNull(lfuCache.get("key2"));
+		Assert.assertEquals("aaaa", lfuCache.get("key1"));
+		Assert.assertEquals("cccc", lfuCache.get("key3"));
+		Assert.assertEquals(8, lfuCache.getTotalWeight());
+		// 单个对象超出最大权重时，与LRU一致也被移除
+		lfuCache.put("key4", "ddddddddddddddd");
+		Assert.assertTrue(lfuCache.isEmpty());
+		Assert.assertEquals(0, lfuCache.getTotalWeight());
+		lfuCache.put("key1", "aaaa");
+		Assert.assertEquals(4, lfuCache.getTotalWeight());
+		lfuCache.clear();
+		Assert.assertEquals(0, lfuCache.getTotalWeight());
+	}
+
+	@Test
+	public void getAllTest(){
+		final List<Cache<Integer, String>> caches = ListUtil.of(
+				CacheUtil.newLRUCache(10), CacheUtil.newLFUCache(10),
+				CacheUtil.newFIFOCache(10), CacheUtil.newConcurrentLRUCache(10));
+		for (Cache<Integer, String> cache : caches) {
+			final AtomicInteger loadCount = new AtomicInteger();
+			cache.putAll(MapUtil.of(2, "v2"));
+			final Map<Integer, String> result = cache.getAll(ListUtil.of(1, 2, 3, 4), keys -> {
+				loadCount.incrementAndGet();
+				Assert.assertEquals(CollUtil.newLinkedHashSet(1, 3, 4), keys);
+				final Map<Integer, String> loaded = new HashMap<>();
+				// 4不存在
+				loaded.put(3, "v3");
+				loaded.put(1, "v1");
+				return loaded;
+			});
+			Assert.assertEquals(1, loadCount.get());
+			Assert.assertEquals("{1=v1, 2=v2, 3=v3}", result.toString());
+			Assert.assertEquals(3, cache.size());
+
+			// 全部命中时不调用加载
+			Assert.assertEquals(2, cache.getAll(ListUtil.of(1, 2), keys -> {
+				throw new IllegalStateException();
+			}).size());
+		}
+	}
 }
@@ -0,0 +1,145 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ConcurrentLRUCache} 单元测试
+ */
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void lruTest() {
+		final ConcurrentLRUCache<String, String> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		//使用时间推近
+		cache.get("key1");
+		cache.put("key4", "value4");
+
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertNull(cache.get("key2"));
+		Assert.assertEquals("value3", cache.get("key3"));
+		Assert.assertEquals("value4", cache.get("key4"));
+		Assert.assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void readWriteTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+
+		final CountDownLatch countDownLatch = new CountDownLatch(10);
+		// 10个线程分别读0-9 10000次
+		for (int i = 0; i < 10; i++) {
+			final int finalI = i;
+			new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					cache.get(finalI);
+				}
+				countDownLatch.countDown();
+			}).start();
+		}
+		countDownLatch.await();
+		Assert.assertEquals(10, cache.size());
+		Assert.assertEquals(100000, cache.getHitCount());
+
+		for (int i = 10; i < 20; i++) {
+			cache.put(i, i);
+		}
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			sb.append(cache.get(i));
+		}
+		Assert.assertEquals(StrUtil.repeat("null", 10) + "10111213141516171819", sb.toString());
+	}
+
+	@Test
+	public void listenerAndTimeoutTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		for (int i = 0; i < 10; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+		Assert.assertEquals(7, removeCount.get());
+		Assert.assertEquals(3, cache.size());
+
+		cache.put("timeout", 1, 1);
+		ThreadUtil.sleep(10);
+		Assert.assertFalse(cache.containsKey("timeout"));
+		Assert.assertEquals(0, cache.prune());
+
+		cache.remove("key-9");
+		Assert.assertNull(cache.get("key-9"));
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void concurrentPutTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(100);
+		ThreadUtil.concurrencyTest(16, () -> {
+			for (int i = 0; i < 10000; i++) {
+				final int key = RandomUtil.randomInt(1000);
+				cache.get(key, () -> key);
+			}
+		});
+		Assert.assertTrue(cache.size() <= 100);
+	}
+
+	/**
+	 * 不同线程数下，{@link LRUCache}、{@link LFUCache}（基于StampedCache）和{@link ConcurrentLRUCache}的读写性能对比
+	 */
+	@Test
+	@Ignore
+	public void benchmarkTest() {
+		final int capacity = 10000;
+		final int keySpace = 20000;
+		final int opsPerThread = 1000000;
+
+		for (int threadCount = 1; threadCount <= 64; threadCount <<= 1) {
+			final StopWatch stopWatch = new StopWatch(StrUtil.format("{} threads", threadCount));
+			benchmark(stopWatch, "LRUCache", new LRUCache<>(capacity), threadCount, keySpace, opsPerThread);
+			benchmark(stopWatch, "LFUCache(Stamped)", new LFUCache<>(capacity), threadCount, keySpace, opsPerThread);
+			benchmark(stopWatch, "ConcurrentLRUCache", new ConcurrentLRUCache<>(capacity), threadCount, keySpace, opsPerThread);
+			Console.log(stopWatch.prettyPrint());
+		}
+	}
+
+	private static void benchmark(final StopWatch stopWatch, final String name, final Cache<Integer, Integer> cache,
+								  final int threadCount, final int keySpace, final int opsPerThread) {
+		for (int i = 0; i < keySpace; i++) {
+			cache.put(i, i);
+		}
+		stopWatch.start(name);
+		// 90%读，10%写
+		ThreadUtil.concurrencyTest(threadCount, () -> {
+			for (int i = 0; i < opsPerThread; i++) {
+				final int key = RandomUtil.randomInt(keySpace);
+				if (i % 10 == 0) {
+					cache.put(key, key);
+				} else {
+					cache.get(key);
+				}
+			}
+		});
+		stopWatch.stop();
+	}
+}
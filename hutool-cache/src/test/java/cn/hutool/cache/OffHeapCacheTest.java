@@ -0,0 +1,172 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.JdkCacheSerializer;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.cache.impl.TwoLevelCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.SerializeUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link OffHeapCache} 和 {@link TwoLevelCache} 单元测试
+ */
+public class OffHeapCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024 * 1024);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key1", "value11");
+
+		Assert.assertEquals("value11", cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertNull(cache.get("key3"));
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+
+		cache.put("key2", null);
+		Assert.assertFalse(cache.containsKey("key2"));
+
+		Assert.assertEquals("value3", cache.get("key3", () -> "value3"));
+		Assert.assertEquals("value3", cache.get("key3"));
+		cache.close();
+	}
+
+	@Test
+	public void segmentEvictTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		// 4个分段，每个分段1KB
+		final OffHeapCache<Integer, String> cache = new OffHeapCache<>(4096, 0, 1024, new JdkCacheSerializer<>());
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		final String value = StrUtil.repeat('a', 200);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, value + i);
+		}
+		Assert.assertTrue(cache.isFull());
+		Assert.assertTrue(cache.size() < 100);
+		Assert.assertEquals(100, cache.size() + removeCount.get());
+		// 最近写入的对象保留，最早写入的对象被淘汰
+		Assert.assertEquals(value + 99, cache.get(99));
+		Assert.assertNull(cache.get(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tooLargeTest() {
+		final OffHeapCache<Integer, String> cache = new OffHeapCache<>(4096, 0, 1024, new JdkCacheSerializer<>());
+		cache.put(1, StrUtil.repeat('a', 2048));
+	}
+
+	@Test
+	public void timeoutTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024 * 1024, 5);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(20);
+
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+	}
+
+	@Test
+	public void mappedFileTest() {
+		final File file = FileUtil.createTempFile("hutool-offheap", ".cache", true);
+		try (final OffHeapCache<Integer, String> cache = new OffHeapCache<>(file, 4096, 0, 1024, new JdkCacheSerializer<>())) {
+			for (int i = 0; i < 10; i++) {
+				cache.put(i, "value" + i);
+			}
+			for (int i = 0; i < 10; i++) {
+				Assert.assertEquals("value" + i, cache.get(i));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void twoLevelTest() {
+		final LRUCache<String, String> l1 = CacheUtil.newLRUCache(1);
+		final OffHeapCache<String, String> l2 = CacheUtil.newOffHeapCache(1024 * 1024);
+		final TwoLevelCache<String, String> cache = CacheUtil.newTwoLevelCache(l1, l2);
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		// 一级缓存容量为1，key1被淘汰，二级缓存仍保留
+		Assert.assertFalse(l1.containsKey("key1"));
+		Assert.assertEquals(2, cache.size());
+
+		// 从二级缓存读取并提升到一级缓存
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertTrue(l1.containsKey("key1"));
+
+		final AtomicInteger loadCount = new AtomicInteger();
+		Assert.assertEquals("value3", cache.get("key3", () -> {
+			loadCount.incrementAndGet();
+			return "value3";
+		}));
+		Assert.assertEquals("value3", l2.get("key3"));
+		Assert.assertEquals("value3", cache.get("key3", () -> {
+			loadCount.incrementAndGet();
+			return "other";
+		}));
+		Assert.assertEquals(1, loadCount.get());
+
+		cache.remove("key3");
+		Assert.assertFalse(cache.containsKey("key3"));
+	}
+
+	@Test
+	public void clearTest() {
+		final OffHeapCache<Integer, String> cache = new OffHeapCache<>(4096, 0, 1024, new JdkCacheSerializer<>());
+		final String value = StrUtil.repeat('a', 200);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, value + i);
+		}
+		Assert.assertTrue(cache.isFull());
+		cache.clear();
+		Assert.assertFalse(cache.isFull());
+
+		// 清空后切换分段不应被当作复用
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, value + i);
+		}
+		Assert.assertFalse(cache.isFull());
+		Assert.assertEquals(10, cache.size());
+	}
+
+	@Test
+	public void listenerOutsideLockTest() {
+		final OffHeapCache<Integer, String> cache = new OffHeapCache<>(4096, 0, 1024, new JdkCacheSerializer<>());
+		final ReentrantReadWriteLock lock = (ReentrantReadWriteLock) ReflectUtil.getFieldValue(cache, "lock");
+		final AtomicInteger removeCount = new AtomicInteger();
+		cache.setListener((key, value) -> {
+			Assert.assertFalse(lock.isWriteLockedByCurrentThread());
+			removeCount.incrementAndGet();
+		});
+		final String value = StrUtil.repeat('a', 200);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, value + i);
+		}
+		Assert.assertEquals(100, cache.size() + removeCount.get());
+	}
+
+	@Test
+	public void notSerializableTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024 * 1024);
+		cache.put("key1", "value1");
+		Assert.assertThrows(IORuntimeException.class, () -> SerializeUtil.serialize(cache));
+	}
+}
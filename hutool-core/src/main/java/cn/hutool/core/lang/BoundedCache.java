@@ -0,0 +1,96 @@
+package cn.hutool.core.lang;
+
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 限定容量的简单缓存，用于缓存模板、路径等编译结果，读取无锁<br>
+ * 缓存满后不再淘汰已有的值，新的值只创建不缓存，避免一次性或动态生成的键不断替换常用的值。
+ *
+ * <pre>
+ * BoundedCache&lt;String, StrTemplate&gt; cache = new BoundedCache&lt;&gt;(1024);
+ * StrTemplate template = cache.get("{} and {}", key -&gt; StrTemplate.compile(key, "{}"));
+ * </pre>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.29
+ */
+public class BoundedCache<K, V> {
+
+	/**
+	 * 最大缓存数量
+	 */
+	private final int capacity;
+	private final Map<K, V> cache = new SafeConcurrentHashMap<>();
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 最大缓存数量
+	 */
+	public BoundedCache(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be positive!");
+		this.capacity = capacity;
+	}
+
+	/**
+	 * 从缓存中查找值
+	 *
+	 * @param key 键
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V get(K key) {
+		return cache.get(key);
+	}
+
+	/**
+	 * 从缓存中获取值，不存在时使用mappingFunction创建，缓存未满时加入缓存<br>
+	 * 并发创建时可能多次调用mappingFunction，缓存中保留先加入的值
+	 *
+	 * @param key             键
+	 * @param mappingFunction 值不存在时用于创建值
+	 * @return 值
+	 */
+	public V get(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = cache.get(key);
+		if (null == value) {
+			value = mappingFunction.apply(key);
+			if (cache.size() < this.capacity) {
+				final V old = cache.putIfAbsent(key, value);
+				if (null != old) {
+					value = old;
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 缓存是否已满，已满时新的值不再加入缓存
+	 *
+	 * @return 是否已满
+	 */
+	public boolean isFull() {
+		return cache.size() >= this.capacity;
+	}
+
+	/**
+	 * 缓存的值数量
+	 *
+	 * @return 数量
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		cache.clear();
+	}
+}
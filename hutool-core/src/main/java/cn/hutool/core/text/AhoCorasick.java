@@ -0,0 +1,512 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.DefaultSegment;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 基于Aho-Corasick自动机的多关键字查找和替换<br>
+ * 构造时将所有关键字一次性编译为自动机，之后对文本只扫描一遍即可找出或替换所有关键字，
+ * 耗时与关键字的数量无关，适用于大量关键字的模板替换、数据脱敏等场景。
+ * <ul>
+ *     <li>匹配规则为最左最长且不重叠：同一位置开始的多个关键字取最长的，已匹配的部分不再参与匹配</li>
+ *     <li>替换后的文本不会再次被匹配</li>
+ *     <li>支持{@link CharSequence}和{@link Reader}，从{@link Reader}中读取时只缓存最长关键字长度范围内的字符</li>
+ * </ul>
+ *
+ * <pre>
+ * AhoCorasick ac = new AhoCorasick(MapUtil.of("张三", "张*"));
+ * ac.replace("张三和张三丰") =》 张*和张*丰
+ * </pre>
+ * <p>
+ * 此对象不可变，可以在多线程中共享。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class AhoCorasick implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int ROOT = 0;
+	private static final int ASCII_SIZE = 128;
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String[] keywords;
+	private final String[] replacements;
+	/**
+	 * 每个节点的子节点字符，按字符排序
+	 */
+	private final char[][] childChars;
+	/**
+	 * 每个节点的子节点，与childChars对应
+	 */
+	private final int[][] children;
+	/**
+	 * 根节点的ASCII子节点，加速未命中字符的查找
+	 */
+	private final int[] rootAscii;
+	/**
+	 * 失配指针
+	 */
+	private final int[] fail;
+	/**
+	 * 节点深度，即节点对应的前缀长度
+	 */
+	private final int[] depth;
+	/**
+	 * 以节点结尾的最长关键字，-1表示无
+	 */
+	private final int[] output;
+
+	/**
+	 * 构造，只用于查找，替换时关键字被删除
+	 *
+	 * @param keywords 关键字，不能包含空串
+	 */
+	public AhoCorasick(Collection<String> keywords) {
+		this(toMap(keywords));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param replacements 关键字和对应的替换值，不能包含空关键字，替换值为{@code null}时删除关键字
+	 */
+	public AhoCorasick(Map<String, String> replacements) {
+		Assert.notEmpty(replacements, "Replacements must be not empty!");
+		final int size = replacements.size();
+		this.keywords = new String[size];
+		this.replacements = new String[size];
+
+		// 构建字典树
+		final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		final List<Integer> terminals = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		terminals.add(-1);
+		int id = 0;
+		for (Map.Entry<String, String> entry : replacements.entrySet()) {
+			final String keyword = entry.getKey();
+			Assert.notEmpty(keyword, "Keyword must be not empty!");
+			int node = ROOT;
+			for (int i = 0; i < keyword.length(); i++) {
+				final TreeMap<Character, Integer> next = trie.get(node);
+				Integer child = next.get(keyword.charAt(i));
+				if (null == child) {
+					child = trie.size();
+					next.put(keyword.charAt(i), child);
+					trie.add(new TreeMap<>());
+					terminals.add(-1);
+				}
+				node = child;
+			}
+			terminals.set(node, id);
+			this.keywords[id] = keyword;
+			this.replacements[id] = StrUtil.nullToEmpty(entry.getValue());
+			id++;
+		}
+
+		final int count = trie.size();
+		this.childChars = new char[count][];
+		this.children = new int[count][];
+		for (int node = 0; node < count; node++) {
+			final TreeMap<Character, Integer> next = trie.get(node);
+			final char[] chars = new char[next.size()];
+			final int[] nodes = new int[next.size()];
+			int i = 0;
+			for (Map.Entry<Character, Integer> entry : next.entrySet()) {
+				chars[i] = entry.getKey();
+				nodes[i] = entry.getValue();
+				i++;
+			}
+			this.childChars[node] = chars;
+			this.children[node] = nodes;
+		}
+		this.rootAscii = new int[ASCII_SIZE];
+		Arrays.fill(this.rootAscii, -1);
+		for (int i = 0; i < this.childChars[ROOT].length && this.childChars[ROOT][i] < ASCII_SIZE; i++) {
+			this.rootAscii[this.childChars[ROOT][i]] = this.children[ROOT][i];
+		}
+
+		// 按层计算失配指针和输出
+		this.fail = new int[count];
+		this.depth = new int[count];
+		this.output = new int[count];
+		this.output[ROOT] = -1;
+		final Deque<Integer> queue = new ArrayDeque<>();
+		queue.add(ROOT);
+		while (false == queue.isEmpty()) {
+			final int node = queue.poll();
+			for (int i = 0; i < this.childChars[node].length; i++) {
+				final char c = this.childChars[node][i];
+				final int child = this.children[node][i];
+				int failNode = ROOT;
+				if (ROOT != node) {
+					int f = this.fail[node];
+					while (ROOT != f && child(f, c) < 0) {
+						f = this.fail[f];
+					}
+					failNode = Math.max(child(f, c), ROOT);
+				}
+				this.fail[child] = failNode;
+				this.depth[child] = this.depth[node] + 1;
+				this.output[child] = terminals.get(child) >= 0 ? terminals.get(child) : this.output[failNode];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * 文本中是否包含任意关键字
+	 *
+	 * @param text 文本
+	 * @return 是否包含任意关键字
+	 */
+	public boolean containsAny(CharSequence text) {
+		if (StrUtil.isEmpty(text)) {
+			return false;
+		}
+		int node = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			node = next(node, text.charAt(i));
+			if (this.output[node] >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 查找文本中所有的关键字，最左最长且不重叠
+	 *
+	 * @param text 文本
+	 * @return 找到的关键字，按照位置排序
+	 */
+	public List<Match> findAll(CharSequence text) {
+		final List<Match> result = new ArrayList<>();
+		if (StrUtil.isNotEmpty(text)) {
+			scan(text, text.length(), true, new Cursor(),
+					(start, end, id) -> result.add(new Match(start, end, this.keywords[id], this.replacements[id])));
+		}
+		return result;
+	}
+
+	/**
+	 * 查找{@link Reader}中所有的关键字，最左最长且不重叠，找到的位置为从读取开始计算的字符位置
+	 *
+	 * @param reader   {@link Reader}，不会被关闭
+	 * @param consumer 找到的关键字处理，按照位置顺序调用
+	 * @throws IORuntimeException IO异常
+	 */
+	public void findAll(Reader reader, Consumer<Match> consumer) throws IORuntimeException {
+		Assert.notNull(consumer, "Consumer must be not null!");
+		scan(reader, consumer, null);
+	}
+
+	/**
+	 * 将文本中所有的关键字替换为对应的值，最左最长且不重叠
+	 *
+	 * @param text 文本
+	 * @return 替换后的文本，{@code null}返回{@code null}
+	 */
+	public String replace(CharSequence text) {
+		if (StrUtil.isEmpty(text)) {
+			return StrUtil.str(text);
+		}
+		final StringBuilder[] holder = new StringBuilder[1];
+		final int[] written = new int[1];
+		scan(text, text.length(), true, new Cursor(), (start, end, id) -> {
+			if (null == holder[0]) {
+				holder[0] = new StringBuilder(text.length() + 16);
+			}
+			holder[0].append(text, written[0], start).append(this.replacements[id]);
+			written[0] = end;
+		});
+		if (null == holder[0]) {
+			// 无关键字时不复制
+			return text.toString();
+		}
+		return holder[0].append(text, written[0], text.length()).toString();
+	}
+
+	/**
+	 * 读取{@link Reader}，将所有的关键字替换为对应的值后写出到{@link Writer}，最左最长且不重叠
+	 *
+	 * @param reader {@link Reader}，不会被关闭
+	 * @param writer {@link Writer}，不会被关闭和刷新
+	 * @throws IORuntimeException IO异常
+	 */
+	public void replace(Reader reader, Writer writer) throws IORuntimeException {
+		Assert.notNull(writer, "Writer must be not null!");
+		scan(reader, null, writer);
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 查找子节点
+	 *
+	 * @param node 节点
+	 * @param c    字符
+	 * @return 子节点，-1表示无
+	 */
+	private int child(int node, char c) {
+		if (ROOT == node && c < ASCII_SIZE) {
+			return this.rootAscii[c];
+		}
+		final int index = Arrays.binarySearch(this.childChars[node], c);
+		return index < 0 ? -1 : this.children[node][index];
+	}
+
+	/**
+	 * 状态转移，无子节点时沿失配指针回退
+	 *
+	 * @param node 当前节点
+	 * @param c    字符
+	 * @return 下一个节点
+	 */
+	private int next(int node, char c) {
+		int child;
+		while (true) {
+			child = child(node, c);
+			if (child >= 0) {
+				return child;
+			}
+			if (ROOT == node) {
+				return ROOT;
+			}
+			node = this.fail[node];
+		}
+	}
+
+	/**
+	 * 扫描文本，找到的关键字通过回调输出<br>
+	 * 找到关键字后暂存，直到不可能再出现更靠左或同位置更长的关键字时才输出，之后从关键字结尾重新开始匹配
+	 *
+	 * @param text    文本
+	 * @param to      可扫描的结束位置
+	 * @param eof     文本是否已经结束，结束时输出暂存的关键字
+	 * @param cursor  扫描状态，在多次调用之间保持
+	 * @param handler 找到的关键字处理
+	 */
+	private void scan(CharSequence text, int to, boolean eof, Cursor cursor, MatchHandler handler) {
+		int out;
+		int start;
+		while (true) {
+			while (cursor.pos < to) {
+				cursor.node = next(cursor.node, text.charAt(cursor.pos));
+				cursor.pos++;
+				out = this.output[cursor.node];
+				if (out >= 0) {
+					start = cursor.pos - this.keywords[out].length();
+					if (cursor.matchStart < 0 || start < cursor.matchStart
+							|| (start == cursor.matchStart && cursor.pos > cursor.matchEnd)) {
+						cursor.matchStart = start;
+						cursor.matchEnd = cursor.pos;
+						cursor.matchId = out;
+					}
+				}
+				// 当前前缀不包含暂存关键字的起始位置，或已是叶子节点时，暂存的关键字不会再变化
+				if (cursor.matchStart >= 0 && (cursor.pos - this.depth[cursor.node] > cursor.matchStart
+						|| (0 == this.childChars[cursor.node].length && cursor.pos - this.depth[cursor.node] == cursor.matchStart))) {
+					cursor.emit(handler);
+				}
+			}
+			if (eof && cursor.matchStart >= 0) {
+				cursor.emit(handler);
+				continue;
+			}
+			return;
+		}
+	}
+
+	/**
+	 * 扫描{@link Reader}，只在窗口中保留尚未确定的字符，找到的关键字交给consumer处理或替换后写出到writer
+	 *
+	 * @param reader   {@link Reader}
+	 * @param consumer 找到的关键字处理，writer为{@code null}时使用
+	 * @param writer   替换结果的输出，{@code null}表示只查找
+	 * @throws IORuntimeException IO异常
+	 */
+	private void scan(Reader reader, Consumer<Match> consumer, Writer writer) throws IORuntimeException {
+		Assert.notNull(reader, "Reader must be not null!");
+		final StringBuilder window = new StringBuilder();
+		final Cursor cursor = new Cursor();
+		// 窗口开始位置在整个输入中的位置
+		final long[] offset = new long[1];
+		// 窗口中已写出的位置
+		final int[] written = new int[1];
+		final MatchHandler handler = (start, end, id) -> {
+			if (null == writer) {
+				consumer.accept(new Match(offset[0] + start, offset[0] + end, this.keywords[id], this.replacements[id]));
+				return;
+			}
+			try {
+				writer.append(window, written[0], start).append(this.replacements[id]);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			written[0] = end;
+		};
+
+		final char[] buffer = new char[BUFFER_SIZE];
+		try {
+			int len;
+			boolean eof = false;
+			int settled;
+			while (false == eof) {
+				len = reader.read(buffer);
+				if (len < 0) {
+					eof = true;
+				} else {
+					window.append(buffer, 0, len);
+				}
+				scan(window, window.length(), eof, cursor, handler);
+
+				// 不会再参与匹配的部分写出后移出窗口
+				settled = eof ? window.length() : cursor.pos - this.depth[cursor.node];
+				if (cursor.matchStart >= 0 && cursor.matchStart < settled) {
+					settled = cursor.matchStart;
+				}
+				if (null != writer) {
+					writer.append(window, written[0], settled);
+				}
+				window.delete(0, settled);
+				offset[0] += settled;
+				written[0] = 0;
+				cursor.shift(settled);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 关键字集合转为替换值为{@code null}的Map
+	 *
+	 * @param keywords 关键字
+	 * @return Map
+	 */
+	private static Map<String, String> toMap(Collection<String> keywords) {
+		Assert.notEmpty(keywords, "Keywords must be not empty!");
+		final Map<String, String> map = new LinkedHashMap<>(keywords.size() * 4 / 3 + 1);
+		for (String keyword : keywords) {
+			map.put(keyword, null);
+		}
+		return map;
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 找到的关键字
+	 */
+	public static class Match extends DefaultSegment<Long> {
+		private final String keyword;
+		private final String replacement;
+
+		/**
+		 * 构造
+		 *
+		 * @param startIndex  起始位置（包含）
+		 * @param endIndex    结束位置（不包含）
+		 * @param keyword     关键字
+		 * @param replacement 替换值
+		 */
+		public Match(long startIndex, long endIndex, String keyword, String replacement) {
+			super(startIndex, endIndex);
+			this.keyword = keyword;
+			this.replacement = replacement;
+		}
+
+		/**
+		 * 获取关键字
+		 *
+		 * @return 关键字
+		 */
+		public String getKeyword() {
+			return this.keyword;
+		}
+
+		/**
+		 * 获取替换值
+		 *
+		 * @return 替换值
+		 */
+		public String getReplacement() {
+			return this.replacement;
+		}
+
+		@Override
+		public String toString() {
+			return StrUtil.format("{}[{}, {})", this.keyword, getStartIndex(), getEndIndex());
+		}
+	}
+
+	/**
+	 * 扫描状态
+	 */
+	private static class Cursor {
+		/**
+		 * 当前节点
+		 */
+		int node = ROOT;
+		/**
+		 * 下一个读取的位置
+		 */
+		int pos;
+		/**
+		 * 暂存的关键字起始位置，-1表示无
+		 */
+		int matchStart = -1;
+		int matchEnd;
+		int matchId;
+
+		/**
+		 * 输出暂存的关键字，并从关键字结尾重新开始匹配
+		 *
+		 * @param handler 找到的关键字处理
+		 */
+		void emit(MatchHandler handler) {
+			handler.handle(this.matchStart, this.matchEnd, this.matchId);
+			this.pos = this.matchEnd;
+			this.node = ROOT;
+			this.matchStart = -1;
+		}
+
+		/**
+		 * 窗口移动后调整位置
+		 *
+		 * @param length 移出窗口的长度
+		 */
+		void shift(int length) {
+			this.pos -= length;
+			if (this.matchStart >= 0) {
+				this.matchStart -= length;
+				this.matchEnd -= length;
+			}
+		}
+	}
+
+	/**
+	 * 找到的关键字处理
+	 */
+	@FunctionalInterface
+	private interface MatchHandler {
+		void handle(int start, int end, int id);
+	}
+}
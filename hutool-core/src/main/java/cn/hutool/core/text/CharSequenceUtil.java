@@ -7,6 +7,7 @@ import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.Matcher;
 import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.text.finder.CharFinder;
 import cn.hutool.core.text.finder.Finder;
 import cn.hutool.core.text.finder.StrFinder;
@@ -1656,7 +1657,7 @@ public class CharSequenceUtil {
 	// ------------------------------------------------------------------------ split
 
 	/**
-	 * 切分字符串为long数组
+	 * 切分字符串为long数组，去除每个元素两边的空白符并忽略空串，数字直接在原字符串上解析
 	 *
 	 * @param str       被切分的字符串
 	 * @param separator 分隔符
@@ -1664,11 +1665,11 @@ public class CharSequenceUtil {
 	 * @since 4.0.6
 	 */
 	public static long[] splitToLong(CharSequence str, char separator) {
-		return Convert.convert(long[].class, splitTrim(str, separator));
+		return StrSplitter.splitToLong(str, separator, true, true);
 	}
 
 	/**
-	 * 切分字符串为long数组
+	 * 切分字符串为long数组，去除每个元素两边的空白符并忽略空串，数字直接在原字符串上解析
 	 *
 	 * @param str       被切分的字符串
 	 * @param separator 分隔符字符串
@@ -1676,11 +1677,15 @@ public class CharSequenceUtil {
 	 * @since 4.0.6
 	 */
 	public static long[] splitToLong(CharSequence str, CharSequence separator) {
-		return Convert.convert(long[].class, splitTrim(str, separator));
+		if (isEmpty(str)) {
+			// 空串忽略后无元素，不检查分隔符
+			return new long[0];
+		}
+		return StrSplitter.splitToLong(str, str(separator), true, true);
 	}
 
 	/**
-	 * 切分字符串为int数组
+	 * 切分字符串为int数组，去除每个元素两边的空白符并忽略空串，数字直接在原字符串上解析
 	 *
 	 * @param str       被切分的字符串
 	 * @param separator 分隔符
@@ -1688,11 +1693,11 @@ public class CharSequenceUtil {
 	 * @since 4.0.6
 	 */
 	public static int[] splitToInt(CharSequence str, char separator) {
-		return Convert.convert(int[].class, splitTrim(str, separator));
+		return StrSplitter.splitToInt(str, separator, true, true);
 	}
 
 	/**
-	 * 切分字符串为int数组
+	 * 切分字符串为int数组，去除每个元素两边的空白符并忽略空串，数字直接在原字符串上解析
 	 *
 	 * @param str       被切分的字符串
 	 * @param separator 分隔符字符串
@@ -1700,7 +1705,11 @@ public class CharSequenceUtil {
 	 * @since 4.0.6
 	 */
 	public static int[] splitToInt(CharSequence str, CharSequence separator) {
-		return Convert.convert(int[].class, splitTrim(str, separator));
+		if (isEmpty(str)) {
+			// 空串忽略后无元素，不检查分隔符
+			return new int[0];
+		}
+		return StrSplitter.splitToInt(str, str(separator), true, true);
 	}
 
 	/**
@@ -3786,6 +3795,23 @@ public class CharSequenceUtil {
 		return ReUtil.replaceAll(str, regex, replaceFun);
 	}
 
+	/**
+	 * 一次扫描替换多个关键字，同一位置开始的多个关键字取最长的，替换后的文本不会再次被替换<br>
+	 * 每次调用都会构建自动机，同一组关键字多次使用时应复用{@link AhoCorasick}
+	 *
+	 * @param str          要替换的字符串
+	 * @param replacements 关键字和对应的替换值，替换值为{@code null}时删除关键字
+	 * @return 替换后的字符串
+	 * @see AhoCorasick#replace(CharSequence)
+	 * @since 5.8.29
+	 */
+	public static String replace(CharSequence str, Map<String, String> replacements) {
+		if (isEmpty(str) || MapUtil.isEmpty(replacements)) {
+			return str(str);
+		}
+		return new AhoCorasick(replacements).replace(str);
+	}
+
 	/**
 	 * 替换字符串中最后一个指定字符串
 	 *
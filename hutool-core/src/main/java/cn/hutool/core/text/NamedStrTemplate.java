@@ -0,0 +1,214 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.BoundedCache;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译的命名字符串模板，使用 {varName} 占位<br>
+ * 编译时将模板拆分为文本段和变量名，格式化时按变量名从Map中取值，先计算结果的长度，再一次性分配空间拼接结果。
+ * <ul>
+ *     <li>Map中不存在的变量原样保留</li>
+ *     <li>值为{@code null}时，忽略则原样保留，否则替换为""</li>
+ *     <li>替换后的值不会再次被当作模板解析</li>
+ * </ul>
+ *
+ * <pre>
+ * map = {a: "aValue", b: "bValue"}
+ * NamedStrTemplate.of("{a} and {b}").format(map, true) =》 aValue and bValue
+ * </pre>
+ * <p>
+ * 此对象不可变，可以在多线程中共享。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public final class NamedStrTemplate {
+
+	/**
+	 * 编译结果缓存，缓存满后新的模板不再缓存
+	 */
+	private static final BoundedCache<String, NamedStrTemplate> CACHE = new BoundedCache<>(1024);
+
+	/**
+	 * 获取编译后的模板，优先从缓存中获取
+	 *
+	 * @param template 文本模板，被替换的部分用 {key} 表示
+	 * @return NamedStrTemplate
+	 */
+	public static NamedStrTemplate of(String template) {
+		return CACHE.get(template, NamedStrTemplate::compile);
+	}
+
+	/**
+	 * 编译模板，不使用缓存
+	 *
+	 * @param template 文本模板，被替换的部分用 {key} 表示
+	 * @return NamedStrTemplate
+	 */
+	public static NamedStrTemplate compile(String template) {
+		Assert.notNull(template, "Template must be not null!");
+		return new NamedStrTemplate(template);
+	}
+
+	/**
+	 * 清空编译结果缓存
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	private final String template;
+	/**
+	 * 每个变量之前的文本
+	 */
+	private final String[] segments;
+	/**
+	 * 变量名
+	 */
+	private final String[] names;
+	/**
+	 * 最后一个变量之后的文本
+	 */
+	private final String tail;
+
+	/**
+	 * 构造，变量为最近的一对{}之间的文本，如"{{a}}"中的变量为a
+	 *
+	 * @param template 文本模板
+	 */
+	private NamedStrTemplate(String template) {
+		this.template = template;
+
+		final List<String> segments = new ArrayList<>();
+		final List<String> names = new ArrayList<>();
+		final int length = template.length();
+		int handledPosition = 0;
+		int openIndex = -1;
+		char c;
+		for (int i = 0; i < length; i++) {
+			c = template.charAt(i);
+			if (c == StrUtil.C_DELIM_START) {
+				openIndex = i;
+			} else if (c == StrUtil.C_DELIM_END && openIndex >= 0) {
+				segments.add(template.substring(handledPosition, openIndex));
+				names.add(template.substring(openIndex + 1, i));
+				handledPosition = i + 1;
+				openIndex = -1;
+			}
+		}
+
+		this.segments = segments.toArray(new String[0]);
+		this.names = names.toArray(new String[0]);
+		this.tail = template.substring(handledPosition);
+	}
+
+	/**
+	 * 获取原始模板
+	 *
+	 * @return 原始模板
+	 */
+	public String getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * 获取模板中的变量名，按照出现顺序，可能重复
+	 *
+	 * @return 变量名
+	 */
+	public String[] getNames() {
+		return this.names.clone();
+	}
+
+	/**
+	 * 格式化，变量值使用{@link StrUtil#utf8Str(Object)}转为字符串<br>
+	 * Map的键使用toString()后的值与变量名匹配
+	 *
+	 * @param map        参数值对
+	 * @param ignoreNull 是否忽略 {@code null} 值，忽略则 {@code null} 值对应的变量不被替换，否则替换为""
+	 * @return 格式化后的文本
+	 */
+	public String format(Map<?, ?> map, boolean ignoreNull) {
+		final int count = this.names.length;
+		if (null == map || map.isEmpty() || 0 == count) {
+			return this.template;
+		}
+
+		// 键不全是字符串时，不能直接使用变量名查找（如TreeMap<Integer, ?>会抛出ClassCastException），按照toString()后的键查找
+		final Map<?, ?> lookup = isStringKeys(map) ? map : toNameMap(map);
+		final String[] values = new String[count];
+		int length = this.tail.length();
+		String name;
+		Object value;
+		String str;
+		for (int i = 0; i < count; i++) {
+			name = this.names[i];
+			value = lookup.get(name);
+			if (null == value && false == lookup.containsKey(name)) {
+				// 不存在的变量原样保留
+				values[i] = null;
+				length += this.segments[i].length() + name.length() + 2;
+				continue;
+			}
+
+			str = StrUtil.utf8Str(value);
+			if (null == str && false == ignoreNull) {
+				str = StrUtil.EMPTY;
+			}
+			values[i] = str;
+			length += this.segments[i].length() + (null == str ? name.length() + 2 : str.length());
+		}
+
+		final StringBuilder result = new StringBuilder(length);
+		for (int i = 0; i < count; i++) {
+			result.append(this.segments[i]);
+			if (null == values[i]) {
+				result.append(StrUtil.C_DELIM_START).append(this.names[i]).append(StrUtil.C_DELIM_END);
+			} else {
+				result.append(values[i]);
+			}
+		}
+		result.append(this.tail);
+		return result.toString();
+	}
+
+	/**
+	 * 检查Map的键是否全部为字符串
+	 *
+	 * @param map Map
+	 * @return 是否全部为字符串键
+	 */
+	private static boolean isStringKeys(Map<?, ?> map) {
+		for (Object key : map.keySet()) {
+			if (false == key instanceof String) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 将Map的键转为字符串，多个键转为相同字符串时保留第一个
+	 *
+	 * @param map Map
+	 * @return 字符串键的Map
+	 */
+	private static Map<String, Object> toNameMap(Map<?, ?> map) {
+		final Map<String, Object> byName = new HashMap<>(map.size(), 1);
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			byName.putIfAbsent(String.valueOf(entry.getKey()), entry.getValue());
+		}
+		return byName;
+	}
+
+	@Override
+	public String toString() {
+		return this.template;
+	}
+}
@@ -14,7 +14,7 @@ public class StrFormatter {
 
 	/**
 	 * 格式化字符串<br>
-	 * 此方法只是简单将占位符 {} 按照顺序替换为参数<br>
+	 * 此方法只是简单将占位符 {} 按照顺序替换为参数，模板编译后缓存，见{@link StrTemplate}<br>
 	 * 如果想输出 {} 使用 \\转义 { 即可，如果想输出 {} 之前的 \ 使用双转义符 \\\\ 即可<br>
 	 * 例：<br>
 	 * 通常使用：format("this is {} for {}", "a", "b") =》 this is a for b<br>
@@ -48,55 +48,13 @@ public class StrFormatter {
 		if (StrUtil.isBlank(strPattern) || StrUtil.isBlank(placeHolder) || ArrayUtil.isEmpty(argArray)) {
 			return strPattern;
 		}
-		final int strPatternLength = strPattern.length();
-		final int placeHolderLength = placeHolder.length();
-
-		// 初始化定义好的长度以获得更好的性能
-		final StringBuilder sbuf = new StringBuilder(strPatternLength + 50);
-
-		int handledPosition = 0;// 记录已经处理到的位置
-		int delimIndex;// 占位符所在位置
-		for (int argIndex = 0; argIndex < argArray.length; argIndex++) {
-			delimIndex = strPattern.indexOf(placeHolder, handledPosition);
-			if (delimIndex == -1) {// 剩余部分无占位符
-				if (handledPosition == 0) { // 不带占位符的模板直接返回
-					return strPattern;
-				}
-				// 字符串模板剩余部分不再包含占位符，加入剩余部分后返回结果
-				sbuf.append(strPattern, handledPosition, strPatternLength);
-				return sbuf.toString();
-			}
-
-			// 转义符
-			if (delimIndex > 0 && strPattern.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {// 转义符
-				if (delimIndex > 1 && strPattern.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {// 双转义符
-					// 转义符之前还有一个转义符，占位符依旧有效
-					sbuf.append(strPattern, handledPosition, delimIndex - 1);
-					sbuf.append(StrUtil.utf8Str(argArray[argIndex]));
-					handledPosition = delimIndex + placeHolderLength;
-				} else {
-					// 占位符被转义
-					argIndex--;
-					sbuf.append(strPattern, handledPosition, delimIndex - 1);
-					sbuf.append(placeHolder.charAt(0));
-					handledPosition = delimIndex + 1;
-				}
-			} else {// 正常占位符
-				sbuf.append(strPattern, handledPosition, delimIndex);
-				sbuf.append(StrUtil.utf8Str(argArray[argIndex]));
-				handledPosition = delimIndex + placeHolderLength;
-			}
-		}
-
-		// 加入最后一个占位符后所有的字符
-		sbuf.append(strPattern, handledPosition, strPatternLength);
-
-		return sbuf.toString();
+		return StrTemplate.of(strPattern, placeHolder).format(argArray);
 	}
 
 	/**
 	 * 格式化文本，使用 {varName} 占位<br>
-	 * map = {a: "aValue", b: "bValue"} format("{a} and {b}", map) ---=》 aValue and bValue
+	 * map = {a: "aValue", b: "bValue"} format("{a} and {b}", map) ---=》 aValue and bValue<br>
+	 * 模板编译后缓存，见{@link NamedStrTemplate}
 	 *
 	 * @param template   文本模板，被替换的部分用 {key} 表示
 	 * @param map        参数值对
@@ -112,15 +70,6 @@ public class StrFormatter {
 			return template.toString();
 		}
 
-		String template2 = template.toString();
-		String value;
-		for (Map.Entry<?, ?> entry : map.entrySet()) {
-			value = StrUtil.utf8Str(entry.getValue());
-			if (null == value && ignoreNull) {
-				continue;
-			}
-			template2 = StrUtil.replace(template2, "{" + entry.getKey() + "}", value);
-		}
-		return template2;
+		return NamedStrTemplate.of(template.toString()).format(map, ignoreNull);
 	}
 }
@@ -6,6 +6,7 @@ import cn.hutool.core.text.finder.CharMatcherFinder;
 import cn.hutool.core.text.finder.LengthFinder;
 import cn.hutool.core.text.finder.PatternFinder;
 import cn.hutool.core.text.finder.StrFinder;
+import cn.hutool.core.text.split.SplitCursor;
 import cn.hutool.core.text.split.SplitIter;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.StrUtil;
@@ -333,6 +334,68 @@ public class StrSplitter {
 		return toArray(split(str, separator, limit, isTrim, ignoreEmpty));
 	}
 
+	//---------------------------------------------------------------------------------------------- Split to number
+
+	/**
+	 * 切分字符串为long数组，数字直接在原字符串上解析，不创建子串
+	 *
+	 * @param text        被切分的字符串，{@code null}返回空数组
+	 * @param separator   分隔符字符
+	 * @param isTrim      是否去除切分字符串后每个元素两边的空格
+	 * @param ignoreEmpty 是否忽略空串
+	 * @return 切分后的long数组
+	 * @see SplitCursor#toLongArray()
+	 * @since 5.8.29
+	 */
+	public static long[] splitToLong(CharSequence text, char separator, boolean isTrim, boolean ignoreEmpty) {
+		return new SplitCursor(separator, isTrim, ignoreEmpty).reset(text).toLongArray();
+	}
+
+	/**
+	 * 切分字符串为long数组，数字直接在原字符串上解析，不创建子串
+	 *
+	 * @param text        被切分的字符串，{@code null}返回空数组
+	 * @param separator   分隔符字符串
+	 * @param isTrim      是否去除切分字符串后每个元素两边的空格
+	 * @param ignoreEmpty 是否忽略空串
+	 * @return 切分后的long数组
+	 * @see SplitCursor#toLongArray()
+	 * @since 5.8.29
+	 */
+	public static long[] splitToLong(CharSequence text, String separator, boolean isTrim, boolean ignoreEmpty) {
+		return new SplitCursor(separator, isTrim, ignoreEmpty).reset(text).toLongArray();
+	}
+
+	/**
+	 * 切分字符串为int数组，数字直接在原字符串上解析，不创建子串
+	 *
+	 * @param text        被切分的字符串，{@code null}返回空数组
+	 * @param separator   分隔符字符
+	 * @param isTrim      是否去除切分字符串后每个元素两边的空格
+	 * @param ignoreEmpty 是否忽略空串
+	 * @return 切分后的int数组
+	 * @see SplitCursor#toIntArray()
+	 * @since 5.8.29
+	 */
+	public static int[] splitToInt(CharSequence text, char separator, boolean isTrim, boolean ignoreEmpty) {
+		return new SplitCursor(separator, isTrim, ignoreEmpty).reset(text).toIntArray();
+	}
+
+	/**
+	 * 切分字符串为int数组，数字直接在原字符串上解析，不创建子串
+	 *
+	 * @param text        被切分的字符串，{@code null}返回空数组
+	 * @param separator   分隔符字符串
+	 * @param isTrim      是否去除切分字符串后每个元素两边的空格
+	 * @param ignoreEmpty 是否忽略空串
+	 * @return 切分后的int数组
+	 * @see SplitCursor#toIntArray()
+	 * @since 5.8.29
+	 */
+	public static int[] splitToInt(CharSequence text, String separator, boolean isTrim, boolean ignoreEmpty) {
+		return new SplitCursor(separator, isTrim, ignoreEmpty).reset(text).toIntArray();
+	}
+
 	//---------------------------------------------------------------------------------------------- Split by Whitespace
 
 	/**
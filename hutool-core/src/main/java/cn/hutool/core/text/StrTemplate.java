@@ -0,0 +1,209 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.BoundedCache;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 预编译的字符串模板，使用占位符（默认为{}）按照顺序替换为参数<br>
+ * 编译时将模板拆分为文本段和占位符，并处理转义符，格式化时不再扫描模板，
+ * 先计算结果的长度，再一次性分配空间拼接结果。规则与{@link StrFormatter#formatWith(String, String, Object...)}一致：
+ * <ul>
+ *     <li>{@code \{}}输出占位符本身，{@code \\{}}输出\后替换为参数</li>
+ *     <li>参数多于占位符时多余的参数被忽略，参数少于占位符时剩余部分原样保留</li>
+ * </ul>
+ *
+ * <pre>
+ * StrTemplate.of("this is {} for {}").format("a", "b") =》 this is a for b
+ * </pre>
+ * <p>
+ * 此对象不可变，可以在多线程中共享。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public final class StrTemplate {
+
+	/**
+	 * 使用默认占位符的编译结果缓存，缓存满后新的模板不再缓存
+	 */
+	private static final BoundedCache<String, StrTemplate> CACHE = new BoundedCache<>(1024);
+
+	/**
+	 * 获取使用默认占位符{}编译的模板，优先从缓存中获取
+	 *
+	 * @param template 字符串模板
+	 * @return StrTemplate
+	 */
+	public static StrTemplate of(String template) {
+		return of(template, StrUtil.EMPTY_JSON);
+	}
+
+	/**
+	 * 获取编译后的模板，使用默认占位符{}时优先从缓存中获取
+	 *
+	 * @param template    字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 * @return StrTemplate
+	 */
+	public static StrTemplate of(String template, String placeHolder) {
+		if (false == StrUtil.EMPTY_JSON.equals(placeHolder)) {
+			return compile(template, placeHolder);
+		}
+
+		return CACHE.get(template, key -> compile(key, placeHolder));
+	}
+
+	/**
+	 * 编译模板，不使用缓存
+	 *
+	 * @param template    字符串模板
+	 * @param placeHolder 占位符，例如{}
+	 * @return StrTemplate
+	 */
+	public static StrTemplate compile(String template, String placeHolder) {
+		Assert.notNull(template, "Template must be not null!");
+		Assert.notEmpty(placeHolder, "PlaceHolder must be not empty!");
+		return new StrTemplate(template, placeHolder);
+	}
+
+	/**
+	 * 清空编译结果缓存
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	private final String template;
+	/**
+	 * 每个占位符之前的文本，已处理转义符
+	 */
+	private final String[] segments;
+	/**
+	 * 每个占位符之后在原模板中的位置，参数用尽时从此位置原样保留剩余部分
+	 */
+	private final int[] rawFrom;
+	/**
+	 * 最后一个占位符之后的文本，已处理转义符
+	 */
+	private final String tail;
+
+	/**
+	 * 构造，扫描规则与{@link StrFormatter#formatWith(String, String, Object...)}一致
+	 *
+	 * @param template    字符串模板
+	 * @param placeHolder 占位符
+	 */
+	private StrTemplate(String template, String placeHolder) {
+		this.template = template;
+
+		final int length = template.length();
+		final int placeHolderLength = placeHolder.length();
+		final List<String> segments = new ArrayList<>();
+		final List<Integer> rawFrom = new ArrayList<>();
+		final StringBuilder segment = new StringBuilder();
+		int handledPosition = 0;
+		int delimIndex;
+		while (true) {
+			delimIndex = template.indexOf(placeHolder, handledPosition);
+			if (delimIndex == -1) {
+				break;
+			}
+			if (delimIndex > 0 && template.charAt(delimIndex - 1) == StrUtil.C_BACKSLASH) {
+				if (delimIndex > 1 && template.charAt(delimIndex - 2) == StrUtil.C_BACKSLASH) {
+					// 双转义符，占位符依旧有效
+					segment.append(template, handledPosition, delimIndex - 1);
+				} else {
+					// 占位符被转义，不占用参数
+					segment.append(template, handledPosition, delimIndex - 1).append(placeHolder.charAt(0));
+					handledPosition = delimIndex + 1;
+					continue;
+				}
+			} else {
+				segment.append(template, handledPosition, delimIndex);
+			}
+			segments.add(segment.toString());
+			segment.setLength(0);
+			handledPosition = delimIndex + placeHolderLength;
+			rawFrom.add(handledPosition);
+		}
+		segment.append(template, handledPosition, length);
+
+		this.segments = segments.toArray(new String[0]);
+		this.rawFrom = new int[rawFrom.size()];
+		for (int i = 0; i < this.rawFrom.length; i++) {
+			this.rawFrom[i] = rawFrom.get(i);
+		}
+		this.tail = segment.toString();
+	}
+
+	/**
+	 * 获取原始模板
+	 *
+	 * @return 原始模板
+	 */
+	public String getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * 获取有效占位符的数量，不包括被转义的占位符
+	 *
+	 * @return 占位符数量
+	 */
+	public int getPlaceHolderCount() {
+		return this.segments.length;
+	}
+
+	/**
+	 * 按照顺序将占位符替换为参数，参数使用{@link StrUtil#utf8Str(Object)}转为字符串
+	 *
+	 * @param args 参数列表
+	 * @return 结果，模板为空白或无参数时返回原模板
+	 */
+	public String format(Object... args) {
+		if (null == args || 0 == args.length || StrUtil.isBlank(this.template)) {
+			return this.template;
+		}
+		final int count = this.segments.length;
+		if (0 == count) {
+			return this.tail;
+		}
+
+		final int used = Math.min(args.length, count);
+		final String[] values = new String[used];
+		int length = 0;
+		String value;
+		for (int i = 0; i < used; i++) {
+			value = StrUtil.utf8Str(args[i]);
+			if (null == value) {
+				value = StrUtil.NULL;
+			}
+			values[i] = value;
+			length += this.segments[i].length() + value.length();
+		}
+		// 参数多于占位符时剩余部分已处理转义，否则剩余部分原样保留
+		final boolean allUsed = args.length > count;
+		final int rawFrom = this.rawFrom[used - 1];
+		length += allUsed ? this.tail.length() : this.template.length() - rawFrom;
+
+		final StringBuilder result = new StringBuilder(length);
+		for (int i = 0; i < used; i++) {
+			result.append(this.segments[i]).append(values[i]);
+		}
+		if (allUsed) {
+			result.append(this.tail);
+		} else {
+			result.append(this.template, rawFrom, this.template.length());
+		}
+		return result.toString();
+	}
+
+	@Override
+	public String toString() {
+		return this.template;
+	}
+}
@@ -0,0 +1,418 @@
+package cn.hutool.core.text.split;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+
+/**
+ * 游标式的字符串切分器<br>
+ * 与{@link SplitIter}不同，此切分器不创建子串，每次调用{@link #next()}后只记录当前片段在原文本中的位置（start, end），
+ * 需要时才通过{@link #get()}获取子串，或通过{@link #getLong()}、{@link #getInt()}直接在原文本上解析数字。
+ * 调用{@link #reset(CharSequence)}可以复用同一个切分器处理下一行文本，适用于海量日志等逐行切分的场景。
+ *
+ * <pre>
+ * SplitCursor cursor = new SplitCursor(',', true, false);
+ * for (String line : lines) {
+ *     cursor.reset(line);
+ *     if (cursor.skip(2) &amp;&amp; cursor.next()) {
+ *         long third = cursor.getLong();
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * 切分规则与{@link cn.hutool.core.text.StrSplitter}一致，去除空白符使用{@link CharUtil#isBlankChar(char)}，忽略空串在去除空白符之后判断。
+ * 此切分器非线程安全。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class SplitCursor {
+
+	/**
+	 * long最多可以直接累加而不溢出的位数
+	 */
+	private static final int MAX_LONG_DIGITS = 18;
+	/**
+	 * int最多可以直接累加而不溢出的位数
+	 */
+	private static final int MAX_INT_DIGITS = 9;
+
+	private final char separatorChar;
+	/**
+	 * 字符串分隔符，{@code null}表示使用字符分隔符
+	 */
+	private final String separator;
+	private final boolean isTrim;
+	private final boolean ignoreEmpty;
+
+	private CharSequence text;
+	private int length;
+	/**
+	 * 下一个片段的开始位置，大于length表示结束
+	 */
+	private int offset;
+	private int start = -1;
+	private int end = -1;
+	private int index = -1;
+
+	/**
+	 * 构造，不去除空白符，不忽略空串，使用前需调用{@link #reset(CharSequence)}
+	 *
+	 * @param separator 分隔符字符
+	 */
+	public SplitCursor(char separator) {
+		this(separator, false, false);
+	}
+
+	/**
+	 * 构造，使用前需调用{@link #reset(CharSequence)}
+	 *
+	 * @param separator   分隔符字符
+	 * @param isTrim      是否去除每个片段两边的空白符
+	 * @param ignoreEmpty 是否忽略空串
+	 */
+	public SplitCursor(char separator, boolean isTrim, boolean ignoreEmpty) {
+		this(separator, null, isTrim, ignoreEmpty);
+	}
+
+	/**
+	 * 构造，使用前需调用{@link #reset(CharSequence)}
+	 *
+	 * @param separator   分隔符字符串，不能为空
+	 * @param isTrim      是否去除每个片段两边的空白符
+	 * @param ignoreEmpty 是否忽略空串
+	 */
+	public SplitCursor(String separator, boolean isTrim, boolean ignoreEmpty) {
+		this(CharUtil.SPACE, Assert.notEmpty(separator, "Separator must be not empty!"), isTrim, ignoreEmpty);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param separatorChar 分隔符字符
+	 * @param separator     分隔符字符串，长度为1时转为字符分隔符
+	 * @param isTrim        是否去除每个片段两边的空白符
+	 * @param ignoreEmpty   是否忽略空串
+	 */
+	private SplitCursor(char separatorChar, String separator, boolean isTrim, boolean ignoreEmpty) {
+		if (null != separator && 1 == separator.length()) {
+			this.separatorChar = separator.charAt(0);
+			this.separator = null;
+		} else {
+			this.separatorChar = separatorChar;
+			this.separator = separator;
+		}
+		this.isTrim = isTrim;
+		this.ignoreEmpty = ignoreEmpty;
+		reset(null);
+	}
+
+	/**
+	 * 重置为切分新的文本
+	 *
+	 * @param text 文本，{@code null}表示无片段，""表示一个空片段
+	 * @return this
+	 */
+	public SplitCursor reset(CharSequence text) {
+		this.text = text;
+		this.length = null == text ? 0 : text.length();
+		this.offset = null == text ? 1 : 0;
+		this.start = -1;
+		this.end = -1;
+		this.index = -1;
+		return this;
+	}
+
+	/**
+	 * 移动到下一个片段
+	 *
+	 * @return 是否存在下一个片段
+	 */
+	public boolean next() {
+		final CharSequence text = this.text;
+		int sepIndex;
+		int start;
+		int end;
+		while (this.offset <= this.length) {
+			sepIndex = indexOfSeparator(this.offset);
+			start = this.offset;
+			if (sepIndex < 0) {
+				end = this.length;
+				this.offset = this.length + 1;
+			} else {
+				end = sepIndex;
+				this.offset = sepIndex + (null == this.separator ? 1 : this.separator.length());
+			}
+
+			if (this.isTrim) {
+				while (start < end && CharUtil.isBlankChar(text.charAt(start))) {
+					start++;
+				}
+				while (start < end && CharUtil.isBlankChar(text.charAt(end - 1))) {
+					end--;
+				}
+			}
+			if (this.ignoreEmpty && start == end) {
+				continue;
+			}
+
+			this.start = start;
+			this.end = end;
+			this.index++;
+			return true;
+		}
+		this.start = -1;
+		this.end = -1;
+		return false;
+	}
+
+	/**
+	 * 跳过指定数量的片段
+	 *
+	 * @param count 跳过的片段数
+	 * @return 是否跳过了全部指定数量的片段
+	 */
+	public boolean skip(int count) {
+		for (int i = 0; i < count; i++) {
+			if (false == next()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 统计剩余片段的数量，统计后游标位于末尾
+	 *
+	 * @return 剩余片段数量
+	 */
+	public int count() {
+		int count = 0;
+		while (next()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * 获取当前片段的序号，忽略的空串不计数，从0开始
+	 *
+	 * @return 序号，未开始时为-1
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * 获取当前片段在原文本中的开始位置（包含）
+	 *
+	 * @return 开始位置，无当前片段时为-1
+	 */
+	public int getStart() {
+		return this.start;
+	}
+
+	/**
+	 * 获取当前片段在原文本中的结束位置（不包含）
+	 *
+	 * @return 结束位置，无当前片段时为-1
+	 */
+	public int getEnd() {
+		return this.end;
+	}
+
+	/**
+	 * 获取当前片段的长度
+	 *
+	 * @return 长度
+	 */
+	public int getLength() {
+		return this.end - this.start;
+	}
+
+	/**
+	 * 当前片段是否为空串
+	 *
+	 * @return 是否为空串
+	 */
+	public boolean isEmpty() {
+		return this.start == this.end;
+	}
+
+	/**
+	 * 获取当前片段的子串，此方法会创建新的字符串
+	 *
+	 * @return 子串
+	 */
+	public String get() {
+		checkCurrent();
+		return this.text.subSequence(this.start, this.end).toString();
+	}
+
+	/**
+	 * 当前片段是否与给定的字符串相同，不创建子串
+	 *
+	 * @param str 字符串
+	 * @return 是否相同
+	 */
+	public boolean contentEquals(CharSequence str) {
+		checkCurrent();
+		if (null == str || str.length() != getLength()) {
+			return false;
+		}
+		for (int i = 0; i < str.length(); i++) {
+			if (str.charAt(i) != this.text.charAt(this.start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 将当前片段解析为long，十进制整数直接在原文本上解析，其它格式使用{@link Convert}转换
+	 *
+	 * @return long值
+	 * @throws cn.hutool.core.convert.ConvertException 无法转换
+	 */
+	public long getLong() {
+		checkCurrent();
+		final long value = parseDigits(MAX_LONG_DIGITS);
+		if (value >= 0) {
+			return negative() ? -value : value;
+		}
+		return Convert.convertWithCheck(long.class, get(), null, false);
+	}
+
+	/**
+	 * 将当前片段解析为int，十进制整数直接在原文本上解析，其它格式使用{@link Convert}转换
+	 *
+	 * @return int值
+	 * @throws cn.hutool.core.convert.ConvertException 无法转换
+	 */
+	public int getInt() {
+		checkCurrent();
+		final long value = parseDigits(MAX_INT_DIGITS);
+		if (value >= 0) {
+			return (int) (negative() ? -value : value);
+		}
+		return Convert.convertWithCheck(int.class, get(), null, false);
+	}
+
+	/**
+	 * 获取所有剩余片段解析后的long数组
+	 *
+	 * @return long数组
+	 */
+	public long[] toLongArray() {
+		final int from = this.offset;
+		final int index = this.index;
+		final long[] result = new long[count()];
+		this.offset = from;
+		this.index = index;
+		for (int i = 0; i < result.length && next(); i++) {
+			result[i] = getLong();
+		}
+		return result;
+	}
+
+	/**
+	 * 获取所有剩余片段解析后的int数组
+	 *
+	 * @return int数组
+	 */
+	public int[] toIntArray() {
+		final int from = this.offset;
+		final int index = this.index;
+		final int[] result = new int[count()];
+		this.offset = from;
+		this.index = index;
+		for (int i = 0; i < result.length && next(); i++) {
+			result[i] = getInt();
+		}
+		return result;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 查找分隔符
+	 *
+	 * @param from 开始位置
+	 * @return 分隔符位置，-1表示未找到
+	 */
+	private int indexOfSeparator(int from) {
+		final CharSequence text = this.text;
+		if (null == this.separator) {
+			if (text instanceof String) {
+				return ((String) text).indexOf(this.separatorChar, from);
+			}
+			for (int i = from; i < this.length; i++) {
+				if (text.charAt(i) == this.separatorChar) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		if (text instanceof String) {
+			return ((String) text).indexOf(this.separator, from);
+		}
+		final int last = this.length - this.separator.length();
+		outer:
+		for (int i = from; i <= last; i++) {
+			for (int j = 0; j < this.separator.length(); j++) {
+				if (text.charAt(i + j) != this.separator.charAt(j)) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * 解析当前片段中的十进制数字部分（可带正负号）
+	 *
+	 * @param maxDigits 最多位数，超出时可能溢出
+	 * @return 数字的绝对值，不是十进制整数或位数过多时返回-1
+	 */
+	private long parseDigits(int maxDigits) {
+		int i = this.start;
+		if (i < this.end && (this.text.charAt(i) == '-' || this.text.charAt(i) == '+')) {
+			i++;
+		}
+		final int digits = this.end - i;
+		if (digits <= 0 || digits > maxDigits) {
+			return -1;
+		}
+		long value = 0;
+		char c;
+		for (; i < this.end; i++) {
+			c = this.text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * 当前片段是否以负号开头
+	 *
+	 * @return 是否为负数
+	 */
+	private boolean negative() {
+		return this.text.charAt(this.start) == '-';
+	}
+
+	/**
+	 * 检查是否有当前片段
+	 */
+	private void checkCurrent() {
+		if (this.start < 0) {
+			throw new IllegalStateException("No current field, call next() first!");
+		}
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+}
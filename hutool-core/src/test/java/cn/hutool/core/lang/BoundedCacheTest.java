@@ -0,0 +1,29 @@
+package cn.hutool.core.lang;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+	@Test
+	public void getTest() {
+		final BoundedCache<String, String> cache = new BoundedCache<>(2);
+		final String a = cache.get("a", key -> new String(key + "Value"));
+		Assert.assertEquals("aValue", a);
+		Assert.assertSame(a, cache.get("a", key -> new String(key + "Value")));
+		Assert.assertSame(a, cache.get("a"));
+
+		cache.get("b", key -> key + "Value");
+		Assert.assertTrue(cache.isFull());
+
+		// 缓存满后不淘汰已有的值，新的值只创建不缓存
+		Assert.assertEquals("cValue", cache.get("c", key -> key + "Value"));
+		Assert.assertNull(cache.get("c"));
+		Assert.assertSame(a, cache.get("a"));
+		Assert.assertEquals(2, cache.size());
+
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+		Assert.assertNull(cache.get("a"));
+	}
+}
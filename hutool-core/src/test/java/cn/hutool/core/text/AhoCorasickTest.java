@@ -0,0 +1,152 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class AhoCorasickTest {
+
+	@Test
+	public void replaceTest() {
+		final Map<String, String> map = new LinkedHashMap<>();
+		map.put("张三", "张*");
+		map.put("张三丰", "张**");
+		map.put("13800138000", "138****8000");
+		final AhoCorasick ac = new AhoCorasick(map);
+		Assert.assertEquals("张*和张**，电话138****8000", ac.replace("张三和张三丰，电话13800138000"));
+		Assert.assertEquals("无关键字", ac.replace("无关键字"));
+		Assert.assertNull(ac.replace(null));
+		Assert.assertEquals("张*和张**", StrUtil.replace("张三和张三丰", map));
+
+		// 替换后的文本不再匹配
+		final AhoCorasick swap = new AhoCorasick(MapUtil.<String, String>builder().put("a", "b").put("b", "a").build());
+		Assert.assertEquals("baab", swap.replace("abba"));
+	}
+
+	@Test
+	public void findAllTest() {
+		final AhoCorasick ac = new AhoCorasick(ListUtil.of("he", "she", "his", "hers"));
+		final List<AhoCorasick.Match> matches = ac.findAll("ushers and his");
+		Assert.assertEquals(2, matches.size());
+		Assert.assertEquals("she", matches.get(0).getKeyword());
+		Assert.assertEquals(Long.valueOf(1), matches.get(0).getStartIndex());
+		Assert.assertEquals(Long.valueOf(4), matches.get(0).getEndIndex());
+		Assert.assertEquals("his", matches.get(1).getKeyword());
+		// 已匹配的she与hers重叠，hers不再匹配
+		Assert.assertEquals("urs and ", ac.replace("ushers and his"));
+
+		Assert.assertTrue(ac.containsAny("this"));
+		Assert.assertFalse(ac.containsAny("abc"));
+		Assert.assertTrue(ac.findAll("").isEmpty());
+	}
+
+	@Test
+	public void readerTest() {
+		final Map<String, String> map = MapUtil.<String, String>builder()
+				.put("abc", "1").put("bcd", "2").put("abcde", "3").put("e", "4").build();
+		final AhoCorasick ac = new AhoCorasick(map);
+		final String text = StrUtil.repeat("xabcdeyabcdzbcdabce", 2000);
+
+		final StringWriter writer = new StringWriter();
+		ac.replace(new StringReader(text), writer);
+		Assert.assertEquals(ac.replace(text), writer.toString());
+
+		final List<AhoCorasick.Match> matches = new ArrayList<>();
+		ac.findAll(new StringReader(text), matches::add);
+		Assert.assertEquals(ac.findAll(text).toString(), matches.toString());
+	}
+
+	@Test
+	public void randomTest() {
+		final Random random = new Random(7);
+		for (int round = 0; round < 200; round++) {
+			final Map<String, String> map = new LinkedHashMap<>();
+			final int keywordCount = random.nextInt(6) + 1;
+			for (int i = 0; i < keywordCount; i++) {
+				map.put(randomStr(random, random.nextInt(4) + 1), "[" + i + "]");
+			}
+			final AhoCorasick ac = new AhoCorasick(map);
+			final String text = randomStr(random, random.nextInt(200));
+			final String expected = bruteForceReplace(text, map);
+			Assert.assertEquals(expected, ac.replace(text));
+
+			final StringWriter writer = new StringWriter();
+			ac.replace(new ChunkedReader(text, random), writer);
+			Assert.assertEquals(expected, writer.toString());
+		}
+	}
+
+	private static String randomStr(Random random, int length) {
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append((char) ('a' + random.nextInt(3)));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 最左最长且不重叠的朴素实现
+	 */
+	private static String bruteForceReplace(String text, Map<String, String> map) {
+		final StringBuilder result = new StringBuilder();
+		int pos = 0;
+		while (pos < text.length()) {
+			String found = null;
+			int start = -1;
+			for (int i = pos; i < text.length() && null == found; i++) {
+				for (String keyword : map.keySet()) {
+					if (text.startsWith(keyword, i) && (null == found || keyword.length() > found.length())) {
+						found = keyword;
+						start = i;
+					}
+				}
+			}
+			if (null == found) {
+				break;
+			}
+			result.append(text, pos, start).append(map.get(found));
+			pos = start + found.length();
+		}
+		return result.append(text.substring(pos)).toString();
+	}
+
+	/**
+	 * 每次只读取随机数量字符的Reader，用于测试关键字跨越读取边界
+	 */
+	private static class ChunkedReader extends Reader {
+		private final String text;
+		private final Random random;
+		private int pos;
+
+		ChunkedReader(String text, Random random) {
+			this.text = text;
+			this.random = random;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) {
+			if (pos >= text.length()) {
+				return -1;
+			}
+			final int n = Math.min(Math.min(len, random.nextInt(3) + 1), text.length() - pos);
+			text.getChars(pos, pos + n, cbuf, off);
+			pos += n;
+			return n;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
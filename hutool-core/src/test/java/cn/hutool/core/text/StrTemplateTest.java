@@ -0,0 +1,68 @@
+package cn.hutool.core.text;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class StrTemplateTest {
+
+	@Test
+	public void formatTest() {
+		final StrTemplate template = StrTemplate.of("this is {} for {}");
+		Assert.assertSame(template, StrTemplate.of("this is {} for {}"));
+		Assert.assertEquals(2, template.getPlaceHolderCount());
+		Assert.assertEquals("this is a for b", template.format("a", "b"));
+		Assert.assertEquals("this is 1 for null", template.format(1, null));
+		// 参数多于占位符
+		Assert.assertEquals("this is a for b", template.format("a", "b", "c"));
+		// 参数少于占位符，剩余部分原样保留
+		Assert.assertEquals("this is a for {}", template.format("a"));
+		Assert.assertEquals("this is {} for {}", template.format());
+	}
+
+	@Test
+	public void escapeTest() {
+		Assert.assertEquals("this is {} for a", StrTemplate.of("this is \\{} for {}").format("a", "b"));
+		Assert.assertEquals("this is \\a for b", StrTemplate.of("this is \\\\{} for {}").format("a", "b"));
+		Assert.assertEquals("{}", StrTemplate.of("\\{}").format("a"));
+		Assert.assertEquals("a{}{}", StrTemplate.of("{}\\{}\\{}").format("a", "b"));
+		// 参数用尽后剩余部分不处理转义
+		Assert.assertEquals("a\\{}", StrTemplate.of("{}\\{}").format("a"));
+		Assert.assertEquals("no placeholder", StrTemplate.of("no placeholder").format("a"));
+		Assert.assertEquals("this is a for b", StrTemplate.compile("this is $$$ for $$$", "$$$").format("a", "b"));
+		Assert.assertEquals("this is $$$ for a", StrTemplate.compile("this is \\$$$ for $$$", "$$$").format("a", "b"));
+	}
+
+	@Test
+	public void namedFormatTest() {
+		final Map<String, Object> map = MapUtil.<String, Object>builder()
+				.put("a", "aValue").put("b", 2).put("c", null).build();
+		final NamedStrTemplate template = NamedStrTemplate.of("{a} and {b}, {c}, {d}, {{a}}");
+		Assert.assertSame(template, NamedStrTemplate.of("{a} and {b}, {c}, {d}, {{a}}"));
+		Assert.assertArrayEquals(new String[]{"a", "b", "c", "d", "a"}, template.getNames());
+		Assert.assertEquals("aValue and 2, {c}, {d}, {aValue}", template.format(map, true));
+		Assert.assertEquals("aValue and 2, , {d}, {aValue}", template.format(map, false));
+		Assert.assertEquals("{a} and {b}, {c}, {d}, {{a}}", template.format(null, true));
+
+		// 非字符串的键
+		final Map<Integer, String> numberKeys = new HashMap<>();
+		numberKeys.put(1, "one");
+		Assert.assertEquals("one-{2}", NamedStrTemplate.of("{1}-{2}").format(numberKeys, true));
+		Assert.assertEquals("one-{2}", StrFormatter.format("{1}-{2}", numberKeys, true));
+	}
+
+	@Test
+	public void namedFormatSortedNumberKeysTest() {
+		// TreeMap<Integer, ?>使用字符串键查找会抛出ClassCastException
+		final Map<Integer, Object> sortedKeys = new TreeMap<>();
+		sortedKeys.put(1, "one");
+		sortedKeys.put(2, null);
+		Assert.assertEquals("id=one, {2}, {3}", StrUtil.format("id={1}, {2}, {3}", sortedKeys));
+		Assert.assertEquals("id=one, , {3}", StrFormatter.format("id={1}, {2}, {3}", sortedKeys, false));
+	}
+}
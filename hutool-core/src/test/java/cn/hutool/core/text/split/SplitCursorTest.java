@@ -0,0 +1,89 @@
+package cn.hutool.core.text.split;
+
+import cn.hutool.core.text.StrSplitter;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SplitCursorTest {
+
+	@Test
+	public void nextTest() {
+		final SplitCursor cursor = new SplitCursor(',').reset("a, ,,efedsfs,   ddf,");
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(0, cursor.getStart());
+		Assert.assertEquals(1, cursor.getEnd());
+		Assert.assertTrue(cursor.contentEquals("a"));
+		Assert.assertTrue(cursor.skip(2));
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(3, cursor.getIndex());
+		Assert.assertEquals("efedsfs", cursor.get());
+		Assert.assertEquals(2, cursor.count());
+		Assert.assertFalse(cursor.next());
+	}
+
+	@Test
+	public void sameAsStrSplitterTest() {
+		final String[] texts = {"a, ,,efedsfs,   ddf,", "", ",", " , ", "abc", "a,,b", "　a　,b"};
+		for (String text : texts) {
+			for (boolean isTrim : new boolean[]{false, true}) {
+				for (boolean ignoreEmpty : new boolean[]{false, true}) {
+					Assert.assertEquals(StrSplitter.split(text, ',', 0, isTrim, ignoreEmpty),
+							toList(new SplitCursor(',', isTrim, ignoreEmpty).reset(text)));
+					Assert.assertEquals(StrSplitter.split(text, ", ", 0, isTrim, ignoreEmpty),
+							toList(new SplitCursor(", ", isTrim, ignoreEmpty).reset(new StringBuilder(text))));
+				}
+			}
+		}
+		Assert.assertFalse(new SplitCursor(',').reset(null).next());
+	}
+
+	@Test
+	public void reuseTest() {
+		final SplitCursor cursor = new SplitCursor("||", true, false);
+		long sum = 0;
+		for (String line : new String[]{"GET || 200 || 15", "POST||500||7", "PUT || 404"}) {
+			cursor.reset(line);
+			if (cursor.skip(2) && cursor.next()) {
+				sum += cursor.getLong();
+			}
+		}
+		Assert.assertEquals(22, sum);
+	}
+
+	@Test
+	public void splitToNumberTest() {
+		Assert.assertArrayEquals(new long[]{1, -2, 3, 9223372036854775807L, -9223372036854775808L},
+				StrSplitter.splitToLong(" 1,-2,, +3 ,9223372036854775807,-9223372036854775808", ',', true, true));
+		Assert.assertArrayEquals(new int[]{1, 2, 2147483647, -2147483648, 255},
+				StrUtil.splitToInt("1; 2;2147483647;-2147483648;0xff", ";"));
+		Assert.assertArrayEquals(new long[]{1, 2, 3}, StrUtil.splitToLong("1,2,3", ','));
+		Assert.assertArrayEquals(new int[0], StrUtil.splitToInt(null, ','));
+		// 空串不检查分隔符
+		Assert.assertArrayEquals(new long[0], StrUtil.splitToLong(null, ""));
+		Assert.assertArrayEquals(new long[0], StrUtil.splitToLong("", ""));
+		Assert.assertArrayEquals(new int[0], StrUtil.splitToInt("", ""));
+
+		// 非整数格式与Convert转换结果一致
+		Assert.assertArrayEquals(new long[]{1}, StrUtil.splitToLong("1.5", ','));
+
+		final SplitCursor cursor = new SplitCursor(',').reset("007,-0");
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(7, cursor.getInt());
+		Assert.assertTrue(cursor.next());
+		Assert.assertEquals(0, cursor.getInt());
+		Assert.assertFalse(cursor.next());
+		Assert.assertThrows(IllegalStateException.class, cursor::getInt);
+	}
+
+	private static List<String> toList(SplitCursor cursor) {
+		final List<String> result = new ArrayList<>();
+		while (cursor.next()) {
+			result.add(cursor.get());
+		}
+		return result;
+	}
+}
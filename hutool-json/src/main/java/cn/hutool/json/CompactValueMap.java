@@ -0,0 +1,304 @@
+package cn.hutool.json;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 紧凑模式下{@link JSONObject}使用的原始Map，键数组由键集合相同的对象共享，自身只保存值数组<br>
+ * 解析过程中通过{@link #attach(JSONShapes)}关联本次解析的形状树，新键沿形状树转换；解析结束后，
+ * 加入新键或删除键等改变键集合的操作会使此Map退化为普通的{@link LinkedHashMap}存储，修改已有键的值不会退化。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class CompactValueMap extends AbstractMap<String, Object> implements Serializable, Cloneable {
+	private static final long serialVersionUID = 1L;
+
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	/**
+	 * 形状，退化后为{@code null}
+	 */
+	private JSONShape shape;
+	private Object[] values;
+	/**
+	 * 退化后的存储
+	 */
+	private LinkedHashMap<String, Object> inflated;
+	/**
+	 * 解析过程中关联的形状树
+	 */
+	private transient JSONShapes shapes;
+
+	/**
+	 * 构造，初始为空形状
+	 */
+	CompactValueMap() {
+		this.shape = JSONShape.EMPTY;
+		this.values = EMPTY_VALUES;
+	}
+
+	/**
+	 * 获取{@link JSONObject}使用的紧凑Map，延迟解析模式下为被{@link LazyValueMap}包装的Map
+	 *
+	 * @param jsonObject {@link JSONObject}
+	 * @return 紧凑Map，非紧凑模式返回{@code null}
+	 */
+	static CompactValueMap of(JSONObject jsonObject) {
+		Map<String, Object> raw = jsonObject.getRaw();
+		if (raw instanceof LazyValueMap) {
+			raw = ((LazyValueMap) raw).getRaw();
+		}
+		return raw instanceof CompactValueMap ? (CompactValueMap) raw : null;
+	}
+
+	/**
+	 * 关联解析过程中的形状树，只有空Map才能关联，非空时退化
+	 *
+	 * @param shapes 形状树
+	 */
+	void attach(JSONShapes shapes) {
+		if (null == this.inflated) {
+			if (0 == this.shape.size()) {
+				this.shape = shapes.root();
+				this.shapes = shapes;
+			} else {
+				inflate();
+			}
+		}
+	}
+
+	/**
+	 * 解除与形状树的关联，并去除值数组中多余的空间
+	 */
+	void detach() {
+		this.shapes = null;
+		if (null != this.shape && this.values.length > this.shape.size()) {
+			this.values = Arrays.copyOf(this.values, this.shape.size());
+		}
+	}
+
+	/**
+	 * 是否仍为紧凑存储
+	 *
+	 * @return 是否仍为紧凑存储
+	 */
+	boolean isCompact() {
+		return null == this.inflated;
+	}
+
+	@Override
+	public int size() {
+		return null == this.inflated ? this.shape.size() : this.inflated.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return null == this.inflated ? this.shape.indexOf(key) >= 0 : this.inflated.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		if (null != this.inflated) {
+			return this.inflated.get(key);
+		}
+		final int index = this.shape.indexOf(key);
+		return index < 0 ? null : this.values[index];
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		if (null != this.inflated) {
+			return this.inflated.put(key, value);
+		}
+		final int index = this.shape.indexOf(key);
+		if (index >= 0) {
+			final Object old = this.values[index];
+			this.values[index] = value;
+			return old;
+		}
+
+		final JSONShape next = null == this.shapes ? null : this.shapes.transit(this.shape, key);
+		if (null == next) {
+			inflate();
+			return this.inflated.put(key, value);
+		}
+		final int size = this.shape.size();
+		if (this.values.length == size) {
+			this.values = Arrays.copyOf(this.values, Math.max(4, size << 1));
+		}
+		this.values[size] = value;
+		this.shape = next;
+		return null;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if (null == this.inflated) {
+			if (this.shape.indexOf(key) < 0) {
+				return null;
+			}
+			inflate();
+		}
+		return this.inflated.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		if (null == this.inflated) {
+			this.shape = null == this.shapes ? JSONShape.EMPTY : this.shapes.root();
+			this.values = EMPTY_VALUES;
+		} else {
+			this.inflated.clear();
+		}
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	@Override
+	public CompactValueMap clone() throws CloneNotSupportedException {
+		final CompactValueMap clone = (CompactValueMap) super.clone();
+		clone.shapes = null;
+		if (null == this.inflated) {
+			clone.values = Arrays.copyOf(this.values, this.shape.size());
+		} else {
+			clone.inflated = new LinkedHashMap<>(this.inflated);
+		}
+		return clone;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 退化为普通Map存储
+	 */
+	private void inflate() {
+		final JSONShape shape = this.shape;
+		final LinkedHashMap<String, Object> inflated = new LinkedHashMap<>(Math.max(16, (int) (shape.size() / 0.75F) + 1));
+		for (int i = 0; i < shape.size(); i++) {
+			inflated.put(shape.key(i), this.values[i]);
+		}
+		this.inflated = inflated;
+		this.shape = null;
+		this.values = null;
+		this.shapes = null;
+	}
+
+	/**
+	 * 序列化为普通Map，形状不参与序列化
+	 *
+	 * @return 普通Map
+	 */
+	private Object writeReplace() {
+		return null == this.inflated ? new LinkedHashMap<>(this) : this.inflated;
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 键值对集合，迭代时按照形状的键顺序读取值数组，迭代过程中通过迭代器删除键会使Map退化
+	 */
+	private class EntrySet extends AbstractSet<Entry<String, Object>> {
+		@Override
+		public int size() {
+			return CompactValueMap.this.size();
+		}
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			if (null != inflated) {
+				return inflated.entrySet().iterator();
+			}
+			final JSONShape shape = CompactValueMap.this.shape;
+			return new Iterator<Entry<String, Object>>() {
+				private int index;
+				private String lastKey;
+
+				@Override
+				public boolean hasNext() {
+					return index < shape.size();
+				}
+
+				@Override
+				public Entry<String, Object> next() {
+					if (false == hasNext()) {
+						throw new NoSuchElementException();
+					}
+					lastKey = shape.key(index);
+					return new CompactEntry(shape, index++);
+				}
+
+				@Override
+				public void remove() {
+					if (null == lastKey) {
+						throw new IllegalStateException();
+					}
+					CompactValueMap.this.remove(lastKey);
+					lastKey = null;
+				}
+			};
+		}
+	}
+
+	/**
+	 * 键值对，形状未改变时直接读写值数组，否则从所属Map中读写，因此在Map退化后仍然有效
+	 */
+	private class CompactEntry implements Entry<String, Object> {
+		private final JSONShape shape;
+		private final int index;
+
+		CompactEntry(JSONShape shape, int index) {
+			this.shape = shape;
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return this.shape.key(this.index);
+		}
+
+		@Override
+		public Object getValue() {
+			return this.shape == CompactValueMap.this.shape ? values[this.index] : get(getKey());
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			if (this.shape == CompactValueMap.this.shape) {
+				final Object old = values[this.index];
+				values[this.index] = value;
+				return old;
+			}
+			return put(getKey(), value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (false == (o instanceof Entry)) {
+				return false;
+			}
+			final Entry<?, ?> e = (Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
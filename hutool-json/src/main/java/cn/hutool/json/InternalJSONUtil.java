@@ -213,10 +213,12 @@ public final class InternalJSONUtil {
 		} else {
 			if (null != keyComparator) {
 				rawHashMap = new TreeMap<>(keyComparator);
+			} else if (config.isCompact()) {
+				rawHashMap = new CompactValueMap();
 			} else {
 				rawHashMap = new LinkedHashMap<>(capacity);
 			}
 		}
-		return rawHashMap;
+		return config.isLazy() ? new LazyValueMap(rawHashMap, config) : rawHashMap;
 	}
 }
@@ -38,7 +38,13 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * persion.name
 	 * persons[3]
 	 * person.friends[5].name
+	 * k1,k2
+	 * a.e['f','g']
 	 * </pre>
+	 * <p>
+	 * 结果与{@link BeanPath#get(Object)}一致：多个键名返回只包含这些键的子{@link JSONObject}，
+	 * 对数组使用属性名时对每个元素取值，不存在的值以{@code null}保留在原位置。
+	 * 需要通配符、切片、过滤器等JSONPath语义时，使用{@link JSONPath#of(String)}。
 	 *
 	 * @param expression 表达式
 	 * @return 对象
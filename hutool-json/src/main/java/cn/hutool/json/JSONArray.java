@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.Validator;
@@ -89,8 +88,8 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 	 * @since 4.1.19
 	 */
 	public JSONArray(int initialCapacity, JSONConfig config) {
-		this.rawList = new ArrayList<>(initialCapacity);
 		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+		this.rawList = this.config.isLazy() ? new LazyValueList(initialCapacity, this.config) : new ArrayList<>(initialCapacity);
 	}
 
 	/**
@@ -210,7 +209,7 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 
 	@Override
 	public Object getByPath(String expression) {
-		return BeanPath.create(expression).get(this);
+		return JSONPath.of(expression).getByBeanPath(this);
 	}
 
 	@Override
@@ -220,7 +219,7 @@ public class JSONArray implements JSON, JSONGetter<Integer>, List<Object>, Rando
 
 	@Override
 	public void putByPath(String expression, Object value) {
-		BeanPath.create(expression).set(this, value);
+		JSONPath.of(expression).setByBeanPath(this, value);
 	}
 
 	/**
@@ -0,0 +1,331 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanDesc;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * JSON直接绑定Bean<br>
+ * 通过{@link JSONReader}逐个读取标记，直接将值注入Bean属性，不构建中间的{@link JSONObject}，每个值只转换一次。<br>
+ * 每个Bean类根据{@link BeanDesc}生成一次绑定计划并缓存，计划中包含预先计算哈希的属性名表，按键名查找属性时无需创建Map。<br>
+ * 属性匹配规则与{@link JSONObject#toBean(Class)}一致：支持忽略大小写、transient、下划线转驼峰，未知的键直接跳过。<br>
+ * 对于实现了{@link JSONBeanParser}、注册了{@link cn.hutool.json.serialize.JSONDeserializer}或非标准Bean的类型，
+ * 仍然构建{@link JSONObject}或{@link JSONArray}后转换。
+ *
+ * <pre>
+ * User user = JSONBeanBinder.toBean("{\"id\":1,\"name\":\"looly\"}", User.class, null);
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONBeanBinder {
+
+	/**
+	 * 绑定计划缓存，与{@link BeanDesc}一样以类为键弱引用缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, BindingPlan> PLAN_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * JSON字符串直接转为Bean
+	 *
+	 * @param <T>       Bean类型
+	 * @param json      JSON字符串，必须为JSON对象
+	 * @param beanClass Bean类，必须满足{@link #isBindable(Type)}
+	 * @param config    JSON配置，{@code null}使用默认配置
+	 * @return Bean对象
+	 * @throws JSONException JSON语法错误或转换失败
+	 */
+	public static <T> T toBean(CharSequence json, Class<T> beanClass, JSONConfig config) throws JSONException {
+		final JSONReader reader = new JSONReader(json, config);
+		return reader.nextBean(beanClass);
+	}
+
+	/**
+	 * 判断类型是否可以直接绑定，即普通的Bean类，有无参构造且未自定义反序列化方式
+	 *
+	 * @param type 类型
+	 * @return 是否可以直接绑定
+	 */
+	public static boolean isBindable(Type type) {
+		if (false == type instanceof Class) {
+			return false;
+		}
+		final Class<?> clazz = (Class<?>) type;
+		return getPlan(clazz).bindable && null == GlobalSerializeMapping.getDeserializer(clazz);
+	}
+
+	/**
+	 * 清空绑定计划缓存
+	 */
+	public static void clearCache() {
+		PLAN_CACHE.clear();
+	}
+
+	private final JSONReader reader;
+	private final JSONConfig config;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link JSONReader}
+	 * @param config JSON配置
+	 */
+	JSONBeanBinder(JSONReader reader, JSONConfig config) {
+		this.reader = reader;
+		this.config = config;
+	}
+
+	/**
+	 * 读取下一个JSON对象并绑定为Bean，下一个值为null时返回{@code null}
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类，必须满足{@link #isBindable(Type)}
+	 * @return Bean对象
+	 * @throws JSONException JSON语法错误或转换失败
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T bind(Class<T> beanClass) throws JSONException {
+		if (JSONToken.NULL == reader.peek()) {
+			reader.nextNull();
+			return null;
+		}
+
+		final BindingPlan plan = getPlan(beanClass);
+		final T bean = (T) ReflectUtil.newInstance(beanClass);
+		final boolean ignoreCase = config.isIgnoreCase();
+		final boolean transientSupport = config.isTransientSupport();
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			final Slot slot = plan.find(reader.nextName(), ignoreCase);
+			if (null == slot || false == slot.isWritable(transientSupport)) {
+				reader.skipValue();
+				continue;
+			}
+			setValue(bean, slot, readValue(slot.type));
+		}
+		reader.endObject();
+		return bean;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 读取下一个值并按照目标类型读取，Bean和Bean集合直接绑定，其它对象和数组构建JSON后转换
+	 *
+	 * @param type 目标类型
+	 * @return 值，标量值未转换
+	 */
+	private Object readValue(Type type) {
+		switch (reader.peek()) {
+			case BEGIN_OBJECT:
+				if (isBindable(type)) {
+					return bind((Class<?>) type);
+				}
+				return reader.nextJSONObject().toBean(type);
+			case BEGIN_ARRAY:
+				final Class<?> rawClass = TypeUtil.getClass(type);
+				if (null != rawClass && Collection.class.isAssignableFrom(rawClass)) {
+					final Type elementType = TypeUtil.getTypeArgument(type);
+					if (isBindable(elementType)) {
+						return readCollection(rawClass, (Class<?>) elementType);
+					}
+				}
+				return reader.nextJSONArray().toBean(type);
+			case NULL:
+				reader.nextNull();
+				return null;
+			default:
+				return reader.nextValue();
+		}
+	}
+
+	/**
+	 * 读取数组并逐个绑定为Bean
+	 *
+	 * @param collectionClass 集合类
+	 * @param elementClass    元素Bean类
+	 * @return 集合
+	 */
+	private Collection<Object> readCollection(Class<?> collectionClass, Class<?> elementClass) {
+		final Collection<Object> collection = CollUtil.create(collectionClass, null);
+		reader.beginArray();
+		while (reader.hasNext()) {
+			collection.add(readValue(elementClass));
+		}
+		reader.endArray();
+		return collection;
+	}
+
+	/**
+	 * 转换并注入属性值，规则与{@link cn.hutool.core.bean.copier.MapToBeanCopier}一致
+	 *
+	 * @param bean  Bean对象
+	 * @param slot  属性
+	 * @param value 值
+	 */
+	private void setValue(Object bean, Slot slot, Object value) {
+		final boolean ignoreError = config.isIgnoreError();
+		if (null != value && false == slot.propClass.isInstance(value)) {
+			value = Convert.convertWithCheck(slot.type, value, null, ignoreError);
+		}
+		slot.prop.setValue(bean, value, config.isIgnoreNullValue(), ignoreError, true);
+	}
+
+	/**
+	 * 获取类的绑定计划，不存在则创建并缓存
+	 *
+	 * @param clazz 类
+	 * @return 绑定计划
+	 */
+	private static BindingPlan getPlan(Class<?> clazz) {
+		return PLAN_CACHE.computeIfAbsent(clazz, BindingPlan::new);
+	}
+
+	/**
+	 * 单个类的绑定计划，包括是否可绑定以及按属性名和小写属性名开放寻址的两张属性表
+	 */
+	private static class BindingPlan {
+		final boolean bindable;
+		/**
+		 * 按属性名索引的属性表，长度为2的幂
+		 */
+		final Slot[] slots;
+		/**
+		 * 按小写属性名索引的属性表，用于忽略大小写查找
+		 */
+		final Slot[] lowerSlots;
+
+		BindingPlan(Class<?> clazz) {
+			this.bindable = isBeanClass(clazz);
+			if (false == this.bindable) {
+				this.slots = new Slot[0];
+				this.lowerSlots = this.slots;
+				return;
+			}
+
+			final Collection<PropDesc> props = BeanUtil.getBeanDesc(clazz).getProps();
+			final int capacity = Integer.highestOneBit(Math.max(props.size(), 1) * 2) << 1;
+			this.slots = new Slot[capacity];
+			this.lowerSlots = new Slot[capacity];
+			for (PropDesc prop : props) {
+				final String name = prop.getFieldName();
+				// 未指定实际类型的泛型变量按照Object处理
+				final Type type = ObjectUtil.defaultIfNull(TypeUtil.getActualType(clazz, prop.getFieldType()), Object.class);
+				put(this.slots, new Slot(name, name.hashCode(), prop, type));
+				put(this.lowerSlots, new Slot(name, lowerHash(name), prop, type));
+			}
+		}
+
+		/**
+		 * 查找属性，找不到时尝试下划线转驼峰后查找
+		 *
+		 * @param name       键名
+		 * @param ignoreCase 是否忽略大小写
+		 * @return 属性，不存在返回{@code null}
+		 */
+		Slot find(String name, boolean ignoreCase) {
+			Slot slot = ignoreCase ? get(lowerSlots, name, lowerHash(name), true) : get(slots, name, name.hashCode(), false);
+			if (null == slot && name.indexOf(StrUtil.C_UNDERLINE) >= 0) {
+				final String camelCaseName = StrUtil.toCamelCase(name);
+				slot = ignoreCase ? get(lowerSlots, camelCaseName, lowerHash(camelCaseName), true)
+						: get(slots, camelCaseName, camelCaseName.hashCode(), false);
+			}
+			return slot;
+		}
+
+		/**
+		 * 判断是否为可直接绑定的普通Bean类
+		 *
+		 * @param clazz 类
+		 * @return 是否可绑定
+		 */
+		private static boolean isBeanClass(Class<?> clazz) {
+			if (ClassUtil.isJdkClass(clazz)
+					|| JSON.class.isAssignableFrom(clazz)
+					|| JSONBeanParser.class.isAssignableFrom(clazz)
+					|| Map.class.isAssignableFrom(clazz)
+					|| Collection.class.isAssignableFrom(clazz)
+					|| Map.Entry.class.isAssignableFrom(clazz)) {
+				return false;
+			}
+			return BeanUtil.hasSetter(clazz) && null != ReflectUtil.getConstructor(clazz);
+		}
+
+		private static void put(Slot[] table, Slot slot) {
+			final int mask = table.length - 1;
+			int i = slot.hash & mask;
+			while (null != table[i]) {
+				i = (i + 1) & mask;
+			}
+			table[i] = slot;
+		}
+
+		private static Slot get(Slot[] table, String name, int hash, boolean ignoreCase) {
+			final int mask = table.length - 1;
+			Slot slot;
+			for (int i = hash & mask; null != (slot = table[i]); i = (i + 1) & mask) {
+				if (slot.hash == hash && (ignoreCase ? slot.name.equalsIgnoreCase(name) : slot.name.equals(name))) {
+					return slot;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * 计算小写形式的哈希值，与{@code name.toLowerCase().hashCode()}一致但不创建新字符串
+		 *
+		 * @param name 名称
+		 * @return 哈希值
+		 */
+		private static int lowerHash(String name) {
+			int hash = 0;
+			for (int i = 0; i < name.length(); i++) {
+				hash = 31 * hash + Character.toLowerCase(name.charAt(i));
+			}
+			return hash;
+		}
+	}
+
+	/**
+	 * 属性表中的一项，属性名哈希和实际类型在创建计划时计算
+	 */
+	private static class Slot {
+		final String name;
+		final int hash;
+		final PropDesc prop;
+		final Type type;
+		final Class<?> propClass;
+		final boolean writable;
+		final boolean writableWithTransient;
+
+		Slot(String name, int hash, PropDesc prop, Type type) {
+			this.name = name;
+			this.hash = hash;
+			this.prop = prop;
+			this.type = type;
+			this.propClass = prop.getFieldClass();
+			this.writable = prop.isWritable(false);
+			this.writableWithTransient = prop.isWritable(true);
+		}
+
+		boolean isWritable(boolean transientSupport) {
+			return transientSupport ? writableWithTransient : writable;
+		}
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+}
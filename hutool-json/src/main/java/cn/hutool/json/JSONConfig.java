@@ -55,6 +55,18 @@ public class JSONConfig implements Serializable {
 	 */
 	private boolean writeLongAsString;
 
+	/**
+	 * 是否延迟解析值，仅对从字符串或字符数组解析的JSON有效
+	 * @since 5.8.29
+	 */
+	private boolean lazy;
+
+	/**
+	 * 是否紧凑存储解析结果，键去重，键集合相同的对象共享键数组
+	 * @since 5.8.29
+	 */
+	private boolean compact;
+
 	/**
 	 * 创建默认的配置项
 	 *
@@ -287,4 +299,62 @@ public class JSONConfig implements Serializable {
 		this.writeLongAsString = writeLongAsString;
 		return this;
 	}
+
+	/**
+	 * 是否延迟解析值
+	 * @return 是否延迟解析值
+	 * @since 5.8.29
+	 */
+	public boolean isLazy() {
+		return lazy;
+	}
+
+	/**
+	 * 设置是否延迟解析值<br>
+	 * 开启后，从字符串或字符数组解析时只做一次结构扫描，记录字符串、小数、对象和数组等值在源中的位置，
+	 * 在通过{@code get}、{@code getStr}、{@code getJSONObject}、{@code getByPath}等方法首次访问时才解码，解码结果会被缓存。<br>
+	 * 适用于只读取大JSON中少数字段的场景，注意：
+	 * <ul>
+	 *     <li>未被访问的值中的语法错误，在访问时才会抛出</li>
+	 *     <li>未解码的值持有原始字符串的引用，从字符数组、StringBuilder等可变字符序列解析时会先复制为字符串</li>
+	 *     <li>读取时会缓存解码结果，因此多线程并发读取需要外部同步</li>
+	 *     <li>从{@link java.io.Reader}或{@link java.io.InputStream}解析，或使用过滤器解析时，此选项无效</li>
+	 * </ul>
+	 *
+	 * @param lazy 是否延迟解析值
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public JSONConfig setLazy(boolean lazy) {
+		this.lazy = lazy;
+		return this;
+	}
+
+	/**
+	 * 是否紧凑存储解析结果
+	 * @return 是否紧凑存储解析结果
+	 * @since 5.8.29
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * 设置是否紧凑存储解析结果<br>
+	 * 开启后，一次解析中相同的键只保留一个字符串实例，键序列相同的对象共享同一个键数组，各自只保存值数组，
+	 * 适用于解析大量结构相同的对象（如表格类数据的数组），可显著降低内存占用。注意：
+	 * <ul>
+	 *     <li>解析后加入新键或删除键，对应对象退化为普通Map存储，修改已有键的值不受影响</li>
+	 *     <li>忽略大小写或指定了键排序规则时，只做键去重，不做紧凑存储</li>
+	 *     <li>键各不相同的对象（如以ID为键）超出形状数量上限后，同样退化为普通Map存储</li>
+	 * </ul>
+	 *
+	 * @param compact 是否紧凑存储解析结果
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public JSONConfig setCompact(boolean compact) {
+		this.compact = compact;
+		return this;
+	}
 }
@@ -0,0 +1,82 @@
+package cn.hutool.json;
+
+/**
+ * 延迟解析的值，记录值在源字符序列中的起止位置，首次访问时才解码<br>
+ * 用于{@link JSONConfig#isLazy()}模式，由{@link JSONTokener}在结构扫描时创建，存放在{@link LazyValueMap}或{@link LazyValueList}中，不对外暴露。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class JSONLazyValue {
+
+	private final CharSequence source;
+	private final int start;
+	private final int end;
+	/**
+	 * 原解析的键去重器和形状树，原解析结束后冻结，用于{@link JSONConfig#isCompact()}模式
+	 */
+	private final JSONShapes shapes;
+
+	/**
+	 * 构造
+	 *
+	 * @param source 源字符序列
+	 * @param start  值的起始位置（包含）
+	 * @param end    值的结束位置（不包含）
+	 * @param shapes 原解析的键去重器和形状树，可以为{@code null}
+	 */
+	JSONLazyValue(CharSequence source, int start, int end, JSONShapes shapes) {
+		this.source = source;
+		this.start = start;
+		this.end = end;
+		this.shapes = shapes;
+	}
+
+	/**
+	 * 解码值，对象和数组按照给定配置解析（嵌套的对象和数组同样延迟解析）
+	 *
+	 * @param config JSON配置
+	 * @return 解码后的值，可能为String、Number、{@link JSONObject}或{@link JSONArray}
+	 * @throws JSONException 值中存在语法错误
+	 */
+	Object decode(JSONConfig config) throws JSONException {
+		// 冻结的形状树被所有延迟值共享，解码时使用只读查找它的新形状树，不修改共享的数据
+		return new JSONTokener(this.source, this.start, this.end, config)
+				.setShapes(null == this.shapes ? null : this.shapes.child()).nextValue();
+	}
+
+	/**
+	 * 解码对象中的值，与{@link JSONObject#set(String, Object)}一致，检查数字有效性并包装
+	 *
+	 * @param value  值，非{@link JSONLazyValue}直接返回
+	 * @param config JSON配置
+	 * @return 解码后的值
+	 * @throws JSONException 值中存在语法错误或为无效数字
+	 */
+	static Object resolveMember(Object value, JSONConfig config) throws JSONException {
+		if (value instanceof JSONLazyValue) {
+			return JSONUtil.wrap(InternalJSONUtil.testValidity(((JSONLazyValue) value).decode(config)), config);
+		}
+		return value;
+	}
+
+	/**
+	 * 解码数组中的值，与{@link JSONArray}解析时一致，不做包装
+	 *
+	 * @param value  值，非{@link JSONLazyValue}直接返回
+	 * @param config JSON配置
+	 * @return 解码后的值
+	 * @throws JSONException 值中存在语法错误
+	 */
+	static Object resolveElement(Object value, JSONConfig config) throws JSONException {
+		if (value instanceof JSONLazyValue) {
+			return ((JSONLazyValue) value).decode(config);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return this.source.subSequence(this.start, this.end).toString();
+	}
+}
@@ -0,0 +1,404 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.BomReader;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines（NDJSON）读取器，每行一个JSON，按需逐个读取为{@link JSONObject}或Bean<br>
+ * 顺序读取时整个文件共用一个{@link JSONReader}和{@link JSONConfig}，不需要先按行拆分字符串，内存占用与文件大小无关；
+ * 读取为Bean时通过{@link JSONBeanBinder}直接绑定，不构建中间的{@link JSONObject}。<br>
+ * 也可以通过{@link #parallelIterator(Class, int, ForkJoinPool)}按批读取行，并在{@link ForkJoinPool}中并行解析，结果保持原有顺序，
+ * 并行解析时每行单独解析，一行中的多个值都会被读取，但一个值不能跨越多行。<br>
+ * 读取器只能遍历一次，遍历结束后需要调用{@link #close()}关闭。
+ *
+ * <pre>
+ * try (JSONLinesReader reader = JSONLinesReader.of(file)) {
+ *     reader.stream(Event.class).filter(...).forEach(...);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONLinesReader implements Iterable<JSONObject>, Closeable {
+
+	/**
+	 * 并行解析时默认每批的行数
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1024;
+
+	/**
+	 * 创建JSONLinesReader，使用UTF-8编码
+	 *
+	 * @param file JSON Lines文件
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException 文件不存在等IO异常
+	 */
+	public static JSONLinesReader of(File file) throws IORuntimeException {
+		return of(file, CharsetUtil.CHARSET_UTF_8);
+	}
+
+	/**
+	 * 创建JSONLinesReader
+	 *
+	 * @param file    JSON Lines文件
+	 * @param charset 编码
+	 * @return JSONLinesReader
+	 * @throws IORuntimeException 文件不存在等IO异常
+	 */
+	public static JSONLinesReader of(File file, Charset charset) throws IORuntimeException {
+		return new JSONLinesReader(FileUtil.getReader(file, charset), null);
+	}
+
+	/**
+	 * 创建JSONLinesReader，使用UTF-8编码，开头的BOM会被跳过
+	 *
+	 * @param in {@link InputStream}
+	 * @return JSONLinesReader
+	 */
+	public static JSONLinesReader of(InputStream in) {
+		return new JSONLinesReader(in, null);
+	}
+
+	/**
+	 * 创建JSONLinesReader
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONLinesReader
+	 */
+	public static JSONLinesReader of(Reader reader) {
+		return new JSONLinesReader(reader, null);
+	}
+
+	/**
+	 * 读取的流，从{@link Reader}读取时为{@code null}
+	 */
+	private final InputStream in;
+	/**
+	 * 按行读取使用的Reader，从流读取时在并行解析时创建
+	 */
+	private BufferedReader reader;
+	private final JSONConfig config;
+	/**
+	 * 顺序读取使用的JSONReader，懒加载
+	 */
+	private JSONReader jsonReader;
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，所有行共用，{@code null}使用默认配置
+	 */
+	public JSONLinesReader(Reader reader, JSONConfig config) {
+		Assert.notNull(reader, "Reader must be not null!");
+		this.in = null;
+		this.reader = IoUtil.getReader(reader);
+		this.config = null == config ? JSONConfig.create() : config;
+	}
+
+	/**
+	 * 构造，使用UTF-8编码，顺序读取时按照UTF-8字节直接解析，开头的BOM会被跳过
+	 *
+	 * @param in     {@link InputStream}
+	 * @param config JSON配置，所有行共用，{@code null}使用默认配置
+	 * @since 5.8.29
+	 */
+	public JSONLinesReader(InputStream in, JSONConfig config) {
+		Assert.notNull(in, "InputStream must be not null!");
+		this.in = in;
+		this.config = null == config ? JSONConfig.create() : config;
+	}
+
+	/**
+	 * 顺序读取每行为{@link JSONObject}
+	 *
+	 * @return {@link JSONObject}迭代器
+	 */
+	@Override
+	public Iterator<JSONObject> iterator() {
+		return iterator(JSONObject.class);
+	}
+
+	/**
+	 * 顺序读取每行为Bean
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类，为{@link JSONObject}时读取为{@link JSONObject}
+	 * @return Bean迭代器，为{@code null}的行会被跳过
+	 */
+	public <T> Iterator<T> iterator(Class<T> beanClass) {
+		final JSONReader jsonReader = getJSONReader();
+		return new Iterator<T>() {
+			private T next;
+
+			@Override
+			public boolean hasNext() {
+				while (null == next && jsonReader.hasNext()) {
+					next = readValue(jsonReader, beanClass);
+				}
+				return null != next;
+			}
+
+			@Override
+			public T next() {
+				if (false == hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final T result = next;
+				next = null;
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * 顺序读取每行为{@link JSONObject}的流，流关闭时关闭读取器
+	 *
+	 * @return {@link JSONObject}流
+	 */
+	public Stream<JSONObject> stream() {
+		return stream(JSONObject.class);
+	}
+
+	/**
+	 * 顺序读取每行为Bean的流，流关闭时关闭读取器
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类
+	 * @return Bean流
+	 */
+	public <T> Stream<T> stream(Class<T> beanClass) {
+		return toStream(iterator(beanClass));
+	}
+
+	/**
+	 * 按批读取行，并在{@link ForkJoinPool}中并行解析为Bean，结果保持原有顺序<br>
+	 * 同时解析的批数为并行度的2倍，因此内存占用与文件大小无关。<br>
+	 * 每行单独解析，一行中以空白分隔的多个值依次读取，跨越多行的值会被视为语法错误，异常信息中包含行号。
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类，为{@link JSONObject}时读取为{@link JSONObject}
+	 * @param batchSize 每批的行数
+	 * @param pool      执行解析的{@link ForkJoinPool}，{@code null}表示{@link ForkJoinPool#commonPool()}
+	 * @return Bean迭代器，空行和为{@code null}的行会被跳过
+	 */
+	public <T> Iterator<T> parallelIterator(Class<T> beanClass, int batchSize, ForkJoinPool pool) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		Assert.isNull(this.jsonReader, "Reader is already used by sequential iterator!");
+		if (null == this.reader) {
+			this.reader = IoUtil.getReader(new BomReader(this.in));
+		}
+		return new ParallelIter<>(beanClass, batchSize, null == pool ? ForkJoinPool.commonPool() : pool);
+	}
+
+	/**
+	 * 按批读取行，并在{@link ForkJoinPool#commonPool()}中并行解析为Bean的流，结果保持原有顺序，流关闭时关闭读取器<br>
+	 * 每行单独解析，跨越多行的值会被视为语法错误，见{@link #parallelIterator(Class, int, ForkJoinPool)}
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类
+	 * @return Bean流
+	 */
+	public <T> Stream<T> parallelStream(Class<T> beanClass) {
+		return toStream(parallelIterator(beanClass, DEFAULT_BATCH_SIZE, null));
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.reader);
+		IoUtil.close(this.in);
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 获取顺序读取使用的JSONReader
+	 *
+	 * @return JSONReader
+	 */
+	private JSONReader getJSONReader() {
+		if (null == this.jsonReader) {
+			this.jsonReader = null == this.in ? new JSONReader(this.reader, this.config) : new JSONReader(this.in, this.config);
+		}
+		return this.jsonReader;
+	}
+
+	/**
+	 * 迭代器转为流，流关闭时关闭读取器
+	 *
+	 * @param <T>  元素类型
+	 * @param iter 迭代器
+	 * @return 流
+	 */
+	private <T> Stream<T> toStream(Iterator<T> iter) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iter,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+
+	/**
+	 * 读取下一个值
+	 *
+	 * @param <T>        Bean类型
+	 * @param jsonReader {@link JSONReader}
+	 * @param beanClass  Bean类
+	 * @return 值
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T readValue(JSONReader jsonReader, Class<T> beanClass) {
+		if (JSONObject.class == beanClass) {
+			if (JSONToken.NULL == jsonReader.peek()) {
+				jsonReader.nextNull();
+				return null;
+			}
+			return (T) jsonReader.nextJSONObject();
+		}
+		return jsonReader.nextBean(beanClass);
+	}
+
+	/**
+	 * 并行解析迭代器，预读多个批次提交到{@link ForkJoinPool}，按提交顺序取出结果
+	 *
+	 * @param <T> Bean类型
+	 */
+	private class ParallelIter<T> implements Iterator<T> {
+		private final Class<T> beanClass;
+		private final int batchSize;
+		private final ForkJoinPool pool;
+		private final int maxPending;
+		private final Deque<ForkJoinTask<List<T>>> pending = new ArrayDeque<>();
+
+		private Iterator<T> current = Collections.emptyIterator();
+		private boolean eof;
+		/**
+		 * 已读取的行数
+		 */
+		private long lineCount;
+
+		ParallelIter(Class<T> beanClass, int batchSize, ForkJoinPool pool) {
+			this.beanClass = beanClass;
+			this.batchSize = batchSize;
+			this.pool = pool;
+			this.maxPending = Math.max(2, pool.getParallelism() * 2);
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (false == current.hasNext()) {
+				fill();
+				final ForkJoinTask<List<T>> task = pending.pollFirst();
+				if (null == task) {
+					return false;
+				}
+				current = task.join().iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (false == hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+
+		/**
+		 * 读取并提交批次，直到达到最大预读批数或文件结束
+		 */
+		private void fill() {
+			while (false == eof && pending.size() < maxPending) {
+				final long firstLine = lineCount + 1;
+				final List<String> lines = readBatch();
+				if (lines.isEmpty()) {
+					break;
+				}
+				pending.addLast(pool.submit(() -> parse(lines, firstLine)));
+			}
+		}
+
+		/**
+		 * 读取一批行，空行保留以便计算行号
+		 *
+		 * @return 行列表，文件结束时为空
+		 */
+		private List<String> readBatch() {
+			final List<String> lines = new ArrayList<>(batchSize);
+			String line;
+			try {
+				while (lines.size() < batchSize) {
+					line = reader.readLine();
+					if (null == line) {
+						eof = true;
+						break;
+					}
+					lines.add(line);
+					lineCount++;
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			return lines;
+		}
+
+		/**
+		 * 解析一批行，一行中的多个值依次读取
+		 *
+		 * @param lines     行列表
+		 * @param firstLine 第一行的行号，从1开始
+		 * @return 解析结果
+		 * @throws JSONException 语法错误，信息中包含行号
+		 */
+		private List<T> parse(List<String> lines, long firstLine) throws JSONException {
+			final List<T> result = new ArrayList<>(lines.size());
+			String line;
+			JSONReader jsonReader;
+			T value;
+			for (int i = 0; i < lines.size(); i++) {
+				line = lines.get(i);
+				if (StrUtil.isBlank(line)) {
+					continue;
+				}
+				jsonReader = new JSONReader(line, config);
+				try {
+					while (jsonReader.hasNext()) {
+						value = readValue(jsonReader, beanClass);
+						if (null != value) {
+							result.add(value);
+						}
+					}
+				} catch (JSONException e) {
+					throw new JSONException(e, "Line {}: {}", firstLine + i, e.getMessage());
+				}
+			}
+			return result;
+		}
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+}
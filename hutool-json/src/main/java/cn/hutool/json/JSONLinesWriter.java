@@ -0,0 +1,163 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.json.serialize.JSONBeanWriter;
+
+import java.io.BufferedWriter;
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * JSON Lines（NDJSON）写出器，每个对象写出为一行JSON<br>
+ * 每条记录先写出到复用的缓冲区，再整行写出到目标{@link Writer}，避免每条记录创建新的字符串，
+ * 也避免写出嵌套对象时频繁刷新目标流。普通Bean通过{@link JSONBeanWriter}直接写出，不构建中间的{@link JSONObject}。<br>
+ * 此类非线程安全。
+ *
+ * <pre>
+ * try (JSONLinesWriter writer = JSONLinesWriter.of(file)) {
+ *     for (Event event : events) {
+ *         writer.write(event);
+ *     }
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONLinesWriter implements Closeable, Flushable {
+
+	/**
+	 * 创建JSONLinesWriter，使用UTF-8编码，覆盖已有文件
+	 *
+	 * @param file JSON Lines文件
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file) throws IORuntimeException {
+		return of(file, CharsetUtil.CHARSET_UTF_8, false);
+	}
+
+	/**
+	 * 创建JSONLinesWriter
+	 *
+	 * @param file     JSON Lines文件
+	 * @param charset  编码
+	 * @param isAppend 是否追加到已有文件末尾
+	 * @return JSONLinesWriter
+	 * @throws IORuntimeException IO异常
+	 */
+	public static JSONLinesWriter of(File file, Charset charset, boolean isAppend) throws IORuntimeException {
+		return new JSONLinesWriter(FileUtil.getWriter(file, charset, isAppend), null);
+	}
+
+	/**
+	 * 创建JSONLinesWriter，使用UTF-8编码
+	 *
+	 * @param out {@link OutputStream}
+	 * @return JSONLinesWriter
+	 */
+	public static JSONLinesWriter of(OutputStream out) {
+		return new JSONLinesWriter(IoUtil.getUtf8Writer(out), null);
+	}
+
+	/**
+	 * 创建JSONLinesWriter
+	 *
+	 * @param writer {@link Writer}
+	 * @return JSONLinesWriter
+	 */
+	public static JSONLinesWriter of(Writer writer) {
+		return new JSONLinesWriter(writer, null);
+	}
+
+	private final Writer writer;
+	private final JSONConfig config;
+	/**
+	 * 单条记录的缓冲区，每条记录写出后重置复用
+	 */
+	private final CharArrayWriter buffer = new CharArrayWriter(256);
+
+	/**
+	 * 构造
+	 *
+	 * @param writer {@link Writer}
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONLinesWriter(Writer writer, JSONConfig config) {
+		Assert.notNull(writer, "Writer must be not null!");
+		this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+		this.config = null == config ? JSONConfig.create() : config;
+	}
+
+	/**
+	 * 写出一行JSON，{@code null}写出为null
+	 *
+	 * @param obj Bean、Map、{@link JSON}或JSON字符串等，与{@link JSONUtil#parse(Object, JSONConfig)}支持的类型一致
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter write(Object obj) throws IORuntimeException {
+		buffer.reset();
+		if (JSONBeanWriter.isSupported(obj, this.config)) {
+			JSONBeanWriter.write(obj, buffer, 0, this.config);
+		} else {
+			final JSON json = JSONUtil.parse(obj, this.config);
+			if (null == json) {
+				buffer.append(JSONNull.NULL.toString());
+			} else {
+				json.write(buffer);
+			}
+		}
+		buffer.append(CharUtil.LF);
+
+		try {
+			buffer.writeTo(this.writer);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多行JSON
+	 *
+	 * @param objs 对象列表，每个对象一行
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLinesWriter writeAll(Iterable<?> objs) throws IORuntimeException {
+		for (Object obj : objs) {
+			write(obj);
+		}
+		return this;
+	}
+
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			this.writer.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 刷新并关闭目标{@link Writer}
+	 */
+	@Override
+	public void close() {
+		flush();
+		IoUtil.close(this.writer);
+	}
+}
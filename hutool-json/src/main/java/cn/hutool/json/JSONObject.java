@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.mutable.MutablePair;
@@ -312,7 +311,7 @@ public class JSONObject extends MapWrapper<String, Object> implements JSON, JSON
 
 	@Override
 	public Object getByPath(String expression) {
-		return BeanPath.create(expression).get(this);
+		return JSONPath.of(expression).getByBeanPath(this);
 	}
 
 	@Override
@@ -322,7 +321,7 @@ public class JSONObject extends MapWrapper<String, Object> implements JSON, JSON
 
 	@Override
 	public void putByPath(String expression, Object value) {
-		BeanPath.create(expression).set(this, value);
+		JSONPath.of(expression).setByBeanPath(this, value);
 	}
 
 	/**
@@ -395,6 +394,21 @@ public class JSONObject extends MapWrapper<String, Object> implements JSON, JSON
 		return this;
 	}
 
+	/**
+	 * 加入延迟解析的值，仅用于{@link JSONConfig#isLazy()}模式下的解析
+	 *
+	 * @param key            键
+	 * @param value          延迟解析的值
+	 * @param checkDuplicate 是否检查重复键
+	 * @throws JSONException 键重复
+	 */
+	void setLazy(String key, JSONLazyValue value, boolean checkDuplicate) throws JSONException {
+		if (checkDuplicate && containsKey(key)) {
+			throw new JSONException("Duplicate key \"{}\"", key);
+		}
+		super.put(key, value);
+	}
+
 	/**
 	 * 一次性Put 键值对，如果key已经存在抛出异常，如果键值中有null值，忽略
 	 *
@@ -42,15 +42,64 @@ public class JSONParser {
 	 * @param filter     键值对过滤编辑器，可以通过实现此接口，完成解析前对键值对的过滤和修改操作，{@code null}表示不过滤
 	 */
 	public void parseTo(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter) {
+		try {
+			parseObject(jsonObject, filter);
+		} finally {
+			if (null == filter && jsonObject.getConfig().isLazy()) {
+				this.tokener.freezeShapes();
+			}
+		}
+	}
+
+	/**
+	 * 解析{@link JSONTokener}中的字符到目标的{@link JSONObject}中
+	 *
+	 * @param jsonObject {@link JSONObject}
+	 * @param filter     键值对过滤编辑器，{@code null}表示不过滤
+	 */
+	private void parseObject(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter) {
 		final JSONTokener tokener = this.tokener;
 
 		if (tokener.nextClean() != '{') {
 			throw tokener.syntaxError("A JSONObject text must begin with '{'");
 		}
 
+		if (false == jsonObject.getConfig().isCompact()) {
+			parseMembers(jsonObject, filter, null);
+			return;
+		}
+		// 紧凑模式，解析过程中关联本次解析的形状树，结束后解除
+		final JSONShapes shapes = tokener.getShapes();
+		final CompactValueMap compactMap = CompactValueMap.of(jsonObject);
+		if (null == compactMap) {
+			parseMembers(jsonObject, filter, shapes);
+			return;
+		}
+		compactMap.attach(shapes);
+		try {
+			parseMembers(jsonObject, filter, shapes);
+		} finally {
+			compactMap.detach();
+		}
+	}
+
+	/**
+	 * 解析JSONObject中的键值对，'{'已读取
+	 *
+	 * @param jsonObject {@link JSONObject}
+	 * @param filter     键值对过滤编辑器，{@code null}表示不过滤
+	 * @param shapes     键去重器，{@code null}表示不去重
+	 */
+	private void parseMembers(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter, JSONShapes shapes) {
+		final JSONTokener tokener = this.tokener;
+
+		// 延迟解析模式下不支持过滤器，过滤器需要解析后的值
+		final boolean lazy = null == filter && jsonObject.getConfig().isLazy();
+		final boolean checkDuplicate = jsonObject.getConfig().isCheckDuplicate();
 		char prev;
 		char c;
 		String key;
+		Object value;
 		while (true) {
 			prev = tokener.getPrevious();
 			c = tokener.nextClean();
@@ -67,6 +116,9 @@ public class JSONParser {
 				default:
 					tokener.back();
 					key = tokener.nextStringValue();
+					if (null != shapes) {
+						key = shapes.intern(key);
+					}
 			}
 
 			// The key is followed by ':'.
@@ -76,7 +128,16 @@ public class JSONParser {
 				throw tokener.syntaxError("Expected a ':' after a key");
 			}
 
-			jsonObject.set(key, tokener.nextValue(), filter, jsonObject.getConfig().isCheckDuplicate());
+			if (lazy) {
+				value = tokener.nextLazyValue();
+				if (value instanceof JSONLazyValue) {
+					jsonObject.setLazy(key, (JSONLazyValue) value, checkDuplicate);
+				} else {
+					jsonObject.set(key, value, null, checkDuplicate);
+				}
+			} else {
+				jsonObject.set(key, tokener.nextValue(), filter, checkDuplicate);
+			}
 
 			// Pairs are separated by ','.
 
@@ -105,6 +166,24 @@ public class JSONParser {
 	 * @param filter    键值对过滤编辑器，可以通过实现此接口，完成解析前对值的过滤和修改操作，{@code null} 表示不过滤
 	 */
 	public void parseTo(JSONArray jsonArray, Filter<Mutable<Object>> filter) {
+		final boolean lazy = null == filter && jsonArray.getConfig().isLazy();
+		try {
+			parseArray(jsonArray, filter, lazy);
+		} finally {
+			if (lazy) {
+				this.tokener.freezeShapes();
+			}
+		}
+	}
+
+	/**
+	 * 解析JSON字符串到{@link JSONArray}中
+	 *
+	 * @param jsonArray {@link JSONArray}
+	 * @param filter    键值对过滤编辑器，{@code null}表示不过滤
+	 * @param lazy      是否延迟解析值
+	 */
+	private void parseArray(JSONArray jsonArray, Filter<Mutable<Object>> filter, boolean lazy) {
 		final JSONTokener x = this.tokener;
 
 		if (x.nextClean() != '[') {
@@ -118,7 +197,7 @@ public class JSONParser {
 					jsonArray.addRaw(JSONNull.NULL, filter);
 				} else {
 					x.back();
-					jsonArray.addRaw(x.nextValue(), filter);
+					jsonArray.addRaw(lazy ? x.nextLazyValue() : x.nextValue(), filter);
 				}
 				switch (x.nextClean()) {
 					case ',':
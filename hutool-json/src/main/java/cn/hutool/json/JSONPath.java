@@ -0,0 +1,1228 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.BoundedCache;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的JSON路径表达式，用于在JSON树（{@link JSONObject}、{@link JSONArray}及其它Map、List）中查找或设置值<br>
+ * 表达式只在编译时解析一次，编译结果不可变且线程安全，可以重复使用。{@link #of(String)}会缓存编译结果，缓存数量有上限，
+ * {@link JSON#getByPath(String)}和{@link JSON#putByPath(String, Object)}均使用此缓存，但保持{@link BeanPath}的规则和结果。<br>
+ * 兼容{@link BeanPath}的表达式，并支持通配符、切片和过滤器：
+ *
+ * <pre>
+ * store.book[0].title                              属性和下标，开头的$可选
+ * $['store']['book'][-1]                           引号括起的键名，负数下标表示倒数
+ * $.store.book[*].author                           通配符，匹配对象的所有值或数组的所有元素
+ * $.store.book[0,2]                                多个下标或键名
+ * $.store.book[1:3]、$.store.book[::2]              切片[start:end:step]，不包含end
+ * $.store.book[?(@.price &lt; 10 &amp;&amp; @.category == 'fiction')].title   过滤器，支持==、!=、&lt;、&lt;=、&gt;、&gt;=、&amp;&amp;、||、!和括号
+ * $.store.book[?(@.isbn)]                          过滤器，只有路径表示值存在
+ * </pre>
+ * <p>
+ * 只包含属性和下标的路径为确定路径，{@link #get(Object)}返回单个值；包含通配符、多选、切片或过滤器时，返回所有匹配值组成的{@link JSONArray}，不存在的值不加入结果。
+ * 与{@link BeanPath}一致，对数组使用非数字的属性名时，对每个元素取此属性的值。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONPath implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 编译结果缓存，缓存满后新的路径不再缓存
+	 */
+	private static final BoundedCache<String, JSONPath> CACHE = new BoundedCache<>(1024);
+
+	/**
+	 * 获取编译后的路径，优先从缓存中获取
+	 *
+	 * @param expression 路径表达式
+	 * @return JSONPath
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	public static JSONPath of(String expression) throws IllegalArgumentException {
+		return CACHE.get(expression, JSONPath::new);
+	}
+
+	/**
+	 * 编译路径，不使用缓存
+	 *
+	 * @param expression 路径表达式
+	 * @return JSONPath
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	public static JSONPath compile(String expression) throws IllegalArgumentException {
+		return new JSONPath(expression);
+	}
+
+	/**
+	 * 清空编译结果缓存
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	private final String expression;
+	private final Segment[] segments;
+	/**
+	 * 是否以$开头，以$开头时第一段不匹配对象本身的类名
+	 */
+	private final boolean isStartWith;
+	private final boolean definite;
+	/**
+	 * 是否可以按照{@link BeanPath}的规则直接遍历，即确定路径且属性名中不包含{@link BeanPath}用于多选和切片的,和:
+	 */
+	private final boolean beanPathCompatible;
+	/**
+	 * 不能直接遍历时使用的{@link BeanPath}，延迟创建
+	 */
+	private transient volatile BeanPath beanPath;
+
+	/**
+	 * 构造并编译路径
+	 *
+	 * @param expression 路径表达式
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	public JSONPath(String expression) throws IllegalArgumentException {
+		Assert.notNull(expression, "Expression must be not null!");
+		this.expression = expression;
+
+		final Parser parser = new Parser(expression);
+		this.isStartWith = parser.skipRoot();
+		this.segments = parser.parsePath(false);
+		parser.checkEnd();
+
+		boolean definite = true;
+		boolean beanPathCompatible = true;
+		for (Segment segment : this.segments) {
+			if (false == (segment instanceof Name || segment instanceof Index)) {
+				definite = false;
+				beanPathCompatible = false;
+				break;
+			}
+			if (segment instanceof Name && StrUtil.containsAny(((Name) segment).name, ',', ':')) {
+				beanPathCompatible = false;
+			}
+		}
+		this.definite = definite;
+		this.beanPathCompatible = beanPathCompatible;
+	}
+
+	/**
+	 * 构造过滤器中的相对路径
+	 *
+	 * @param expression 表达式
+	 * @param segments   路径段
+	 */
+	private JSONPath(String expression, Segment[] segments) {
+		this.expression = expression;
+		this.segments = segments;
+		this.isStartWith = true;
+		this.definite = false;
+		this.beanPathCompatible = false;
+	}
+
+	/**
+	 * 是否为确定路径，即只包含属性和下标，不包含通配符、多选、切片和过滤器
+	 *
+	 * @return 是否为确定路径
+	 */
+	public boolean isDefinite() {
+		return this.definite;
+	}
+
+	/**
+	 * 获取路径对应的值
+	 *
+	 * @param json {@link JSON}、Map或List
+	 * @return 确定路径返回对应的值，不存在返回{@code null}；否则返回所有匹配值组成的{@link JSONArray}
+	 */
+	public Object get(Object json) {
+		Object node = json;
+		Segment segment;
+		for (int i = 0; i < this.segments.length; i++) {
+			if (null == node) {
+				return null;
+			}
+			segment = this.segments[i];
+			if (false == segment.isSingle(node)) {
+				final JSONArray result = new JSONArray(getConfig(json));
+				segment.select(this, node, i + 1, this.segments.length, result);
+				return result;
+			}
+			final Object child = segment.get(node);
+			if (null == child && 0 == i && false == this.isStartWith
+					&& segment instanceof Name && BeanUtil.isMatchName(json, ((Name) segment).name, true)) {
+				// 与BeanPath一致，支持表达式的第一段为对象本身的类名
+				continue;
+			}
+			node = child;
+		}
+		return node;
+	}
+
+	/**
+	 * 设置路径对应的值<br>
+	 * 确定路径中不存在的父节点会自动创建，下一段为下标时创建{@link JSONArray}，否则创建{@link JSONObject}；
+	 * 数组中下标超出长度时，与{@link JSONArray#set(int, Object)}规则一致。<br>
+	 * 非确定路径只设置已存在的父节点中所有匹配的值。
+	 *
+	 * @param json  {@link JSON}、Map或List
+	 * @param value 值
+	 */
+	public void set(Object json, Object value) {
+		Assert.isTrue(this.segments.length > 0, "Empty expression!");
+		final int last = this.segments.length - 1;
+		Object node = json;
+		Segment segment;
+		for (int i = 0; i < last; i++) {
+			segment = this.segments[i];
+			if (false == segment.isSingle(node)) {
+				final List<Object> parents = new ArrayList<>();
+				segment.select(this, node, i + 1, last, parents);
+				for (Object parent : parents) {
+					this.segments[last].set(parent, value);
+				}
+				return;
+			}
+			Object child = segment.get(node);
+			if (ObjectUtil.isNull(child)) {
+				final JSON created = this.segments[i + 1].isIndex() ? new JSONArray(getConfig(json)) : new JSONObject(getConfig(json));
+				segment.set(node, created);
+				child = ObjectUtil.defaultIfNull(segment.get(node), created);
+			}
+			node = child;
+		}
+		this.segments[last].set(node, value);
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	/**
+	 * 按照{@link BeanPath}的规则获取值，供{@link JSON#getByPath(String)}使用<br>
+	 * 只包含属性和下标，且途经的节点均为Map或List时直接遍历，其它情况交给{@link BeanPath}，
+	 * 因此多选返回子对象，对数组使用属性名时保留不存在的值。
+	 *
+	 * @param json {@link JSON}、Map或List
+	 * @return 值，与{@link BeanPath#get(Object)}一致
+	 */
+	Object getByBeanPath(Object json) {
+		if (this.beanPathCompatible) {
+			Object node = json;
+			Segment segment;
+			int i = 0;
+			for (; i < this.segments.length; i++) {
+				if (null == node) {
+					return null;
+				}
+				segment = this.segments[i];
+				if (false == (node instanceof Map || node instanceof List) || false == segment.isSingle(node)) {
+					// Bean或对数组投影
+					break;
+				}
+				final Object child = segment.get(node);
+				if (null == child && 0 == i && false == this.isStartWith
+						&& segment instanceof Name && BeanUtil.isMatchName(json, ((Name) segment).name, true)) {
+					continue;
+				}
+				node = child;
+			}
+			if (i == this.segments.length) {
+				return node;
+			}
+		}
+		return getBeanPath().get(json);
+	}
+
+	/**
+	 * 按照{@link BeanPath}的规则设置值，供{@link JSON#putByPath(String, Object)}使用
+	 *
+	 * @param json  {@link JSON}、Map或List
+	 * @param value 值
+	 */
+	void setByBeanPath(Object json, Object value) {
+		if (this.beanPathCompatible && isContainerParents(json)) {
+			set(json, value);
+		} else {
+			getBeanPath().set(json, value);
+		}
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 从指定段开始匹配，匹配到结束段时加入结果
+	 *
+	 * @param node  当前节点
+	 * @param index 开始的段
+	 * @param end   结束的段（不包含）
+	 * @param out   结果
+	 */
+	private void collect(Object node, int index, int end, List<Object> out) {
+		if (null == node) {
+			return;
+		}
+		if (index >= end) {
+			out.add(node);
+			return;
+		}
+		this.segments[index].select(this, node, index + 1, end, out);
+	}
+
+	/**
+	 * 判断路径途经的已有父节点是否均为Map或List，不存在的父节点会被创建为JSON，因此也可以直接设置；
+	 * 途经Bean或数字、字符串等值时交给{@link BeanPath}，写入不存在的字段时抛出异常而非忽略
+	 *
+	 * @param json 根节点
+	 * @return 是否可以直接设置
+	 */
+	private boolean isContainerParents(Object json) {
+		Object node = json;
+		for (int i = 0; i < this.segments.length - 1; i++) {
+			if (false == (node instanceof Map || node instanceof List) || false == this.segments[i].isSingle(node)) {
+				return false;
+			}
+			node = this.segments[i].get(node);
+			if (ObjectUtil.isNull(node)) {
+				return true;
+			}
+		}
+		return node instanceof Map || node instanceof List;
+	}
+
+	/**
+	 * 获取对应的{@link BeanPath}，延迟创建，{@link BeanPath}创建后只读，可以共享
+	 *
+	 * @return BeanPath
+	 */
+	private BeanPath getBeanPath() {
+		BeanPath beanPath = this.beanPath;
+		if (null == beanPath) {
+			beanPath = BeanPath.create(this.expression);
+			this.beanPath = beanPath;
+		}
+		return beanPath;
+	}
+
+	/**
+	 * 获取结果使用的配置
+	 *
+	 * @param json 根节点
+	 * @return JSON配置
+	 */
+	private static JSONConfig getConfig(Object json) {
+		return json instanceof JSON ? ((JSON) json).getConfig() : JSONConfig.create();
+	}
+
+	/**
+	 * 获取列表中指定位置的元素，负数表示倒数
+	 *
+	 * @param list  列表
+	 * @param index 位置
+	 * @return 元素，越界返回{@code null}
+	 */
+	private static Object getAt(List<?> list, int index) {
+		if (index < 0) {
+			index += list.size();
+		}
+		return (index >= 0 && index < list.size()) ? list.get(index) : null;
+	}
+
+	/**
+	 * 设置列表中指定位置的元素，负数表示倒数，超出长度时填充
+	 *
+	 * @param list  列表
+	 * @param index 位置
+	 * @param value 值
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static void setAt(List list, int index, Object value) {
+		if (index < 0) {
+			index += list.size();
+			if (index < 0) {
+				return;
+			}
+		}
+		if (list instanceof JSONArray) {
+			((JSONArray) list).set(index, value);
+		} else {
+			ListUtil.setOrPadding(list, index, value);
+		}
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+
+	// region ----- Segment
+
+	/**
+	 * 路径段
+	 */
+	private abstract static class Segment implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 对于给定节点是否只匹配一个值
+		 *
+		 * @param node 节点
+		 * @return 是否只匹配一个值
+		 */
+		boolean isSingle(Object node) {
+			return false;
+		}
+
+		/**
+		 * 是否为下标，用于确定创建的父节点类型
+		 *
+		 * @return 是否为下标
+		 */
+		boolean isIndex() {
+			return false;
+		}
+
+		/**
+		 * 获取单个值，仅{@link #isSingle(Object)}为{@code true}时调用
+		 *
+		 * @param node 节点
+		 * @return 值
+		 */
+		Object get(Object node) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * 选取所有匹配的值，并从下一段继续匹配
+		 *
+		 * @param path JSONPath
+		 * @param node 节点
+		 * @param next 下一段
+		 * @param end  结束段
+		 * @param out  结果
+		 */
+		abstract void select(JSONPath path, Object node, int next, int end, List<Object> out);
+
+		/**
+		 * 设置所有匹配的值
+		 *
+		 * @param node  节点
+		 * @param value 值
+		 */
+		abstract void set(Object node, Object value);
+	}
+
+	/**
+	 * 属性名，对数组使用数字时表示下标，非数字时对每个元素取值
+	 */
+	private static class Name extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		private final String name;
+		private final Integer index;
+
+		Name(String name) {
+			this.name = name;
+			this.index = NumberUtil.isInteger(name) ? Integer.valueOf(name) : null;
+		}
+
+		@Override
+		boolean isSingle(Object node) {
+			return null != this.index || false == (node instanceof List);
+		}
+
+		@Override
+		boolean isIndex() {
+			return null != this.index;
+		}
+
+		@Override
+		Object get(Object node) {
+			if (node instanceof Map) {
+				return ((Map<?, ?>) node).get(this.name);
+			} else if (node instanceof List && null != this.index) {
+				return getAt((List<?>) node, this.index);
+			}
+			return null;
+		}
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			if (node instanceof List && null == this.index) {
+				for (Object element : (List<?>) node) {
+					select(path, element, next, end, out);
+				}
+			} else {
+				path.collect(get(node), next, end, out);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object node, Object value) {
+			if (node instanceof Map) {
+				((Map<String, Object>) node).put(this.name, value);
+			} else if (node instanceof List) {
+				if (null != this.index) {
+					setAt((List<?>) node, this.index, value);
+				} else {
+					for (Object element : (List<?>) node) {
+						set(element, value);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 下标，负数表示倒数，对对象使用时作为键名
+	 */
+	private static class Index extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		private final int index;
+
+		Index(int index) {
+			this.index = index;
+		}
+
+		@Override
+		boolean isSingle(Object node) {
+			return true;
+		}
+
+		@Override
+		boolean isIndex() {
+			return true;
+		}
+
+		@Override
+		Object get(Object node) {
+			if (node instanceof List) {
+				return getAt((List<?>) node, this.index);
+			} else if (node instanceof Map) {
+				return ((Map<?, ?>) node).get(String.valueOf(this.index));
+			}
+			return null;
+		}
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			path.collect(get(node), next, end, out);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object node, Object value) {
+			if (node instanceof List) {
+				setAt((List<?>) node, this.index, value);
+			} else if (node instanceof Map) {
+				((Map<String, Object>) node).put(String.valueOf(this.index), value);
+			}
+		}
+	}
+
+	/**
+	 * 通配符，匹配对象的所有值或数组的所有元素
+	 */
+	private static class Wildcard extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			if (node instanceof Map) {
+				for (Object value : ((Map<?, ?>) node).values()) {
+					path.collect(value, next, end, out);
+				}
+			} else if (node instanceof List) {
+				for (Object element : (List<?>) node) {
+					path.collect(element, next, end, out);
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object node, Object value) {
+			if (node instanceof Map) {
+				final Map<String, Object> map = (Map<String, Object>) node;
+				for (String key : new ArrayList<>(map.keySet())) {
+					map.put(key, value);
+				}
+			} else if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				for (int i = 0; i < list.size(); i++) {
+					setAt(list, i, value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 多个键名或下标
+	 */
+	private static class Union extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		private final Name[] names;
+
+		Union(List<String> keys) {
+			this.names = new Name[keys.size()];
+			for (int i = 0; i < this.names.length; i++) {
+				this.names[i] = new Name(keys.get(i));
+			}
+		}
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			if (node instanceof Map || node instanceof List) {
+				for (Name name : this.names) {
+					if (null != name.index || node instanceof Map) {
+						path.collect(name.get(node), next, end, out);
+					}
+				}
+			}
+		}
+
+		@Override
+		void set(Object node, Object value) {
+			for (Name name : this.names) {
+				if (null != name.index || node instanceof Map) {
+					name.set(node, value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 数组切片[start:end:step]，start和end可以为负数，表示倒数
+	 */
+	private static class Slice extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		private final Integer start;
+		private final Integer end;
+		private final int step;
+
+		Slice(Integer start, Integer end, int step) {
+			this.start = start;
+			this.end = end;
+			this.step = step;
+		}
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				final int size = list.size();
+				final int to = bound(this.end, size, size);
+				for (int i = bound(this.start, 0, size); i < to; i += this.step) {
+					path.collect(list.get(i), next, end, out);
+				}
+			}
+		}
+
+		@Override
+		void set(Object node, Object value) {
+			if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				final int size = list.size();
+				final int to = bound(this.end, size, size);
+				for (int i = bound(this.start, 0, size); i < to; i += this.step) {
+					setAt(list, i, value);
+				}
+			}
+		}
+
+		/**
+		 * 计算实际位置
+		 *
+		 * @param index        位置，负数表示倒数
+		 * @param defaultValue 未指定时的默认值
+		 * @param size         列表长度
+		 * @return 实际位置，在[0, size]范围内
+		 */
+		private static int bound(Integer index, int defaultValue, int size) {
+			if (null == index) {
+				return defaultValue;
+			}
+			final int i = index < 0 ? index + size : index;
+			return Math.max(0, Math.min(i, size));
+		}
+	}
+
+	/**
+	 * 过滤器，匹配对象的值或数组的元素中满足条件的
+	 */
+	private static class Filter extends Segment {
+		private static final long serialVersionUID = 1L;
+
+		private final Expr expr;
+
+		Filter(Expr expr) {
+			this.expr = expr;
+		}
+
+		@Override
+		void select(JSONPath path, Object node, int next, int end, List<Object> out) {
+			if (node instanceof Map) {
+				for (Object value : ((Map<?, ?>) node).values()) {
+					if (this.expr.test(value)) {
+						path.collect(value, next, end, out);
+					}
+				}
+			} else if (node instanceof List) {
+				for (Object element : (List<?>) node) {
+					if (this.expr.test(element)) {
+						path.collect(element, next, end, out);
+					}
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object node, Object value) {
+			if (node instanceof Map) {
+				final Map<String, Object> map = (Map<String, Object>) node;
+				for (String key : new ArrayList<>(map.keySet())) {
+					if (this.expr.test(map.get(key))) {
+						map.put(key, value);
+					}
+				}
+			} else if (node instanceof List) {
+				final List<?> list = (List<?>) node;
+				for (int i = 0; i < list.size(); i++) {
+					if (this.expr.test(list.get(i))) {
+						setAt(list, i, value);
+					}
+				}
+			}
+		}
+	}
+	// endregion
+
+	// region ----- Filter expression
+
+	/**
+	 * 过滤器表达式
+	 */
+	private abstract static class Expr implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 计算表达式的值
+		 *
+		 * @param node 当前元素，即@
+		 * @return 值
+		 */
+		abstract Object eval(Object node);
+
+		/**
+		 * 判断当前元素是否满足条件，布尔值按照其值判断，其它值存在即满足
+		 *
+		 * @param node 当前元素，即@
+		 * @return 是否满足条件
+		 */
+		boolean test(Object node) {
+			final Object value = eval(node);
+			if (value instanceof Boolean) {
+				return (Boolean) value;
+			}
+			return ObjectUtil.isNotNull(value);
+		}
+	}
+
+	/**
+	 * 常量
+	 */
+	private static class Literal extends Expr {
+		private static final long serialVersionUID = 1L;
+
+		private final Object value;
+
+		Literal(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		Object eval(Object node) {
+			return this.value;
+		}
+	}
+
+	/**
+	 * 相对于当前元素的路径，如@.price
+	 */
+	private static class Relative extends Expr {
+		private static final long serialVersionUID = 1L;
+
+		private final JSONPath path;
+
+		Relative(JSONPath path) {
+			this.path = path;
+		}
+
+		@Override
+		Object eval(Object node) {
+			return this.path.get(node);
+		}
+	}
+
+	/**
+	 * 逻辑非
+	 */
+	private static class Not extends Expr {
+		private static final long serialVersionUID = 1L;
+
+		private final Expr expr;
+
+		Not(Expr expr) {
+			this.expr = expr;
+		}
+
+		@Override
+		Object eval(Object node) {
+			return test(node);
+		}
+
+		@Override
+		boolean test(Object node) {
+			return false == this.expr.test(node);
+		}
+	}
+
+	/**
+	 * 逻辑与、逻辑或
+	 */
+	private static class Logic extends Expr {
+		private static final long serialVersionUID = 1L;
+
+		private final boolean isAnd;
+		private final Expr left;
+		private final Expr right;
+
+		Logic(boolean isAnd, Expr left, Expr right) {
+			this.isAnd = isAnd;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object eval(Object node) {
+			return test(node);
+		}
+
+		@Override
+		boolean test(Object node) {
+			if (this.isAnd) {
+				return this.left.test(node) && this.right.test(node);
+			}
+			return this.left.test(node) || this.right.test(node);
+		}
+	}
+
+	/**
+	 * 比较，数字按照数值比较，字符串按照字典顺序比较
+	 */
+	private static class Compare extends Expr {
+		private static final long serialVersionUID = 1L;
+
+		private final String op;
+		private final Expr left;
+		private final Expr right;
+
+		Compare(String op, Expr left, Expr right) {
+			this.op = op;
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		Object eval(Object node) {
+			return test(node);
+		}
+
+		@Override
+		boolean test(Object node) {
+			final Object a = unwrapNull(this.left.eval(node));
+			final Object b = unwrapNull(this.right.eval(node));
+			switch (this.op) {
+				case "==":
+					return isEquals(a, b);
+				case "!=":
+					return false == isEquals(a, b);
+			}
+
+			final int compare;
+			if (a instanceof Number && b instanceof Number) {
+				compare = toBigDecimal((Number) a).compareTo(toBigDecimal((Number) b));
+			} else if (a instanceof CharSequence && b instanceof CharSequence) {
+				compare = a.toString().compareTo(b.toString());
+			} else {
+				return false;
+			}
+			switch (this.op) {
+				case "<":
+					return compare < 0;
+				case "<=":
+					return compare <= 0;
+				case ">":
+					return compare > 0;
+				default:
+					return compare >= 0;
+			}
+		}
+
+		private static boolean isEquals(Object a, Object b) {
+			if (a instanceof Number && b instanceof Number) {
+				return 0 == toBigDecimal((Number) a).compareTo(toBigDecimal((Number) b));
+			}
+			if (a instanceof CharSequence && b instanceof CharSequence) {
+				return a.toString().equals(b.toString());
+			}
+			return ObjectUtil.equals(a, b);
+		}
+
+		private static Object unwrapNull(Object value) {
+			return ObjectUtil.isNull(value) ? null : value;
+		}
+
+		private static BigDecimal toBigDecimal(Number number) {
+			return NumberUtil.toBigDecimal(number);
+		}
+	}
+	// endregion
+
+	// region ----- Parser
+
+	/**
+	 * 表达式解析器
+	 */
+	private static class Parser {
+		/**
+		 * 过滤器中相对路径的结束字符
+		 */
+		private static final String RELATIVE_END = " )=!<>&|";
+
+		private final String expression;
+		private final int length;
+		private int pos;
+
+		Parser(String expression) {
+			this.expression = expression;
+			this.length = expression.length();
+		}
+
+		/**
+		 * 跳过开头表示根节点的$
+		 *
+		 * @return 是否以$开头
+		 */
+		boolean skipRoot() {
+			if (this.length > 0 && '$' == this.expression.charAt(0)) {
+				this.pos++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * 检查是否解析到末尾
+		 */
+		void checkEnd() {
+			if (this.pos < this.length) {
+				throw error("unexpected '" + this.expression.charAt(this.pos) + "'");
+			}
+		}
+
+		/**
+		 * 解析路径段
+		 *
+		 * @param relative 是否为过滤器中的相对路径，相对路径遇到空白、括号或运算符结束
+		 * @return 路径段
+		 */
+		Segment[] parsePath(boolean relative) {
+			final List<Segment> segments = new ArrayList<>();
+			char c;
+			while (this.pos < this.length) {
+				c = this.expression.charAt(this.pos);
+				if (relative && RELATIVE_END.indexOf(c) >= 0) {
+					break;
+				}
+				if ('.' == c) {
+					this.pos++;
+					if (this.pos < this.length && '*' == this.expression.charAt(this.pos)) {
+						this.pos++;
+						segments.add(new Wildcard());
+						continue;
+					}
+					addName(segments, relative);
+				} else if ('[' == c) {
+					this.pos++;
+					segments.add(parseBracket());
+				} else if (']' == c) {
+					throw error("we find ']' but no '['");
+				} else {
+					addName(segments, relative);
+				}
+			}
+			return segments.toArray(new Segment[0]);
+		}
+
+		/**
+		 * 解析属性名，空属性名（如连续的.）忽略
+		 *
+		 * @param segments 路径段
+		 * @param relative 是否为相对路径
+		 */
+		private void addName(List<Segment> segments, boolean relative) {
+			final int start = this.pos;
+			char c;
+			while (this.pos < this.length) {
+				c = this.expression.charAt(this.pos);
+				if ('.' == c || '[' == c || ']' == c || (relative && RELATIVE_END.indexOf(c) >= 0)) {
+					break;
+				}
+				this.pos++;
+			}
+			final String name = this.expression.substring(start, this.pos);
+			if ("*".equals(name)) {
+				segments.add(new Wildcard());
+			} else if (false == name.isEmpty()) {
+				segments.add(new Name(name));
+			}
+		}
+
+		/**
+		 * 解析中括号中的内容，当前位置为[之后
+		 *
+		 * @return 路径段
+		 */
+		private Segment parseBracket() {
+			skipSpace();
+			if (this.pos >= this.length) {
+				throw error("we find '[' but no ']'");
+			}
+			final char c = this.expression.charAt(this.pos);
+			final Segment segment;
+			if ('*' == c) {
+				this.pos++;
+				segment = new Wildcard();
+			} else if ('?' == c) {
+				this.pos++;
+				skipSpace();
+				expect('(');
+				final Expr expr = parseOr();
+				skipSpace();
+				expect(')');
+				segment = new Filter(expr);
+			} else if ('\'' == c || '"' == c) {
+				final List<String> keys = new ArrayList<>();
+				while (true) {
+					keys.add(parseQuoted());
+					skipSpace();
+					if (this.pos < this.length && ',' == this.expression.charAt(this.pos)) {
+						this.pos++;
+						skipSpace();
+					} else {
+						break;
+					}
+				}
+				segment = 1 == keys.size() ? new Name(keys.get(0)) : new Union(keys);
+			} else {
+				final int end = this.expression.indexOf(']', this.pos);
+				if (end < 0) {
+					throw error("we find '[' but no ']'");
+				}
+				final String content = this.expression.substring(this.pos, end).trim();
+				this.pos = end;
+				if (content.isEmpty()) {
+					throw error("empty '[]'");
+				}
+				if (content.indexOf(':') >= 0) {
+					segment = parseSlice(content);
+				} else if (content.indexOf(',') >= 0) {
+					final List<String> keys = StrUtil.splitTrim(content, ',');
+					keys.replaceAll(key -> StrUtil.unWrap(key, '\''));
+					segment = new Union(keys);
+				} else if (NumberUtil.isInteger(content)) {
+					segment = new Index(Integer.parseInt(content));
+				} else {
+					segment = new Name(content);
+				}
+			}
+			skipSpace();
+			expect(']');
+			return segment;
+		}
+
+		/**
+		 * 解析切片
+		 *
+		 * @param content 中括号中的内容
+		 * @return 切片
+		 */
+		private Slice parseSlice(String content) {
+			final List<String> parts = StrUtil.split(content, ':', true, false);
+			if (parts.size() > 3) {
+				throw error("bad slice '" + content + "'");
+			}
+			try {
+				final Integer start = StrUtil.isEmpty(parts.get(0)) ? null : Integer.valueOf(parts.get(0));
+				final Integer end = StrUtil.isEmpty(parts.get(1)) ? null : Integer.valueOf(parts.get(1));
+				final int step = (parts.size() < 3 || StrUtil.isEmpty(parts.get(2))) ? 1 : Integer.parseInt(parts.get(2));
+				if (step <= 0) {
+					throw error("slice step must be greater than 0");
+				}
+				return new Slice(start, end, step);
+			} catch (NumberFormatException e) {
+				throw error("bad slice '" + content + "'");
+			}
+		}
+
+		/**
+		 * 解析引号括起的字符串，支持反斜杠转义
+		 *
+		 * @return 字符串
+		 */
+		private String parseQuoted() {
+			final char quote = this.expression.charAt(this.pos++);
+			final StringBuilder sb = new StringBuilder();
+			char c;
+			while (this.pos < this.length) {
+				c = this.expression.charAt(this.pos++);
+				if (c == quote) {
+					return sb.toString();
+				}
+				if ('\\' == c && this.pos < this.length) {
+					c = this.expression.charAt(this.pos++);
+				}
+				sb.append(c);
+			}
+			throw error("unterminated string");
+		}
+
+		private Expr parseOr() {
+			Expr left = parseAnd();
+			while (match("||")) {
+				left = new Logic(false, left, parseAnd());
+			}
+			return left;
+		}
+
+		private Expr parseAnd() {
+			Expr left = parseUnary();
+			while (match("&&")) {
+				left = new Logic(true, left, parseUnary());
+			}
+			return left;
+		}
+
+		private Expr parseUnary() {
+			skipSpace();
+			if (match("!")) {
+				return new Not(parseUnary());
+			}
+			if (match("(")) {
+				final Expr expr = parseOr();
+				skipSpace();
+				expect(')');
+				return expr;
+			}
+
+			final Expr left = parseOperand();
+			skipSpace();
+			for (String op : new String[]{"==", "!=", "<=", ">=", "<", ">"}) {
+				if (match(op)) {
+					return new Compare(op, left, parseOperand());
+				}
+			}
+			return left;
+		}
+
+		/**
+		 * 解析操作数：@开头的相对路径、字符串、数字、true、false或null
+		 *
+		 * @return 操作数
+		 */
+		private Expr parseOperand() {
+			skipSpace();
+			if (this.pos >= this.length) {
+				throw error("missing operand");
+			}
+			final char c = this.expression.charAt(this.pos);
+			if ('@' == c) {
+				final int start = this.pos++;
+				final Segment[] segments = parsePath(true);
+				return new Relative(new JSONPath(this.expression.substring(start, this.pos), segments));
+			}
+			if ('\'' == c || '"' == c) {
+				return new Literal(parseQuoted());
+			}
+
+			final int start = this.pos;
+			char n;
+			while (this.pos < this.length) {
+				n = this.expression.charAt(this.pos);
+				if (RELATIVE_END.indexOf(n) >= 0 || ']' == n) {
+					break;
+				}
+				this.pos++;
+			}
+			final String literal = this.expression.substring(start, this.pos);
+			switch (literal) {
+				case "true":
+					return new Literal(Boolean.TRUE);
+				case "false":
+					return new Literal(Boolean.FALSE);
+				case "null":
+					return new Literal(null);
+			}
+			try {
+				return new Literal(new BigDecimal(literal));
+			} catch (NumberFormatException e) {
+				throw error("bad operand '" + literal + "'");
+			}
+		}
+
+		private void skipSpace() {
+			while (this.pos < this.length && this.expression.charAt(this.pos) <= ' ') {
+				this.pos++;
+			}
+		}
+
+		private boolean match(String str) {
+			skipSpace();
+			if (this.expression.startsWith(str, this.pos)) {
+				this.pos += str.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char c) {
+			if (this.pos >= this.length || this.expression.charAt(this.pos) != c) {
+				throw error("expected '" + c + "'");
+			}
+			this.pos++;
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, {} !", this.expression, this.pos, message));
+		}
+	}
+	// endregion
+}
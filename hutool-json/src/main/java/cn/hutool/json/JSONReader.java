@@ -0,0 +1,650 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * JSON流式读取器（拉模式），按照标记（{@link JSONToken}）逐个读取JSON，不构建完整的{@link JSONObject}或{@link JSONArray}<br>
+ * 读取超大JSON时内存占用与文档大小无关，需要的部分可以通过{@link #nextJSONObject()}、{@link #nextJSONArray()}单独构建。<br>
+ * 与{@link JSONTokener}一样，支持单引号字符串、不带引号的键和值以及尾后逗号。<br>
+ * 顶层允许连续多个值，因此也可以用于读取以空白分隔的多个JSON（如JSON Lines）。
+ *
+ * <pre>
+ * try (JSONReader reader = JSONReader.of(json)) {
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         String name = reader.nextName();
+ *         if ("id".equals(name)) {
+ *             long id = reader.nextLong();
+ *         } else {
+ *             reader.skipValue();
+ *         }
+ *     }
+ *     reader.endObject();
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONReader implements Closeable {
+
+	// ------------------------------------------------------------------------------------ scope
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_OBJECT = 2;
+	/**
+	 * 对象中已读取键，等待值
+	 */
+	private static final int DANGLING_NAME = 3;
+	private static final int NONEMPTY_OBJECT = 4;
+	private static final int EMPTY_ARRAY = 5;
+	private static final int NONEMPTY_ARRAY = 6;
+
+	/**
+	 * 不带引号的值或键的结束字符
+	 */
+	private static final String LITERAL_END = ",:]}/\\\"[{;=#";
+
+	/**
+	 * 创建JSONReader
+	 *
+	 * @param json JSON字符串
+	 * @return JSONReader
+	 */
+	public static JSONReader of(CharSequence json) {
+		return new JSONReader(json, JSONConfig.create());
+	}
+
+	/**
+	 * 创建JSONReader
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONReader
+	 */
+	public static JSONReader of(Reader reader) {
+		return new JSONReader(reader, JSONConfig.create());
+	}
+
+	/**
+	 * 读取的源，从字符串读取时为{@code null}
+	 */
+	private final Closeable source;
+	private final JSONTokener tokener;
+	private final JSONConfig config;
+
+	private int[] stack = new int[32];
+	private int stackSize;
+
+	/**
+	 * 已预读的标记，{@code null}表示未预读
+	 */
+	private JSONToken peeked;
+	/**
+	 * 预读的字符串或键的引号，0表示不带引号
+	 */
+	private char peekedQuote;
+	/**
+	 * 预读的不带引号的值或键
+	 */
+	private String peekedLiteral;
+
+	// ------------------------------------------------------------------------------------ Constructor start
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，用于构建{@link JSONObject}和{@link JSONArray}
+	 */
+	public JSONReader(Reader reader, JSONConfig config) {
+		this(reader, reader, config);
+	}
+
+	/**
+	 * 构造，使用UTF-8编码，按照UTF-8字节直接解析，开头的BOM会被跳过
+	 *
+	 * @param in     {@link InputStream}
+	 * @param config JSON配置，用于构建{@link JSONObject}和{@link JSONArray}
+	 */
+	public JSONReader(InputStream in, JSONConfig config) {
+		this(in, in, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param json   JSON字符串
+	 * @param config JSON配置，用于构建{@link JSONObject}和{@link JSONArray}
+	 */
+	public JSONReader(CharSequence json, JSONConfig config) {
+		this(null, json, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param source 读取的源，关闭时一并关闭，{@code null}表示无需关闭
+	 * @param input  输入，{@link Reader}、{@link InputStream}或JSON字符串
+	 * @param config JSON配置
+	 */
+	private JSONReader(Closeable source, Object input, JSONConfig config) {
+		this.source = source;
+		this.config = null == config ? JSONConfig.create() : config;
+		if (input instanceof Reader) {
+			this.tokener = new JSONTokener((Reader) input, this.config);
+		} else if (input instanceof InputStream) {
+			this.tokener = new JSONTokener((InputStream) input, this.config);
+		} else {
+			this.tokener = new JSONTokener((CharSequence) input, this.config);
+		}
+		this.stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+	// ------------------------------------------------------------------------------------ Constructor end
+
+	/**
+	 * 预读下一个标记，不消费
+	 *
+	 * @return 下一个标记类型
+	 * @throws JSONException 语法错误
+	 */
+	public JSONToken peek() throws JSONException {
+		if (null == peeked) {
+			peeked = doPeek();
+		}
+		return peeked;
+	}
+
+	/**
+	 * 当前对象或数组中是否还有更多的元素，在顶层时表示是否还有更多的值
+	 *
+	 * @return 是否还有更多的元素
+	 * @throws JSONException 语法错误
+	 */
+	public boolean hasNext() throws JSONException {
+		final JSONToken token = peek();
+		return token != JSONToken.END_OBJECT && token != JSONToken.END_ARRAY && token != JSONToken.END_DOCUMENT;
+	}
+
+	/**
+	 * 消费对象开始标记'{'
+	 *
+	 * @throws JSONException 下一个标记不是对象开始
+	 */
+	public void beginObject() throws JSONException {
+		expect(JSONToken.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+		peeked = null;
+	}
+
+	/**
+	 * 消费对象结束标记'}'
+	 *
+	 * @throws JSONException 下一个标记不是对象结束
+	 */
+	public void endObject() throws JSONException {
+		expect(JSONToken.END_OBJECT);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 消费数组开始标记'['
+	 *
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public void beginArray() throws JSONException {
+		expect(JSONToken.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+		peeked = null;
+	}
+
+	/**
+	 * 消费数组结束标记']'
+	 *
+	 * @throws JSONException 下一个标记不是数组结束
+	 */
+	public void endArray() throws JSONException {
+		expect(JSONToken.END_ARRAY);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * 读取对象中的下一个键
+	 *
+	 * @return 键
+	 * @throws JSONException 下一个标记不是键
+	 */
+	public String nextName() throws JSONException {
+		expect(JSONToken.NAME);
+		return consumeText();
+	}
+
+	/**
+	 * 读取下一个字符串值，数字和布尔值返回其字符串形式
+	 *
+	 * @return 字符串值
+	 * @throws JSONException 下一个标记不是字符串、数字或布尔值
+	 */
+	public String nextString() throws JSONException {
+		final JSONToken token = peek();
+		if (token != JSONToken.STRING && token != JSONToken.NUMBER && token != JSONToken.BOOLEAN) {
+			throw tokener.syntaxError("Expected a string but was " + token);
+		}
+		return consumeText();
+	}
+
+	/**
+	 * 读取下一个布尔值
+	 *
+	 * @return 布尔值
+	 * @throws JSONException 下一个标记不是布尔值
+	 */
+	public boolean nextBoolean() throws JSONException {
+		expect(JSONToken.BOOLEAN);
+		return Boolean.parseBoolean(consumeText().toLowerCase());
+	}
+
+	/**
+	 * 读取下一个null值
+	 *
+	 * @throws JSONException 下一个标记不是null
+	 */
+	public void nextNull() throws JSONException {
+		expect(JSONToken.NULL);
+		consumeText();
+	}
+
+	/**
+	 * 读取下一个long值，字符串形式的数字也可以读取
+	 *
+	 * @return long值
+	 * @throws JSONException 下一个标记不是数字或无法转换为long
+	 */
+	public long nextLong() throws JSONException {
+		final String text = nextNumberText();
+		try {
+			return Long.parseLong(text);
+		} catch (NumberFormatException e) {
+			try {
+				return new BigDecimal(text).longValueExact();
+			} catch (ArithmeticException | NumberFormatException e2) {
+				throw tokener.syntaxError("Expected a long but was " + text);
+			}
+		}
+	}
+
+	/**
+	 * 读取下一个int值，字符串形式的数字也可以读取
+	 *
+	 * @return int值
+	 * @throws JSONException 下一个标记不是数字或无法转换为int
+	 */
+	public int nextInt() throws JSONException {
+		final long value = nextLong();
+		if (value != (int) value) {
+			throw tokener.syntaxError("Expected an int but was " + value);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * 读取下一个double值，字符串形式的数字也可以读取
+	 *
+	 * @return double值
+	 * @throws JSONException 下一个标记不是数字或无法转换为double
+	 */
+	public double nextDouble() throws JSONException {
+		final String text = nextNumberText();
+		try {
+			return Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw tokener.syntaxError("Expected a double but was " + text);
+		}
+	}
+
+	/**
+	 * 读取下一个值，对象和数组构建为{@link JSONObject}和{@link JSONArray}，其它值与{@link JSONTokener#nextValue()}一致
+	 *
+	 * @return 值
+	 * @throws JSONException 语法错误或下一个标记不是值
+	 */
+	public Object nextValue() throws JSONException {
+		final JSONToken token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+				return nextJSONObject();
+			case BEGIN_ARRAY:
+				return nextJSONArray();
+			case STRING:
+				return consumeText();
+			case NUMBER:
+			case BOOLEAN:
+			case NULL:
+				return InternalJSONUtil.stringToValue(consumeText());
+			default:
+				throw tokener.syntaxError("Expected a value but was " + token);
+		}
+	}
+
+	/**
+	 * 将下一个对象构建为{@link JSONObject}，用于只构建需要的部分
+	 *
+	 * @return {@link JSONObject}
+	 * @throws JSONException 下一个标记不是对象开始
+	 */
+	public JSONObject nextJSONObject() throws JSONException {
+		expect(JSONToken.BEGIN_OBJECT);
+		peeked = null;
+		// 回退预读的'{'，交给JSONParser解析整个对象
+		tokener.back();
+		final JSONObject jsonObject = new JSONObject(config);
+		JSONParser.of(tokener).parseTo(jsonObject, null);
+		return jsonObject;
+	}
+
+	/**
+	 * 将下一个数组构建为{@link JSONArray}，用于只构建需要的部分
+	 *
+	 * @return {@link JSONArray}
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public JSONArray nextJSONArray() throws JSONException {
+		expect(JSONToken.BEGIN_ARRAY);
+		peeked = null;
+		// 回退预读的'['，交给JSONParser解析整个数组
+		tokener.back();
+		final JSONArray jsonArray = new JSONArray(config);
+		JSONParser.of(tokener).parseTo(jsonArray, null);
+		return jsonArray;
+	}
+
+	/**
+	 * 将下一个对象直接绑定为Bean，不构建中间的{@link JSONObject}，见{@link JSONBeanBinder}<br>
+	 * 无法直接绑定的类型（如Map、自定义反序列化的类等）先构建{@link JSONObject}再转换。
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类
+	 * @return Bean对象，下一个值为null时返回{@code null}
+	 * @throws JSONException 语法错误、下一个标记不是对象开始或转换失败
+	 */
+	public <T> T nextBean(Class<T> beanClass) throws JSONException {
+		if (JSONBeanBinder.isBindable(beanClass)) {
+			return new JSONBeanBinder(this, config).bind(beanClass);
+		}
+		if (JSONToken.NULL == peek()) {
+			nextNull();
+			return null;
+		}
+		return nextJSONObject().toBean(beanClass);
+	}
+
+	/**
+	 * 跳过下一个值，如果是对象或数组，跳过其中所有内容；如果下一个是键，跳过键和对应的值
+	 *
+	 * @throws JSONException 语法错误或已到达对象、数组或文档结尾
+	 */
+	public void skipValue() throws JSONException {
+		int depth = 0;
+		do {
+			final JSONToken token = peek();
+			switch (token) {
+				case BEGIN_OBJECT:
+					beginObject();
+					depth++;
+					break;
+				case BEGIN_ARRAY:
+					beginArray();
+					depth++;
+					break;
+				case END_OBJECT:
+					if (0 == depth) {
+						throw tokener.syntaxError("Can not skip END_OBJECT");
+					}
+					endObject();
+					depth--;
+					break;
+				case END_ARRAY:
+					if (0 == depth) {
+						throw tokener.syntaxError("Can not skip END_ARRAY");
+					}
+					endArray();
+					depth--;
+					break;
+				case END_DOCUMENT:
+					throw tokener.syntaxError("Can not skip END_DOCUMENT");
+				case NAME:
+					consumeText();
+					// 键后的值一并跳过
+					depth++;
+					skipValue();
+					depth--;
+					break;
+				default:
+					consumeText();
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * 关闭读取器
+	 */
+	@Override
+	public void close() {
+		peeked = JSONToken.END_DOCUMENT;
+		stackSize = 0;
+		IoUtil.close(this.source);
+	}
+
+	@Override
+	public String toString() {
+		return "JSONReader" + tokener;
+	}
+
+	// ------------------------------------------------------------------------------------ private method
+
+	/**
+	 * 根据当前所在的位置读取下一个标记
+	 *
+	 * @return 标记
+	 */
+	private JSONToken doPeek() {
+		if (0 == stackSize) {
+			return JSONToken.END_DOCUMENT;
+		}
+		final int scope = stack[stackSize - 1];
+		char c;
+		switch (scope) {
+			case EMPTY_ARRAY:
+			case NONEMPTY_ARRAY:
+				c = tokener.nextClean();
+				if (scope == NONEMPTY_ARRAY) {
+					if (c == ']') {
+						return JSONToken.END_ARRAY;
+					}
+					if (c != ',') {
+						throw tokener.syntaxError("Expected a ',' or ']'");
+					}
+					c = tokener.nextClean();
+				}
+				if (c == ']') {
+					// 空数组或尾后逗号
+					return JSONToken.END_ARRAY;
+				}
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				return peekValue(c);
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				c = tokener.nextClean();
+				if (scope == NONEMPTY_OBJECT) {
+					if (c == '}') {
+						return JSONToken.END_OBJECT;
+					}
+					if (c != ',' && c != ';') {
+						throw tokener.syntaxError("Expected a ',' or '}'");
+					}
+					c = tokener.nextClean();
+				}
+				if (c == '}') {
+					// 空对象或尾后逗号
+					return JSONToken.END_OBJECT;
+				}
+				stack[stackSize - 1] = DANGLING_NAME;
+				return peekName(c);
+			case DANGLING_NAME:
+				if (tokener.nextClean() != ':') {
+					throw tokener.syntaxError("Expected a ':' after a key");
+				}
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				return peekValue(tokener.nextClean());
+			case EMPTY_DOCUMENT:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				c = tokener.nextClean();
+				if (0 == c) {
+					throw tokener.syntaxError("Empty document");
+				}
+				return peekValue(c);
+			default:
+				// 顶层允许多个值
+				c = tokener.nextClean();
+				if (0 == c) {
+					return JSONToken.END_DOCUMENT;
+				}
+				return peekValue(c);
+		}
+	}
+
+	/**
+	 * 根据已读取的首个非空白字符判断键的类型
+	 *
+	 * @param c 首个非空白字符
+	 * @return {@link JSONToken#NAME}
+	 */
+	private JSONToken peekName(char c) {
+		switch (c) {
+			case '"':
+			case '\'':
+				peekedQuote = c;
+				return JSONToken.NAME;
+			case 0:
+				throw tokener.syntaxError("A JSONObject text must end with '}'");
+			case '{':
+			case '[':
+				throw tokener.syntaxError("A JSONObject can not directly nest another JSONObject or JSONArray.");
+			default:
+				peekedQuote = 0;
+				peekedLiteral = readLiteral(c);
+				return JSONToken.NAME;
+		}
+	}
+
+	/**
+	 * 根据已读取的首个非空白字符判断值的类型
+	 *
+	 * @param c 首个非空白字符
+	 * @return 标记
+	 */
+	private JSONToken peekValue(char c) {
+		switch (c) {
+			case '{':
+				return JSONToken.BEGIN_OBJECT;
+			case '[':
+				return JSONToken.BEGIN_ARRAY;
+			case '"':
+			case '\'':
+				peekedQuote = c;
+				return JSONToken.STRING;
+			case 0:
+				throw tokener.syntaxError("Unexpected end of JSON");
+			default:
+				peekedQuote = 0;
+				peekedLiteral = readLiteral(c);
+				final Object value = InternalJSONUtil.stringToValue(peekedLiteral);
+				if (value instanceof Boolean) {
+					return JSONToken.BOOLEAN;
+				} else if (value instanceof Number) {
+					return JSONToken.NUMBER;
+				} else if (value == JSONNull.NULL) {
+					return JSONToken.NULL;
+				}
+				return JSONToken.STRING;
+		}
+	}
+
+	/**
+	 * 读取不带引号的值或键
+	 *
+	 * @param c 首个字符
+	 * @return 值或键
+	 */
+	private String readLiteral(char c) {
+		final StringBuilder sb = new StringBuilder();
+		while (c >= ' ' && LITERAL_END.indexOf(c) < 0) {
+			sb.append(c);
+			c = tokener.next();
+		}
+		tokener.back();
+
+		final String literal = sb.toString().trim();
+		if (literal.isEmpty()) {
+			throw tokener.syntaxError("Missing value");
+		}
+		return literal;
+	}
+
+	/**
+	 * 消费预读的字符串、键或不带引号的值，返回其文本
+	 *
+	 * @return 文本
+	 */
+	private String consumeText() {
+		final String text;
+		if (0 != peekedQuote) {
+			text = tokener.nextString(peekedQuote);
+			peekedQuote = 0;
+		} else {
+			text = peekedLiteral;
+		}
+		peekedLiteral = null;
+		peeked = null;
+		return text;
+	}
+
+	/**
+	 * 读取数字或字符串形式的数字的文本
+	 *
+	 * @return 文本
+	 */
+	private String nextNumberText() {
+		final JSONToken token = peek();
+		if (token != JSONToken.NUMBER && token != JSONToken.STRING) {
+			throw tokener.syntaxError("Expected a number but was " + token);
+		}
+		return consumeText();
+	}
+
+	/**
+	 * 检查下一个标记是否为期望的标记
+	 *
+	 * @param expected 期望的标记
+	 */
+	private void expect(JSONToken expected) {
+		final JSONToken token = peek();
+		if (token != expected) {
+			throw tokener.syntaxError("Expected " + expected + " but was " + token);
+		}
+	}
+
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+		stack[stackSize++] = scope;
+	}
+}
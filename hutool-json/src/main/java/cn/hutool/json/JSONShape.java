@@ -0,0 +1,142 @@
+package cn.hutool.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON对象的形状，即按照插入顺序排列的键数组<br>
+ * 用于{@link JSONConfig#isCompact()}模式，键集合相同的对象共享同一个形状，各自只在{@link CompactValueMap}中保存值数组。<br>
+ * 形状的键数组创建后不再改变，可以多线程共享；形状之间的转换关系只由创建它的根{@link JSONShapes}在解析过程中维护，解析结束后只读。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class JSONShape {
+
+	/**
+	 * 空形状，不属于任何一次解析，无法转换
+	 */
+	static final JSONShape EMPTY = new JSONShape(new String[0]);
+
+	/**
+	 * 键数量超过此值时使用Map查找下标
+	 */
+	private static final int INDEX_THRESHOLD = 8;
+
+	private final String[] keys;
+	/**
+	 * 键到下标的映射，键较多时首次查找时创建
+	 */
+	private volatile Map<String, Integer> indexes;
+	/**
+	 * 加入一个新键后的形状，只在根形状树的解析过程中修改
+	 */
+	private Map<String, JSONShape> transitions;
+
+	/**
+	 * 构造
+	 *
+	 * @param keys 键数组
+	 */
+	JSONShape(String[] keys) {
+		this.keys = keys;
+	}
+
+	/**
+	 * 键数量
+	 *
+	 * @return 键数量
+	 */
+	int size() {
+		return this.keys.length;
+	}
+
+	/**
+	 * 获取指定下标的键
+	 *
+	 * @param index 下标
+	 * @return 键
+	 */
+	String key(int index) {
+		return this.keys[index];
+	}
+
+	/**
+	 * 查找键的下标
+	 *
+	 * @param key 键
+	 * @return 下标，不存在返回-1
+	 */
+	int indexOf(Object key) {
+		if (null == key) {
+			return -1;
+		}
+		final String[] keys = this.keys;
+		if (keys.length <= INDEX_THRESHOLD) {
+			// 键已去重，优先比较引用
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] == key) {
+					return i;
+				}
+			}
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i].equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		Map<String, Integer> indexes = this.indexes;
+		if (null == indexes) {
+			indexes = new HashMap<>(keys.length * 4 / 3 + 1);
+			for (int i = 0; i < keys.length; i++) {
+				indexes.put(keys[i], i);
+			}
+			this.indexes = indexes;
+		}
+		final Integer index = indexes.get(key);
+		return null == index ? -1 : index;
+	}
+
+	/**
+	 * 获取加入一个新键后的形状，不存在时创建
+	 *
+	 * @param key 新键，调用方保证不在当前形状中
+	 * @return 新形状
+	 */
+	JSONShape transit(String key) {
+		if (null == this.transitions) {
+			this.transitions = new HashMap<>(4);
+		}
+		JSONShape next = this.transitions.get(key);
+		if (null == next) {
+			next = append(key);
+			this.transitions.put(key, next);
+		}
+		return next;
+	}
+
+	/**
+	 * 创建加入一个新键后的形状，不记录转换关系
+	 *
+	 * @param key 新键，调用方保证不在当前形状中
+	 * @return 新形状
+	 */
+	JSONShape append(String key) {
+		final String[] keys = new String[this.keys.length + 1];
+		System.arraycopy(this.keys, 0, keys, 0, this.keys.length);
+		keys[this.keys.length] = key;
+		return new JSONShape(keys);
+	}
+
+	/**
+	 * 获取已存在的加入指定键后的形状，只读
+	 *
+	 * @param key 新键
+	 * @return 新形状，不存在返回{@code null}
+	 */
+	JSONShape getTransition(String key) {
+		return null == this.transitions ? null : this.transitions.get(key);
+	}
+}
@@ -0,0 +1,156 @@
+package cn.hutool.json;
+
+import cn.hutool.core.lang.intern.Interner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 一次解析过程中的键去重器和形状树，由{@link JSONTokener}持有，非线程安全<br>
+ * 键去重只在本次解析内有效，因此使用普通的{@link HashMap}，不同于全局的{@link cn.hutool.core.lang.intern.WeakInterner}，解析结束即可回收。<br>
+ * 所有形状都从同一个空形状开始，按照键的插入顺序逐个转换，键序列相同的对象得到同一个形状。
+ * 为避免键各不相同的对象（如以ID为键的Map）产生大量形状，形状的数量和单个形状的键数量均有上限，超出后对象退化为普通Map存储。<br>
+ * 延迟解析模式下，解析结束时调用{@link #freeze()}冻结，冻结后只读，可以被多个线程中的延迟值共享；
+ * 延迟值解码时通过{@link #child()}创建新的形状树，只读地查找冻结的上级，新的键和转换只记录在自身中。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class JSONShapes implements Interner<String> {
+
+	/**
+	 * 一次解析中最多创建的形状数量
+	 */
+	static final int MAX_SHAPES = 4096;
+	/**
+	 * 单个形状最多包含的键数量
+	 */
+	static final int MAX_KEYS = 64;
+
+	/**
+	 * 冻结的上级形状树，只读，{@code null}表示此树为根
+	 */
+	private final JSONShapes parent;
+	private final JSONShape root;
+	private Map<String, String> keys;
+	/**
+	 * 非根形状树中新建的转换，不修改上级形状树中的形状
+	 */
+	private Map<JSONShape, Map<String, JSONShape>> transitions;
+	private int shapeCount;
+	/**
+	 * 是否已冻结，冻结后不再加入键和形状
+	 */
+	private boolean frozen;
+
+	/**
+	 * 构造新的形状树
+	 */
+	JSONShapes() {
+		this(null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param parent 冻结的上级形状树，{@code null}表示新的形状树
+	 */
+	private JSONShapes(JSONShapes parent) {
+		this.parent = parent;
+		this.root = null == parent ? new JSONShape(new String[0]) : parent.root;
+	}
+
+	/**
+	 * 冻结，冻结后只读，新的键不再去重，新的形状不再创建
+	 */
+	void freeze() {
+		this.frozen = true;
+	}
+
+	/**
+	 * 是否已冻结
+	 *
+	 * @return 是否已冻结
+	 */
+	boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/**
+	 * 创建以此形状树为上级的新形状树，用于延迟值解码，此形状树须已冻结
+	 *
+	 * @return 新形状树
+	 */
+	JSONShapes child() {
+		return new JSONShapes(this);
+	}
+
+	/**
+	 * 键去重，返回本次解析中与之相等的第一个键
+	 *
+	 * @param key 键
+	 * @return 去重后的键
+	 */
+	@Override
+	public String intern(String key) {
+		if (null == key) {
+			return null;
+		}
+		String interned;
+		for (JSONShapes shapes = this; null != shapes; shapes = shapes.parent) {
+			if (null != shapes.keys && null != (interned = shapes.keys.get(key))) {
+				return interned;
+			}
+		}
+		if (false == this.frozen) {
+			if (null == this.keys) {
+				this.keys = new HashMap<>();
+			}
+			this.keys.put(key, key);
+		}
+		return key;
+	}
+
+	/**
+	 * 空形状，所有形状的起点
+	 *
+	 * @return 空形状
+	 */
+	JSONShape root() {
+		return this.root;
+	}
+
+	/**
+	 * 获取加入一个新键后的形状
+	 *
+	 * @param shape 当前形状，必须由此对象创建
+	 * @param key   新键，调用方保证不在当前形状中
+	 * @return 新形状，超出上限返回{@code null}
+	 */
+	JSONShape transit(JSONShape shape, String key) {
+		JSONShape next = shape.getTransition(key);
+		Map<String, JSONShape> shapeTransitions;
+		for (JSONShapes shapes = this; null == next && null != shapes; shapes = shapes.parent) {
+			if (null != shapes.transitions && null != (shapeTransitions = shapes.transitions.get(shape))) {
+				next = shapeTransitions.get(key);
+			}
+		}
+		if (null != next) {
+			return next;
+		}
+		if (this.frozen || shape.size() >= MAX_KEYS || this.shapeCount >= MAX_SHAPES) {
+			return null;
+		}
+		this.shapeCount++;
+		if (null == this.parent) {
+			// 根形状树中的形状均由自身创建，转换直接记录在形状中
+			return shape.transit(intern(key));
+		}
+		next = shape.append(intern(key));
+		if (null == this.transitions) {
+			this.transitions = new HashMap<>();
+		}
+		this.transitions.computeIfAbsent(shape, k -> new HashMap<>(4)).put(key, next);
+		return next;
+	}
+}
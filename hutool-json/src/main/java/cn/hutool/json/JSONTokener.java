@@ -7,15 +7,26 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
- * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray
+ * JSON解析器，用于将JSON字符串解析为JSONObject或者JSONArray<br>
+ * 从{@link CharSequence}或char[]构建时，直接按照下标读取源，不经过{@link Reader}，
+ * 不含转义符的字符串直接截取，整数直接在源上解析，无需中间的{@link StringBuilder}。<br>
+ * 从byte[]、{@link ByteBuffer}或{@link InputStream}构建时，直接按照UTF-8字节解析，结构字符和数字不解码，
+ * 只有字符串值才解码为{@link String}；{@link InputStream}使用固定大小的缓冲区分块读取，缓冲区在整个解析过程中复用。
  *
  * @author from JSON.org
  */
 public class JSONTokener {
 
+	/**
+	 * 不带引号的值或键的结束字符
+	 */
+	private static final String LITERAL_END = ",:]}/\\\"[{;=#";
+
 	private long character;
 	/**
 	 * 是否结尾 End of stream
@@ -38,14 +49,54 @@ public class JSONTokener {
 	 */
 	private boolean usePrevious;
 	/**
-	 * 源
+	 * 源，从{@link CharSequence}或char[]构建时为{@code null}
 	 */
 	private final Reader reader;
+	/**
+	 * 字符序列源，从{@link Reader}构建时为{@code null}
+	 */
+	private final CharSequence source;
+	/**
+	 * 字符序列源的长度
+	 */
+	private final int sourceLength;
+	/**
+	 * 字符序列源中下一个读取的位置
+	 */
+	private int pos;
+	/**
+	 * UTF-8字节源，从byte[]、{@link ByteBuffer}或{@link InputStream}构建时使用，否则为{@code null}
+	 */
+	private ByteBuffer bytes;
+	/**
+	 * 字节源中下一个读取的位置
+	 */
+	private int bytePos;
+	/**
+	 * 字节源中有效数据的结束位置
+	 */
+	private int byteLimit;
+	/**
+	 * 字节源对应的流，为{@code null}表示字节源中已包含所有数据
+	 */
+	private final InputStream in;
+	/**
+	 * 流模式下{@link #skipTo(char)}的标记位置，补充数据时不丢弃此位置之后的数据，-1表示无标记
+	 */
+	private int byteMark = -1;
+	/**
+	 * 四字节UTF-8字符解码后待读取的低位代理字符，0表示无
+	 */
+	private char pendingLowSurrogate;
 
 	/**
 	 * JSON配置
 	 */
 	private final JSONConfig config;
+	/**
+	 * 本次解析的键去重器和形状树，用于{@link JSONConfig#isCompact()}模式
+	 */
+	private JSONShapes shapes;
 
 	// ------------------------------------------------------------------------------------ Constructor start
 
@@ -56,7 +107,73 @@ public class JSONTokener {
 	 * @param config JSON配置
 	 */
 	public JSONTokener(Reader reader, JSONConfig config) {
-		this.reader = reader.markSupported() ? reader : new BufferedReader(reader);
+		this(reader.markSupported() ? reader : new BufferedReader(reader), null, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader Reader，与source二选一
+	 * @param source 字符序列
+	 * @param config JSON配置
+	 */
+	private JSONTokener(Reader reader, CharSequence source, JSONConfig config) {
+		this(reader, source, 0, null == source ? 0 : source.length(), config);
+	}
+
+	/**
+	 * 从字符序列的指定区间中构建，用于解码延迟解析的值
+	 *
+	 * @param source 字符序列
+	 * @param start  起始位置（包含）
+	 * @param end    结束位置（不包含）
+	 * @param config JSON配置
+	 * @since 5.8.29
+	 */
+	JSONTokener(CharSequence source, int start, int end, JSONConfig config) {
+		this(null, source, start, end, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader Reader，与source二选一
+	 * @param source 字符序列
+	 * @param start  字符序列的起始位置（包含）
+	 * @param end    字符序列的结束位置（不包含）
+	 * @param config JSON配置
+	 */
+	private JSONTokener(Reader reader, CharSequence source, int start, int end, JSONConfig config) {
+		this(reader, source, start, end, null, null, config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader Reader，与source、bytes三选一
+	 * @param source 字符序列
+	 * @param start  字符序列或字节源的起始位置（包含）
+	 * @param end    字符序列或字节源的结束位置（不包含）
+	 * @param in     字节源对应的流，{@code null}表示字节源中已包含所有数据
+	 * @param bytes  UTF-8字节源
+	 * @param config JSON配置
+	 */
+	private JSONTokener(Reader reader, CharSequence source, int start, int end, InputStream in, ByteBuffer bytes, JSONConfig config) {
+		this.reader = reader;
+		if (null != source && false == source instanceof String && null != config && config.isLazy()) {
+			// 延迟解析的值在解析结束后仍会读取源，可变的字符序列（如字符数组）先复制，避免调用者修改后影响结果
+			source = source.toString();
+		}
+		this.source = source;
+		this.sourceLength = null == source ? 0 : end;
+		this.pos = null == source ? 0 : start;
+		this.in = in;
+		this.bytes = bytes;
+		if (null != bytes) {
+			this.bytePos = start;
+			this.byteLimit = end;
+			skipBom();
+		}
 		this.eof = false;
 		this.usePrevious = false;
 		this.previous = 0;
@@ -67,13 +184,37 @@ public class JSONTokener {
 	}
 
 	/**
-	 * 从InputStream中构建，使用UTF-8编码
+	 * 从InputStream中构建，使用UTF-8编码<br>
+	 * 按照UTF-8字节直接解析，使用固定大小的缓冲区分块读取流，开头的BOM会被跳过
 	 *
 	 * @param inputStream InputStream
 	 * @param config      JSON配置
 	 */
 	public JSONTokener(InputStream inputStream, JSONConfig config) throws JSONException {
-		this(IoUtil.getUtf8Reader(inputStream), config);
+		this(null, null, 0, 0, inputStream, ByteBuffer.wrap(new byte[IoUtil.DEFAULT_BUFFER_SIZE]), config);
+	}
+
+	/**
+	 * 从UTF-8字节数组中构建，直接读取数组，不复制，开头的BOM会被跳过
+	 *
+	 * @param bytes  UTF-8编码的JSON字节数组
+	 * @param config JSON配置
+	 * @since 5.8.29
+	 */
+	public JSONTokener(byte[] bytes, JSONConfig config) {
+		this(ByteBuffer.wrap(bytes), config);
+	}
+
+	/**
+	 * 从UTF-8字节缓冲区中构建，读取{@link ByteBuffer#position()}到{@link ByteBuffer#limit()}之间的数据，不复制，也不修改缓冲区的位置<br>
+	 * 支持堆外缓冲区和{@link java.nio.MappedByteBuffer}，可用于解析映射到内存的大文件，开头的BOM会被跳过
+	 *
+	 * @param buffer UTF-8编码的JSON字节缓冲区
+	 * @param config JSON配置
+	 * @since 5.8.29
+	 */
+	public JSONTokener(ByteBuffer buffer, JSONConfig config) {
+		this(null, null, buffer.position(), buffer.limit(), null, buffer, config);
 	}
 
 	/**
@@ -83,7 +224,18 @@ public class JSONTokener {
 	 * @param config JSON配置
 	 */
 	public JSONTokener(CharSequence s, JSONConfig config) {
-		this(new StringReader(StrUtil.str(s)), config);
+		this(null, StrUtil.emptyIfNull(s), config);
+	}
+
+	/**
+	 * 从char数组中构建，直接读取数组，不复制；开启{@link JSONConfig#isLazy()}时复制为字符串
+	 *
+	 * @param chars  JSON字符数组
+	 * @param config JSON配置
+	 * @since 5.8.29
+	 */
+	public JSONTokener(char[] chars, JSONConfig config) {
+		this(null, CharBuffer.wrap(chars), config);
 	}
 	// ------------------------------------------------------------------------------------ Constructor end
 
@@ -133,10 +285,16 @@ public class JSONTokener {
 			this.usePrevious = false;
 			c = this.previous;
 		} else {
-			try {
-				c = this.reader.read();
-			} catch (IOException exception) {
-				throw new JSONException(exception);
+			if (null != this.source) {
+				c = this.pos < this.sourceLength ? this.source.charAt(this.pos++) : 0;
+			} else if (null != this.bytes) {
+				c = nextUtf8Char();
+			} else {
+				try {
+					c = this.reader.read();
+				} catch (IOException exception) {
+					throw new JSONException(exception);
+				}
 			}
 
 			if (c <= 0) { // End of stream
@@ -231,8 +389,71 @@ public class JSONTokener {
 	 * @throws JSONException 出现无结束的字符串时抛出此异常
 	 */
 	public String nextString(char quote) throws JSONException {
+		final StringBuilder sb;
+		if (null != this.source && false == this.usePrevious) {
+			// 快速路径：不含转义符的字符串直接截取
+			final int start = this.pos;
+			int i = start;
+			char c;
+			for (; i < this.sourceLength; i++) {
+				c = this.source.charAt(i);
+				if (c == quote) {
+					final String str = this.source.subSequence(start, i).toString();
+					skipInSource(i + 1);
+					return str;
+				}
+				if (c == '\\' || c == '\n' || c == '\r' || c == 0) {
+					break;
+				}
+			}
+			// 存在转义符，已扫描的部分直接复制
+			sb = new StringBuilder(i - start + 16);
+			sb.append(this.source, start, i);
+			if (i > start) {
+				skipInSource(i);
+			}
+		} else if (null != this.bytes && false == this.usePrevious && 0 == this.pendingLowSurrogate) {
+			// 快速路径：不含转义符的字符串直接解码
+			int start = this.bytePos;
+			int i = start;
+			boolean ascii = true;
+			byte b;
+			while (true) {
+				if (i >= this.byteLimit) {
+					final int offset = i - start;
+					if (false == fillBytes(start)) {
+						break;
+					}
+					start = this.bytePos;
+					i = start + offset;
+					continue;
+				}
+				b = this.bytes.get(i);
+				if (b == quote) {
+					final String str = decodeBytes(start, i, ascii);
+					skipInBytes(i + 1, str.length() + 1, quote);
+					return str;
+				}
+				if (b == '\\' || b == '\n' || b == '\r' || b == 0) {
+					break;
+				}
+				if (b < 0) {
+					ascii = false;
+				}
+				i++;
+			}
+			// 存在转义符，已扫描的部分直接复制，非ASCII字符不会包含以上结束字符，因此不会截断多字节字符
+			sb = new StringBuilder(i - start + 16);
+			if (i > start) {
+				final String str = decodeBytes(start, i, ascii);
+				sb.append(str);
+				skipInBytes(i, str.length(), str.charAt(str.length() - 1));
+			}
+		} else {
+			sb = new StringBuilder();
+		}
+
 		char c;
-		StringBuilder sb = new StringBuilder();
 		while (true) {
 			c = this.next();
 			switch (c) {
@@ -345,18 +566,7 @@ public class JSONTokener {
 		 * characters until we reach the end of the text or a formatting character.
 		 */
 
-		final StringBuilder sb = new StringBuilder();
-		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
-			sb.append(c);
-			c = this.next();
-		}
-		this.back();
-
-		final String string = sb.toString().trim();
-		if (string.isEmpty()) {
-			throw this.syntaxError("Missing value");
-		}
-		return string;
+		return nextLiteral(c);
 	}
 
 	/**
@@ -367,7 +577,6 @@ public class JSONTokener {
 	 */
 	public Object nextValue() throws JSONException {
 		char c = this.nextClean();
-		String string;
 
 		switch (c) {
 			case '"':
@@ -395,18 +604,488 @@ public class JSONTokener {
 		 * characters until we reach the end of the text or a formatting character.
 		 */
 
-		final StringBuilder sb = new StringBuilder();
-		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
-			sb.append(c);
-			c = this.next();
+		if (null != this.source && false == this.usePrevious) {
+			// 快速路径：整数直接在源上解析
+			final Number number = nextIntegerInSource(c);
+			if (null != number) {
+				return number;
+			}
+		}
+		return InternalJSONUtil.stringToValue(nextLiteral(c));
+	}
+
+	/**
+	 * 获取本次解析的键去重器和形状树，用于{@link JSONConfig#isCompact()}模式，不存在时创建
+	 *
+	 * @return {@link JSONShapes}
+	 */
+	JSONShapes getShapes() {
+		if (null == this.shapes || this.shapes.isFrozen()) {
+			// 已冻结的形状树被上一个值中的延迟值共享，后续的值使用新的形状树
+			this.shapes = new JSONShapes();
+		}
+		return this.shapes;
+	}
+
+	/**
+	 * 延迟解析一个值结束后冻结形状树，此后形状树只读，可被该值中的延迟值在多线程中共享<br>
+	 * 只有从字符序列构建时才会产生延迟值，此时对象和数组不会在同一个解析器中嵌套解析
+	 */
+	void freezeShapes() {
+		if (null != this.source && null != this.shapes) {
+			this.shapes.freeze();
+		}
+	}
+
+	/**
+	 * 设置键去重器和形状树，用于延迟解析的值与原解析共享
+	 *
+	 * @param shapes {@link JSONShapes}，{@code null}表示使用新的
+	 * @return this
+	 */
+	JSONTokener setShapes(JSONShapes shapes) {
+		this.shapes = shapes;
+		return this;
+	}
+
+	/**
+	 * 获得下一个值，用于{@link JSONConfig#isLazy()}模式<br>
+	 * 从字符序列构建时，字符串、小数、对象和数组只扫描其结束位置，返回{@link JSONLazyValue}，整数、true、false、null等直接解析；
+	 * 从{@link Reader}构建时等同于{@link #nextValue()}。
+	 *
+	 * @return {@link JSONLazyValue}或解析后的值
+	 * @throws JSONException 语法错误
+	 */
+	Object nextLazyValue() throws JSONException {
+		if (null == this.source) {
+			return nextValue();
+		}
+		// 无论是否回退，当前字符均位于pos - 1
+		final char c = this.nextClean();
+		final int start = this.pos - 1;
+		switch (c) {
+			case '"':
+			case '\'':
+				return lazyValue(start, skipStringInSource(this.pos, c));
+			case '{':
+			case '[':
+				return lazyValue(start, skipStructureInSource(start));
+		}
+
+		if (c == '-' || c == '.' || isDigit(c)) {
+			final Number number = nextIntegerInSource(c);
+			if (null != number) {
+				return number;
+			}
+			// 小数等，扫描到结束字符
+			int i = start + 1;
+			char n;
+			while (i < this.sourceLength && (n = this.source.charAt(i)) >= ' ' && LITERAL_END.indexOf(n) < 0) {
+				i++;
+			}
+			return lazyValue(start, i);
+		}
+		// true、false、null及其它不带引号的文本
+		return InternalJSONUtil.stringToValue(nextLiteral(c));
+	}
+
+	/**
+	 * 创建延迟解析的值，并跳到值的结束位置
+	 *
+	 * @param start 值的起始位置（包含）
+	 * @param end   值的结束位置（不包含）
+	 * @return {@link JSONLazyValue}
+	 */
+	private JSONLazyValue lazyValue(int start, int end) {
+		// 跳过的字符中可能包含换行符，需同步更新行号
+		int lastLineEnd = -1;
+		for (int i = this.pos; i < end; i++) {
+			if (this.source.charAt(i) == '\n') {
+				this.line++;
+				lastLineEnd = i;
+			}
+		}
+		skipInSource(end);
+		if (lastLineEnd >= 0) {
+			this.character = end - 1 - lastLineEnd;
+		}
+		return new JSONLazyValue(this.source, start, end, null != this.config && this.config.isCompact() ? getShapes() : null);
+	}
+
+	/**
+	 * 在字符序列源中扫描字符串的结束位置，不解码转义符
+	 *
+	 * @param from  引号后的第一个字符位置
+	 * @param quote 引号
+	 * @return 结束引号后的位置
+	 * @throws JSONException 字符串未结束
+	 */
+	private int skipStringInSource(int from, char quote) throws JSONException {
+		char c;
+		for (int i = from; i < this.sourceLength; i++) {
+			c = this.source.charAt(i);
+			if (c == quote) {
+				return i + 1;
+			}
+			if (c == '\\') {
+				i++;
+			} else if (c == '\n' || c == '\r') {
+				break;
+			}
+		}
+		throw this.syntaxError("Unterminated string");
+	}
+
+	/**
+	 * 在字符序列源中扫描对象或数组的结束位置，只匹配括号和跳过字符串，不校验内部语法
+	 *
+	 * @param start 开始括号的位置
+	 * @return 结束括号后的位置
+	 * @throws JSONException 括号不匹配或字符串未结束
+	 */
+	private int skipStructureInSource(int start) throws JSONException {
+		int depth = 0;
+		// 上一个非空白字符，用于区分单引号字符串和不带引号文本中的单引号
+		char last = 0;
+		char c;
+		for (int i = start; i < this.sourceLength; i++) {
+			c = this.source.charAt(i);
+			switch (c) {
+				case '{':
+				case '[':
+					depth++;
+					break;
+				case '}':
+				case ']':
+					if (--depth == 0) {
+						return i + 1;
+					}
+					break;
+				case '"':
+					i = skipStringInSource(i + 1, c) - 1;
+					break;
+				case '\'':
+					if (last == '{' || last == '[' || last == ',' || last == ':') {
+						i = skipStringInSource(i + 1, c) - 1;
+					}
+					break;
+			}
+			if (c > ' ') {
+				last = c;
+			}
+		}
+		throw this.syntaxError(this.source.charAt(start) == '{' ?
+				"A JSONObject text must end with '}'" : "A JSONArray text must end with ']'");
+	}
+
+	/**
+	 * 读取不带引号的值或键，读取到结束字符为止（不包括结束字符）
+	 *
+	 * @param c 已读取的首个字符
+	 * @return 去除首尾空白的值
+	 * @throws JSONException 值为空
+	 */
+	private String nextLiteral(char c) throws JSONException {
+		String string = null;
+		if (null != this.source && false == this.usePrevious) {
+			// 快速路径：直接截取
+			final int start = this.pos - 1;
+			int i = this.pos;
+			while (c >= ' ' && LITERAL_END.indexOf(c) < 0) {
+				c = i < this.sourceLength ? this.source.charAt(i) : 0;
+				i++;
+			}
+			// i - 1为结束字符的位置
+			if (i - 1 > this.pos) {
+				skipInSource(i - 1);
+			} else if (i - 1 < this.pos) {
+				// 首个字符即为结束字符，回退
+				this.back();
+			}
+			string = this.source.subSequence(start, Math.max(start, i - 1)).toString().trim();
+		} else {
+			if (null != this.bytes && false == this.usePrevious && 0 == this.pendingLowSurrogate
+					&& c > ' ' && c < 0x80 && LITERAL_END.indexOf(c) < 0) {
+				// 快速路径：只包含ASCII字符的值直接截取
+				string = nextAsciiLiteral();
+			}
+			if (null == string) {
+				final StringBuilder sb = new StringBuilder();
+				while (c >= ' ' && LITERAL_END.indexOf(c) < 0) {
+					sb.append(c);
+					c = this.next();
+				}
+				this.back();
+				string = sb.toString();
+			}
+			string = string.trim();
 		}
-		this.back();
 
-		string = sb.toString().trim();
 		if (string.isEmpty()) {
 			throw this.syntaxError("Missing value");
 		}
-		return InternalJSONUtil.stringToValue(string);
+		return string;
+	}
+
+	/**
+	 * 在字节源上读取只包含ASCII字符的不带引号的值，首个字符已读取，读取到结束字符为止（不包括结束字符）
+	 *
+	 * @return 值，包含非ASCII字符时返回{@code null}，此时不移动位置
+	 */
+	private String nextAsciiLiteral() {
+		int start = this.bytePos - 1;
+		int i = this.bytePos;
+		byte b;
+		while (true) {
+			if (i >= this.byteLimit) {
+				final int offset = i - start;
+				if (false == fillBytes(start)) {
+					break;
+				}
+				start = this.bytePos - 1;
+				i = start + offset;
+				continue;
+			}
+			b = this.bytes.get(i);
+			if (b < 0) {
+				return null;
+			}
+			if (b < ' ' || LITERAL_END.indexOf(b) >= 0) {
+				break;
+			}
+			i++;
+		}
+		if (i > this.bytePos) {
+			skipInBytes(i, i - this.bytePos, (char) this.bytes.get(i - 1));
+		}
+		return decodeBytes(start, i, true);
+	}
+
+	/**
+	 * 在字符序列源上直接解析整数，非整数（如小数、超出long范围、带前导0等）返回{@code null}，此时不移动位置
+	 *
+	 * @param c 已读取的首个字符
+	 * @return Integer或Long，非整数返回{@code null}
+	 */
+	private Number nextIntegerInSource(char c) {
+		int i = this.pos;
+		final boolean negative = c == '-';
+		if (negative) {
+			if (i >= this.sourceLength) {
+				return null;
+			}
+			c = this.source.charAt(i++);
+		}
+		if (c < '0' || c > '9' || (c == '0' && i < this.sourceLength && isDigit(this.source.charAt(i)))) {
+			return null;
+		}
+		long value = c - '0';
+		final int digitStart = i - 1;
+		while (i < this.sourceLength && isDigit(c = this.source.charAt(i))) {
+			value = value * 10 + (c - '0');
+			i++;
+		}
+		// 最多18位，保证不溢出
+		if (i - digitStart > 18) {
+			return null;
+		}
+		final char end = i < this.sourceLength ? this.source.charAt(i) : 0;
+		if (end >= ' ' && LITERAL_END.indexOf(end) < 0) {
+			// 后续还有其它字符，如小数点、指数或其它文本
+			return null;
+		}
+		if (negative) {
+			if (0 == value) {
+				// "-0"按照字符串处理，与InternalJSONUtil.stringToValue保持一致
+				return null;
+			}
+			value = -value;
+		}
+		skipInSource(i);
+		if (value == (int) value) {
+			return (int) value;
+		}
+		return value;
+	}
+
+	/**
+	 * 在字符序列源中跳到指定位置，跳过的字符中不能包含换行符
+	 *
+	 * @param newPos 新位置，大于当前位置
+	 */
+	private void skipInSource(int newPos) {
+		final int count = newPos - this.pos;
+		this.pos = newPos;
+		this.index += count;
+		this.character += count;
+		this.previous = this.source.charAt(newPos - 1);
+	}
+
+	/**
+	 * 跳过字节源开头的UTF-8 BOM
+	 */
+	private void skipBom() {
+		while (this.byteLimit - this.bytePos < 3 && fillBytes(this.bytePos)) {
+			// 流模式下读取足够的字节
+		}
+		if (this.byteLimit - this.bytePos >= 3 && (this.bytes.get(this.bytePos) & 0xFF) == 0xEF
+				&& (this.bytes.get(this.bytePos + 1) & 0xFF) == 0xBB && (this.bytes.get(this.bytePos + 2) & 0xFF) == 0xBF) {
+			this.bytePos += 3;
+		}
+	}
+
+	/**
+	 * 从字节源中读取下一个字符，多字节字符按照UTF-8解码，四字节字符解码为代理对，非法的字节序列解码为U+FFFD
+	 *
+	 * @return 字符，-1表示结束
+	 */
+	private int nextUtf8Char() {
+		if (0 != this.pendingLowSurrogate) {
+			final char c = this.pendingLowSurrogate;
+			this.pendingLowSurrogate = 0;
+			return c;
+		}
+		final int b = nextByte();
+		if (b < 0x80) {
+			// ASCII或结束
+			return b;
+		}
+
+		final int count;
+		int codePoint;
+		if ((b & 0xE0) == 0xC0) {
+			count = 1;
+			codePoint = b & 0x1F;
+		} else if ((b & 0xF0) == 0xE0) {
+			count = 2;
+			codePoint = b & 0x0F;
+		} else if ((b & 0xF8) == 0xF0) {
+			count = 3;
+			codePoint = b & 0x07;
+		} else {
+			return 0xFFFD;
+		}
+		int n;
+		for (int i = 0; i < count; i++) {
+			if (this.bytePos >= this.byteLimit && false == fillBytes(this.bytePos)) {
+				return 0xFFFD;
+			}
+			n = this.bytes.get(this.bytePos) & 0xFF;
+			if ((n & 0xC0) != 0x80) {
+				// 不消费非后续字节
+				return 0xFFFD;
+			}
+			this.bytePos++;
+			codePoint = (codePoint << 6) | (n & 0x3F);
+		}
+		if (codePoint > Character.MAX_VALUE) {
+			this.pendingLowSurrogate = Character.lowSurrogate(codePoint);
+			return Character.highSurrogate(codePoint);
+		}
+		return codePoint;
+	}
+
+	/**
+	 * 从字节源中读取下一个字节
+	 *
+	 * @return 无符号字节，-1表示结束
+	 */
+	private int nextByte() {
+		if (this.bytePos >= this.byteLimit && false == fillBytes(this.bytePos)) {
+			return -1;
+		}
+		return this.bytes.get(this.bytePos++) & 0xFF;
+	}
+
+	/**
+	 * 从流中补充数据到字节源，缓冲区已满时丢弃keepFrom之前的数据，需要保留的数据超过缓冲区一半时扩容<br>
+	 * 补充后{@link #bytePos}等位置可能改变，调用方需要按照相对位置重新计算
+	 *
+	 * @param keepFrom 需要保留的数据的起始位置
+	 * @return 是否补充了数据，非流模式或流结束时返回{@code false}
+	 * @throws JSONException IO异常
+	 */
+	private boolean fillBytes(int keepFrom) throws JSONException {
+		if (null == this.in) {
+			return false;
+		}
+		byte[] buf = this.bytes.array();
+		if (this.byteLimit == buf.length) {
+			if (this.byteMark >= 0) {
+				keepFrom = Math.min(keepFrom, this.byteMark);
+			}
+			final int keep = this.byteLimit - keepFrom;
+			final byte[] target = keep > (buf.length >> 1) ? new byte[buf.length << 1] : buf;
+			System.arraycopy(buf, keepFrom, target, 0, keep);
+			this.bytePos -= keepFrom;
+			this.byteLimit = keep;
+			if (this.byteMark >= 0) {
+				this.byteMark -= keepFrom;
+			}
+			if (target != buf) {
+				buf = target;
+				this.bytes = ByteBuffer.wrap(target);
+			}
+		}
+
+		final int read;
+		try {
+			read = this.in.read(buf, this.byteLimit, buf.length - this.byteLimit);
+		} catch (IOException e) {
+			throw new JSONException(e);
+		}
+		if (read <= 0) {
+			return false;
+		}
+		this.byteLimit += read;
+		return true;
+	}
+
+	/**
+	 * 将字节源中指定区间的字节解码为字符串
+	 *
+	 * @param start 起始位置（包含）
+	 * @param end   结束位置（不包含）
+	 * @param ascii 是否只包含ASCII字符
+	 * @return 字符串
+	 */
+	private String decodeBytes(int start, int end, boolean ascii) {
+		final int length = end - start;
+		if (0 == length) {
+			return StrUtil.EMPTY;
+		}
+		final byte[] array;
+		final int offset;
+		if (this.bytes.hasArray()) {
+			array = this.bytes.array();
+			offset = this.bytes.arrayOffset() + start;
+		} else {
+			// 堆外缓冲区或只读缓冲区，复制到临时数组
+			array = new byte[length];
+			offset = 0;
+			final ByteBuffer duplicate = this.bytes.duplicate();
+			duplicate.position(start);
+			duplicate.get(array, 0, length);
+		}
+		return new String(array, offset, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 在字节源中跳到指定位置，跳过的字符中不能包含换行符
+	 *
+	 * @param newPos   新位置
+	 * @param count    跳过的字符数
+	 * @param previous 跳过的最后一个字符
+	 */
+	private void skipInBytes(int newPos, int count, char previous) {
+		this.bytePos = newPos;
+		this.index += count;
+		this.character += count;
+		this.previous = previous;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
 	}
 
 	/**
@@ -417,6 +1096,36 @@ public class JSONTokener {
 	 */
 	public char skipTo(char to) throws JSONException {
 		char c;
+		if (null != this.source || null != this.bytes) {
+			final int startPos = this.pos;
+			// 字节源补充数据时可能移动位置，通过标记记录起始位置
+			this.byteMark = this.bytePos;
+			final char startPendingLowSurrogate = this.pendingLowSurrogate;
+			final long startIndex = this.index;
+			final long startCharacter = this.character;
+			final long startLine = this.line;
+			final char startPrevious = this.previous;
+			final boolean startUsePrevious = this.usePrevious;
+			do {
+				c = this.next();
+				if (c == 0) {
+					this.pos = startPos;
+					this.bytePos = this.byteMark;
+					this.byteMark = -1;
+					this.pendingLowSurrogate = startPendingLowSurrogate;
+					this.index = startIndex;
+					this.character = startCharacter;
+					this.line = startLine;
+					this.previous = startPrevious;
+					this.usePrevious = startUsePrevious;
+					this.eof = false;
+					return c;
+				}
+			} while (c != to);
+			this.byteMark = -1;
+			this.back();
+			return c;
+		}
 		try {
 			long startIndex = this.index;
 			long startCharacter = this.character;
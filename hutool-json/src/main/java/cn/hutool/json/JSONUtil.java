@@ -6,12 +6,14 @@ import cn.hutool.core.io.file.FileReader;
 import cn.hutool.core.lang.TypeReference;
 import cn.hutool.core.map.MapWrapper;
 import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.HexUtil;
 import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.serialize.GlobalSerializeMapping;
 import cn.hutool.json.serialize.JSONArraySerializer;
+import cn.hutool.json.serialize.JSONBeanWriter;
 import cn.hutool.json.serialize.JSONDeserializer;
 import cn.hutool.json.serialize.JSONObjectSerializer;
 
@@ -368,6 +370,10 @@ public class JSONUtil {
 		if (obj instanceof CharSequence) {
 			return StrUtil.str((CharSequence) obj);
 		}
+		if (JSONBeanWriter.isSupported(obj, jsonConfig)) {
+			// 普通Bean直接写出，不构建中间的JSONObject
+			return JSONBeanWriter.toJsonStr(obj, 0, jsonConfig);
+		}
 		return toJsonStr(parse(obj, jsonConfig));
 	}
 
@@ -379,7 +385,9 @@ public class JSONUtil {
 	 * @since 5.3.3
 	 */
 	public static void toJsonStr(Object obj, Writer writer) {
-		if (null != obj) {
+		if (JSONBeanWriter.isSupported(obj, null)) {
+			JSONBeanWriter.write(obj, writer, 0, null);
+		} else if (null != obj) {
 			toJsonStr(parse(obj), writer);
 		}
 	}
@@ -391,6 +399,9 @@ public class JSONUtil {
 	 * @return JSON字符串
 	 */
 	public static String toJsonPrettyStr(Object obj) {
+		if (JSONBeanWriter.isSupported(obj, null)) {
+			return JSONBeanWriter.toJsonStr(obj, 4, null);
+		}
 		return toJsonPrettyStr(parse(obj));
 	}
 
@@ -408,7 +419,8 @@ public class JSONUtil {
 	// -------------------------------------------------------------------- toBean start
 
 	/**
-	 * JSON字符串转为实体类对象，转换异常将被抛出
+	 * JSON字符串转为实体类对象，转换异常将被抛出<br>
+	 * 对于普通Bean，通过{@link JSONBeanBinder}直接绑定，不构建中间的{@link JSONObject}
 	 *
 	 * @param <T>        Bean类型
 	 * @param jsonString JSON字符串
@@ -417,12 +429,13 @@ public class JSONUtil {
 	 * @since 3.1.2
 	 */
 	public static <T> T toBean(String jsonString, Class<T> beanClass) {
-		return toBean(parseObj(jsonString), beanClass);
+		return toBean(jsonString, (JSONConfig) null, beanClass);
 	}
 
 	/**
 	 * JSON字符串转为实体类对象，转换异常将被抛出<br>
-	 * 通过{@link JSONConfig}可选是否忽略大小写、忽略null等配置
+	 * 通过{@link JSONConfig}可选是否忽略大小写、忽略null等配置<br>
+	 * 对于普通Bean，通过{@link JSONBeanBinder}直接绑定，不构建中间的{@link JSONObject}
 	 *
 	 * @param <T>        Bean类型
 	 * @param jsonString JSON字符串
@@ -432,6 +445,15 @@ public class JSONUtil {
 	 * @since 5.8.0
 	 */
 	public static <T> T toBean(String jsonString, JSONConfig config, Class<T> beanClass) {
+		if (null == config) {
+			config = JSONConfig.create();
+		}
+		// 检查重复键时需要完整的JSONObject，因此只对普通JSON对象直接绑定
+		if (false == config.isCheckDuplicate()
+				&& StrUtil.startWith(StrUtil.trimStart(jsonString), CharUtil.DELIM_START)
+				&& JSONBeanBinder.isBindable(beanClass)) {
+			return JSONBeanBinder.toBean(jsonString, beanClass, config);
+		}
 		return toBean(parseObj(jsonString, config), beanClass);
 	}
 
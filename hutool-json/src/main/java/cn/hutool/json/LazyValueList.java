@@ -0,0 +1,95 @@
+package cn.hutool.json;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * 延迟解析模式下{@link JSONArray}使用的原始列表<br>
+ * 元素可能为{@link JSONLazyValue}，按下标读取时解码并替换为解码结果，迭代、比较等操作均通过{@link #get(int)}读取。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class LazyValueList extends AbstractList<Object> implements RandomAccess, Serializable, Cloneable {
+	private static final long serialVersionUID = 1L;
+
+	private ArrayList<Object> raw;
+	private final JSONConfig config;
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始大小
+	 * @param config          JSON配置
+	 */
+	LazyValueList(int initialCapacity, JSONConfig config) {
+		this.raw = new ArrayList<>(initialCapacity);
+		this.config = config;
+	}
+
+	@Override
+	public Object get(int index) {
+		Object value = this.raw.get(index);
+		if (value instanceof JSONLazyValue) {
+			value = JSONLazyValue.resolveElement(value, this.config);
+			this.raw.set(index, value);
+		}
+		return value;
+	}
+
+	@Override
+	public int size() {
+		return this.raw.size();
+	}
+
+	@Override
+	public boolean add(Object o) {
+		modCount++;
+		return this.raw.add(o);
+	}
+
+	@Override
+	public void add(int index, Object element) {
+		modCount++;
+		this.raw.add(index, element);
+	}
+
+	@Override
+	public Object set(int index, Object element) {
+		return JSONLazyValue.resolveElement(this.raw.set(index, element), this.config);
+	}
+
+	@Override
+	public Object remove(int index) {
+		modCount++;
+		return JSONLazyValue.resolveElement(this.raw.remove(index), this.config);
+	}
+
+	@Override
+	public void clear() {
+		modCount++;
+		this.raw.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public LazyValueList clone() throws CloneNotSupportedException {
+		final LazyValueList clone = (LazyValueList) super.clone();
+		clone.raw = (ArrayList<Object>) this.raw.clone();
+		return clone;
+	}
+
+	/**
+	 * 序列化前解码所有元素，{@link JSONLazyValue}不参与序列化
+	 *
+	 * @return this
+	 */
+	private Object writeReplace() {
+		for (int i = 0; i < this.raw.size(); i++) {
+			get(i);
+		}
+		return this;
+	}
+}
@@ -0,0 +1,215 @@
+package cn.hutool.json;
+
+import cn.hutool.core.map.MapWrapper;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 延迟解析模式下{@link JSONObject}使用的原始Map<br>
+ * 值可能为{@link JSONLazyValue}，按键读取时解码并替换为解码结果；遍历、比较等需要所有值的操作先解码全部值。
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+final class LazyValueMap extends MapWrapper<String, Object> {
+	private static final long serialVersionUID = 1L;
+
+	private final JSONConfig config;
+
+	/**
+	 * 构造
+	 *
+	 * @param raw    被包装的Map
+	 * @param config JSON配置
+	 */
+	LazyValueMap(Map<String, Object> raw, JSONConfig config) {
+		super(raw);
+		this.config = config;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Object get(Object key) {
+		return resolve(key, super.get(key));
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue) {
+		return resolve(key, super.getOrDefault(key, defaultValue));
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		return JSONLazyValue.resolveMember(super.put(key, value), this.config);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		return JSONLazyValue.resolveMember(super.remove(key), this.config);
+	}
+
+	@Override
+	public Collection<Object> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action) {
+		for (Entry<String, Object> entry : getRaw().entrySet()) {
+			action.accept(entry.getKey(), resolve(entry));
+		}
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+		resolveAll();
+		super.replaceAll(function);
+	}
+
+	@Override
+	public Object putIfAbsent(String key, Object value) {
+		return resolve(key, super.putIfAbsent(key, value));
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		get(key);
+		return super.remove(key, value);
+	}
+
+	@Override
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		get(key);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public Object replace(String key, Object value) {
+		return JSONLazyValue.resolveMember(super.replace(key, value), this.config);
+	}
+
+	@Override
+	public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+		get(key);
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+		get(key);
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override
+	public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+		get(key);
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override
+	public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		get(key);
+		return super.merge(key, value, remappingFunction);
+	}
+
+	/**
+	 * 与普通Map的比较规则一致，可以与非延迟解析的{@link JSONObject}比较
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (false == (o instanceof Map)) {
+			return false;
+		}
+		resolveAll();
+		return getRaw().equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		resolveAll();
+		return getRaw().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		resolveAll();
+		return super.toString();
+	}
+
+	@Override
+	public LazyValueMap clone() throws CloneNotSupportedException {
+		return (LazyValueMap) super.clone();
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 解码指定键的值，并替换原值
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 解码后的值
+	 */
+	private Object resolve(Object key, Object value) {
+		if (value instanceof JSONLazyValue) {
+			value = JSONLazyValue.resolveMember(value, this.config);
+			super.put((String) key, value);
+		}
+		return value;
+	}
+
+	/**
+	 * 解码键值对中的值，并替换原值
+	 *
+	 * @param entry 键值对
+	 * @return 解码后的值
+	 */
+	private Object resolve(Entry<String, Object> entry) {
+		Object value = entry.getValue();
+		if (value instanceof JSONLazyValue) {
+			value = JSONLazyValue.resolveMember(value, this.config);
+			entry.setValue(value);
+		}
+		return value;
+	}
+
+	/**
+	 * 解码所有值
+	 */
+	private void resolveAll() {
+		for (Entry<String, Object> entry : getRaw().entrySet()) {
+			resolve(entry);
+		}
+	}
+
+	/**
+	 * 序列化前解码所有值，{@link JSONLazyValue}不参与序列化
+	 *
+	 * @return this
+	 */
+	private Object writeReplace() {
+		resolveAll();
+		return this;
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+}
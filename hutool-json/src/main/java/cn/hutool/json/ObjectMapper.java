@@ -3,7 +3,6 @@ package cn.hutool.json;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.ArrayIter;
 import cn.hutool.core.convert.Convert;
-import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutablePair;
@@ -16,6 +15,7 @@ import cn.hutool.json.serialize.JSONSerializer;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Map;
@@ -29,6 +29,7 @@ import java.util.ResourceBundle;
  *     <li>CharSequence 转 JSONObject，使用JSONTokener解析</li>
  *     <li>{@link Reader} 转 JSONObject，使用JSONTokener解析</li>
  *     <li>{@link InputStream} 转 JSONObject，使用JSONTokener解析</li>
+ *     <li>byte[]和{@link ByteBuffer} 转 JSONObject，使用JSONTokener按照UTF-8字节解析</li>
  *     <li>JSONTokener 转 JSONObject，直接解析</li>
  *     <li>ResourceBundle 转 JSONObject</li>
  *     <li>Bean 转 JSONObject，调用其getters方法（getXXX或者isXXX）获得值，加入到JSON对象。例如：如果JavaBean对象中有个方法getName()，值为"张三"，获得的键值对为：name: "张三"</li>
@@ -101,7 +102,9 @@ public class ObjectMapper {
 		} else if (source instanceof InputStream) {
 			mapFromTokener(new JSONTokener((InputStream) source, jsonObject.getConfig()), jsonObject, filter);
 		} else if (source instanceof byte[]) {
-			mapFromTokener(new JSONTokener(IoUtil.toStream((byte[]) source), jsonObject.getConfig()), jsonObject, filter);
+			mapFromTokener(new JSONTokener((byte[]) source, jsonObject.getConfig()), jsonObject, filter);
+		} else if (source instanceof ByteBuffer) {
+			mapFromTokener(new JSONTokener((ByteBuffer) source, jsonObject.getConfig()), jsonObject, filter);
 		} else if (source instanceof JSONTokener) {
 			// JSONTokener
 			mapFromTokener((JSONTokener) source, jsonObject, filter);
@@ -146,7 +149,7 @@ public class ObjectMapper {
 			final byte[] bytesSource = (byte[]) source;
 			// 如果是普通的的byte[], 要避免下标越界
 			if (bytesSource.length > 1 && '[' == bytesSource[0] && ']' == bytesSource[bytesSource.length - 1]) {
-				mapFromTokener(new JSONTokener(IoUtil.toStream(bytesSource), jsonArray.getConfig()), jsonArray, filter);
+				mapFromTokener(new JSONTokener(bytesSource, jsonArray.getConfig()), jsonArray, filter);
 			}else{
 				// https://github.com/dromara/hutool/issues/2369
 				// 非标准的二进制流，则按照普通数组对待
@@ -154,6 +157,8 @@ public class ObjectMapper {
 					jsonArray.add(b);
 				}
 			}
+		} else if (source instanceof ByteBuffer) {
+			mapFromTokener(new JSONTokener((ByteBuffer) source, jsonArray.getConfig()), jsonArray, filter);
 		} else if (source instanceof JSONTokener) {
 			mapFromTokener((JSONTokener) source, jsonArray, filter);
 		} else {
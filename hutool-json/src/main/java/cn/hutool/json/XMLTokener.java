@@ -32,6 +32,17 @@ public class XMLTokener extends JSONTokener {
 		super(s, config);
 	}
 
+	/**
+	 * 从{@link java.io.Reader}中构建，按需读取，用于流式解析
+	 *
+	 * @param reader {@link java.io.Reader}
+	 * @param config JSON配置
+	 * @since 5.8.29
+	 */
+	public XMLTokener(java.io.Reader reader, JSONConfig config) {
+		super(reader, config);
+	}
+
 	/**
 	 * Get the text in the CDATA block.
 	 *
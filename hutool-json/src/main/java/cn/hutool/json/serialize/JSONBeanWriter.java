@@ -0,0 +1,470 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.convert.NumberWithFormat;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Opt;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ModifierUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONTokener;
+import cn.hutool.json.JSONUtil;
+
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bean直接写出为JSON<br>
+ * 每个Bean类生成一次写出计划并缓存，计划中包含预先转义并包装引号的键、属性的Getter方法句柄以及按照属性类型选择的值写出器，
+ * 写出时直接读取属性值并写出到{@link Writer}，不构建中间的{@link JSONObject}。<br>
+ * 写出结果与{@code JSONUtil.parseObj(bean, config).write(writer)}一致，Map、集合、自定义序列化的类型等仍使用原有方式写出。
+ *
+ * <pre>
+ * String json = JSONBeanWriter.toJsonStr(bean, 0, null);
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONBeanWriter {
+
+	/**
+	 * 写出计划缓存，以类为键弱引用缓存
+	 */
+	private static final WeakConcurrentMap<Class<?>, WritePlan> PLAN_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 判断对象是否可以使用写出计划直接写出，即普通Bean且未自定义序列化，配置不要求忽略大小写或键排序
+	 *
+	 * @param obj    对象
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return 是否可以直接写出
+	 */
+	public static boolean isSupported(Object obj, JSONConfig config) {
+		if (null == obj) {
+			return false;
+		}
+		// 忽略大小写和键排序会改变键名或顺序，只能通过JSONObject实现
+		if (null != config && (config.isIgnoreCase() || null != config.getKeyComparator())) {
+			return false;
+		}
+		return isBeanWritable(obj.getClass());
+	}
+
+	/**
+	 * Bean转为JSON字符串
+	 *
+	 * @param bean         Bean对象，必须满足{@link #isSupported(Object, JSONConfig)}
+	 * @param indentFactor 每一级别的缩进量，0表示不缩进
+	 * @param config       JSON配置，{@code null}表示默认配置
+	 * @return JSON字符串
+	 */
+	public static String toJsonStr(Object bean, int indentFactor, JSONConfig config) {
+		final StringWriter writer = new StringWriter();
+		write(bean, writer, indentFactor, config);
+		return writer.toString();
+	}
+
+	/**
+	 * Bean写出为JSON到{@link Writer}，写出后刷新但不关闭Writer
+	 *
+	 * @param bean         Bean对象，必须满足{@link #isSupported(Object, JSONConfig)}
+	 * @param writer       {@link Writer}
+	 * @param indentFactor 每一级别的缩进量，0表示不缩进
+	 * @param config       JSON配置，{@code null}表示默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public static void write(Object bean, Writer writer, int indentFactor, JSONConfig config) throws IORuntimeException {
+		final JSONWriter jsonWriter = JSONWriter.of(writer, indentFactor, 0, ObjectUtil.defaultIfNull(config, JSONConfig::create));
+		writeBean(jsonWriter, bean);
+		jsonWriter.flush();
+	}
+
+	/**
+	 * Bean写出为JSON到{@link OutputStream}，写出后刷新但不关闭流
+	 *
+	 * @param bean         Bean对象，必须满足{@link #isSupported(Object, JSONConfig)}
+	 * @param out          {@link OutputStream}
+	 * @param charset      编码
+	 * @param indentFactor 每一级别的缩进量，0表示不缩进
+	 * @param config       JSON配置，{@code null}表示默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public static void write(Object bean, OutputStream out, Charset charset, int indentFactor, JSONConfig config) throws IORuntimeException {
+		write(bean, IoUtil.getWriter(out, charset), indentFactor, config);
+	}
+
+	/**
+	 * 清空写出计划缓存
+	 */
+	public static void clearCache() {
+		PLAN_CACHE.clear();
+	}
+
+	// ------------------------------------------------------------------------------------ Package and private method
+
+	/**
+	 * 使用写出计划将Bean写出为JSON对象，使用给定的JSONWriter作为对象这一级
+	 *
+	 * @param jsonWriter 本级的{@link JSONWriter}
+	 * @param bean       Bean对象
+	 */
+	static void writeBean(JSONWriter jsonWriter, Object bean) {
+		if (null == bean) {
+			jsonWriter.writeObjValue(null, null);
+			return;
+		}
+		getPlan(bean.getClass()).write(jsonWriter, bean);
+	}
+
+	/**
+	 * 类是否为可直接写出的普通Bean
+	 *
+	 * @param clazz 类
+	 * @return 是否可直接写出
+	 */
+	private static boolean isBeanWritable(Class<?> clazz) {
+		return getPlan(clazz).writable && null == GlobalSerializeMapping.getSerializer(clazz);
+	}
+
+	/**
+	 * 获取类的写出计划，不存在则创建并缓存
+	 *
+	 * @param clazz 类
+	 * @return 写出计划
+	 */
+	private static WritePlan getPlan(Class<?> clazz) {
+		return PLAN_CACHE.computeIfAbsent(clazz, WritePlan::new);
+	}
+
+	/**
+	 * 按照运行时类型写出值，规则与{@link JSONUtil#wrap(Object, JSONConfig)}后再写出一致，值不能为{@code null}
+	 *
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param value      值
+	 */
+	private static void writeDynamic(JSONWriter jsonWriter, Object value) {
+		final JSONConfig config = jsonWriter.getConfig();
+		if (value instanceof JSON || value instanceof JSONString) {
+			jsonWriter.writeObjValue(value, null);
+		} else if (value instanceof CharSequence) {
+			jsonWriter.writeStrValue(value.toString());
+		} else if (value instanceof Number) {
+			writeNumber(jsonWriter, (Number) value);
+		} else if (value instanceof Boolean) {
+			jsonWriter.writeBooleanValue((Boolean) value);
+		} else if (ObjectUtil.isBasicType(value)) {
+			// char
+			jsonWriter.writeStrValue(value.toString());
+		} else if (value instanceof SQLException) {
+			jsonWriter.writeStrValue(value.toString());
+		} else if (value instanceof Iterable || ArrayUtil.isArray(value)) {
+			writeArray(jsonWriter, value);
+		} else if (value instanceof Map || value instanceof Map.Entry) {
+			writeJSON(jsonWriter, new JSONObject(value, config));
+		} else if (value instanceof Date || value instanceof Calendar || value instanceof TemporalAccessor) {
+			jsonWriter.writeObjValue(value, null);
+		} else if (value instanceof Enum) {
+			jsonWriter.writeStrValue(value.toString());
+		} else if (value instanceof Class) {
+			jsonWriter.writeStrValue(((Class<?>) value).getName());
+		} else if (ClassUtil.isJdkClass(value.getClass())) {
+			jsonWriter.writeStrValue(value.toString());
+		} else if (isBeanWritable(value.getClass())) {
+			getPlan(value.getClass()).write(jsonWriter.child(), value);
+		} else {
+			writeJSON(jsonWriter, new JSONObject(value, config));
+		}
+	}
+
+	/**
+	 * 写出数字，非有限数字抛出异常
+	 *
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param number     数字
+	 */
+	private static void writeNumber(JSONWriter jsonWriter, Number number) {
+		if (false == ObjectUtil.isValidIfNumber(number)) {
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+		final String dateFormat = jsonWriter.getConfig().getDateFormat();
+		// 与JSONObject保持一致，配置了日期格式时数字包装为NumberWithFormat
+		jsonWriter.writeObjValue(null == dateFormat ? number : new NumberWithFormat(number, dateFormat), null);
+	}
+
+	/**
+	 * 写出数组或集合，元素逐个按照运行时类型写出
+	 *
+	 * @param jsonWriter {@link JSONWriter}
+	 * @param value      数组或{@link Iterable}
+	 */
+	private static void writeArray(JSONWriter jsonWriter, Object value) {
+		final JSONConfig config = jsonWriter.getConfig();
+		if (value instanceof byte[] || null != GlobalSerializeMapping.getSerializer(value.getClass())) {
+			// byte[]可能为JSON数组字符串，自定义序列化的类型，交给JSONArray处理
+			writeJSON(jsonWriter, new JSONArray(value, config));
+			return;
+		}
+
+		final boolean ignoreNullValue = config.isIgnoreNullValue();
+		final Iterator<?> iter = ArrayUtil.isArray(value) ? new ArrayIter<>(value) : ((Iterable<?>) value).iterator();
+		final JSONWriter child = jsonWriter.child().beginArray();
+		Object element;
+		while (iter.hasNext()) {
+			element = iter.next();
+			if (element == value) {
+				// 检查循环引用
+				continue;
+			}
+			if (ObjectUtil.isNull(element)) {
+				if (false == ignoreNullValue) {
+					child.writeValuePrefix().writeObjValue(null, null);
+				}
+				continue;
+			}
+			writeDynamic(child.writeValuePrefix(), element);
+		}
+		child.endWithoutFlush();
+	}
+
+	/**
+	 * 写出嵌套的{@link JSON}
+	 *
+	 * @param jsonWriter 上一级的{@link JSONWriter}
+	 * @param json       JSON
+	 */
+	private static void writeJSON(JSONWriter jsonWriter, JSON json) {
+		jsonWriter.writeObjValue(json, null);
+	}
+
+	/**
+	 * 值写出器，按照属性声明的类型选择，值不为{@code null}
+	 */
+	@FunctionalInterface
+	private interface ValueWriter {
+		/**
+		 * 写出值
+		 *
+		 * @param jsonWriter {@link JSONWriter}
+		 * @param value      值
+		 */
+		void write(JSONWriter jsonWriter, Object value);
+	}
+
+	private static final ValueWriter STRING_WRITER = (jsonWriter, value) -> jsonWriter.writeStrValue(value.toString());
+	private static final ValueWriter BOOLEAN_WRITER = (jsonWriter, value) -> jsonWriter.writeBooleanValue((Boolean) value);
+	private static final ValueWriter INT_WRITER = (jsonWriter, value) -> {
+		if (null == jsonWriter.getConfig().getDateFormat()) {
+			jsonWriter.writeRaw(value.toString());
+		} else {
+			writeNumber(jsonWriter, (Number) value);
+		}
+	};
+	private static final ValueWriter LONG_WRITER = (jsonWriter, value) -> {
+		final JSONConfig config = jsonWriter.getConfig();
+		if (null != config.getDateFormat()) {
+			writeNumber(jsonWriter, (Number) value);
+		} else if (config.isWriteLongAsString()) {
+			jsonWriter.writeStrValue(value.toString());
+		} else {
+			jsonWriter.writeRaw(value.toString());
+		}
+	};
+	private static final ValueWriter DYNAMIC_WRITER = JSONBeanWriter::writeDynamic;
+
+	/**
+	 * 根据属性声明的类型选择值写出器
+	 *
+	 * @param propClass 属性类型
+	 * @return 值写出器
+	 */
+	private static ValueWriter valueWriterFor(Class<?> propClass) {
+		if (String.class == propClass) {
+			return STRING_WRITER;
+		} else if (boolean.class == propClass || Boolean.class == propClass) {
+			return BOOLEAN_WRITER;
+		} else if (int.class == propClass || Integer.class == propClass
+				|| short.class == propClass || Short.class == propClass
+				|| byte.class == propClass || Byte.class == propClass) {
+			return INT_WRITER;
+		} else if (long.class == propClass || Long.class == propClass) {
+			return LONG_WRITER;
+		}
+		return DYNAMIC_WRITER;
+	}
+
+	/**
+	 * 单个类的写出计划
+	 */
+	private static class WritePlan {
+		final boolean writable;
+		final PropWriter[] props;
+
+		WritePlan(Class<?> clazz) {
+			this.writable = isBeanClass(clazz);
+			if (false == this.writable) {
+				this.props = new PropWriter[0];
+				return;
+			}
+
+			final List<PropWriter> props = new ArrayList<>();
+			for (PropDesc prop : BeanUtil.getBeanDesc(clazz).getProps()) {
+				if (null != prop.getFieldName() && prop.isReadable(false)) {
+					props.add(new PropWriter(prop));
+				}
+			}
+			this.props = props.toArray(new PropWriter[0]);
+		}
+
+		/**
+		 * 写出Bean
+		 *
+		 * @param jsonWriter 对象这一级的{@link JSONWriter}
+		 * @param bean       Bean对象
+		 */
+		void write(JSONWriter jsonWriter, Object bean) {
+			final JSONConfig config = jsonWriter.getConfig();
+			final boolean transientSupport = config.isTransientSupport();
+			final boolean ignoreNullValue = config.isIgnoreNullValue();
+
+			jsonWriter.beginObj();
+			Object value;
+			for (PropWriter prop : props) {
+				if (transientSupport && prop.isTransient) {
+					continue;
+				}
+				value = prop.getValue(bean);
+				if (ObjectUtil.isNull(value)) {
+					if (false == ignoreNullValue) {
+						jsonWriter.writeQuotedKey(prop.quotedKey).writeValuePrefix().writeObjValue(null, null);
+					}
+					continue;
+				}
+				prop.valueWriter.write(jsonWriter.writeQuotedKey(prop.quotedKey).writeValuePrefix(), value);
+			}
+			jsonWriter.endWithoutFlush();
+		}
+
+		/**
+		 * 判断是否为可直接写出的普通Bean类
+		 *
+		 * @param clazz 类
+		 * @return 是否可写出
+		 */
+		private static boolean isBeanClass(Class<?> clazz) {
+			if (ClassUtil.isJdkClass(clazz)
+					|| clazz.isArray()
+					|| clazz.isEnum()
+					|| JSON.class.isAssignableFrom(clazz)
+					|| JSONTokener.class.isAssignableFrom(clazz)
+					|| Map.class.isAssignableFrom(clazz)
+					|| Map.Entry.class.isAssignableFrom(clazz)
+					|| Iterable.class.isAssignableFrom(clazz)
+					|| Iterator.class.isAssignableFrom(clazz)) {
+				return false;
+			}
+			return BeanUtil.isReadableBean(clazz);
+		}
+	}
+
+	/**
+	 * 单个属性的写出方式
+	 */
+	private static class PropWriter {
+		/**
+		 * 包装引号并转义后的键
+		 */
+		final char[] quotedKey;
+		final PropDesc prop;
+		/**
+		 * Getter或public字段的方法句柄，类型为(Object)Object，无法创建时为{@code null}
+		 */
+		final MethodHandle getter;
+		final boolean isTransient;
+		final ValueWriter valueWriter;
+		/**
+		 * 值是否可能为Optional或Opt，与BeanUtil.beanToMap一致需要解包
+		 */
+		final boolean unwrapOptional;
+
+		PropWriter(PropDesc prop) {
+			this.quotedKey = JSONUtil.quote(prop.getFieldName()).toCharArray();
+			this.prop = prop;
+			this.getter = createGetter(prop);
+			this.isTransient = false == prop.isReadable(true);
+			final Class<?> propClass = prop.getFieldClass();
+			this.valueWriter = valueWriterFor(propClass);
+			this.unwrapOptional = DYNAMIC_WRITER == this.valueWriter;
+		}
+
+		Object getValue(Object bean) {
+			Object value;
+			if (null != getter) {
+				try {
+					value = getter.invokeExact(bean);
+				} catch (Throwable e) {
+					throw ExceptionUtil.wrapRuntime(e);
+				}
+			} else {
+				value = prop.getValue(bean);
+			}
+
+			if (unwrapOptional) {
+				if (value instanceof Optional) {
+					value = ((Optional<?>) value).orElse(null);
+				} else if (value instanceof Opt) {
+					value = ((Opt<?>) value).get();
+				}
+			}
+			return value;
+		}
+
+		/**
+		 * 创建Getter方法或public字段的方法句柄
+		 *
+		 * @param prop 属性
+		 * @return 方法句柄，无法创建返回{@code null}
+		 */
+		private static MethodHandle createGetter(PropDesc prop) {
+			final MethodType type = MethodType.methodType(Object.class, Object.class);
+			final Method getter = prop.getGetter();
+			try {
+				if (null != getter) {
+					return MethodHandles.lookup().unreflect(getter).asType(type);
+				} else if (ModifierUtil.isPublic(prop.getField())) {
+					return MethodHandles.lookup().unreflectGetter(prop.getField()).asType(type);
+				}
+			} catch (IllegalAccessException | IllegalArgumentException e) {
+				// 无法访问时使用反射
+			}
+			return null;
+		}
+	}
+}
@@ -119,13 +119,8 @@ public class JSONWriter extends Writer {
 	 * @return this
 	 */
 	public JSONWriter end() {
-		// 换行缩进
-		writeLF().writeSpace(indent);
-		writeRaw(arrayMode ? CharUtil.BRACKET_END : CharUtil.DELIM_END);
+		endWithoutFlush();
 		flush();
-		arrayMode = false;
-		// 当前对象或数组结束，当新的
-		needSeparator = true;
 		return this;
 	}
 
@@ -198,6 +193,20 @@ public class JSONWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * 写出Bean，使用{@link JSONBeanWriter}缓存的写出计划直接写出属性，不构建中间的{@link JSONObject}<br>
+	 * 在JSONArray模式下写出为数组的元素，否则写出为上一个键对应的值
+	 *
+	 * @param bean Bean对象，必须满足{@link JSONBeanWriter#isSupported(Object, JSONConfig)}
+	 * @return this
+	 * @since 5.8.29
+	 */
+	public JSONWriter writeBean(Object bean) {
+		writeValuePrefix();
+		JSONBeanWriter.writeBean(child(), bean);
+		return this;
+	}
+
 	@Override
 	public void write(char[] cbuf, int off, int len) throws IOException {
 		this.writer.write(cbuf, off, len);
@@ -217,15 +226,64 @@ public class JSONWriter extends Writer {
 		this.writer.close();
 	}
 
-	// ------------------------------------------------------------------------------ Private methods
+	// ------------------------------------------------------------------------------ Package methods for JSONBeanWriter
 	/**
-	 * 写出值，自动处理分隔符和缩进，自动判断类型，并根据不同类型写出特定格式的值
+	 * @return JSON选项
+	 */
+	JSONConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * 创建下一级的JSONWriter，用于写出嵌套的对象或数组
 	 *
-	 * @param value 值
-	 * @param filter 键值对过滤器
+	 * @return 下一级的JSONWriter
+	 */
+	JSONWriter child() {
+		return new JSONWriter(this.writer, this.indentFactor, this.indentFactor + this.indent, this.config);
+	}
+
+	/**
+	 * 写出已经包装引号并转义的键，自动处理分隔符和缩进
+	 *
+	 * @param quotedKey 包装引号并转义后的键
 	 * @return this
 	 */
-	private JSONWriter writeValueDirect(Object value, Filter<MutablePair<Object, Object>> filter) {
+	JSONWriter writeQuotedKey(char[] quotedKey) {
+		if (needSeparator) {
+			writeRaw(CharUtil.COMMA);
+		}
+		// 换行缩进
+		writeLF().writeSpace(indentFactor + indent);
+		try {
+			writer.write(quotedKey);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 结束，补充"}"或"]"，不刷新Writer
+	 *
+	 * @return this
+	 */
+	JSONWriter endWithoutFlush() {
+		// 换行缩进
+		writeLF().writeSpace(indent);
+		writeRaw(arrayMode ? CharUtil.BRACKET_END : CharUtil.DELIM_END);
+		arrayMode = false;
+		// 当前对象或数组结束，当新的
+		needSeparator = true;
+		return this;
+	}
+
+	/**
+	 * 写出值之前的分隔符和缩进，JSONArray模式下为逗号和缩进，否则为冒号
+	 *
+	 * @return this
+	 */
+	JSONWriter writeValuePrefix() {
 		if (arrayMode) {
 			if (needSeparator) {
 				writeRaw(CharUtil.COMMA);
@@ -236,7 +294,19 @@ public class JSONWriter extends Writer {
 			writeRaw(CharUtil.COLON).writeSpace(1);
 		}
 		needSeparator = true;
-		return writeObjValue(value, filter);
+		return this;
+	}
+
+	// ------------------------------------------------------------------------------ Private methods
+	/**
+	 * 写出值，自动处理分隔符和缩进，自动判断类型，并根据不同类型写出特定格式的值
+	 *
+	 * @param value 值
+	 * @param filter 键值对过滤器
+	 * @return this
+	 */
+	private JSONWriter writeValueDirect(Object value, Filter<MutablePair<Object, Object>> filter) {
+		return writeValuePrefix().writeObjValue(value, filter);
 	}
 
 	/**
@@ -246,7 +316,7 @@ public class JSONWriter extends Writer {
 	 * @param filter 过滤器
 	 * @return this
 	 */
-	private JSONWriter writeObjValue(Object value, Filter<MutablePair<Object, Object>> filter) {
+	JSONWriter writeObjValue(Object value, Filter<MutablePair<Object, Object>> filter) {
 		final int indent = indentFactor + this.indent;
 		if (value == null || value instanceof JSONNull) {
 			writeRaw(JSONNull.NULL.toString());
@@ -306,7 +376,7 @@ public class JSONWriter extends Writer {
 	 *
 	 * @param value Boolean值
 	 */
-	private void writeBooleanValue(Boolean value) {
+	void writeBooleanValue(Boolean value) {
 		writeRaw(value.toString());
 	}
 
@@ -339,7 +409,7 @@ public class JSONWriter extends Writer {
 	 *
 	 * @param csq 字符串
 	 */
-	private void writeStrValue(String csq) {
+	void writeStrValue(String csq) {
 		try {
 			JSONUtil.quote(csq, writer);
 		} catch (IOException e) {
@@ -378,7 +448,7 @@ public class JSONWriter extends Writer {
 	 * @param csq 字符串
 	 * @return this
 	 */
-	private JSONWriter writeRaw(String csq) {
+	JSONWriter writeRaw(String csq) {
 		try {
 			writer.append(csq);
 		} catch (IOException e) {
@@ -55,47 +55,12 @@ public class JSONXMLParser {
 	 * @throws JSONException JSON异常
 	 */
 	private static boolean parse(XMLTokener x, JSONObject context, String name, ParseConfig parseConfig, int currentNestingDepth) throws JSONException {
-		char c;
-		int i;
-		JSONObject jsonobject;
-		String string;
-		String tagName;
 		Object token;
 
 		token = x.nextToken();
 
 		if (token == XML.BANG) {
-			c = x.next();
-			if (c == '-') {
-				if (x.next() == '-') {
-					x.skipPast("-->");
-					return false;
-				}
-				x.back();
-			} else if (c == '[') {
-				token = x.nextToken();
-				if ("CDATA".equals(token)) {
-					if (x.next() == '[') {
-						string = x.nextCDATA();
-						if (string.length() > 0) {
-							context.accumulate("content", string);
-						}
-						return false;
-					}
-				}
-				throw x.syntaxError("Expected 'CDATA['");
-			}
-			i = 1;
-			do {
-				token = x.nextMeta();
-				if (token == null) {
-					throw x.syntaxError("Missing '>' after '<!'.");
-				} else if (token == XML.LT) {
-					i += 1;
-				} else if (token == XML.GT) {
-					i -= 1;
-				}
-			} while (i > 0);
+			parseBang(x, context);
 			return false;
 		} else if (token == XML.QUEST) {
 
@@ -124,81 +89,144 @@ public class JSONXMLParser {
 			// Open tag <
 
 		} else {
-			tagName = (String) token;
-			token = null;
-			jsonobject = new JSONObject();
-			final boolean keepStrings = parseConfig.isKeepStrings();
-			for (; ; ) {
-				if (token == null) {
-					token = x.nextToken();
+			parseElement(x, context, (String) token, parseConfig, currentNestingDepth);
+			return false;
+		}
+	}
+
+	/**
+	 * 解析{@code <!}之后的内容，包括注释、CDATA和DTD等，CDATA中的文本加入context的content中
+	 *
+	 * @param x       The XMLTokener containing the source string.
+	 * @param context The JSONObject that will include the new material，{@code null}表示丢弃CDATA中的文本
+	 * @throws JSONException JSON异常
+	 * @since 5.8.29
+	 */
+	static void parseBang(XMLTokener x, JSONObject context) throws JSONException {
+		char c;
+		int i;
+		String string;
+		Object token;
+
+		c = x.next();
+		if (c == '-') {
+			if (x.next() == '-') {
+				x.skipPast("-->");
+				return;
+			}
+			x.back();
+		} else if (c == '[') {
+			token = x.nextToken();
+			if ("CDATA".equals(token)) {
+				if (x.next() == '[') {
+					string = x.nextCDATA();
+					if (null != context && string.length() > 0) {
+						context.accumulate("content", string);
+					}
+					return;
 				}
+			}
+			throw x.syntaxError("Expected 'CDATA['");
+		}
+		i = 1;
+		do {
+			token = x.nextMeta();
+			if (token == null) {
+				throw x.syntaxError("Missing '>' after '<!'.");
+			} else if (token == XML.LT) {
+				i += 1;
+			} else if (token == XML.GT) {
+				i -= 1;
+			}
+		} while (i > 0);
+	}
 
-				// attribute = value
-				if (token instanceof String) {
-					string = (String) token;
+	/**
+	 * 解析标签名之后的属性和内容，直到标签关闭，结果加入context中
+	 *
+	 * @param x                   The XMLTokener containing the source string.
+	 * @param context             The JSONObject that will include the new material.
+	 * @param tagName             标签名，已读取
+	 * @param parseConfig         解析选项
+	 * @param currentNestingDepth 当前层级
+	 * @throws JSONException JSON异常
+	 * @since 5.8.29
+	 */
+	static void parseElement(XMLTokener x, JSONObject context, String tagName, ParseConfig parseConfig, int currentNestingDepth) throws JSONException {
+		String string;
+		Object token = null;
+		final JSONObject jsonobject = new JSONObject();
+		final boolean keepStrings = parseConfig.isKeepStrings();
+		for (; ; ) {
+			if (token == null) {
+				token = x.nextToken();
+			}
+
+			// attribute = value
+			if (token instanceof String) {
+				string = (String) token;
+				token = x.nextToken();
+				if (token == XML.EQ) {
 					token = x.nextToken();
-					if (token == XML.EQ) {
-						token = x.nextToken();
-						if (!(token instanceof String)) {
-							throw x.syntaxError("Missing value");
-						}
-						jsonobject.accumulate(string, keepStrings ? token : InternalJSONUtil.stringToValue((String) token));
-						token = null;
-					} else {
-						jsonobject.accumulate(string, "");
+					if (!(token instanceof String)) {
+						throw x.syntaxError("Missing value");
 					}
+					jsonobject.accumulate(string, keepStrings ? token : InternalJSONUtil.stringToValue((String) token));
+					token = null;
+				} else {
+					jsonobject.accumulate(string, "");
+				}
 
-				} else if (token == XML.SLASH) {
-					// Empty tag <.../>
-					if (x.nextToken() != XML.GT) {
-						throw x.syntaxError("Misshaped tag");
-					}
-					if (jsonobject.size() > 0) {
-						context.accumulate(tagName, jsonobject);
-					} else {
-						context.accumulate(tagName, "");
-					}
-					return false;
-
-				} else if (token == XML.GT) {
-					// Content, between <...> and </...>
-					for (; ; ) {
-						token = x.nextContent();
-						if (token == null) {
-							if (tagName != null) {
-								throw x.syntaxError("Unclosed tag " + tagName);
-							}
-							return false;
-						} else if (token instanceof String) {
-							string = (String) token;
-							if (!string.isEmpty()) {
-								jsonobject.accumulate("content", keepStrings ? token : InternalJSONUtil.stringToValue(string));
-							}
+			} else if (token == XML.SLASH) {
+				// Empty tag <.../>
+				if (x.nextToken() != XML.GT) {
+					throw x.syntaxError("Misshaped tag");
+				}
+				if (jsonobject.size() > 0) {
+					context.accumulate(tagName, jsonobject);
+				} else {
+					context.accumulate(tagName, "");
+				}
+				return;
+
+			} else if (token == XML.GT) {
+				// Content, between <...> and </...>
+				for (; ; ) {
+					token = x.nextContent();
+					if (token == null) {
+						if (tagName != null) {
+							throw x.syntaxError("Unclosed tag " + tagName);
+						}
+						return;
+					} else if (token instanceof String) {
+						string = (String) token;
+						if (!string.isEmpty()) {
+							jsonobject.accumulate("content", keepStrings ? token : InternalJSONUtil.stringToValue(string));
+						}
 
-						} else if (token == XML.LT) {
-							// Nested element
-							// issue#2748 of CVE-2022-45688
-							final int maxNestingDepth = parseConfig.getMaxNestingDepth();
-							if (maxNestingDepth > -1 && currentNestingDepth >= maxNestingDepth) {
-								throw x.syntaxError("Maximum nesting depth of " + maxNestingDepth + " reached");
-							}
+					} else if (token == XML.LT) {
+						// Nested element
+						// issue#2748 of CVE-2022-45688
+						final int maxNestingDepth = parseConfig.getMaxNestingDepth();
+						if (maxNestingDepth > -1 && currentNestingDepth >= maxNestingDepth) {
+							throw x.syntaxError("Maximum nesting depth of " + maxNestingDepth + " reached");
+						}
 
-							// Nested element
-							if (parse(x, jsonobject, tagName, parseConfig, currentNestingDepth + 1)) {
-								if (jsonobject.isEmpty()) {
-									context.accumulate(tagName, "");
-								} else if (jsonobject.size() == 1 && jsonobject.get("content") != null) {
-									context.accumulate(tagName, jsonobject.get("content"));
-								} else {
-									context.accumulate(tagName, jsonobject);
-								}
-								return false;
+						// Nested element
+						if (parse(x, jsonobject, tagName, parseConfig, currentNestingDepth + 1)) {
+							if (jsonobject.isEmpty()) {
+								context.accumulate(tagName, "");
+							} else if (jsonobject.size() == 1 && jsonobject.get("content") != null) {
+								context.accumulate(tagName, jsonobject.get("content"));
+							} else {
+								context.accumulate(tagName, jsonobject);
 							}
+							return;
 						}
 					}
-				} else {
-					throw x.syntaxError("Misshaped tag");
 				}
+			} else {
+				throw x.syntaxError("Misshaped tag");
 			}
 		}
 	}
@@ -0,0 +1,196 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.XML;
+import cn.hutool.json.XMLTokener;
+import cn.hutool.json.serialize.JSONWriter;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * XML流式解析器，将XML中重复出现的记录节点逐个转换为JSON，适用于无法整体加载到内存的大XML文件<br>
+ * 从{@link Reader}中按需读取，每遇到一个指定名称的节点，就将其转换为{@link JSONObject}后交给回调处理或写出到{@link Writer}，
+ * 之后即可回收，内存占用只与单条记录的大小有关，与文件大小无关。
+ * <ul>
+ *     <li>记录节点内部的转换规则与{@link JSONXMLParser}一致，相同的子节点处理为JSONArray</li>
+ *     <li>记录节点本身总是转换为{@link JSONObject}，只有文本时文本放在content中，空节点转换为空对象</li>
+ *     <li>记录节点之外的文本和属性被忽略，记录节点内部出现同名节点时，作为记录的子节点处理</li>
+ *     <li>支持{@link ParseConfig}中的所有选项，嵌套深度从根节点开始计算</li>
+ * </ul>
+ *
+ * <pre>
+ * try (Reader reader = FileUtil.getUtf8Reader(file)) {
+ *     JSONXMLStreamParser.parse(reader, "item", ParseConfig.of(), item -&gt; ...);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.29
+ */
+public class JSONXMLStreamParser {
+
+	/**
+	 * 流式解析XML，每个指定名称的节点转换为{@link JSONObject}后交给回调处理
+	 *
+	 * @param reader      XML的{@link Reader}，不会被关闭
+	 * @param recordTag   记录节点的名称
+	 * @param parseConfig 解析选项，{@code null}表示默认选项
+	 * @param consumer    记录回调
+	 * @return 记录数量
+	 * @throws JSONException XML格式错误或IO异常
+	 */
+	public static long parse(final Reader reader, final String recordTag, final ParseConfig parseConfig, final Consumer<JSONObject> consumer) throws JSONException {
+		Assert.notNull(reader, "Reader must be not null!");
+		Assert.notBlank(recordTag, "Record tag must be not blank!");
+		Assert.notNull(consumer, "Consumer must be not null!");
+		return parseRecords(new XMLTokener(reader, JSONConfig.create()), recordTag,
+				ObjectUtil.defaultIfNull(parseConfig, ParseConfig::of), consumer);
+	}
+
+	/**
+	 * 流式转换XML，每个指定名称的节点转换为{@link JSONObject}后依次写出，整体写出为一个JSONArray
+	 *
+	 * @param reader      XML的{@link Reader}，不会被关闭
+	 * @param recordTag   记录节点的名称
+	 * @param parseConfig 解析选项，{@code null}表示默认选项
+	 * @param writer      JSON的{@link Writer}，写出后刷新，不会被关闭
+	 * @return 记录数量
+	 * @throws JSONException XML格式错误或IO异常
+	 */
+	public static long toJSON(final Reader reader, final String recordTag, final ParseConfig parseConfig, final Writer writer) throws JSONException {
+		Assert.notNull(writer, "Writer must be not null!");
+		final JSONWriter jsonWriter = JSONWriter.of(writer, 0, 0, JSONConfig.create()).beginArray();
+		final long count = parse(reader, recordTag, parseConfig, jsonWriter::writeValue);
+		jsonWriter.end();
+		return count;
+	}
+
+	/**
+	 * 扫描XML，记录节点之外只检查标签是否匹配，记录节点交给{@link JSONXMLParser}解析
+	 *
+	 * @param x           XMLTokener
+	 * @param recordTag   记录节点的名称
+	 * @param parseConfig 解析选项
+	 * @param consumer    记录回调
+	 * @return 记录数量
+	 * @throws JSONException XML格式错误或IO异常
+	 */
+	private static long parseRecords(final XMLTokener x, final String recordTag, final ParseConfig parseConfig, final Consumer<JSONObject> consumer) throws JSONException {
+		// 记录节点之外的祖先节点
+		final Deque<String> names = new ArrayDeque<>();
+		final int maxNestingDepth = parseConfig.getMaxNestingDepth();
+		long count = 0;
+		Object token;
+		String name;
+		while (true) {
+			token = x.nextContent();
+			if (null == token) {
+				break;
+			}
+			if (token != XML.LT) {
+				// 记录节点之外的文本
+				continue;
+			}
+
+			// issue#2748 of CVE-2022-45688，与JSONXMLParser一致，节点内出现'<'时检查父节点层级
+			if (maxNestingDepth > -1 && names.size() > maxNestingDepth) {
+				throw x.syntaxError("Maximum nesting depth of " + maxNestingDepth + " reached");
+			}
+			token = x.nextToken();
+			if (token == XML.BANG) {
+				JSONXMLParser.parseBang(x, null);
+			} else if (token == XML.QUEST) {
+				x.skipPast("?>");
+			} else if (token == XML.SLASH) {
+				token = x.nextToken();
+				name = names.poll();
+				if (null == name) {
+					throw x.syntaxError("Mismatched close tag " + token);
+				}
+				if (false == name.equals(token)) {
+					throw x.syntaxError("Mismatched " + name + " and " + token);
+				}
+				if (x.nextToken() != XML.GT) {
+					throw x.syntaxError("Misshaped close tag");
+				}
+			} else if (token instanceof Character) {
+				throw x.syntaxError("Misshaped tag");
+			} else {
+				name = (String) token;
+				if (recordTag.equals(name)) {
+					consumer.accept(nextRecord(x, name, parseConfig, names.size()));
+					count++;
+				} else {
+					skipAttributes(x, name, names);
+				}
+			}
+		}
+
+		if (false == names.isEmpty()) {
+			throw x.syntaxError("Unclosed tag " + names.peek());
+		}
+		return count;
+	}
+
+	/**
+	 * 解析记录节点，标签名已读取
+	 *
+	 * @param x           XMLTokener
+	 * @param tagName     标签名
+	 * @param parseConfig 解析选项
+	 * @param depth       节点层级，根节点为0
+	 * @return 记录
+	 * @throws JSONException XML格式错误
+	 */
+	private static JSONObject nextRecord(final XMLTokener x, final String tagName, final ParseConfig parseConfig, final int depth) throws JSONException {
+		final JSONObject holder = new JSONObject();
+		JSONXMLParser.parseElement(x, holder, tagName, parseConfig, depth);
+		final Object value = holder.get(tagName);
+		if (value instanceof JSONObject) {
+			return (JSONObject) value;
+		}
+		final JSONObject record = new JSONObject();
+		if (false == "".equals(value)) {
+			// 只有文本的节点
+			record.set("content", value);
+		}
+		return record;
+	}
+
+	/**
+	 * 跳过记录节点之外的标签中的属性，非空标签加入祖先节点
+	 *
+	 * @param x       XMLTokener
+	 * @param tagName 标签名
+	 * @param names   祖先节点
+	 * @throws JSONException XML格式错误
+	 */
+	private static void skipAttributes(final XMLTokener x, final String tagName, final Deque<String> names) throws JSONException {
+		Object token;
+		while (true) {
+			token = x.nextToken();
+			if (token == XML.GT) {
+				names.push(tagName);
+				return;
+			}
+			if (token == XML.SLASH) {
+				// 空标签<.../>
+				if (x.nextToken() != XML.GT) {
+					throw x.syntaxError("Misshaped tag");
+				}
+				return;
+			}
+			if (false == (token instanceof String) && token != XML.EQ) {
+				throw x.syntaxError("Misshaped tag");
+			}
+		}
+	}
+}
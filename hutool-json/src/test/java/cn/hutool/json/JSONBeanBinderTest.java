@@ -0,0 +1,141 @@
+package cn.hutool.json;
+
+import cn.hutool.core.annotation.Alias;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class JSONBeanBinderTest {
+
+	@Test
+	public void bindTest() {
+		final String json = "{\"id\": 12345678901, \"name\": \"hutool\", \"age\": \"18\", \"score\": 1.5, " +
+				"\"enable\": true, \"tags\": [\"a\", \"b\"], \"unknown\": {\"x\": [1, 2, {\"y\": null}]}, " +
+				"\"address\": {\"city\": \"Beijing\", \"zip\": 100000}, " +
+				"\"addresses\": [{\"city\": \"Shanghai\"}, null, {\"city\": \"Nanjing\"}], " +
+				"\"extra\": {\"k\": \"v\"}, \"nick\": \"hu\", \"user_type\": 2}";
+		final User user = JSONBeanBinder.toBean(json, User.class, null);
+
+		Assert.assertEquals(Long.valueOf(12345678901L), user.getId());
+		Assert.assertEquals("hutool", user.getName());
+		Assert.assertEquals(18, user.getAge());
+		Assert.assertEquals(new BigDecimal("1.5"), user.getScore());
+		Assert.assertTrue(user.isEnable());
+		Assert.assertEquals(2, user.getTags().size());
+		Assert.assertTrue(user.getTags().contains("b"));
+		Assert.assertEquals("Beijing", user.getAddress().getCity());
+		Assert.assertEquals("100000", user.getAddress().getZip());
+		Assert.assertEquals(3, user.getAddresses().size());
+		Assert.assertNull(user.getAddresses().get(1));
+		Assert.assertEquals("Nanjing", user.getAddresses().get(2).getCity());
+		Assert.assertEquals("v", user.getExtra().get("k"));
+		// 别名
+		Assert.assertEquals("hu", user.getNickName());
+		// 下划线转驼峰
+		Assert.assertEquals(Integer.valueOf(2), user.getUserType());
+
+		// 与通过JSONObject转换的结果一致
+		Assert.assertEquals(JSONUtil.parseObj(json).toBean(User.class), user);
+		Assert.assertEquals(JSONUtil.toBean(json, User.class), user);
+	}
+
+	@Test
+	public void ignoreCaseTest() {
+		final String json = "{\"ID\": 1, \"NAME\": \"hutool\"}";
+		User user = JSONBeanBinder.toBean(json, User.class, JSONConfig.create());
+		Assert.assertNull(user.getId());
+		Assert.assertEquals("default", user.getName());
+
+		user = JSONBeanBinder.toBean(json, User.class, JSONConfig.create().setIgnoreCase(true));
+		Assert.assertEquals(Long.valueOf(1), user.getId());
+		Assert.assertEquals("hutool", user.getName());
+	}
+
+	@Test
+	public void nullValueTest() {
+		final String json = "{\"name\": null}";
+		User user = JSONBeanBinder.toBean(json, User.class, null);
+		Assert.assertEquals("default", user.getName());
+
+		user = JSONBeanBinder.toBean(json, User.class, JSONConfig.create().setIgnoreNullValue(false));
+		Assert.assertNull(user.getName());
+
+		Assert.assertNull(JSONReader.of("null").nextBean(User.class));
+	}
+
+	@Test
+	public void transientTest() {
+		final String json = "{\"id\": 1, \"secret\": \"abc\"}";
+		User user = JSONBeanBinder.toBean(json, User.class, null);
+		Assert.assertNull(user.getSecret());
+
+		user = JSONBeanBinder.toBean(json, User.class, JSONConfig.create().setTransientSupport(false));
+		Assert.assertEquals("abc", user.getSecret());
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void convertErrorTest() {
+		// 与JSONObject转Bean一致，转换异常原样抛出
+		JSONBeanBinder.toBean("{\"age\": \"abc\"}", User.class, null);
+	}
+
+	@Test
+	public void ignoreErrorTest() {
+		final User user = JSONBeanBinder.toBean("{\"age\": \"abc\", \"name\": \"hutool\"}", User.class,
+				JSONConfig.create().setIgnoreError(true));
+		Assert.assertEquals(0, user.getAge());
+		Assert.assertEquals("hutool", user.getName());
+	}
+
+	@Test
+	public void readerTest() {
+		// 从JSONReader中读取数组中的多个Bean
+		try (final JSONReader reader = JSONReader.of("[{\"city\": \"a\"}, {\"city\": \"b\"}]")) {
+			reader.beginArray();
+			Assert.assertEquals("a", reader.nextBean(Address.class).getCity());
+			Assert.assertEquals("b", reader.nextBean(Address.class).getCity());
+			reader.endArray();
+		}
+	}
+
+	@Test
+	public void notBindableTest() {
+		Assert.assertTrue(JSONBeanBinder.isBindable(User.class));
+		Assert.assertFalse(JSONBeanBinder.isBindable(Map.class));
+		Assert.assertFalse(JSONBeanBinder.isBindable(JSONObject.class));
+		Assert.assertFalse(JSONBeanBinder.isBindable(String.class));
+		Assert.assertFalse(JSONBeanBinder.isBindable(JSONBeanParserTest.TestBean.class));
+
+		// 不可直接绑定的类型转为JSONObject后转换
+		final Map<?, ?> map = JSONReader.of("{\"a\": 1}").nextBean(Map.class);
+		Assert.assertEquals(1, map.get("a"));
+	}
+
+	@Data
+	public static class User {
+		private Long id;
+		private String name = "default";
+		private int age;
+		private BigDecimal score;
+		private boolean enable;
+		private Set<String> tags;
+		private Address address;
+		private List<Address> addresses;
+		private Map<String, Object> extra;
+		@Alias("nick")
+		private String nickName;
+		private Integer userType;
+		private transient String secret;
+	}
+
+	@Data
+	public static class Address {
+		private String city;
+		private String zip;
+	}
+}
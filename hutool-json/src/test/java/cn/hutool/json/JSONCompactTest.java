@@ -0,0 +1,149 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class JSONCompactTest {
+
+	private static final String JSON = "[{\"id\":1,\"name\":\"a\",\"tags\":[\"x\"],\"user\":{\"name\":\"u1\"}}," +
+			"{\"id\":2,\"name\":\"b\",\"tags\":[],\"user\":{\"name\":\"u2\"}}," +
+			"{\"id\":3,\"name\":\"c\",\"tags\":[\"y\",\"z\"],\"user\":{\"name\":\"u3\"}}]";
+
+	@Test
+	public void parseTest() {
+		final JSONArray compact = JSONUtil.parseArray(JSON, JSONConfig.create().setCompact(true));
+		final JSONArray eager = JSONUtil.parseArray(JSON, JSONConfig.create());
+		Assert.assertEquals(eager, compact);
+		Assert.assertEquals(compact, eager);
+		Assert.assertEquals(eager.hashCode(), compact.hashCode());
+		Assert.assertEquals(eager.toString(), compact.toString());
+
+		final JSONObject first = compact.getJSONObject(0);
+		final JSONObject second = compact.getJSONObject(1);
+		Assert.assertTrue(CompactValueMap.of(first).isCompact());
+		Assert.assertEquals("b", second.getStr("name"));
+		Assert.assertEquals("u3", compact.getByPath("[2].user.name"));
+
+		// 同一次解析中的键只保留一个实例
+		final Iterator<String> keys1 = first.keySet().iterator();
+		final Iterator<String> keys2 = second.keySet().iterator();
+		while (keys1.hasNext()) {
+			Assert.assertSame(keys1.next(), keys2.next());
+		}
+		final String nameKey = ListUtil.toList(first.keySet()).get(1);
+		Assert.assertSame(nameKey, first.getJSONObject("user").keySet().iterator().next());
+	}
+
+	@Test
+	public void modifyTest() {
+		final JSONArray compact = JSONUtil.parseArray(JSON, JSONConfig.create().setCompact(true));
+		final JSONObject first = compact.getJSONObject(0);
+
+		// 修改已有键的值不退化
+		first.set("name", "aa");
+		Assert.assertTrue(CompactValueMap.of(first).isCompact());
+		Assert.assertEquals("aa", first.getStr("name"));
+
+		// 加入新键后退化，不影响共享形状的其它对象
+		first.set("price", 1.5);
+		Assert.assertFalse(CompactValueMap.of(first).isCompact());
+		Assert.assertEquals("{\"id\":1,\"name\":\"aa\",\"tags\":[\"x\"],\"user\":{\"name\":\"u1\"},\"price\":1.5}", first.toString());
+		Assert.assertEquals("{\"id\":2,\"name\":\"b\",\"tags\":[],\"user\":{\"name\":\"u2\"}}", compact.getJSONObject(1).toString());
+
+		final JSONObject second = compact.getJSONObject(1);
+		Assert.assertEquals(2, second.remove("id"));
+		Assert.assertEquals("{\"name\":\"b\",\"tags\":[],\"user\":{\"name\":\"u2\"}}", second.toString());
+
+		final JSONObject third = compact.getJSONObject(2);
+		third.entrySet().iterator().next().setValue(30);
+		Assert.assertEquals(Integer.valueOf(30), third.getInt("id"));
+		third.keySet().removeIf("tags"::equals);
+		Assert.assertEquals("{\"id\":30,\"name\":\"c\",\"user\":{\"name\":\"u3\"}}", third.toString());
+	}
+
+	@Test
+	public void cloneAndSerializeTest() throws CloneNotSupportedException {
+		final JSONObject json = JSONUtil.parseArray(JSON, JSONConfig.create().setCompact(true)).getJSONObject(0);
+		final JSONObject clone = json.clone();
+		clone.set("id", 10);
+		Assert.assertEquals(Integer.valueOf(1), json.getInt("id"));
+		Assert.assertEquals(Integer.valueOf(10), clone.getInt("id"));
+
+		final JSONObject copy = ObjectUtil.deserialize(ObjectUtil.serialize(json));
+		Assert.assertEquals(json, copy);
+	}
+
+	@Test
+	public void lazyTest() {
+		final JSONConfig config = JSONConfig.create().setCompact(true).setLazy(true);
+		final JSONArray array = JSONUtil.parseArray(JSON, config);
+		Assert.assertEquals(JSONUtil.parseArray(JSON, JSONConfig.create()), array);
+		// 延迟解码的值只读地共享原解析的键，嵌套的值与上级解码共享键
+		final JSONObject first = array.getJSONObject(0);
+		Assert.assertTrue(CompactValueMap.of(first).isCompact());
+		Assert.assertSame(ListUtil.toList(first.keySet()).get(1), first.getJSONObject("user").keySet().iterator().next());
+	}
+
+	@Test
+	public void lazyConcurrentTest() throws InterruptedException {
+		final StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < 200; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"id\":").append(i).append(",\"k").append(i % 7).append("\":\"v\",\"user\":{\"name\":\"u")
+					.append(i).append("\",\"k").append(i % 5).append("\":[{\"x\":1}]}}");
+		}
+		final String str = json.append(']').toString();
+		final JSONArray expected = JSONUtil.parseArray(str);
+		final JSONArray array = JSONUtil.parseArray(str, JSONConfig.create().setCompact(true).setLazy(true));
+
+		// 每个线程只读取自己的对象，延迟解码不修改共享的形状树
+		final List<Throwable> errors = new CopyOnWriteArrayList<>();
+		final Thread[] threads = new Thread[8];
+		for (int t = 0; t < threads.length; t++) {
+			final int offset = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = offset; i < 200; i += threads.length) {
+						final JSONObject obj = array.getJSONObject(i);
+						Assert.assertEquals(expected.getJSONObject(i), obj);
+						Assert.assertEquals("u" + i, obj.getByPath("user.name"));
+					}
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(ListUtil.empty(), errors);
+	}
+
+	@Test
+	public void ignoreCaseTest() {
+		final JSONArray array = JSONUtil.parseArray(JSON, JSONConfig.create().setCompact(true).setIgnoreCase(true));
+		Assert.assertEquals("b", array.getJSONObject(1).getStr("NAME"));
+		Assert.assertNull(CompactValueMap.of(array.getJSONObject(1)));
+	}
+
+	@Test
+	public void manyKeysTest() {
+		final JSONObject source = JSONUtil.createObj();
+		for (int i = 0; i < JSONShapes.MAX_KEYS + 10; i++) {
+			source.set("key" + i, i);
+		}
+		final JSONObject parsed = JSONUtil.parseObj(source.toString(), JSONConfig.create().setCompact(true));
+		Assert.assertFalse(CompactValueMap.of(parsed).isCompact());
+		Assert.assertEquals(source, parsed);
+		Assert.assertEquals(source.toString(), parsed.toString());
+	}
+}
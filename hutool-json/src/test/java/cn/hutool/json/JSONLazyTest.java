@@ -0,0 +1,121 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+public class JSONLazyTest {
+
+	private static final String JSON = "{\"id\":1,\"name\":\"hu\\\"tool\",\"price\":12.50,\"enable\":true,\"none\":null,\n" +
+			"\"user\":{\"name\":\"looly\",\"tags\":[\"a\",{\"b\":'x]'}],\"address\":{\"city\":\"Beijing\"}},\n" +
+			"\"list\":[1,2.5,\"c\",[3],{\"d\":4}]}";
+
+	@Test
+	public void getTest() {
+		final JSONObject json = JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true));
+		Assert.assertEquals(Integer.valueOf(1), json.getInt("id"));
+		Assert.assertEquals("hu\"tool", json.getStr("name"));
+		Assert.assertEquals(new BigDecimal("12.50"), json.getBigDecimal("price"));
+		Assert.assertTrue(json.getBool("enable"));
+		Assert.assertFalse(json.containsKey("none"));
+		Assert.assertEquals("looly", json.getJSONObject("user").getStr("name"));
+		Assert.assertEquals("Beijing", json.getByPath("user.address.city"));
+		Assert.assertEquals("x]", json.getByPath("user.tags[1].b"));
+		Assert.assertEquals(4, json.getByPath("list[4].d"));
+
+		final JSONArray list = json.getJSONArray("list");
+		Assert.assertEquals(5, list.size());
+		Assert.assertEquals("c", list.getStr(2));
+		Assert.assertEquals(new JSONArray("[3]"), list.getJSONArray(3));
+	}
+
+	@Test
+	public void equalsEagerTest() {
+		final JSONObject lazy = JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true));
+		final JSONObject eager = JSONUtil.parseObj(JSON, JSONConfig.create());
+		Assert.assertEquals(eager, lazy);
+		Assert.assertEquals(lazy, eager);
+		Assert.assertEquals(eager.hashCode(), lazy.hashCode());
+		Assert.assertEquals(eager.toString(), lazy.toString());
+		Assert.assertEquals(eager.toStringPretty(), JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true)).toStringPretty());
+	}
+
+	@Test
+	public void parseArrayTest() {
+		final String str = "[{\"a\":1.5},\"b\",,[]]";
+		final JSONArray lazy = JSONUtil.parseArray(str, JSONConfig.create().setLazy(true));
+		Assert.assertEquals(JSONUtil.parseArray(str), lazy);
+		Assert.assertEquals(JSONNull.NULL, lazy.get(2));
+		Assert.assertEquals(1.5D, lazy.getJSONObject(0).getDouble("a"), 0);
+	}
+
+	@Test
+	public void charArrayTest() {
+		final char[] chars = "{\"name\":\"abc\",\"user\":{\"id\":\"x\"}}".toCharArray();
+		final JSONObject json = new JSONObject(new JSONTokener(chars, JSONConfig.create().setLazy(true)), JSONConfig.create().setLazy(true));
+		// 解析后修改原数组不影响未解码的值
+		Arrays.fill(chars, 'Z');
+		Assert.assertEquals("abc", json.getStr("name"));
+		Assert.assertEquals("x", json.getJSONObject("user").getStr("id"));
+	}
+
+	@Test
+	public void ignoreCaseTest() {
+		final JSONObject json = JSONUtil.parseObj("{\"Name\":\"looly\"}", JSONConfig.create().setLazy(true).setIgnoreCase(true));
+		Assert.assertEquals("looly", json.getStr("name"));
+		Assert.assertEquals("looly", json.getStr("NAME"));
+	}
+
+	@Test
+	public void modifyTest() {
+		final JSONObject json = JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true));
+		Assert.assertEquals("hu\"tool", json.remove("name"));
+		Assert.assertEquals(new BigDecimal("12.50"), json.remove("price"));
+		json.set("price", 1);
+		json.set("user", "a");
+		Assert.assertEquals("{\"id\":1,\"enable\":true,\"user\":\"a\",\"list\":[1,2.5,\"c\",[3],{\"d\":4}],\"price\":1}", json.toString());
+	}
+
+	@Test
+	public void cloneAndSerializeTest() throws CloneNotSupportedException {
+		final JSONObject json = JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true));
+		final JSONObject clone = json.clone();
+		Assert.assertEquals(JSONUtil.parseObj(JSON, JSONConfig.create()), clone);
+
+		final JSONObject json2 = JSONUtil.parseObj(JSON, JSONConfig.create().setLazy(true));
+		final JSONObject copy = ObjectUtil.deserialize(ObjectUtil.serialize(json2));
+		Assert.assertEquals(JSONUtil.parseObj(JSON, JSONConfig.create()), copy);
+	}
+
+	@Test
+	public void toBeanTest() {
+		final JSONObjectTest.TestBean bean = JSONUtil.parseObj("{\"strValue\":\"a\",\"beanValue\":{\"value1\":\"b\",\"value2\":1.5}}",
+				JSONConfig.create().setLazy(true)).toBean(JSONObjectTest.TestBean.class);
+		Assert.assertEquals("a", bean.getStrValue());
+		Assert.assertEquals("b", bean.getBeanValue().getValue1());
+		Assert.assertEquals(new BigDecimal("1.5"), bean.getBeanValue().getValue2());
+	}
+
+	@Test
+	public void deferredErrorTest() {
+		final JSONObject json = JSONUtil.parseObj("{\"a\":1,\"b\":{\"c\":}}", JSONConfig.create().setLazy(true));
+		// 未访问的值不解码
+		Assert.assertEquals(Integer.valueOf(1), json.getInt("a"));
+		Assert.assertThrows(JSONException.class, () -> json.getJSONObject("b"));
+
+		// 结构不完整时解析即报错
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.parseObj("{\"a\":{\"b\":1}", JSONConfig.create().setLazy(true)));
+		Assert.assertThrows(JSONException.class, () -> JSONUtil.parseObj("{\"a\":\"b}", JSONConfig.create().setLazy(true)));
+	}
+
+	@Test
+	public void readerTest() {
+		// Reader中解析时不延迟
+		final JSONObject json = new JSONObject(IoUtil.toUtf8Stream(JSON), JSONConfig.create().setLazy(true));
+		Assert.assertEquals(JSONUtil.parseObj(JSON, JSONConfig.create()), json);
+	}
+}
@@ -0,0 +1,170 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JSONLinesTest {
+
+	@Test
+	public void writeTest() {
+		final StringWriter out = new StringWriter();
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(out)) {
+			writer.write(new Event(1, "a\nb"));
+			writer.write(MapUtil.of("id", 2));
+			writer.write("{\n\"id\": 3\n}");
+			writer.writeAll(ListUtil.of(new Event(4, null), ListUtil.of(1, 2)));
+		}
+		Assert.assertEquals("{\"id\":1,\"name\":\"a\\nb\"}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n[1,2]\n", out.toString());
+	}
+
+	@Test
+	public void readTest() {
+		final String lines = "{\"id\":1,\"name\":\"a\"}\n\n{\"id\":2,\"name\":\"b\"}\r\n  {\"id\":3}\n";
+		final List<JSONObject> list = new ArrayList<>();
+		try (final JSONLinesReader reader = JSONLinesReader.of(new StringReader(lines))) {
+			for (JSONObject jsonObject : reader) {
+				list.add(jsonObject);
+			}
+		}
+		Assert.assertEquals(3, list.size());
+		Assert.assertEquals("b", list.get(1).getStr("name"));
+		Assert.assertEquals(Integer.valueOf(3), list.get(2).getInt("id"));
+	}
+
+	@Test
+	public void readBeanStreamTest() {
+		final String lines = "{\"id\":1,\"name\":\"a\"}\nnull\n{\"id\":2,\"name\":\"b\"}\n";
+		try (final Stream<Event> stream = JSONLinesReader.of(new StringReader(lines)).stream(Event.class)) {
+			final List<Event> events = stream.collect(Collectors.toList());
+			Assert.assertEquals(2, events.size());
+			Assert.assertEquals("b", events.get(1).getName());
+		}
+	}
+
+	@Test(expected = JSONException.class)
+	public void readErrorTest() {
+		final Iterator<JSONObject> iter = JSONLinesReader.of(new StringReader("{\"id\":1}\n{\"id\":}\n")).iterator();
+		Assert.assertEquals(Integer.valueOf(1), iter.next().getInt("id"));
+		iter.next();
+	}
+
+	@Test
+	public void parallelReadTest() {
+		final int count = 10000;
+		final StringWriter out = new StringWriter();
+		try (final JSONLinesWriter writer = JSONLinesWriter.of(out)) {
+			for (int i = 0; i < count; i++) {
+				writer.write(new Event(i, "name" + i));
+			}
+		}
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try (final JSONLinesReader reader = JSONLinesReader.of(new StringReader(out.toString()))) {
+			final Iterator<Event> iter = reader.parallelIterator(Event.class, 100, pool);
+			int i = 0;
+			while (iter.hasNext()) {
+				final Event event = iter.next();
+				// 保持原有顺序
+				Assert.assertEquals(i, event.getId());
+				Assert.assertEquals("name" + i, event.getName());
+				i++;
+			}
+			Assert.assertEquals(count, i);
+		} finally {
+			pool.shutdown();
+		}
+
+		try (final Stream<JSONObject> stream = JSONLinesReader.of(new StringReader(out.toString())).parallelStream(JSONObject.class)) {
+			Assert.assertEquals(count, stream.count());
+		}
+	}
+
+	@Test
+	public void inputStreamTest() {
+		final byte[] bytes = StrUtil.utf8Bytes("\uFEFF{\"id\":1,\"name\":\"中文\"}\n{\"id\":2}\n");
+		try (final Stream<Event> stream = JSONLinesReader.of(new ByteArrayInputStream(bytes)).stream(Event.class)) {
+			final List<Event> events = stream.collect(Collectors.toList());
+			Assert.assertEquals(2, events.size());
+			Assert.assertEquals("中文", events.get(0).getName());
+		}
+		try (final Stream<Event> stream = JSONLinesReader.of(new ByteArrayInputStream(bytes)).parallelStream(Event.class)) {
+			final List<Event> events = stream.collect(Collectors.toList());
+			Assert.assertEquals(2, events.size());
+			Assert.assertEquals("中文", events.get(0).getName());
+		}
+	}
+
+	@Test
+	public void parallelMultiValueLineTest() {
+		final String lines = "{\"a\":1} {\"a\":2}\n\n{\"a\":3}\n";
+		final List<JSONObject> sequential;
+		try (final Stream<JSONObject> stream = JSONLinesReader.of(new StringReader(lines)).stream()) {
+			sequential = stream.collect(Collectors.toList());
+		}
+		try (final Stream<JSONObject> stream = JSONLinesReader.of(new StringReader(lines)).parallelStream(JSONObject.class)) {
+			Assert.assertEquals(sequential, stream.collect(Collectors.toList()));
+		}
+		Assert.assertEquals(3, sequential.size());
+	}
+
+	@Test
+	public void parallelErrorLineTest() {
+		// 并行解析时值不能跨越多行，异常中包含行号
+		final String lines = "{\"a\":1}\n\n{\"a\":\n2}\n";
+		try (final JSONLinesReader reader = JSONLinesReader.of(new StringReader(lines))) {
+			final Iterator<JSONObject> iter = reader.parallelIterator(JSONObject.class, 1, null);
+			final JSONException e = Assert.assertThrows(JSONException.class, () -> {
+				while (iter.hasNext()) {
+					iter.next();
+				}
+			});
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("Line 3:"));
+		}
+	}
+
+	@Test
+	public void fileTest() {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-json-lines-test.jsonl");
+		try {
+			try (final JSONLinesWriter writer = JSONLinesWriter.of(file)) {
+				writer.write(new Event(1, "中文"));
+			}
+			try (final JSONLinesReader reader = JSONLinesReader.of(file)) {
+				final Event event = reader.iterator(Event.class).next();
+				Assert.assertEquals("中文", event.getName());
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Data
+	public static class Event {
+		private int id;
+		private String name;
+
+		public Event() {
+		}
+
+		public Event(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
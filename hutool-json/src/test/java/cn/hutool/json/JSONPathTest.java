@@ -1,5 +1,7 @@
 package cn.hutool.json;
 
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.collection.ListUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -27,4 +29,115 @@ public class JSONPathTest {
 		Long accountId = JSONUtil.getByPath(json, "$.accountId", 0L);
 		Assert.assertEquals(111L, accountId.longValue());
 	}
+
+	private static final String STORE = "{\"store\":{\"book\":[" +
+			"{\"category\":\"reference\",\"author\":\"Nigel Rees\",\"title\":\"Sayings of the Century\",\"price\":8.95}," +
+			"{\"category\":\"fiction\",\"author\":\"Evelyn Waugh\",\"title\":\"Sword of Honour\",\"price\":12.99}," +
+			"{\"category\":\"fiction\",\"author\":\"Herman Melville\",\"title\":\"Moby Dick\",\"isbn\":\"0-553-21311-3\",\"price\":8.99}," +
+			"{\"category\":\"fiction\",\"author\":\"J. R. R. Tolkien\",\"title\":\"The Lord of the Rings\",\"isbn\":\"0-395-19395-8\",\"price\":22.99}]," +
+			"\"bicycle\":{\"color\":\"red\",\"price\":19.95}}}";
+
+	@Test
+	public void compiledPathTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		Assert.assertSame(JSONPath.of("$.store.book[0].title"), JSONPath.of("$.store.book[0].title"));
+		Assert.assertTrue(JSONPath.of("$.store.book[0].title").isDefinite());
+		Assert.assertFalse(JSONPath.of("$.store.book[*].title").isDefinite());
+
+		Assert.assertEquals("Sayings of the Century", JSONPath.of("$.store.book[0].title").get(json));
+		Assert.assertEquals("The Lord of the Rings", JSONPath.of("$['store']['book'][-1]['title']").get(json));
+		Assert.assertEquals("red", JSONPath.of("store.bicycle.color").get(json));
+		Assert.assertNull(JSONPath.of("store.book[10].title").get(json));
+	}
+
+	@Test
+	public void wildcardAndSliceTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		Assert.assertEquals(ListUtil.of("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien"),
+				JSONPath.of("$.store.book[*].author").get(json));
+		Assert.assertEquals(2, ((JSONArray) JSONPath.of("$.store.*").get(json)).size());
+		Assert.assertEquals(ListUtil.of("Evelyn Waugh", "Herman Melville"), JSONPath.of("$.store.book[1:3].author").get(json));
+		Assert.assertEquals(ListUtil.of("Nigel Rees", "Herman Melville"), JSONPath.of("$.store.book[::2].author").get(json));
+		Assert.assertEquals(ListUtil.of("J. R. R. Tolkien"), JSONPath.of("$.store.book[-1:].author").get(json));
+		Assert.assertEquals(ListUtil.of("Nigel Rees", "Herman Melville"), JSONPath.of("$.store.book[0,2].author").get(json));
+		Assert.assertEquals("[\"red\",19.95]", JSONPath.of("$.store.bicycle['color','price']").get(json).toString());
+		// 对数组使用属性名时对每个元素取值，不存在的值不加入结果
+		Assert.assertEquals(ListUtil.of("0-553-21311-3", "0-395-19395-8"), JSONPath.of("store.book.isbn").get(json));
+	}
+
+	@Test
+	public void filterTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		Assert.assertEquals(ListUtil.of("Sayings of the Century", "Moby Dick"),
+				JSONPath.of("$.store.book[?(@.price < 10)].title").get(json));
+		Assert.assertEquals(ListUtil.of("Moby Dick"),
+				JSONPath.of("$.store.book[?(@.price < 10 && @.category == 'fiction')].title").get(json));
+		Assert.assertEquals(ListUtil.of("Moby Dick", "The Lord of the Rings"), JSONPath.of("$.store.book[?(@.isbn)].title").get(json));
+		Assert.assertEquals(ListUtil.of("Sayings of the Century", "Sword of Honour"), JSONPath.of("$.store.book[?(!@.isbn)].title").get(json));
+		Assert.assertEquals(ListUtil.of("Nigel Rees", "J. R. R. Tolkien"),
+				JSONPath.of("$.store.book[?(@.category != \"fiction\" || (@.price >= 20 && @['isbn']))].author").get(json));
+		Assert.assertEquals(0, ((JSONArray) JSONPath.of("$.store.book[?(@.price > 100)]").get(json)).size());
+	}
+
+	@Test
+	public void setTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE);
+		JSONPath.of("$.store.book[?(@.price < 10)].price").set(json, 10);
+		Assert.assertEquals("[10,12.99,10,22.99]", JSONPath.of("$.store.book[*].price").get(json).toString());
+
+		JSONPath.of("store.book[1:].sale").set(json, true);
+		Assert.assertEquals(ListUtil.of(true, true, true), JSONPath.of("store.book[*].sale").get(json));
+
+		final JSONObject obj = JSONUtil.createObj(JSONConfig.create().setIgnoreNullValue(false));
+		obj.putByPath("a.b[2].c", 1);
+		Assert.assertEquals("{\"a\":{\"b\":[null,null,{\"c\":1}]}}", obj.toString());
+	}
+
+	@Test
+	public void sameAsBeanPathTest() {
+		final JSONObject json = JSONUtil.parseObj("{\"k1\":1,\"k2\":2,\"k3\":3," +
+				"\"a\":{\"b\":[{\"d\":1},{\"c\":2},{\"d\":3}],\"e\":{\"f\":\"x\",\"g\":\"y\",\"h\":\"z\"}}}");
+		final String[] expressions = {"k1", "$.k2", "a.b[1].c", "a.b[-1].d", "a.b[5]", "a.e.f", "a.x.y",
+				"k1,k2", "['k1','k2']", "a.e['f','g']", "a.b.d", "a.b[0,2]", "a.b[0:2]"};
+		for (String expression : expressions) {
+			Assert.assertEquals(expression, BeanPath.create(expression).get(json), json.getByPath(expression));
+		}
+
+		// 多个键名返回子JSONObject，对数组投影时保留null
+		Assert.assertEquals("{\"k1\":1,\"k2\":2}", json.getByPath("k1,k2").toString());
+		Assert.assertEquals("{\"k1\":1,\"k2\":2}", json.getByPath("['k1','k2']").toString());
+		Assert.assertEquals("{\"f\":\"x\",\"g\":\"y\"}", json.getByPath("a.e['f','g']").toString());
+		Assert.assertEquals(ListUtil.of(1, null, 3), json.getByPath("a.b.d"));
+		// JSONPath语义只通过JSONPath使用
+		Assert.assertEquals(ListUtil.of(1, 3), JSONPath.of("a.b.d").get(json));
+		Assert.assertEquals(ListUtil.of("x", "y"), JSONPath.of("a.e['f','g']").get(json));
+
+		final JSONArray array = JSONUtil.parseArray("[{\"id\":1,\"name\":\"a\"},{\"id\":2}]");
+		for (String expression : new String[]{"[0].name", "[1]", "name", "[0,1]", "id"}) {
+			Assert.assertEquals(expression, BeanPath.create(expression).get(array), array.getByPath(expression));
+		}
+	}
+
+	@Test
+	public void putByPathSameAsBeanPathTest() {
+		final JSONObject json = JSONUtil.parseObj("{\"a\":{\"b\":[{\"d\":1},{\"d\":2}]}}");
+		final JSONObject expected = JSONUtil.parseObj(json.toString());
+		for (String expression : new String[]{"a.c", "a.b[1].d", "x.y[1]", "a.b[2].d"}) {
+			json.putByPath(expression, 9);
+			BeanPath.create(expression).set(expected, 9);
+			Assert.assertEquals(expression, expected, json);
+		}
+
+		// 经过数字等值写入时与BeanPath一致抛出异常，而非忽略
+		final JSONObject list = JSONUtil.parseObj("{\"list\":[1]}");
+		Assert.assertThrows(IllegalArgumentException.class, () -> BeanPath.create("list[0].q").set(list, 2));
+		Assert.assertThrows(IllegalArgumentException.class, () -> list.putByPath("list[0].q", 2));
+		Assert.assertThrows(IllegalArgumentException.class, () -> list.putByPath("list[0].q.r", 2));
+		Assert.assertEquals("{\"list\":[1]}", list.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void badExpressionTest() {
+		JSONPath.compile("$.store.book[?(@.price < )]");
+	}
 }
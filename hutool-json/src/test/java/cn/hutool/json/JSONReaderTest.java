@@ -0,0 +1,110 @@
+package cn.hutool.json;
+
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JSONReaderTest {
+
+	@Test
+	public void readObjectTest() {
+		final String json = "{\"id\": 12345678901, \"name\": \"hutool\", \"tags\": [\"a\", \"b\"], " +
+				"\"detail\": {\"x\": 1, \"y\": [1, {\"z\": null}]}, \"enable\": true, \"score\": 1.5, \"none\": null}";
+		try (final JSONReader reader = JSONReader.of(json)) {
+			Assert.assertEquals(JSONToken.BEGIN_OBJECT, reader.peek());
+			reader.beginObject();
+			Assert.assertEquals("id", reader.nextName());
+			Assert.assertEquals(JSONToken.NUMBER, reader.peek());
+			Assert.assertEquals(12345678901L, reader.nextLong());
+			Assert.assertEquals("name", reader.nextName());
+			Assert.assertEquals("hutool", reader.nextString());
+
+			Assert.assertEquals("tags", reader.nextName());
+			reader.beginArray();
+			final List<String> tags = new ArrayList<>();
+			while (reader.hasNext()) {
+				tags.add(reader.nextString());
+			}
+			reader.endArray();
+			Assert.assertEquals(2, tags.size());
+
+			// 跳过整个子对象
+			Assert.assertEquals("detail", reader.nextName());
+			reader.skipValue();
+
+			Assert.assertEquals("enable", reader.nextName());
+			Assert.assertTrue(reader.nextBoolean());
+			Assert.assertEquals("score", reader.nextName());
+			Assert.assertEquals(1.5, reader.nextDouble(), 0);
+			Assert.assertEquals("none", reader.nextName());
+			Assert.assertEquals(JSONToken.NULL, reader.peek());
+			reader.nextNull();
+			Assert.assertFalse(reader.hasNext());
+			reader.endObject();
+			Assert.assertEquals(JSONToken.END_DOCUMENT, reader.peek());
+		}
+	}
+
+	@Test
+	public void materializeSubtreeTest() {
+		final String json = "[{\"id\": 1, \"items\": [1, 2]}, {'id': 2, items: [3,]}, ]";
+		try (final JSONReader reader = JSONReader.of(json)) {
+			reader.beginArray();
+			final List<JSONObject> list = new ArrayList<>();
+			while (reader.hasNext()) {
+				list.add(reader.nextJSONObject());
+			}
+			reader.endArray();
+
+			Assert.assertEquals(2, list.size());
+			Assert.assertEquals(Integer.valueOf(1), list.get(0).getInt("id"));
+			Assert.assertEquals(2, list.get(0).getJSONArray("items").size());
+			Assert.assertEquals(Integer.valueOf(3), list.get(1).getJSONArray("items").getInt(0));
+		}
+	}
+
+	@Test
+	public void skipNameTest() {
+		final String json = "{\"a\": {\"b\": [1, 2, {\"c\": 3}]}, \"d\": \"e\"}";
+		final JSONReader reader = JSONReader.of(json);
+		reader.beginObject();
+		// 在键处跳过，键和值一并跳过
+		reader.skipValue();
+		Assert.assertEquals("d", reader.nextName());
+		Assert.assertEquals("e", reader.nextValue());
+		reader.endObject();
+	}
+
+	@Test
+	public void multiValueTest() {
+		final JSONReader reader = JSONReader.of("{\"a\": 1}\n{\"a\": 2}\n");
+		int sum = 0;
+		while (reader.peek() != JSONToken.END_DOCUMENT) {
+			sum += reader.nextJSONObject().getInt("a");
+		}
+		Assert.assertEquals(3, sum);
+	}
+
+	@Test
+	public void inputStreamTest() {
+		// UTF-8字节直接解析，跳过BOM
+		final byte[] bytes = StrUtil.utf8Bytes("\uFEFF{\"name\": \"中文\", \"a\": 1}");
+		try (final JSONReader reader = new JSONReader(new ByteArrayInputStream(bytes), null)) {
+			final JSONObject json = reader.nextJSONObject();
+			Assert.assertEquals("中文", json.getStr("name"));
+			Assert.assertEquals(JSONToken.END_DOCUMENT, reader.peek());
+		}
+	}
+
+	@Test(expected = JSONException.class)
+	public void syntaxErrorTest() {
+		final JSONReader reader = JSONReader.of("{\"a\" 1}");
+		reader.beginObject();
+		reader.nextName();
+		reader.nextInt();
+	}
+}
@@ -0,0 +1,120 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class JSONTokenerTest {
+
+	@Test
+	public void charSequenceTest() {
+		final String json = "{\"a\":\"abc\",\"b\":\"line\\nnext\\u4e2d\",'c':123,\"d\":-45,\"e\":12345678901," +
+				"\"f\":1.5,\"g\":007,\"h\":-0,\"i\":true,\"j\":null,k:unquoted,\"l\":[1, 2 ,3],\"m\":\"\"}";
+		final JSONObject fromString = new JSONObject(new JSONTokener(json, JSONConfig.create()), JSONConfig.create());
+		final JSONObject fromChars = new JSONObject(new JSONTokener(json.toCharArray(), JSONConfig.create()), JSONConfig.create());
+		final JSONObject fromReader = new JSONObject(new JSONTokener(new StringReader(json), JSONConfig.create()), JSONConfig.create());
+
+		Assert.assertEquals(fromReader, fromString);
+		Assert.assertEquals(fromReader, fromChars);
+
+		Assert.assertEquals("abc", fromString.get("a"));
+		Assert.assertEquals("line\nnext中", fromString.get("b"));
+		Assert.assertEquals(123, fromString.get("c"));
+		Assert.assertEquals(-45, fromString.get("d"));
+		Assert.assertEquals(12345678901L, fromString.get("e"));
+		Assert.assertEquals(new BigDecimal("1.5"), fromString.get("f"));
+		Assert.assertEquals("007", fromString.get("g"));
+		Assert.assertEquals("-0", fromString.get("h"));
+		Assert.assertEquals(true, fromString.get("i"));
+		Assert.assertEquals("unquoted", fromString.get("k"));
+		Assert.assertEquals(3, fromString.getJSONArray("l").size());
+		Assert.assertEquals("", fromString.get("m"));
+	}
+
+	@Test
+	public void largeNumberTest() {
+		final JSONArray array = new JSONArray(new JSONTokener("[9223372036854775807, 123456789012345678901, -2147483648]", JSONConfig.create()), JSONConfig.create());
+		Assert.assertEquals(Long.MAX_VALUE, array.get(0));
+		Assert.assertEquals("123456789012345678901", array.get(1));
+		Assert.assertEquals(Integer.MIN_VALUE, array.get(2));
+	}
+
+	@Test(expected = JSONException.class)
+	public void unterminatedStringTest() {
+		new JSONTokener("\"abc", JSONConfig.create()).nextValue();
+	}
+
+	@Test
+	public void bytesTest() {
+		final String json = "{\"a\":\"中文\",\"b\":\"emoji😀end\",\"c\":\"esc\\t中\\u4e2d\\\"\",\"d\":-1.25,\"e\":[1,true,null]," +
+				"中:值,\"f\":\"\",\"g\":'单引号'}";
+		final JSONObject expected = new JSONObject(new JSONTokener(json, JSONConfig.create()), JSONConfig.create());
+		final byte[] bytes = json.getBytes(CharsetUtil.CHARSET_UTF_8);
+
+		Assert.assertEquals(expected, new JSONObject(new JSONTokener(bytes, JSONConfig.create()), JSONConfig.create()));
+		Assert.assertEquals(expected, new JSONObject(bytes, JSONConfig.create()));
+		Assert.assertEquals(expected, new JSONObject(new ByteArrayInputStream(bytes), JSONConfig.create()));
+
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 2);
+		direct.put((byte) ' ').put(bytes).flip();
+		direct.position(1);
+		Assert.assertEquals(expected, new JSONObject(direct, JSONConfig.create()));
+		// 不修改缓冲区位置
+		Assert.assertEquals(1, direct.position());
+
+		Assert.assertEquals("emoji😀end", expected.getStr("b"));
+		Assert.assertEquals("esc\t中中\"", expected.getStr("c"));
+		Assert.assertEquals("值", expected.getStr("中"));
+	}
+
+	@Test
+	public void bomTest() {
+		final byte[] bytes = "\uFEFF[\"a\",1]".getBytes(CharsetUtil.CHARSET_UTF_8);
+		Assert.assertEquals(JSONUtil.parseArray("[\"a\",1]"), new JSONArray(new JSONTokener(bytes, JSONConfig.create()), JSONConfig.create()));
+	}
+
+	@Test
+	public void streamRefillTest() {
+		final JSONArray array = new JSONArray();
+		for (int i = 0; i < 5000; i++) {
+			array.add(JSONUtil.createObj().set("id", i).set("name", "名称😀" + i).set("esc", "a\"b").set("price", i + 0.5));
+		}
+		final String json = array.toString();
+		// 每次只返回少量字节，多字节字符和值跨越缓冲区边界
+		final JSONArray parsed = new JSONArray(new FilterInputStream(new ByteArrayInputStream(json.getBytes(CharsetUtil.CHARSET_UTF_8))) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 7));
+			}
+		}, JSONConfig.create());
+		Assert.assertEquals(array.size(), parsed.size());
+		Assert.assertEquals(json, parsed.toString());
+	}
+
+	@Test
+	public void mappedByteBufferTest() throws IOException {
+		final String json = "{\"name\":\"映射文件\",\"list\":[1,2,3]}";
+		final File file = FileUtil.createTempFile(".json", true);
+		try {
+			FileUtil.writeUtf8String(json, file);
+			try (final RandomAccessFile raf = new RandomAccessFile(file, "r"); final FileChannel channel = raf.getChannel()) {
+				final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				Assert.assertEquals(JSONUtil.parseObj(json), new JSONObject(buffer, JSONConfig.create()));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
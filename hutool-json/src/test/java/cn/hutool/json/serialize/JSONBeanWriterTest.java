@@ -0,0 +1,164 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.annotation.Alias;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class JSONBeanWriterTest {
+
+	@Test
+	public void writeTest() {
+		final Bean bean = createBean();
+		Assert.assertTrue(JSONBeanWriter.isSupported(bean, null));
+
+		final String json = JSONBeanWriter.toJsonStr(bean, 0, null);
+		Assert.assertEquals("{\"id\":12345678901,\"name\":\"hu\\\"tool\\n\",\"age\":18,\"enable\":true," +
+				"\"score\":1.5,\"price\":1.2,\"ch\":\"c\",\"type\":\"B\",\"tags\":[\"a\",\"b\"]," +
+				"\"nums\":[1,2,3],\"child\":{\"city\":\"Beijing\",\"zip\":\"100000\"}," +
+				"\"children\":[{\"city\":\"Nanjing\"},{\"zip\":\"1\"}],\"map\":{\"k\":\"v\"}," +
+				"\"json\":{\"a\":1},\"opt\":\"x\",\"nick\":\"looly\",\"obj\":{\"city\":\"Shanghai\"}}", json);
+
+		// 与通过JSONObject写出的结果一致
+		Assert.assertEquals(new JSONObject(bean).toString(), json);
+		Assert.assertEquals(JSONUtil.toJsonStr(bean), json);
+	}
+
+	@Test
+	public void writeConfigTest() {
+		final Bean bean = createBean();
+		bean.setDate(DateUtil.parse("2024-01-01 12:00:00"));
+		bean.setTime(LocalDateTime.of(2024, 1, 1, 12, 0, 0));
+
+		final JSONConfig[] configs = {
+				JSONConfig.create(),
+				JSONConfig.create().setIgnoreNullValue(false),
+				JSONConfig.create().setTransientSupport(false),
+				JSONConfig.create().setWriteLongAsString(true),
+				JSONConfig.create().setStripTrailingZeros(false),
+				JSONConfig.create().setDateFormat("yyyy-MM-dd HH:mm:ss"),
+				JSONConfig.create().setDateFormat("#sss")
+		};
+		for (JSONConfig config : configs) {
+			Assert.assertEquals(new JSONObject(bean, config).toString(), JSONBeanWriter.toJsonStr(bean, 0, config));
+			Assert.assertEquals(new JSONObject(bean, config).toStringPretty(), JSONBeanWriter.toJsonStr(bean, 4, config));
+		}
+	}
+
+	@Test
+	public void prettyTest() {
+		final Bean bean = createBean();
+		Assert.assertEquals(JSONUtil.parseObj(bean).toStringPretty(), JSONUtil.toJsonPrettyStr(bean));
+	}
+
+	@Test
+	public void writeToStreamTest() {
+		final Bean bean = createBean();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JSONBeanWriter.write(bean, out, StandardCharsets.UTF_8, 0, null);
+		Assert.assertEquals(JSONUtil.toJsonStr(bean), new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void writeBeanInArrayTest() {
+		final java.io.StringWriter writer = new java.io.StringWriter();
+		final Child child = new Child();
+		child.setCity("Beijing");
+		JSONWriter.of(writer, 0, 0, JSONConfig.create()).beginArray().writeBean(child).writeBean(null).end();
+		Assert.assertEquals("[{\"city\":\"Beijing\"},null]", writer.toString());
+	}
+
+	@Test
+	public void notSupportedTest() {
+		Assert.assertFalse(JSONBeanWriter.isSupported(null, null));
+		Assert.assertFalse(JSONBeanWriter.isSupported(MapUtil.of("a", 1), null));
+		Assert.assertFalse(JSONBeanWriter.isSupported(ListUtil.of(1), null));
+		Assert.assertFalse(JSONBeanWriter.isSupported("abc", null));
+		Assert.assertFalse(JSONBeanWriter.isSupported(createBean(), JSONConfig.create().setIgnoreCase(true)));
+		Assert.assertFalse(JSONBeanWriter.isSupported(createBean(), JSONConfig.create().setNatureKeyComparator()));
+	}
+
+	private static Bean createBean() {
+		final Bean bean = new Bean();
+		bean.setId(12345678901L);
+		bean.setName("hu\"tool\n");
+		bean.setAge(18);
+		bean.setEnable(true);
+		bean.setScore(1.5D);
+		bean.setPrice(new BigDecimal("1.20"));
+		bean.setCh('c');
+		bean.setType(Type.B);
+		bean.setTags(new String[]{"a", "b"});
+		bean.setNums(ListUtil.of(1, 2, 3));
+		final Child child = new Child();
+		child.setCity("Beijing");
+		child.setZip("100000");
+		bean.setChild(child);
+		final Child child1 = new Child();
+		child1.setCity("Nanjing");
+		final Child child2 = new Child();
+		child2.setZip("1");
+		bean.setChildren(ListUtil.of(child1, null, child2));
+		bean.setMap(MapUtil.of("k", "v"));
+		bean.setJson(new JSONObject().set("a", 1));
+		bean.setOpt(Optional.of("x"));
+		bean.setEmpty(Optional.empty());
+		bean.setNickName("looly");
+		final Child obj = new Child();
+		obj.setCity("Shanghai");
+		bean.setObj(obj);
+		bean.setSecret("secret");
+		return bean;
+	}
+
+	public enum Type {
+		A, B
+	}
+
+	@Data
+	public static class Bean {
+		private Long id;
+		private String name;
+		private int age;
+		private boolean enable;
+		private Double score;
+		private BigDecimal price;
+		private char ch;
+		private Type type;
+		private String[] tags;
+		private List<Integer> nums;
+		private Child child;
+		private List<Child> children;
+		private Map<String, Object> map;
+		private JSONObject json;
+		private Optional<String> opt;
+		private Optional<String> empty;
+		@Alias("nick")
+		private String nickName;
+		private Object obj;
+		private Date date;
+		private LocalDateTime time;
+		private transient String secret;
+	}
+
+	@Data
+	public static class Child {
+		private String city;
+		private String zip;
+	}
+}
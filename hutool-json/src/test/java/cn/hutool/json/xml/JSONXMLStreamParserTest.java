@@ -0,0 +1,91 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.XML;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JSONXMLStreamParserTest {
+
+	private static final String XML_STR = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+			"<!-- feed -->\n" +
+			"<feed version=\"2\"><title>商品</title><items>" +
+			"<item id=\"1\"><name>A</name><price>1.50</price><tag>x</tag><tag>y</tag></item>" +
+			"<item id=\"2\"><name><![CDATA[B&C]]></name><price>02</price><spec><item>nested</item></spec></item>" +
+			"<item>text only</item>" +
+			"<item/>" +
+			"</items></feed>";
+
+	@Test
+	public void parseTest() {
+		final List<JSONObject> items = new ArrayList<>();
+		final long count = JSONXMLStreamParser.parse(new StringReader(XML_STR), "item", null, items::add);
+		Assert.assertEquals(4, count);
+
+		// 记录内部与整体解析的结果一致
+		final JSONArray expected = XML.toJSONObject(XML_STR).getByPath("feed.items.item", JSONArray.class);
+		Assert.assertEquals(expected.get(0), items.get(0));
+		Assert.assertEquals(expected.get(1), items.get(1));
+		Assert.assertEquals("nested", items.get(1).getByPath("spec.item"));
+		Assert.assertEquals(JSONUtil.createObj().set("content", "text only"), items.get(2));
+		Assert.assertTrue(items.get(3).isEmpty());
+	}
+
+	@Test
+	public void keepStringsTest() {
+		final List<JSONObject> items = new ArrayList<>();
+		JSONXMLStreamParser.parse(new StringReader(XML_STR), "item", ParseConfig.of().setKeepStrings(true), items::add);
+		Assert.assertEquals("1.50", items.get(0).get("price"));
+		Assert.assertEquals("02", items.get(1).get("price"));
+		Assert.assertEquals("1", items.get(0).get("id"));
+	}
+
+	@Test
+	public void toJSONTest() {
+		final StringWriter writer = new StringWriter();
+		final long count = JSONXMLStreamParser.toJSON(new StringReader(XML_STR), "tag", null, writer);
+		Assert.assertEquals(2, count);
+		Assert.assertEquals("[{\"content\":\"x\"},{\"content\":\"y\"}]", writer.toString());
+
+		final StringWriter empty = new StringWriter();
+		Assert.assertEquals(0, JSONXMLStreamParser.toJSON(new StringReader(XML_STR), "none", null, empty));
+		Assert.assertEquals("[]", empty.toString());
+	}
+
+	@Test
+	public void badXmlTest() {
+		Assert.assertThrows(JSONException.class, () ->
+				JSONXMLStreamParser.parse(new StringReader("<a><b></a>"), "item", null, item -> {
+				}));
+		Assert.assertThrows(JSONException.class, () ->
+				JSONXMLStreamParser.parse(new StringReader("<a><item>1</item>"), "item", null, item -> {
+				}));
+	}
+
+	@Test
+	public void maxNestingDepthTest() {
+		final String s = StrUtil.repeat("<a>", 600);
+		Assert.assertThrows(JSONException.class, () ->
+				JSONXMLStreamParser.parse(new StringReader(s), "item", ParseConfig.of().setMaxNestingDepth(512), item -> {
+				}));
+
+		// 层级限制与整体解析一致
+		final String xml = "<a><item><b>1</b></item></a>";
+		Assert.assertThrows(JSONException.class, () -> XML.toJSONObject(xml, ParseConfig.of().setMaxNestingDepth(2)));
+		Assert.assertThrows(JSONException.class, () ->
+				JSONXMLStreamParser.parse(new StringReader(xml), "item", ParseConfig.of().setMaxNestingDepth(2), item -> {
+				}));
+		XML.toJSONObject(xml, ParseConfig.of().setMaxNestingDepth(3));
+		Assert.assertEquals(1, JSONXMLStreamParser.parse(new StringReader(xml), "item", ParseConfig.of().setMaxNestingDepth(3), item -> {
+		}));
+	}
+}